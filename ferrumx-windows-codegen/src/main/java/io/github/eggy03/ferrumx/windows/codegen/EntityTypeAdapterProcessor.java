@@ -0,0 +1,350 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.codegen;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Generates a streaming Gson {@code TypeAdapter} for every entity, so that entities are mapped without reflection
+ * <p>
+ * An entity is a class annotated with Lombok's {@code @Builder} that declares fields annotated with
+ * {@code @SerializedName}. Its adapter reads the JSON properties straight into the builder of the entity.
+ * Properties without a matching field are skipped and fields without {@code @SerializedName} use their own name,
+ * the same way Gson's reflective adapter behaves. Serialization is left to the reflective adapter, since several
+ * entities replace their Lombok getters with differently named ones. The adapters are registered by a generated
+ * {@code EntityTypeAdapterFactory}.
+ * </p>
+ * <p>
+ * A {@code BigInteger} counter with a transient {@code long} companion named after it, such as {@code size} and
+ * {@code sizeLong}, is decoded into the companion through the {@code sizeAsLong} builder method whenever it fits
+ * in a {@code long}, so that no {@code BigInteger} is built for it. Since the reflective adapter only sees the {@code BigInteger} field,
+ * the entity is copied with its counters set as {@code BigInteger}s before being written.
+ * </p>
+ * <p>
+ * This processor runs while the library itself is being compiled and is not part of the published artifact.
+ * </p>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@SupportedAnnotationTypes("com.google.gson.annotations.SerializedName")
+public class EntityTypeAdapterProcessor extends AbstractProcessor {
+
+    private static final String SERIALIZED_NAME = "com.google.gson.annotations.SerializedName";
+    private static final String BIG_INTEGER = "java.math.BigInteger";
+    private static final String COUNTER_COMPANION_SUFFIX = "Long";
+    private static final String COUNTER_LONG_SETTER_SUFFIX = "AsLong";
+    private static final String CIM_COUNTER = "io.github.eggy03.ferrumx.windows.utility.CimCounter";
+    private static final String BUILDER = "lombok.Builder";
+    private static final String ADAPTER_PACKAGE = "io.github.eggy03.ferrumx.windows.mapping.adapter";
+    private static final String FACTORY_NAME = "EntityTypeAdapterFactory";
+
+    private boolean generated;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+        if (generated || annotations.isEmpty())
+            return false;
+
+        Map<String, TypeElement> entities = new TreeMap<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                Element enclosing = element.getEnclosingElement();
+                if (element.getKind() == ElementKind.FIELD && enclosing instanceof TypeElement && hasAnnotation(enclosing, BUILDER)) {
+                    TypeElement entity = (TypeElement) enclosing;
+                    entities.put(entity.getQualifiedName().toString(), entity);
+                }
+            }
+        }
+
+        if (entities.isEmpty())
+            return false;
+
+        List<String> adapterNames = new ArrayList<>();
+        try {
+            for (TypeElement entity : entities.values())
+                adapterNames.add(writeAdapter(entity));
+            writeFactory(new ArrayList<>(entities.values()), adapterNames);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not generate the entity type adapters: " + e);
+        }
+
+        generated = true;
+        return false; // other processors, such as Lombok, still need to see the annotations
+    }
+
+    private String writeAdapter(TypeElement entity) throws IOException {
+
+        String entityName = entity.getQualifiedName().toString();
+        String adapterName = flatName(entity) + "TypeAdapter";
+        String builderName = entityName + "." + entity.getSimpleName() + "Builder";
+
+        List<VariableElement> fields = entity.getEnclosedElements().stream()
+                .filter(element -> element.getKind() == ElementKind.FIELD)
+                .map(VariableElement.class::cast)
+                .filter(field -> !field.getModifiers().contains(Modifier.STATIC) && !field.getModifiers().contains(Modifier.TRANSIENT))
+                .collect(Collectors.toList());
+        List<String> counters = counters(entity, fields);
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(ADAPTER_PACKAGE + "." + adapterName, entity).openWriter();
+             PrintWriter out = new PrintWriter(writer)) {
+
+            out.println("package " + ADAPTER_PACKAGE + ";");
+            out.println();
+            out.println("/**");
+            out.println(" * Streaming Gson adapter of {@link " + entityName + "}");
+            out.println(" * <p>");
+            out.println(" * Generated by {@code " + getClass().getName() + "}, do not edit.");
+            out.println(" * </p>");
+            out.println(" */");
+            out.println("final class " + adapterName + " extends com.google.gson.TypeAdapter<" + entityName + "> {");
+            out.println();
+            out.println("    private final com.google.gson.TypeAdapter<" + entityName + "> writer;");
+            for (VariableElement field : fields) {
+                if (!counters.contains(field.getSimpleName().toString()))
+                    out.println("    private final com.google.gson.TypeAdapter<" + boxedTypeName(field.asType()) + "> " + field.getSimpleName() + ";");
+            }
+            out.println();
+            out.println("    " + adapterName + "(com.google.gson.Gson gson, com.google.gson.TypeAdapter<" + entityName + "> writer) {");
+            out.println("        this.writer = writer;");
+            for (VariableElement field : fields) {
+                if (!counters.contains(field.getSimpleName().toString()))
+                    out.println("        this." + field.getSimpleName() + " = " + adapterLookup(field.asType()) + ";");
+            }
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public " + entityName + " read(com.google.gson.stream.JsonReader in) throws java.io.IOException {");
+            out.println("        if (in.peek() == com.google.gson.stream.JsonToken.NULL) {");
+            out.println("            in.nextNull();");
+            out.println("            return null;");
+            out.println("        }");
+            out.println();
+            out.println("        " + builderName + " builder = " + entityName + ".builder();");
+            out.println("        in.beginObject();");
+            out.println("        while (in.hasNext()) {");
+            out.println("            switch (in.nextName()) {");
+            for (VariableElement field : fields) {
+                String name = field.getSimpleName().toString();
+                out.println("                case " + javaString(serializedName(field)) + ":");
+                if (counters.contains(name)) {
+                    out.println("                    if (in.peek() == com.google.gson.stream.JsonToken.NULL) {");
+                    out.println("                        in.nextNull();");
+                    out.println("                        builder." + name + "(null);");
+                    out.println("                        break;");
+                    out.println("                    }");
+                    out.println("                    String " + name + "Text = in.nextString();");
+                    out.println("                    long " + name + "Decoded = " + CIM_COUNTER + ".parseLong(" + name + "Text);");
+                    out.println("                    if (" + name + "Decoded != " + CIM_COUNTER + ".NOT_DECODED)");
+                    out.println("                        builder." + name + COUNTER_LONG_SETTER_SUFFIX + "(" + name + "Decoded);");
+                    out.println("                    else");
+                    out.println("                        builder." + name + "(parseCounter(" + name + "Text, in));");
+                } else if (field.asType().getKind().isPrimitive()) {
+                    // same as the reflective adapter, a null value leaves a primitive field untouched
+                    out.println("                    " + boxedTypeName(field.asType()) + " " + name + "Value = this." + name + ".read(in);");
+                    out.println("                    if (" + name + "Value != null)");
+                    out.println("                        builder." + name + "(" + name + "Value);");
+                } else {
+                    out.println("                    builder." + name + "(this." + name + ".read(in));");
+                }
+                out.println("                    break;");
+            }
+            out.println("                default:");
+            out.println("                    in.skipValue();");
+            out.println("            }");
+            out.println("        }");
+            out.println("        in.endObject();");
+            out.println("        return builder.build();");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public void write(com.google.gson.stream.JsonWriter out, " + entityName + " value) throws java.io.IOException {");
+            if (counters.isEmpty()) {
+                out.println("        writer.write(out, value);");
+            } else {
+                // the reflective adapter writes the fields, which hold no counter decoded into a long
+                out.println("        if (value == null) {");
+                out.println("            writer.write(out, null);");
+                out.println("            return;");
+                out.println("        }");
+                out.println("        writer.write(out, value.toBuilder()");
+                for (String counter : counters)
+                    out.println("                ." + counter + "(value.get" + Character.toUpperCase(counter.charAt(0)) + counter.substring(1) + "())");
+                out.println("                .build());");
+            }
+            out.println("    }");
+            if (!counters.isEmpty()) {
+                out.println();
+                out.println("    private static java.math.BigInteger parseCounter(String value, com.google.gson.stream.JsonReader in) {");
+                out.println("        try {");
+                out.println("            return new java.math.BigInteger(value);");
+                out.println("        } catch (NumberFormatException e) {");
+                out.println("            throw new com.google.gson.JsonSyntaxException(\"Failed parsing '\" + value + \"' as BigInteger; at path \" + in.getPreviousPath(), e);");
+                out.println("        }");
+                out.println("    }");
+            }
+            out.println("}");
+        }
+
+        return adapterName;
+    }
+
+    private void writeFactory(List<TypeElement> entities, List<String> adapterNames) throws IOException {
+
+        Filer filer = processingEnv.getFiler();
+        try (Writer writer = filer.createSourceFile(ADAPTER_PACKAGE + "." + FACTORY_NAME, entities.toArray(new Element[0])).openWriter();
+             PrintWriter out = new PrintWriter(writer)) {
+
+            out.println("package " + ADAPTER_PACKAGE + ";");
+            out.println();
+            out.println("/**");
+            out.println(" * Creates the streaming Gson adapters of the entities, which map them without reflection");
+            out.println(" * <p>");
+            out.println(" * Generated by {@code " + getClass().getName() + "}, do not edit.");
+            out.println(" * </p>");
+            out.println(" */");
+            out.println("public final class " + FACTORY_NAME + " implements com.google.gson.TypeAdapterFactory {");
+            out.println();
+            out.println("    @Override");
+            out.println("    @SuppressWarnings(\"unchecked\")");
+            out.println("    public <T> com.google.gson.TypeAdapter<T> create(com.google.gson.Gson gson, com.google.gson.reflect.TypeToken<T> type) {");
+            out.println("        Class<? super T> rawType = type.getRawType();");
+            for (int i = 0; i < entities.size(); i++) {
+                out.println("        if (rawType == " + entities.get(i).getQualifiedName() + ".class)");
+                out.println("            return (com.google.gson.TypeAdapter<T>) new " + adapterNames.get(i) + "(gson, gson.getDelegateAdapter(this, com.google.gson.reflect.TypeToken.get(" + entities.get(i).getQualifiedName() + ".class)));");
+            }
+            out.println("        return null;");
+            out.println("    }");
+            out.println("}");
+        }
+    }
+
+    // the BigInteger fields with a transient long companion, which the entity's builder sets from a long
+    private static List<String> counters(TypeElement entity, List<VariableElement> fields) {
+        List<String> companions = entity.getEnclosedElements().stream()
+                .filter(element -> element.getKind() == ElementKind.FIELD)
+                .filter(element -> element.getModifiers().contains(Modifier.TRANSIENT) && element.asType().getKind() == TypeKind.LONG)
+                .map(element -> element.getSimpleName().toString())
+                .collect(Collectors.toList());
+        return fields.stream()
+                .filter(field -> field.asType().getKind() == TypeKind.DECLARED
+                        && ((TypeElement) ((DeclaredType) field.asType()).asElement()).getQualifiedName().contentEquals(BIG_INTEGER))
+                .map(field -> field.getSimpleName().toString())
+                .filter(name -> companions.contains(name + COUNTER_COMPANION_SUFFIX))
+                .collect(Collectors.toList());
+    }
+
+    private static boolean hasAnnotation(Element element, String annotationName) {
+        return element.getAnnotationMirrors().stream()
+                .anyMatch(mirror -> ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName));
+    }
+
+    private static String serializedName(VariableElement field) {
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(SERIALIZED_NAME)) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals("value"))
+                        return (String) entry.getValue().getValue();
+                }
+            }
+        }
+        return field.getSimpleName().toString();
+    }
+
+    // nested entities get the names of their enclosing classes as a prefix, e.g. MsftNetIpAddressDatetime
+    private static String flatName(TypeElement entity) {
+        StringBuilder name = new StringBuilder(entity.getSimpleName());
+        Element enclosing = entity.getEnclosingElement();
+        while (enclosing instanceof TypeElement) {
+            name.insert(0, enclosing.getSimpleName());
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.toString();
+    }
+
+    private String adapterLookup(TypeMirror type) {
+        if (type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty())
+            return "gson.getAdapter(new com.google.gson.reflect.TypeToken<" + typeName(type) + ">() {})";
+        return "gson.getAdapter(" + boxedTypeName(type) + ".class)";
+    }
+
+    private String boxedTypeName(TypeMirror type) {
+        if (type.getKind().isPrimitive())
+            return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        return typeName(type);
+    }
+
+    // renders a type without its type annotations (e.g. @Nullable), which TypeMirror#toString would include
+    private static String typeName(TypeMirror type) {
+        switch (type.getKind()) {
+            case DECLARED:
+                DeclaredType declared = (DeclaredType) type;
+                String raw = ((TypeElement) declared.asElement()).getQualifiedName().toString();
+                if (declared.getTypeArguments().isEmpty())
+                    return raw;
+                return raw + declared.getTypeArguments().stream()
+                        .map(EntityTypeAdapterProcessor::typeName)
+                        .collect(Collectors.joining(", ", "<", ">"));
+            case ARRAY:
+                return typeName(((ArrayType) type).getComponentType()) + "[]";
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return type.getKind().name().toLowerCase(Locale.ROOT);
+            default:
+                return type.toString();
+        }
+    }
+
+    private static String javaString(String value) {
+        StringBuilder escaped = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\')
+                escaped.append('\\');
+            escaped.append(c);
+        }
+        return escaped.append('"').toString();
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.constant;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum PowerShellCmdlets {
+
+    SELECT_OBJECT_PROPERTY(" | Select-Object -Property "),
+
+    CONVERT_TO_JSON(" | ConvertTo-Json"),
+
+    // one header row and one tab-delimited row per object, see WireFormat#DELIMITED for the format
+    CONVERT_TO_DELIMITED(" | " +
+            "& { begin { $names = $null; $tab = [string][char]9; $unit = [string][char]31; " +
+            "function Protect-Field($text) { $text.Replace('\\', '\\\\').Replace($tab, '\\t').Replace([string][char]10, '\\n').Replace([string][char]13, '\\r').Replace($unit, '\\s') }; " +
+            "function Format-Field($value) { " +
+            "if ($null -eq $value) { return '\\N' }; " +
+            "if ($value -is [datetime]) { return '/Date(' + [long][Math]::Floor(($value.ToUniversalTime() - [datetime]'1970-01-01').TotalMilliseconds) + ')/' }; " +
+            "if ($value -is [string]) { return Protect-Field $value }; " +
+            "if ($value -is [System.Collections.IEnumerable]) { return '\\A' + (-join @($value | ForEach-Object { if ($null -eq $_) { $unit + '\\N' } else { $unit + (Protect-Field ([System.Convert]::ToString($_, [cultureinfo]::InvariantCulture))) } })) }; " +
+            "return Protect-Field ([System.Convert]::ToString($value, [cultureinfo]::InvariantCulture)) } } " +
+            "process { $properties = @($_.PSObject.Properties); " +
+            "if ($null -eq $names) { $names = $properties | ForEach-Object { $_.Name }; @($names) -join $tab }; " +
+            "@($properties | ForEach-Object { Format-Field $_.Value }) -join $tab } }");
+
+    @NonNull
+    private final String cmdlet;
+}
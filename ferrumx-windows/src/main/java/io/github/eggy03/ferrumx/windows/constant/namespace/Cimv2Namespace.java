@@ -28,9 +28,16 @@ import io.github.eggy03.ferrumx.windows.entity.system.Win32OperatingSystem;
 import io.github.eggy03.ferrumx.windows.entity.system.Win32PnPEntity;
 import io.github.eggy03.ferrumx.windows.entity.system.Win32Process;
 import io.github.eggy03.ferrumx.windows.entity.user.Win32UserAccount;
+import io.github.eggy03.ferrumx.windows.query.PropertyMask;
+import io.github.eggy03.ferrumx.windows.query.WqlFilter;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
 
 import static io.github.eggy03.ferrumx.windows.constant.PowerShellCmdlets.CONVERT_TO_JSON;
 import static io.github.eggy03.ferrumx.windows.constant.PowerShellCmdlets.SELECT_OBJECT_PROPERTY;
@@ -287,4 +294,89 @@ public enum Cimv2Namespace {
     @NonNull
     private final String query;
 
+    /**
+     * Returns the query restricted to the instances matched by the given filter
+     * <p>
+     * The filter is passed to {@code Get-CimInstance -Filter}, so the WMI provider
+     * only returns and PowerShell only serializes the matching instances.
+     * </p>
+     *
+     * @param filter the filter the returned instances must match
+     * @return the filtered query
+     * @since 4.1.0
+     */
+    @NotNull
+    public String getQuery(@NonNull WqlFilter filter) {
+        return compose(filter, null);
+    }
+
+    /**
+     * Returns the query restricted to the properties selected by the given mask
+     * <p>
+     * The properties are passed to both {@code Get-CimInstance -Property} and {@code Select-Object -Property},
+     * so the WMI provider only fetches and PowerShell only serializes the selected properties.
+     * </p>
+     *
+     * @param mask the properties to return
+     * @return the projected query
+     * @throws UnsupportedOperationException if the query does not select the properties of a single class
+     * @throws IllegalArgumentException      if the mask selects a property this query does not return
+     * @since 4.1.0
+     */
+    @NotNull
+    public String getQuery(@NonNull PropertyMask<?> mask) {
+        return compose(null, mask);
+    }
+
+    /**
+     * Returns the query restricted to the instances matched by the given filter
+     * and to the properties selected by the given mask
+     *
+     * @param filter the filter the returned instances must match
+     * @param mask   the properties to return
+     * @return the filtered and projected query
+     * @throws UnsupportedOperationException if the query does not select the properties of a single class
+     * @throws IllegalArgumentException      if the mask selects a property this query does not return
+     * @see #getQuery(WqlFilter)
+     * @see #getQuery(PropertyMask)
+     * @since 4.1.0
+     */
+    @NotNull
+    public String getQuery(@NonNull WqlFilter filter, @NonNull PropertyMask<?> mask) {
+        return compose(filter, mask);
+    }
+
+    @NotNull
+    private String compose(@Nullable WqlFilter filter, @Nullable PropertyMask<?> mask) {
+
+        int pipeline = query.indexOf('|');
+        StringBuilder composed = new StringBuilder(query.substring(0, pipeline).trim());
+        String rest = query.substring(pipeline);
+
+        if (mask != null) {
+            String select = SELECT_OBJECT_PROPERTY.getCmdlet().trim();
+            if (!rest.startsWith(select))
+                throw new UnsupportedOperationException(name() + " does not support property masks");
+
+            List<String> selectable = Arrays.asList(rest.substring(select.length(), rest.indexOf(CONVERT_TO_JSON.getCmdlet())).trim().split(", "));
+            for (String property : mask.getProperties()) {
+                if (!selectable.contains(property))
+                    throw new IllegalArgumentException(name() + " does not return the property: " + property);
+            }
+
+            composed.append(" -Property ").append(mask.toPropertyList());
+            rest = select + " " + mask.toPropertyList() + CONVERT_TO_JSON.getCmdlet();
+        }
+
+        if (filter != null)
+            composed.append(" -Filter ").append(singleQuoted(filter.toWql()));
+
+        return composed.append(' ').append(rest).toString();
+    }
+
+    // PowerShell also treats the typographic single quotes as quotes, each of which is escaped by doubling it
+    @NotNull
+    private static String singleQuoted(@NotNull String value) {
+        return "'" + value.replaceAll("(['\u2018\u2019\u201A\u201B])", "$1$1") + "'";
+    }
 }
@@ -5,8 +5,8 @@
  */
 package io.github.eggy03.ferrumx.windows.entity.compounded;
 
-import com.google.gson.GsonBuilder;
 import com.google.gson.annotations.SerializedName;
+import io.github.eggy03.ferrumx.windows.mapping.EntityJson;
 import lombok.Builder;
 import lombok.Value;
 import org.jetbrains.annotations.NotNull;
@@ -109,10 +109,6 @@ public class HardwareId {
     @Override
     @NotNull
     public String toString() {
-        return new GsonBuilder()
-                .serializeNulls()
-                .setPrettyPrinting()
-                .create()
-                .toJson(this);
+        return EntityJson.toPrettyJson(this);
     }
 }
@@ -5,12 +5,12 @@
  */
 package io.github.eggy03.ferrumx.windows.entity.compounded;
 
-import com.google.gson.GsonBuilder;
 import com.google.gson.annotations.SerializedName;
 import io.github.eggy03.ferrumx.windows.entity.network.MsftDnsClientServerAddress;
 import io.github.eggy03.ferrumx.windows.entity.network.MsftNetAdapter;
 import io.github.eggy03.ferrumx.windows.entity.network.MsftNetConnectionProfile;
 import io.github.eggy03.ferrumx.windows.entity.network.MsftNetIpAddress;
+import io.github.eggy03.ferrumx.windows.mapping.EntityJson;
 import lombok.Builder;
 import lombok.Value;
 import org.jetbrains.annotations.NotNull;
@@ -107,10 +107,6 @@ public class MsftNetAdapterToIpAndDnsAndProfile {
     @Override
     @NotNull
     public String toString() {
-        return new GsonBuilder()
-                .serializeNulls()
-                .setPrettyPrinting()
-                .create()
-                .toJson(this);
+        return EntityJson.toPrettyJson(this);
     }
 }
\ No newline at end of file
@@ -5,12 +5,12 @@
  */
 package io.github.eggy03.ferrumx.windows.entity.compounded;
 
-import com.google.gson.GsonBuilder;
 import com.google.gson.annotations.SerializedName;
 import io.github.eggy03.ferrumx.windows.entity.storage.Win32DiskDrive;
 import io.github.eggy03.ferrumx.windows.entity.storage.Win32DiskPartition;
 import io.github.eggy03.ferrumx.windows.entity.storage.Win32LogicalDisk;
 import io.github.eggy03.ferrumx.windows.entity.storage.Win32LogicalDiskToPartition;
+import io.github.eggy03.ferrumx.windows.mapping.EntityJson;
 import lombok.Builder;
 import lombok.Value;
 import org.jetbrains.annotations.NotNull;
@@ -97,10 +97,6 @@ public class Win32DiskPartitionToLogicalDisk {
     @Override
     @NotNull
     public String toString() {
-        return new GsonBuilder()
-                .serializeNulls()
-                .setPrettyPrinting()
-                .create()
-                .toJson(this);
+        return EntityJson.toPrettyJson(this);
     }
 }
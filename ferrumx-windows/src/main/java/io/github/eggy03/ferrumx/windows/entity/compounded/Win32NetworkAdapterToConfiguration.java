@@ -5,11 +5,11 @@
  */
 package io.github.eggy03.ferrumx.windows.entity.compounded;
 
-import com.google.gson.GsonBuilder;
 import com.google.gson.annotations.SerializedName;
 import io.github.eggy03.ferrumx.windows.entity.network.Win32NetworkAdapter;
 import io.github.eggy03.ferrumx.windows.entity.network.Win32NetworkAdapterConfiguration;
 import io.github.eggy03.ferrumx.windows.entity.network.Win32NetworkAdapterSetting;
+import io.github.eggy03.ferrumx.windows.mapping.EntityJson;
 import lombok.Builder;
 import lombok.Value;
 import org.jetbrains.annotations.NotNull;
@@ -92,10 +92,6 @@ public class Win32NetworkAdapterToConfiguration {
     @Override
     @NotNull
     public String toString() {
-        return new GsonBuilder()
-                .serializeNulls()
-                .setPrettyPrinting()
-                .create()
-                .toJson(this);
+        return EntityJson.toPrettyJson(this);
     }
 }
@@ -5,13 +5,20 @@
  */
 package io.github.eggy03.ferrumx.windows.entity.display;
 
-import com.google.gson.GsonBuilder;
 import com.google.gson.annotations.SerializedName;
+import io.github.eggy03.ferrumx.windows.mapping.EntityJson;
+import io.github.eggy03.ferrumx.windows.utility.CimDateTime;
+import lombok.AccessLevel;
 import lombok.Builder;
+import lombok.Getter;
 import lombok.Value;
+import lombok.experimental.NonFinal;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
 /**
  * Immutable representation of a GPU device on a Windows system.
  * <p>
@@ -139,6 +146,11 @@ public class Win32VideoController {
     @Nullable
     String driverDate;
 
+    // the driver date, parsed on the first call of getDriverDateAsInstant by a memo created then
+    @NonFinal
+    @Getter(AccessLevel.NONE)
+    transient volatile CimDateTime.Memo driverDateInstant;
+
     /**
      * Version number of the video driver.
      */
@@ -154,6 +166,20 @@ public class Win32VideoController {
     @Nullable
     String videoProcessor;
 
+    /**
+     * Retrieves the {@link #getDriverDate() driver date} as an {@link Instant}, which is parsed on the first call only
+     *
+     * @return the driver date, or {@code null} if it is not available
+     * @throws DateTimeParseException if the driver date is in none of the forms supported by {@link CimDateTime}
+     * @since 4.1.0
+     */
+    public @Nullable Instant getDriverDateAsInstant() {
+        CimDateTime.Memo memo = driverDateInstant;
+        if (memo == null)
+            driverDateInstant = memo = new CimDateTime.Memo();
+        return memo.get(driverDate);
+    }
+
     /**
      * Retrieves the entity in a JSON pretty-print formatted string
      *
@@ -162,10 +188,17 @@ public class Win32VideoController {
     @Override
     @NotNull
     public String toString() {
-        return new GsonBuilder()
-                .serializeNulls()
-                .setPrettyPrinting()
-                .create()
-                .toJson(this);
+        return EntityJson.toPrettyJson(this);
+    }
+
+    /**
+     * Builds {@link Win32VideoController} instances
+     */
+    public static class Win32VideoControllerBuilder {
+
+        // every entity creates a memo of its own, which toBuilder() thus does not copy
+        private Win32VideoControllerBuilder driverDateInstant(CimDateTime.Memo driverDateInstant) {
+            return this;
+        }
     }
 }
\ No newline at end of file
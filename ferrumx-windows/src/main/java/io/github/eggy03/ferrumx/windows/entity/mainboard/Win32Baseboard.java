@@ -5,8 +5,8 @@
  */
 package io.github.eggy03.ferrumx.windows.entity.mainboard;
 
-import com.google.gson.GsonBuilder;
 import com.google.gson.annotations.SerializedName;
+import io.github.eggy03.ferrumx.windows.mapping.EntityJson;
 import lombok.Builder;
 import lombok.Value;
 import org.jetbrains.annotations.NotNull;
@@ -80,6 +80,27 @@ public class Win32Baseboard {
     @Nullable
     String version;
 
+    /**
+     * Additional data, beyond asset tag information, that could be used to identify the baseboard.
+     */
+    @SerializedName("OtherIdentifyingInfo")
+    @Nullable
+    String otherIdentifyingInfo;
+
+    /**
+     * Part number assigned by the organization responsible for producing or manufacturing the baseboard.
+     */
+    @SerializedName("PartNumber")
+    @Nullable
+    String partNumber;
+
+    /**
+     * Stock-keeping unit number of the baseboard.
+     */
+    @SerializedName("SKU")
+    @Nullable
+    String sku;
+
     /**
      * Retrieves the entity in a JSON pretty-print formatted string
      *
@@ -88,10 +109,6 @@ public class Win32Baseboard {
     @Override
     @NotNull
     public String toString() {
-        return new GsonBuilder()
-                .serializeNulls()
-                .setPrettyPrinting()
-                .create()
-                .toJson(this);
+        return EntityJson.toPrettyJson(this);
     }
 }
\ No newline at end of file
@@ -5,8 +5,8 @@
  */
 package io.github.eggy03.ferrumx.windows.entity.mainboard;
 
-import com.google.gson.GsonBuilder;
 import com.google.gson.annotations.SerializedName;
+import io.github.eggy03.ferrumx.windows.mapping.EntityJson;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -125,6 +125,30 @@ public class Win32Bios {
     @SerializedName("SMBIOSBIOSVersion")
     @Nullable
     String smbiosBiosVersion;
+    /**
+     * Major SMBIOS version number.
+     */
+    @SerializedName("SMBIOSMajorVersion")
+    @Nullable
+    Integer smbiosMajorVersion;
+    /**
+     * Minor SMBIOS version number.
+     */
+    @SerializedName("SMBIOSMinorVersion")
+    @Nullable
+    Integer smbiosMinorVersion;
+    /**
+     * Major release of the system BIOS.
+     */
+    @SerializedName("SystemBiosMajorVersion")
+    @Nullable
+    Integer systemBiosMajorVersion;
+    /**
+     * Minor release of the system BIOS.
+     */
+    @SerializedName("SystemBiosMinorVersion")
+    @Nullable
+    Integer systemBiosMinorVersion;
     /**
      * If TRUE, this is the primary BIOS of the computer system.
      */
@@ -149,10 +173,6 @@ public class Win32Bios {
     @Override
     @NotNull
     public String toString() {
-        return new GsonBuilder()
-                .serializeNulls()
-                .setPrettyPrinting()
-                .create()
-                .toJson(this);
+        return EntityJson.toPrettyJson(this);
     }
 }
\ No newline at end of file
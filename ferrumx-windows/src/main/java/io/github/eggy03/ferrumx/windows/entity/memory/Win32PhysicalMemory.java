@@ -5,9 +5,12 @@
  */
 package io.github.eggy03.ferrumx.windows.entity.memory;
 
-import com.google.gson.GsonBuilder;
 import com.google.gson.annotations.SerializedName;
+import io.github.eggy03.ferrumx.windows.mapping.EntityJson;
+import io.github.eggy03.ferrumx.windows.utility.CimCounter;
+import lombok.AccessLevel;
 import lombok.Builder;
+import lombok.Getter;
 import lombok.Value;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -131,10 +134,15 @@ public class Win32PhysicalMemory {
     /**
      * Total capacity of the physical memory—in bytes.
      */
+    @Getter(AccessLevel.NONE)
     @SerializedName("Capacity")
     @Nullable
     BigInteger capacity;
 
+    // the capacity when decoded into a long by the mappers or set as one, in which case it is not 0
+    @Getter(AccessLevel.NONE)
+    transient long capacityLong;
+
     /**
      * Data width of the physical memory—in bits.
      * A data width of 0 (zero) and a total width of 8 (eight) indicates that the memory is used solely to provide error correction bits.
@@ -171,6 +179,31 @@ public class Win32PhysicalMemory {
     @Nullable
     String serialNumber;
 
+    /**
+     * Retrieves the capacity, see {@link #capacity}
+     * <p>
+     * A value decoded into a {@code long} is wrapped into a new {@link BigInteger} on every call,
+     * which {@link #getCapacityAsLong(long)} avoids.
+     * </p>
+     *
+     * @return the capacity, or {@code null} if it is not available
+     */
+    public @Nullable BigInteger getCapacity() {
+        return CimCounter.toBigInteger(capacity, capacityLong);
+    }
+
+    /**
+     * Retrieves the {@link #getCapacity() capacity} as a primitive {@code long}
+     *
+     * @param defaultValue the value to return if the capacity is not available
+     * @return the capacity, or the given default value if it is not available
+     * @throws ArithmeticException if the capacity does not fit in a {@code long}
+     * @since 4.1.0
+     */
+    public long getCapacityAsLong(long defaultValue) {
+        return CimCounter.toLong(capacity, capacityLong, defaultValue);
+    }
+
     /**
      * Retrieves the entity in a JSON pretty-print formatted string
      *
@@ -179,10 +212,42 @@ public class Win32PhysicalMemory {
     @Override
     @NotNull
     public String toString() {
-        return new GsonBuilder()
-                .serializeNulls()
-                .setPrettyPrinting()
-                .create()
-                .toJson(this);
+        return EntityJson.toPrettyJson(this);
+    }
+
+    /**
+     * Builds {@link Win32PhysicalMemory} instances, whose counters are set either as {@link BigInteger}s or as {@code long}s
+     */
+    public static class Win32PhysicalMemoryBuilder {
+
+        /**
+         * Sets the {@link Win32PhysicalMemory#getCapacity() capacity}
+         *
+         * @param capacity the capacity, or {@code null} if it is not available
+         * @return this builder
+         */
+        public Win32PhysicalMemoryBuilder capacity(@Nullable BigInteger capacity) {
+            this.capacity = capacity;
+            this.capacityLong = 0;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Win32PhysicalMemory#getCapacity() capacity} as a primitive {@code long}
+         *
+         * @param capacityAsLong the capacity
+         * @return this builder
+         */
+        public Win32PhysicalMemoryBuilder capacityAsLong(long capacityAsLong) {
+            this.capacity = capacityAsLong == 0 ? BigInteger.ZERO : null;
+            this.capacityLong = capacityAsLong;
+            return this;
+        }
+
+        // copies the long companion as is, for toBuilder()
+        private Win32PhysicalMemoryBuilder capacityLong(long capacityLong) {
+            this.capacityLong = capacityLong;
+            return this;
+        }
     }
 }
@@ -5,15 +5,20 @@
  */
 package io.github.eggy03.ferrumx.windows.entity.network;
 
-import com.google.gson.GsonBuilder;
 import com.google.gson.annotations.SerializedName;
+import io.github.eggy03.ferrumx.windows.mapping.EntityJson;
+import io.github.eggy03.ferrumx.windows.utility.CimDateTime;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Value;
+import lombok.experimental.NonFinal;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
 /**
  * Immutable modern representation of a network adapter on a Windows system.
  * <p>
@@ -228,6 +233,11 @@ public class MsftNetAdapter {
     @SerializedName("DriverDate")
     @Nullable
     String driverDate;
+
+    // the driver date, parsed on the first call of getDriverDateAsInstant by a memo created then
+    @NonFinal
+    @Getter(AccessLevel.NONE)
+    transient volatile CimDateTime.Memo driverDateInstant;
     /**
      * Maximum Transmission Unit (MTU) size of the adapter, in bytes.
      * <p>Example: 1500</p>
@@ -335,6 +345,20 @@ public class MsftNetAdapter {
         return hidden;
     }
 
+    /**
+     * Retrieves the {@link #getDriverDate() driver date} as an {@link Instant}, which is parsed on the first call only
+     *
+     * @return the driver date, or {@code null} if it is not available
+     * @throws DateTimeParseException if the driver date is in none of the forms supported by {@link CimDateTime}
+     * @since 4.1.0
+     */
+    public @Nullable Instant getDriverDateAsInstant() {
+        CimDateTime.Memo memo = driverDateInstant;
+        if (memo == null)
+            driverDateInstant = memo = new CimDateTime.Memo();
+        return memo.get(driverDate);
+    }
+
     /**
      * Retrieves the entity in a JSON pretty-print formatted string
      *
@@ -343,10 +367,17 @@ public class MsftNetAdapter {
     @Override
     @NotNull
     public String toString() {
-        return new GsonBuilder()
-                .serializeNulls()
-                .setPrettyPrinting()
-                .create()
-                .toJson(this);
+        return EntityJson.toPrettyJson(this);
+    }
+
+    /**
+     * Builds {@link MsftNetAdapter} instances
+     */
+    public static class MsftNetAdapterBuilder {
+
+        // every entity creates a memo of its own, which toBuilder() thus does not copy
+        private MsftNetAdapterBuilder driverDateInstant(CimDateTime.Memo driverDateInstant) {
+            return this;
+        }
     }
 }
@@ -5,15 +5,20 @@
  */
 package io.github.eggy03.ferrumx.windows.entity.network;
 
-import com.google.gson.GsonBuilder;
 import com.google.gson.annotations.SerializedName;
+import io.github.eggy03.ferrumx.windows.mapping.EntityJson;
+import io.github.eggy03.ferrumx.windows.utility.CimDateTime;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Value;
+import lombok.experimental.NonFinal;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
 /**
  * Immutable legacy representation of a network adapter on a Windows system.
  * <p>
@@ -125,6 +130,11 @@ public class Win32NetworkAdapter {
     @Nullable
     String timeOfLastReset;
 
+    // the time of the last reset, parsed on the first call of getTimeOfLastResetAsInstant by a memo created then
+    @NonFinal
+    @Getter(AccessLevel.NONE)
+    transient volatile CimDateTime.Memo timeOfLastResetInstant;
+
     public @Nullable Boolean isInstalled() {
         return installed;
     }
@@ -137,6 +147,20 @@ public class Win32NetworkAdapter {
         return physicalAdapter;
     }
 
+    /**
+     * Retrieves the {@link #getTimeOfLastReset() time of the last reset} as an {@link Instant}, which is parsed on the first call only
+     *
+     * @return the time of the last reset, or {@code null} if it is not available
+     * @throws DateTimeParseException if the time of the last reset is in none of the forms supported by {@link CimDateTime}
+     * @since 4.1.0
+     */
+    public @Nullable Instant getTimeOfLastResetAsInstant() {
+        CimDateTime.Memo memo = timeOfLastResetInstant;
+        if (memo == null)
+            timeOfLastResetInstant = memo = new CimDateTime.Memo();
+        return memo.get(timeOfLastReset);
+    }
+
     /**
      * Retrieves the entity in a JSON pretty-print formatted string
      *
@@ -145,10 +169,17 @@ public class Win32NetworkAdapter {
     @Override
     @NotNull
     public String toString() {
-        return new GsonBuilder()
-                .serializeNulls()
-                .setPrettyPrinting()
-                .create()
-                .toJson(this);
+        return EntityJson.toPrettyJson(this);
+    }
+
+    /**
+     * Builds {@link Win32NetworkAdapter} instances
+     */
+    public static class Win32NetworkAdapterBuilder {
+
+        // every entity creates a memo of its own, which toBuilder() thus does not copy
+        private Win32NetworkAdapterBuilder timeOfLastResetInstant(CimDateTime.Memo timeOfLastResetInstant) {
+            return this;
+        }
     }
 }
\ No newline at end of file
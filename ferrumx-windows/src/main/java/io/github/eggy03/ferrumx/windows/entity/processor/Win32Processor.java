@@ -5,8 +5,8 @@
  */
 package io.github.eggy03.ferrumx.windows.entity.processor;
 
-import com.google.gson.GsonBuilder;
 import com.google.gson.annotations.SerializedName;
+import io.github.eggy03.ferrumx.windows.mapping.EntityJson;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -212,10 +212,6 @@ public class Win32Processor {
     @Override
     @NotNull
     public String toString() {
-        return new GsonBuilder()
-                .serializeNulls()
-                .setPrettyPrinting()
-                .create()
-                .toJson(this);
+        return EntityJson.toPrettyJson(this);
     }
 }
\ No newline at end of file
@@ -5,9 +5,12 @@
  */
 package io.github.eggy03.ferrumx.windows.entity.storage;
 
-import com.google.gson.GsonBuilder;
 import com.google.gson.annotations.SerializedName;
+import io.github.eggy03.ferrumx.windows.mapping.EntityJson;
+import io.github.eggy03.ferrumx.windows.utility.CimCounter;
+import lombok.AccessLevel;
 import lombok.Builder;
+import lombok.Getter;
 import lombok.Value;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -31,7 +34,7 @@ import java.util.List;
  *     .deviceId("\\\\.\\PHYSICALDRIVE0")
  *     .caption("Samsung SSD 970 EVO")
  *     .model("MZ-V7E1T0")
- *     .size(1000204886016L)
+ *     .sizeAsLong(1000204886016L)
  *     .firmwareRevision("2B2QEXM7")
  *     .serialNumber("S4EVNX0M123456")
  *     .partitions(3)
@@ -42,7 +45,7 @@ import java.util.List;
  *
  * // Create a modified copy
  * Win32DiskDrive updatedDrive = drive.toBuilder()
- *     .size(2000409772032L)
+ *     .sizeAsLong(2000409772032L)
  *     .build();
  *
  * }</pre>
@@ -84,10 +87,15 @@ public class Win32DiskDrive {
      * Size of the disk drive, calculated by multiplying the total number of cylinders,
      * tracks in each cylinder, sectors in each track, and bytes in each sector.
      */
+    @Getter(AccessLevel.NONE)
     @SerializedName("Size")
     @Nullable
     BigInteger size;
 
+    // the size when decoded into a long by the mappers or set as one, in which case it is not 0
+    @Getter(AccessLevel.NONE)
+    transient long sizeLong;
+
     /**
      * Revision of the disk drive firmware assigned by the manufacturer.
      */
@@ -181,6 +189,31 @@ public class Win32DiskDrive {
     @Nullable
     List<String> capabilityDescriptions;
 
+    /**
+     * Retrieves the size, see {@link #size}
+     * <p>
+     * A value decoded into a {@code long} is wrapped into a new {@link BigInteger} on every call,
+     * which {@link #getSizeAsLong(long)} avoids.
+     * </p>
+     *
+     * @return the size, or {@code null} if it is not available
+     */
+    public @Nullable BigInteger getSize() {
+        return CimCounter.toBigInteger(size, sizeLong);
+    }
+
+    /**
+     * Retrieves the {@link #getSize() size} as a primitive {@code long}
+     *
+     * @param defaultValue the value to return if the size is not available
+     * @return the size, or the given default value if it is not available
+     * @throws ArithmeticException if the size does not fit in a {@code long}
+     * @since 4.1.0
+     */
+    public long getSizeAsLong(long defaultValue) {
+        return CimCounter.toLong(size, sizeLong, defaultValue);
+    }
+
     /**
      * Retrieves the entity in a JSON pretty-print formatted string
      *
@@ -189,10 +222,42 @@ public class Win32DiskDrive {
     @Override
     @NotNull
     public String toString() {
-        return new GsonBuilder()
-                .serializeNulls()
-                .setPrettyPrinting()
-                .create()
-                .toJson(this);
+        return EntityJson.toPrettyJson(this);
+    }
+
+    /**
+     * Builds {@link Win32DiskDrive} instances, whose counters are set either as {@link BigInteger}s or as {@code long}s
+     */
+    public static class Win32DiskDriveBuilder {
+
+        /**
+         * Sets the {@link Win32DiskDrive#getSize() size}
+         *
+         * @param size the size, or {@code null} if it is not available
+         * @return this builder
+         */
+        public Win32DiskDriveBuilder size(@Nullable BigInteger size) {
+            this.size = size;
+            this.sizeLong = 0;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Win32DiskDrive#getSize() size} as a primitive {@code long}
+         *
+         * @param sizeAsLong the size
+         * @return this builder
+         */
+        public Win32DiskDriveBuilder sizeAsLong(long sizeAsLong) {
+            this.size = sizeAsLong == 0 ? BigInteger.ZERO : null;
+            this.sizeLong = sizeAsLong;
+            return this;
+        }
+
+        // copies the long companion as is, for toBuilder()
+        private Win32DiskDriveBuilder sizeLong(long sizeLong) {
+            this.sizeLong = sizeLong;
+            return this;
+        }
     }
-}
\ No newline at end of file
+}
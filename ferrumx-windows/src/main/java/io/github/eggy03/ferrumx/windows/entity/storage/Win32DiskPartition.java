@@ -0,0 +1,368 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.entity.storage;
+
+import com.google.gson.annotations.SerializedName;
+import io.github.eggy03.ferrumx.windows.mapping.EntityJson;
+import io.github.eggy03.ferrumx.windows.utility.CimCounter;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Value;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigInteger;
+
+/**
+ * Immutable representation of a <b>Partition</b> in a <b>Physical</b> disk on a Windows system.
+ * <p>
+ * Fields correspond to properties retrieved from the {@code Win32_DiskPartition} WMI class.
+ * </p>
+ * <p>
+ * Instances of this class are thread-safe.
+ * </p>
+ *
+ * <h2>Usage examples</h2>
+ * <pre>{@code
+ * // Build a new instance
+ * Win32DiskPartition partition = Win32DiskPartition.builder()
+ *     .deviceId("Disk0\\Partition1")
+ *     .name("System Reserved")
+ *     .description("EFI System Partition")
+ *     .blockSizeAsLong(512L)
+ *     .numberOfBlocksAsLong(131072L)
+ *     .bootable(true)
+ *     .primaryPartition(true)
+ *     .bootPartition(true)
+ *     .diskIndex(0)
+ *     .sizeAsLong(67108864L)
+ *     .type("EFI")
+ *     .build();
+ *
+ * // Create a modified copy
+ * Win32DiskPartition resizedPartition = partition.toBuilder()
+ *     .sizeAsLong(134217728L)
+ *     .build();
+ *
+ * }</pre>
+ *
+ * <p>See {@link Win32DiskDrive} for information about physical disks.</p>
+ * <p>See {@link Win32LogicalDisk} for information about the logical volumes on a physical disk.</p>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @see <a href="https://learn.microsoft.com/en-us/windows/win32/cimwin32prov/win32-diskpartition">Win32_DiskPartition Documentation</a>
+ * @since 3.0.0
+ */
+
+@Value
+@Builder(toBuilder = true)
+public class Win32DiskPartition {
+
+    /**
+     * Unique identifier of the disk drive and partition within the system.
+     */
+    @SerializedName("DeviceID")
+    @Nullable
+    String deviceId;
+
+    /**
+     * Label by which the partition is known.
+     */
+    @SerializedName("Name")
+    @Nullable
+    String name;
+
+    /**
+     * Description of the partition object.
+     */
+    @SerializedName("Description")
+    @Nullable
+    String description;
+
+    /**
+     * Size in bytes of the blocks that form this partition.
+     */
+    @Getter(AccessLevel.NONE)
+    @SerializedName("BlockSize")
+    @Nullable
+    BigInteger blockSize;
+
+    // the block size when decoded into a long by the mappers or set as one, in which case it is not 0
+    @Getter(AccessLevel.NONE)
+    transient long blockSizeLong;
+
+    /**
+     * Total number of consecutive blocks that form this partition.
+     * The total size of the partition can be calculated by multiplying this value by {@link #blockSize}.
+     */
+    @Getter(AccessLevel.NONE)
+    @SerializedName("NumberOfBlocks")
+    @Nullable
+    BigInteger numberOfBlocks;
+
+    // the number of blocks when decoded into a long by the mappers or set as one, in which case it is not 0
+    @Getter(AccessLevel.NONE)
+    transient long numberOfBlocksLong;
+
+    /**
+     * Indicates whether the computer can be booted from this partition.
+     */
+    @Getter(AccessLevel.NONE)
+    @SerializedName("Bootable")
+    @Nullable
+    Boolean bootable;
+    /**
+     * Indicates whether this is the primary partition on the disk.
+     */
+    @Getter(AccessLevel.NONE)
+    @SerializedName("PrimaryPartition")
+    @Nullable
+    Boolean primaryPartition;
+    /**
+     * Indicates whether this is the active (boot) partition used by the operating system when booting.
+     */
+    @Getter(AccessLevel.NONE)
+    @SerializedName("BootPartition")
+    @Nullable
+    Boolean bootPartition;
+    /**
+     * Index number of the physical disk that contains this partition.
+     */
+    @SerializedName("DiskIndex")
+    @Nullable
+    Long diskIndex;
+    /**
+     * Total size of the partition in bytes.
+     */
+    @Getter(AccessLevel.NONE)
+    @SerializedName("Size")
+    @Nullable
+    BigInteger size;
+
+    // the size when decoded into a long by the mappers or set as one, in which case it is not 0
+    @Getter(AccessLevel.NONE)
+    transient long sizeLong;
+    /**
+     * Type of the partition
+     * <p>Possible Values (Non-exhaustive, will be updated when new values are found):</p>
+     * <ul>
+     *     <li>Unused</li>
+     *     <li>12-bit FAT</li>
+     *     <li>Xenix Type 1</li>
+     *     <li>Xenix Type 2</li>
+     *     <li>16-bit FAT</li>
+     *     <li>Extended Partition</li>
+     *     <li>MS-DOS V4 Huge</li>
+     *     <li>Installable File System</li>
+     *     <li>PowerPC Reference Platform</li>
+     *     <li>UNIX</li>
+     *     <li>NTFS</li>
+     *     <li>ReFS</li>
+     *     <li>Win95 w/Extended Int 13</li>
+     *     <li>Extended w/Extended Int 13</li>
+     *     <li>Logical Disk Manager</li>
+     *     <li>Unknown</li>
+     * </ul>
+     */
+    @SerializedName("Type")
+    @Nullable
+    String type;
+
+    public @Nullable Boolean isBootable() {
+        return bootable;
+    }
+
+    public @Nullable Boolean isPrimaryPartition() {
+        return primaryPartition;
+    }
+
+    public @Nullable Boolean isBootPartition() {
+        return bootPartition;
+    }
+
+    /**
+     * Retrieves the block size, see {@link #blockSize}
+     * <p>
+     * A value decoded into a {@code long} is wrapped into a new {@link BigInteger} on every call,
+     * which {@link #getBlockSizeAsLong(long)} avoids.
+     * </p>
+     *
+     * @return the block size, or {@code null} if it is not available
+     */
+    public @Nullable BigInteger getBlockSize() {
+        return CimCounter.toBigInteger(blockSize, blockSizeLong);
+    }
+
+    /**
+     * Retrieves the {@link #getBlockSize() block size} as a primitive {@code long}
+     *
+     * @param defaultValue the value to return if the block size is not available
+     * @return the block size, or the given default value if it is not available
+     * @throws ArithmeticException if the block size does not fit in a {@code long}
+     * @since 4.1.0
+     */
+    public long getBlockSizeAsLong(long defaultValue) {
+        return CimCounter.toLong(blockSize, blockSizeLong, defaultValue);
+    }
+
+    /**
+     * Retrieves the number of blocks, see {@link #numberOfBlocks}
+     * <p>
+     * A value decoded into a {@code long} is wrapped into a new {@link BigInteger} on every call,
+     * which {@link #getNumberOfBlocksAsLong(long)} avoids.
+     * </p>
+     *
+     * @return the number of blocks, or {@code null} if it is not available
+     */
+    public @Nullable BigInteger getNumberOfBlocks() {
+        return CimCounter.toBigInteger(numberOfBlocks, numberOfBlocksLong);
+    }
+
+    /**
+     * Retrieves the {@link #getNumberOfBlocks() number of blocks} as a primitive {@code long}
+     *
+     * @param defaultValue the value to return if the number of blocks is not available
+     * @return the number of blocks, or the given default value if it is not available
+     * @throws ArithmeticException if the number of blocks does not fit in a {@code long}
+     * @since 4.1.0
+     */
+    public long getNumberOfBlocksAsLong(long defaultValue) {
+        return CimCounter.toLong(numberOfBlocks, numberOfBlocksLong, defaultValue);
+    }
+
+    /**
+     * Retrieves the size, see {@link #size}
+     * <p>
+     * A value decoded into a {@code long} is wrapped into a new {@link BigInteger} on every call,
+     * which {@link #getSizeAsLong(long)} avoids.
+     * </p>
+     *
+     * @return the size, or {@code null} if it is not available
+     */
+    public @Nullable BigInteger getSize() {
+        return CimCounter.toBigInteger(size, sizeLong);
+    }
+
+    /**
+     * Retrieves the {@link #getSize() size} as a primitive {@code long}
+     *
+     * @param defaultValue the value to return if the size is not available
+     * @return the size, or the given default value if it is not available
+     * @throws ArithmeticException if the size does not fit in a {@code long}
+     * @since 4.1.0
+     */
+    public long getSizeAsLong(long defaultValue) {
+        return CimCounter.toLong(size, sizeLong, defaultValue);
+    }
+
+    /**
+     * Retrieves the entity in a JSON pretty-print formatted string
+     *
+     * @return the {@link String} value of the object in JSON pretty-print format
+     */
+    @Override
+    @NotNull
+    public String toString() {
+        return EntityJson.toPrettyJson(this);
+    }
+
+    /**
+     * Builds {@link Win32DiskPartition} instances, whose counters are set either as {@link BigInteger}s or as {@code long}s
+     */
+    public static class Win32DiskPartitionBuilder {
+
+        /**
+         * Sets the {@link Win32DiskPartition#getBlockSize() block size}
+         *
+         * @param blockSize the block size, or {@code null} if it is not available
+         * @return this builder
+         */
+        public Win32DiskPartitionBuilder blockSize(@Nullable BigInteger blockSize) {
+            this.blockSize = blockSize;
+            this.blockSizeLong = 0;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Win32DiskPartition#getBlockSize() block size} as a primitive {@code long}
+         *
+         * @param blockSizeAsLong the block size
+         * @return this builder
+         */
+        public Win32DiskPartitionBuilder blockSizeAsLong(long blockSizeAsLong) {
+            this.blockSize = blockSizeAsLong == 0 ? BigInteger.ZERO : null;
+            this.blockSizeLong = blockSizeAsLong;
+            return this;
+        }
+
+        // copies the long companion as is, for toBuilder()
+        private Win32DiskPartitionBuilder blockSizeLong(long blockSizeLong) {
+            this.blockSizeLong = blockSizeLong;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Win32DiskPartition#getNumberOfBlocks() number of blocks}
+         *
+         * @param numberOfBlocks the number of blocks, or {@code null} if it is not available
+         * @return this builder
+         */
+        public Win32DiskPartitionBuilder numberOfBlocks(@Nullable BigInteger numberOfBlocks) {
+            this.numberOfBlocks = numberOfBlocks;
+            this.numberOfBlocksLong = 0;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Win32DiskPartition#getNumberOfBlocks() number of blocks} as a primitive {@code long}
+         *
+         * @param numberOfBlocksAsLong the number of blocks
+         * @return this builder
+         */
+        public Win32DiskPartitionBuilder numberOfBlocksAsLong(long numberOfBlocksAsLong) {
+            this.numberOfBlocks = numberOfBlocksAsLong == 0 ? BigInteger.ZERO : null;
+            this.numberOfBlocksLong = numberOfBlocksAsLong;
+            return this;
+        }
+
+        // copies the long companion as is, for toBuilder()
+        private Win32DiskPartitionBuilder numberOfBlocksLong(long numberOfBlocksLong) {
+            this.numberOfBlocksLong = numberOfBlocksLong;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Win32DiskPartition#getSize() size}
+         *
+         * @param size the size, or {@code null} if it is not available
+         * @return this builder
+         */
+        public Win32DiskPartitionBuilder size(@Nullable BigInteger size) {
+            this.size = size;
+            this.sizeLong = 0;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Win32DiskPartition#getSize() size} as a primitive {@code long}
+         *
+         * @param sizeAsLong the size
+         * @return this builder
+         */
+        public Win32DiskPartitionBuilder sizeAsLong(long sizeAsLong) {
+            this.size = sizeAsLong == 0 ? BigInteger.ZERO : null;
+            this.sizeLong = sizeAsLong;
+            return this;
+        }
+
+        // copies the long companion as is, for toBuilder()
+        private Win32DiskPartitionBuilder sizeLong(long sizeLong) {
+            this.sizeLong = sizeLong;
+            return this;
+        }
+    }
+}
@@ -5,8 +5,9 @@
  */
 package io.github.eggy03.ferrumx.windows.entity.storage;
 
-import com.google.gson.GsonBuilder;
 import com.google.gson.annotations.SerializedName;
+import io.github.eggy03.ferrumx.windows.mapping.EntityJson;
+import io.github.eggy03.ferrumx.windows.utility.CimCounter;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -32,12 +33,12 @@ import java.math.BigInteger;
  *     .deviceId("C:")
  *     .driveType(3)
  *     .fileSystem("NTFS")
- *     .size(1000204886016L)
+ *     .sizeAsLong(1000204886016L)
  *     .build();
  *
  * // Create a modified copy
  * Win32LogicalDisk updatedDisk = drive.toBuilder()
- *     .size(2000409772032L)
+ *     .sizeAsLong(2000409772032L)
  *     .fileSystem("ReFS")
  *     .build();
  *
@@ -107,17 +108,27 @@ public class Win32LogicalDisk {
     /**
      * Size of the disk drive in bytes.
      */
+    @Getter(AccessLevel.NONE)
     @SerializedName("Size")
     @Nullable
     BigInteger size;
 
+    // the size when decoded into a long by the mappers or set as one, in which case it is not 0
+    @Getter(AccessLevel.NONE)
+    transient long sizeLong;
+
     /**
      * Free space, in bytes, available on the logical disk.
      */
+    @Getter(AccessLevel.NONE)
     @SerializedName("FreeSpace")
     @Nullable
     BigInteger freeSpace;
 
+    // the free space when decoded into a long by the mappers or set as one, in which case it is not 0
+    @Getter(AccessLevel.NONE)
+    transient long freeSpaceLong;
+
     /**
      * Indicates if the logical volume exists as a single compressed entity (e.g., DoubleSpace).
      * If file-based compression is supported (e.g., NTFS), this value is {@code false}.
@@ -166,6 +177,56 @@ public class Win32LogicalDisk {
         return supportsDiskQuotas;
     }
 
+    /**
+     * Retrieves the size, see {@link #size}
+     * <p>
+     * A value decoded into a {@code long} is wrapped into a new {@link BigInteger} on every call,
+     * which {@link #getSizeAsLong(long)} avoids.
+     * </p>
+     *
+     * @return the size, or {@code null} if it is not available
+     */
+    public @Nullable BigInteger getSize() {
+        return CimCounter.toBigInteger(size, sizeLong);
+    }
+
+    /**
+     * Retrieves the {@link #getSize() size} as a primitive {@code long}
+     *
+     * @param defaultValue the value to return if the size is not available
+     * @return the size, or the given default value if it is not available
+     * @throws ArithmeticException if the size does not fit in a {@code long}
+     * @since 4.1.0
+     */
+    public long getSizeAsLong(long defaultValue) {
+        return CimCounter.toLong(size, sizeLong, defaultValue);
+    }
+
+    /**
+     * Retrieves the free space, see {@link #freeSpace}
+     * <p>
+     * A value decoded into a {@code long} is wrapped into a new {@link BigInteger} on every call,
+     * which {@link #getFreeSpaceAsLong(long)} avoids.
+     * </p>
+     *
+     * @return the free space, or {@code null} if it is not available
+     */
+    public @Nullable BigInteger getFreeSpace() {
+        return CimCounter.toBigInteger(freeSpace, freeSpaceLong);
+    }
+
+    /**
+     * Retrieves the {@link #getFreeSpace() free space} as a primitive {@code long}
+     *
+     * @param defaultValue the value to return if the free space is not available
+     * @return the free space, or the given default value if it is not available
+     * @throws ArithmeticException if the free space does not fit in a {@code long}
+     * @since 4.1.0
+     */
+    public long getFreeSpaceAsLong(long defaultValue) {
+        return CimCounter.toLong(freeSpace, freeSpaceLong, defaultValue);
+    }
+
     /**
      * Retrieves the entity in a JSON pretty-print formatted string
      *
@@ -174,11 +235,72 @@ public class Win32LogicalDisk {
     @Override
     @NotNull
     public String toString() {
-        return new GsonBuilder()
-                .serializeNulls()
-                .setPrettyPrinting()
-                .create()
-                .toJson(this);
+        return EntityJson.toPrettyJson(this);
     }
 
+    /**
+     * Builds {@link Win32LogicalDisk} instances, whose counters are set either as {@link BigInteger}s or as {@code long}s
+     */
+    public static class Win32LogicalDiskBuilder {
+
+        /**
+         * Sets the {@link Win32LogicalDisk#getSize() size}
+         *
+         * @param size the size, or {@code null} if it is not available
+         * @return this builder
+         */
+        public Win32LogicalDiskBuilder size(@Nullable BigInteger size) {
+            this.size = size;
+            this.sizeLong = 0;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Win32LogicalDisk#getSize() size} as a primitive {@code long}
+         *
+         * @param sizeAsLong the size
+         * @return this builder
+         */
+        public Win32LogicalDiskBuilder sizeAsLong(long sizeAsLong) {
+            this.size = sizeAsLong == 0 ? BigInteger.ZERO : null;
+            this.sizeLong = sizeAsLong;
+            return this;
+        }
+
+        // copies the long companion as is, for toBuilder()
+        private Win32LogicalDiskBuilder sizeLong(long sizeLong) {
+            this.sizeLong = sizeLong;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Win32LogicalDisk#getFreeSpace() free space}
+         *
+         * @param freeSpace the free space, or {@code null} if it is not available
+         * @return this builder
+         */
+        public Win32LogicalDiskBuilder freeSpace(@Nullable BigInteger freeSpace) {
+            this.freeSpace = freeSpace;
+            this.freeSpaceLong = 0;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Win32LogicalDisk#getFreeSpace() free space} as a primitive {@code long}
+         *
+         * @param freeSpaceAsLong the free space
+         * @return this builder
+         */
+        public Win32LogicalDiskBuilder freeSpaceAsLong(long freeSpaceAsLong) {
+            this.freeSpace = freeSpaceAsLong == 0 ? BigInteger.ZERO : null;
+            this.freeSpaceLong = freeSpaceAsLong;
+            return this;
+        }
+
+        // copies the long companion as is, for toBuilder()
+        private Win32LogicalDiskBuilder freeSpaceLong(long freeSpaceLong) {
+            this.freeSpaceLong = freeSpaceLong;
+            return this;
+        }
+    }
 }
@@ -0,0 +1,645 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.entity.system;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Immutable, columnar representation of the processes in a Windows system.
+ * <p>
+ * Where a list of {@link Win32Process} holds one object per process, a table holds one primitive array per
+ * {@link Column}, indexed by row, and encodes the names and executable paths against dictionaries of their distinct
+ * values, which many processes share. Sorting, top-N and filtering work on these arrays and return row indices,
+ * so that none of them creates an object per process. Rows of interest can still be turned into
+ * {@link Win32Process} objects through {@link #toProcess(int)}.
+ * </p>
+ * <p>
+ * Values that are not available are held as {@link #NOT_AVAILABLE} for the numeric columns and as {@code null}
+ * for the names and paths.
+ * </p>
+ * <p>
+ * Instances of this class are thread-safe.
+ * </p>
+ *
+ * <h2>Usage examples</h2>
+ * <pre>{@code
+ * ProcessTable table = new Win32ProcessService().getTable(10);
+ *
+ * // the ten processes with the largest working sets
+ * for (int row : table.topRows(ProcessTable.Column.WORKING_SET_SIZE, 10))
+ *     System.out.println(table.getName(row) + " " + table.get(ProcessTable.Column.WORKING_SET_SIZE, row));
+ *
+ * // the five processes that used the most CPU time
+ * int[] busiest = table.topRows(row -> table.get(ProcessTable.Column.KERNEL_MODE_TIME, row)
+ *         + table.get(ProcessTable.Column.USER_MODE_TIME, row), 5);
+ *
+ * // the rows of every svchost.exe of session 0
+ * int[] services = table.filterRows(row -> table.get(ProcessTable.Column.SESSION_ID, row) == 0);
+ * int[] svchosts = table.rowsNamed("svchost.exe");
+ * }</pre>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @see <a href="https://learn.microsoft.com/en-us/windows/win32/cimwin32prov/win32-process">Win32_Process Documentation</a>
+ * @since 4.1.0
+ */
+public final class ProcessTable {
+
+    /**
+     * The value of a numeric column whose value is not available
+     * <p>
+     * All the columns hold unsigned CIM counters, so no available value is negative.
+     * </p>
+     */
+    public static final long NOT_AVAILABLE = -1L;
+
+    /**
+     * The code of a name or executable path that is not available
+     */
+    public static final int NO_CODE = -1;
+
+    /**
+     * The numeric columns of a {@link ProcessTable}
+     */
+    @RequiredArgsConstructor
+    @Getter
+    public enum Column {
+
+        /**
+         * Unique identifier of the process, see {@link Win32Process#getProcessId()}
+         */
+        PROCESS_ID("ProcessId"),
+
+        /**
+         * Identifier of the session of the process, see {@link Win32Process#getSessionId()}
+         */
+        SESSION_ID("SessionId"),
+
+        /**
+         * Number of active threads of the process, see {@link Win32Process#getThreadCount()}
+         */
+        THREAD_COUNT("ThreadCount"),
+
+        /**
+         * Number of handles opened by the process, see {@link Win32Process#getHandleCount()}
+         */
+        HANDLE_COUNT("HandleCount"),
+
+        /**
+         * Current working set size of the process in bytes, see {@link Win32Process#getWorkingSetSize()}
+         */
+        WORKING_SET_SIZE("WorkingSetSize"),
+
+        /**
+         * Current number of private memory pages of the process, see {@link Win32Process#getPrivatePageCount()}
+         */
+        PRIVATE_PAGE_COUNT("PrivatePageCount"),
+
+        /**
+         * Time spent by the process in kernel mode, see {@link Win32Process#getKernelModeTime()}
+         */
+        KERNEL_MODE_TIME("KernelModeTime"),
+
+        /**
+         * Time spent by the process in user mode, see {@link Win32Process#getUserModeTime()}
+         */
+        USER_MODE_TIME("UserModeTime");
+
+        private static final Column[] VALUES = values();
+
+        /**
+         * The name of the {@code Win32_Process} property the column holds
+         */
+        @NonNull
+        private final String serializedName;
+    }
+
+    /**
+     * The name of the {@code Win32_Process} property the names of the processes are taken from
+     */
+    public static final String NAME_PROPERTY = "Name";
+
+    /**
+     * The name of the {@code Win32_Process} property the executable paths of the processes are taken from
+     */
+    public static final String EXECUTABLE_PATH_PROPERTY = "ExecutablePath";
+
+    private final int size;
+    private final long[][] columns;
+    private final int[] nameCodes;
+    private final String[] names;
+    private final int[] executablePathCodes;
+    private final String[] executablePaths;
+
+    private ProcessTable(@NotNull Builder builder) {
+        this.size = builder.size;
+        this.columns = new long[Column.VALUES.length][];
+        for (int i = 0; i < columns.length; i++)
+            columns[i] = Arrays.copyOf(builder.columns[i], size);
+        this.nameCodes = Arrays.copyOf(builder.nameCodes, size);
+        this.names = builder.names.toArray();
+        this.executablePathCodes = Arrays.copyOf(builder.executablePathCodes, size);
+        this.executablePaths = builder.executablePaths.toArray();
+    }
+
+    /**
+     * Creates a builder of a table, which is filled one row at a time
+     *
+     * @return a new, empty builder
+     */
+    @NotNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Retrieves the names of the {@code Win32_Process} properties a table is built from, which are the ones to
+     * query when filling one
+     *
+     * @return the serialized names of the {@link Column}s, followed by {@link #NAME_PROPERTY} and
+     * {@link #EXECUTABLE_PATH_PROPERTY}
+     */
+    @NotNull
+    public static String[] getSerializedNames() {
+        String[] serializedNames = new String[Column.VALUES.length + 2];
+        for (Column column : Column.VALUES)
+            serializedNames[column.ordinal()] = column.getSerializedName();
+        serializedNames[Column.VALUES.length] = NAME_PROPERTY;
+        serializedNames[Column.VALUES.length + 1] = EXECUTABLE_PATH_PROPERTY;
+        return serializedNames;
+    }
+
+    /**
+     * Retrieves the number of rows, which is the number of processes
+     *
+     * @return the number of rows of the table
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retrieves the value of a numeric column
+     *
+     * @param column the column to read
+     * @param row    the index of the row, from {@code 0} to {@link #size()} exclusive
+     * @return the value, or {@link #NOT_AVAILABLE} if it is not available
+     * @throws IndexOutOfBoundsException if the row does not exist
+     */
+    public long get(@NonNull Column column, int row) {
+        return columns[column.ordinal()][checkRow(row)];
+    }
+
+    /**
+     * Retrieves the name of the process of a row
+     *
+     * @param row the index of the row, from {@code 0} to {@link #size()} exclusive
+     * @return the name of the executable of the process, or {@code null} if it is not available
+     * @throws IndexOutOfBoundsException if the row does not exist
+     */
+    public @Nullable String getName(int row) {
+        int code = nameCodes[checkRow(row)];
+        return code == NO_CODE ? null : names[code];
+    }
+
+    /**
+     * Retrieves the code of the name of the process of a row
+     * <p>
+     * Rows share a code if and only if they share a name, so comparing codes is a cheaper way of comparing names.
+     * </p>
+     *
+     * @param row the index of the row, from {@code 0} to {@link #size()} exclusive
+     * @return the code of the name, or {@link #NO_CODE} if the name is not available
+     * @throws IndexOutOfBoundsException if the row does not exist
+     */
+    public int getNameCode(int row) {
+        return nameCodes[checkRow(row)];
+    }
+
+    /**
+     * Retrieves the executable path of the process of a row
+     *
+     * @param row the index of the row, from {@code 0} to {@link #size()} exclusive
+     * @return the full path of the executable of the process, or {@code null} if it is not available
+     * @throws IndexOutOfBoundsException if the row does not exist
+     */
+    public @Nullable String getExecutablePath(int row) {
+        int code = executablePathCodes[checkRow(row)];
+        return code == NO_CODE ? null : executablePaths[code];
+    }
+
+    /**
+     * Retrieves the number of distinct names among the processes
+     *
+     * @return the number of distinct names, which are coded from {@code 0} to this number exclusive
+     */
+    public int getDistinctNameCount() {
+        return names.length;
+    }
+
+    /**
+     * Retrieves the rows sorted by the value of a numeric column
+     * <p>
+     * The sort is stable: rows with equal values keep their order. Values that are not available are the smallest.
+     * </p>
+     *
+     * @param column     the column to sort by
+     * @param descending {@code true} to put the largest values first
+     * @return the indices of all the rows, in sorted order
+     */
+    @NotNull
+    public int[] sortedRows(@NonNull Column column, boolean descending) {
+        return sortedRows(columns[column.ordinal()], descending);
+    }
+
+    /**
+     * Retrieves the rows sorted by a key computed from each row, such as the sum of two columns
+     * <p>
+     * The key is computed once per row. The sort is stable: rows with equal keys keep their order.
+     * </p>
+     *
+     * @param key        the function computing the key of a row index
+     * @param descending {@code true} to put the largest keys first
+     * @return the indices of all the rows, in sorted order
+     */
+    @NotNull
+    public int[] sortedRows(@NonNull IntToLongFunction key, boolean descending) {
+        return sortedRows(keys(key), descending);
+    }
+
+    /**
+     * Retrieves the rows holding the largest values of a numeric column
+     * <p>
+     * Only a heap of {@code n} row indices is maintained, so this is cheaper than sorting the whole table.
+     * </p>
+     *
+     * @param column the column to rank by
+     * @param n      the maximum number of rows to return
+     * @return the indices of at most {@code n} rows, largest value first, rows with equal values in their order
+     * @throws IllegalArgumentException if {@code n} is negative
+     */
+    @NotNull
+    public int[] topRows(@NonNull Column column, int n) {
+        return topRows(columns[column.ordinal()], n);
+    }
+
+    /**
+     * Retrieves the rows with the largest keys computed from each row, such as the sum of two columns
+     *
+     * @param key the function computing the key of a row index
+     * @param n   the maximum number of rows to return
+     * @return the indices of at most {@code n} rows, largest key first, rows with equal keys in their order
+     * @throws IllegalArgumentException if {@code n} is negative
+     * @see #topRows(Column, int)
+     */
+    @NotNull
+    public int[] topRows(@NonNull IntToLongFunction key, int n) {
+        return topRows(keys(key), n);
+    }
+
+    /**
+     * Retrieves the rows matching a predicate
+     *
+     * @param predicate the predicate tested with every row index
+     * @return the indices of the matching rows, in ascending order
+     */
+    @NotNull
+    public int[] filterRows(@NonNull IntPredicate predicate) {
+        int[] matching = new int[size];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(row))
+                matching[count++] = row;
+        }
+        return Arrays.copyOf(matching, count);
+    }
+
+    /**
+     * Retrieves the rows of the processes with the given name, ignoring case like Windows does
+     * <p>
+     * The name is compared with each distinct name once, and the rows are then matched by their codes.
+     * </p>
+     *
+     * @param name the name of the executable, such as {@code svchost.exe}
+     * @return the indices of the matching rows, in ascending order
+     */
+    @NotNull
+    public int[] rowsNamed(@NonNull String name) {
+        boolean[] matchingCodes = new boolean[names.length];
+        boolean any = false;
+        for (int code = 0; code < names.length; code++) {
+            matchingCodes[code] = names[code].equalsIgnoreCase(name);
+            any |= matchingCodes[code];
+        }
+        if (!any)
+            return new int[0];
+        return filterRows(row -> nameCodes[row] != NO_CODE && matchingCodes[nameCodes[row]]);
+    }
+
+    /**
+     * Creates a {@link Win32Process} holding the values of a row
+     * <p>
+     * The properties that a table does not hold are {@code null}, like in the entities of a projected query.
+     * </p>
+     *
+     * @param row the index of the row, from {@code 0} to {@link #size()} exclusive
+     * @return a partially populated process
+     * @throws IndexOutOfBoundsException if the row does not exist
+     */
+    @NotNull
+    public Win32Process toProcess(int row) {
+        checkRow(row);
+        return Win32Process.builder()
+                .processId(boxed(Column.PROCESS_ID, row))
+                .sessionId(boxed(Column.SESSION_ID, row))
+                .threadCount(boxed(Column.THREAD_COUNT, row))
+                .handleCount(boxed(Column.HANDLE_COUNT, row))
+                .workingSetSize(big(Column.WORKING_SET_SIZE, row))
+                .privatePageCount(big(Column.PRIVATE_PAGE_COUNT, row))
+                .kernelModeTime(big(Column.KERNEL_MODE_TIME, row))
+                .userModeTime(big(Column.USER_MODE_TIME, row))
+                .name(getName(row))
+                .executablePath(getExecutablePath(row))
+                .build();
+    }
+
+    /**
+     * Retrieves a short description of the table
+     *
+     * @return the number of rows and of distinct names and executable paths
+     */
+    @Override
+    @NotNull
+    public String toString() {
+        return "ProcessTable[rows=" + size + ", names=" + names.length + ", executablePaths=" + executablePaths.length + "]";
+    }
+
+    private int checkRow(int row) {
+        if (row < 0 || row >= size)
+            throw new IndexOutOfBoundsException("Row " + row + " of a table of " + size + " rows");
+        return row;
+    }
+
+    private @Nullable Long boxed(@NotNull Column column, int row) {
+        long value = columns[column.ordinal()][row];
+        return value == NOT_AVAILABLE ? null : value;
+    }
+
+    private @Nullable BigInteger big(@NotNull Column column, int row) {
+        long value = columns[column.ordinal()][row];
+        return value == NOT_AVAILABLE ? null : BigInteger.valueOf(value);
+    }
+
+    @NotNull
+    private long[] keys(@NotNull IntToLongFunction key) {
+        long[] keys = new long[size];
+        for (int row = 0; row < size; row++)
+            keys[row] = key.applyAsLong(row);
+        return keys;
+    }
+
+    @NotNull
+    private int[] sortedRows(@NotNull long[] keys, boolean descending) {
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++)
+            rows[row] = row;
+        mergeSort(rows, new int[size], 0, size, keys, descending);
+        return rows;
+    }
+
+    // sorts rows[from, to) by their keys, breaking ties by the row index, which keeps the sort stable
+    private static void mergeSort(@NotNull int[] rows, @NotNull int[] buffer, int from, int to, @NotNull long[] keys, boolean descending) {
+        if (to - from < 2)
+            return;
+        int middle = (from + to) >>> 1;
+        mergeSort(rows, buffer, from, middle, keys, descending);
+        mergeSort(rows, buffer, middle, to, keys, descending);
+        if (!precedes(rows[middle], rows[middle - 1], keys, descending))
+            return; // already in order
+
+        System.arraycopy(rows, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < middle && !precedes(buffer[right], buffer[left], keys, descending)))
+                rows[i] = buffer[left++];
+            else
+                rows[i] = buffer[right++];
+        }
+    }
+
+    @NotNull
+    private int[] topRows(@NotNull long[] keys, int n) {
+        if (n < 0)
+            throw new IllegalArgumentException("The number of rows must not be negative: " + n);
+
+        // a heap whose root is the row that would be ranked last among the ones kept so far
+        int[] heap = new int[Math.min(n, size)];
+        int count = 0;
+        for (int row = 0; row < size && heap.length > 0; row++) {
+            if (count < heap.length) {
+                heap[count] = row;
+                siftUp(heap, count++, keys);
+            } else if (precedes(row, heap[0], keys, true)) {
+                heap[0] = row;
+                siftDown(heap, count, keys);
+            }
+        }
+
+        // pop the heap from the back, so that the first row to be ranked ends up first
+        for (int end = count - 1; end > 0; end--) {
+            int last = heap[0];
+            heap[0] = heap[end];
+            heap[end] = last;
+            siftDown(heap, end, keys);
+        }
+        return heap;
+    }
+
+    private static void siftUp(@NotNull int[] heap, int index, @NotNull long[] keys) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!precedes(heap[parent], heap[index], keys, true))
+                return;
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(@NotNull int[] heap, int count, @NotNull long[] keys) {
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= count)
+                return;
+            if (child + 1 < count && precedes(heap[child], heap[child + 1], keys, true))
+                child++;
+            if (!precedes(heap[index], heap[child], keys, true))
+                return;
+            swap(heap, index, child);
+            index = child;
+        }
+    }
+
+    private static void swap(@NotNull int[] rows, int i, int j) {
+        int row = rows[i];
+        rows[i] = rows[j];
+        rows[j] = row;
+    }
+
+    // whether row a comes before row b: by key, then by row index
+    private static boolean precedes(int a, int b, @NotNull long[] keys, boolean descending) {
+        if (keys[a] != keys[b])
+            return descending ? keys[a] > keys[b] : keys[a] < keys[b];
+        return a < b;
+    }
+
+    /**
+     * Fills a {@link ProcessTable} one row at a time, in any order of the properties within a row
+     * <p>
+     * Every row starts with {@link #beginRow()}, which makes it the current row with all its values not available,
+     * and is then filled by the setters, which write to the current row. Names and executable paths are coded
+     * against their dictionaries as they are set.
+     * </p>
+     * <p>
+     * Instances of this class are not thread-safe.
+     * </p>
+     */
+    public static final class Builder {
+
+        private static final int INITIAL_CAPACITY = 256;
+
+        private int size;
+        private final long[][] columns = new long[Column.VALUES.length][INITIAL_CAPACITY];
+        private int[] nameCodes = new int[INITIAL_CAPACITY];
+        private int[] executablePathCodes = new int[INITIAL_CAPACITY];
+        private final Dictionary names = new Dictionary();
+        private final Dictionary executablePaths = new Dictionary();
+
+        private Builder() {
+        }
+
+        /**
+         * Appends a row, whose values are all not available, and makes it the current row
+         *
+         * @return this builder
+         */
+        @NotNull
+        public Builder beginRow() {
+            if (size == nameCodes.length) {
+                int capacity = size + (size >> 1);
+                for (int i = 0; i < columns.length; i++)
+                    columns[i] = Arrays.copyOf(columns[i], capacity);
+                nameCodes = Arrays.copyOf(nameCodes, capacity);
+                executablePathCodes = Arrays.copyOf(executablePathCodes, capacity);
+            }
+            for (long[] column : columns)
+                column[size] = NOT_AVAILABLE;
+            nameCodes[size] = NO_CODE;
+            executablePathCodes[size] = NO_CODE;
+            size++;
+            return this;
+        }
+
+        /**
+         * Sets the value of a numeric column of the current row
+         *
+         * @param column the column to set
+         * @param value  the value, which must not be negative, or {@link #NOT_AVAILABLE}
+         * @return this builder
+         * @throws IllegalStateException    if no row has been begun
+         * @throws IllegalArgumentException if the value is negative and not {@link #NOT_AVAILABLE}
+         */
+        @NotNull
+        public Builder set(@NonNull Column column, long value) {
+            if (value < 0 && value != NOT_AVAILABLE)
+                throw new IllegalArgumentException("The value of " + column + " must not be negative: " + value);
+            columns[column.ordinal()][currentRow()] = value;
+            return this;
+        }
+
+        /**
+         * Sets the name of the process of the current row
+         *
+         * @param name the name of the executable, or {@code null} if it is not available
+         * @return this builder
+         * @throws IllegalStateException if no row has been begun
+         */
+        @NotNull
+        public Builder name(@Nullable String name) {
+            nameCodes[currentRow()] = names.encode(name);
+            return this;
+        }
+
+        /**
+         * Sets the executable path of the process of the current row
+         *
+         * @param executablePath the full path of the executable, or {@code null} if it is not available
+         * @return this builder
+         * @throws IllegalStateException if no row has been begun
+         */
+        @NotNull
+        public Builder executablePath(@Nullable String executablePath) {
+            executablePathCodes[currentRow()] = executablePaths.encode(executablePath);
+            return this;
+        }
+
+        /**
+         * Builds the table out of the rows appended so far
+         * <p>
+         * The builder can still be used afterwards: the table holds copies of its arrays.
+         * </p>
+         *
+         * @return the table
+         */
+        @NotNull
+        public ProcessTable build() {
+            return new ProcessTable(this);
+        }
+
+        private int currentRow() {
+            if (size == 0)
+                throw new IllegalStateException("No row has been begun");
+            return size - 1;
+        }
+    }
+
+    // the distinct values of a column, coded in the order they were first seen
+    private static final class Dictionary {
+
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        private int encode(@Nullable String value) {
+            if (value == null)
+                return NO_CODE;
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                codes.put(value, code);
+                values.add(value);
+            }
+            return code;
+        }
+
+        @NotNull
+        private String[] toArray() {
+            return values.toArray(new String[0]);
+        }
+    }
+}
@@ -5,9 +5,10 @@
  */
 package io.github.eggy03.ferrumx.windows.entity.system;
 
-import com.google.gson.GsonBuilder;
 import com.google.gson.annotations.SerializedName;
 import io.github.eggy03.ferrumx.windows.entity.memory.Win32PhysicalMemory;
+import io.github.eggy03.ferrumx.windows.mapping.EntityJson;
+import io.github.eggy03.ferrumx.windows.utility.CimCounter;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -362,9 +363,14 @@ public class Win32ComputerSystem {
      * Note: under some circumstances this may not be accurate (BIOS reservation). For accurate module-by-module capacity,
      * query the equivalent method(s) in {@link Win32PhysicalMemory}
      */
+    @Getter(AccessLevel.NONE)
     @SerializedName("TotalPhysicalMemory")
     @Nullable
     BigInteger totalPhysicalMemory;
+
+    // the total physical memory when decoded into a long by the mappers or set as one, in which case it is not 0
+    @Getter(AccessLevel.NONE)
+    transient long totalPhysicalMemoryLong;
     /**
      * If true, the system manages the page file automatically.
      */
@@ -459,6 +465,31 @@ public class Win32ComputerSystem {
         return daylightInEffect;
     }
 
+    /**
+     * Retrieves the total physical memory, see {@link #totalPhysicalMemory}
+     * <p>
+     * A value decoded into a {@code long} is wrapped into a new {@link BigInteger} on every call,
+     * which {@link #getTotalPhysicalMemoryAsLong(long)} avoids.
+     * </p>
+     *
+     * @return the total physical memory, or {@code null} if it is not available
+     */
+    public @Nullable BigInteger getTotalPhysicalMemory() {
+        return CimCounter.toBigInteger(totalPhysicalMemory, totalPhysicalMemoryLong);
+    }
+
+    /**
+     * Retrieves the {@link #getTotalPhysicalMemory() total physical memory} as a primitive {@code long}
+     *
+     * @param defaultValue the value to return if the total physical memory is not available
+     * @return the total physical memory, or the given default value if it is not available
+     * @throws ArithmeticException if the total physical memory does not fit in a {@code long}
+     * @since 4.1.0
+     */
+    public long getTotalPhysicalMemoryAsLong(long defaultValue) {
+        return CimCounter.toLong(totalPhysicalMemory, totalPhysicalMemoryLong, defaultValue);
+    }
+
     /**
      * Retrieves the entity in a JSON pretty-print formatted string
      *
@@ -467,10 +498,42 @@ public class Win32ComputerSystem {
     @Override
     @NotNull
     public String toString() {
-        return new GsonBuilder()
-                .serializeNulls()
-                .setPrettyPrinting()
-                .create()
-                .toJson(this);
+        return EntityJson.toPrettyJson(this);
+    }
+
+    /**
+     * Builds {@link Win32ComputerSystem} instances, whose counters are set either as {@link BigInteger}s or as {@code long}s
+     */
+    public static class Win32ComputerSystemBuilder {
+
+        /**
+         * Sets the {@link Win32ComputerSystem#getTotalPhysicalMemory() total physical memory}
+         *
+         * @param totalPhysicalMemory the total physical memory, or {@code null} if it is not available
+         * @return this builder
+         */
+        public Win32ComputerSystemBuilder totalPhysicalMemory(@Nullable BigInteger totalPhysicalMemory) {
+            this.totalPhysicalMemory = totalPhysicalMemory;
+            this.totalPhysicalMemoryLong = 0;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Win32ComputerSystem#getTotalPhysicalMemory() total physical memory} as a primitive {@code long}
+         *
+         * @param totalPhysicalMemoryAsLong the total physical memory
+         * @return this builder
+         */
+        public Win32ComputerSystemBuilder totalPhysicalMemoryAsLong(long totalPhysicalMemoryAsLong) {
+            this.totalPhysicalMemory = totalPhysicalMemoryAsLong == 0 ? BigInteger.ZERO : null;
+            this.totalPhysicalMemoryLong = totalPhysicalMemoryAsLong;
+            return this;
+        }
+
+        // copies the long companion as is, for toBuilder()
+        private Win32ComputerSystemBuilder totalPhysicalMemoryLong(long totalPhysicalMemoryLong) {
+            this.totalPhysicalMemoryLong = totalPhysicalMemoryLong;
+            return this;
+        }
     }
 }
@@ -5,15 +5,19 @@
  */
 package io.github.eggy03.ferrumx.windows.entity.system;
 
-import com.google.gson.GsonBuilder;
 import com.google.gson.annotations.SerializedName;
+import io.github.eggy03.ferrumx.windows.mapping.EntityJson;
+import io.github.eggy03.ferrumx.windows.utility.CimDateTime;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Value;
+import lombok.experimental.NonFinal;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 /**
@@ -86,6 +90,11 @@ public class Win32OperatingSystem {
     @Nullable
     String lastBootUpTime;
 
+    // the last boot-up time, parsed on the first call of getLastBootUpTimeAsInstant by a memo created then
+    @NonFinal
+    @Getter(AccessLevel.NONE)
+    transient volatile CimDateTime.Memo lastBootUpTimeInstant;
+
     /**
      * Current local date and time of the operating system.
      */
@@ -221,6 +230,20 @@ public class Win32OperatingSystem {
         return primary;
     }
 
+    /**
+     * Retrieves the {@link #getLastBootUpTime() last boot-up time} as an {@link Instant}, which is parsed on the first call only
+     *
+     * @return the last boot-up time, or {@code null} if it is not available
+     * @throws DateTimeParseException if the last boot-up time is in none of the forms supported by {@link CimDateTime}
+     * @since 4.1.0
+     */
+    public @Nullable Instant getLastBootUpTimeAsInstant() {
+        CimDateTime.Memo memo = lastBootUpTimeInstant;
+        if (memo == null)
+            lastBootUpTimeInstant = memo = new CimDateTime.Memo();
+        return memo.get(lastBootUpTime);
+    }
+
     /**
      * Retrieves the entity in a JSON pretty-print formatted string
      *
@@ -229,10 +252,17 @@ public class Win32OperatingSystem {
     @Override
     @NotNull
     public String toString() {
-        return new GsonBuilder()
-                .serializeNulls()
-                .setPrettyPrinting()
-                .create()
-                .toJson(this);
+        return EntityJson.toPrettyJson(this);
+    }
+
+    /**
+     * Builds {@link Win32OperatingSystem} instances
+     */
+    public static class Win32OperatingSystemBuilder {
+
+        // every entity creates a memo of its own, which toBuilder() thus does not copy
+        private Win32OperatingSystemBuilder lastBootUpTimeInstant(CimDateTime.Memo lastBootUpTimeInstant) {
+            return this;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,686 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.entity.system;
+
+import com.google.gson.annotations.SerializedName;
+import io.github.eggy03.ferrumx.windows.mapping.EntityJson;
+import io.github.eggy03.ferrumx.windows.utility.CimCounter;
+import io.github.eggy03.ferrumx.windows.utility.CimDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Value;
+import lombok.experimental.NonFinal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Immutable representation of a process in a Windows system.
+ * <p>
+ * Fields correspond to properties retrieved from the {@code Win32_Process} WMI class.
+ * </p>
+ * <p>
+ * Instances of this class are thread-safe.
+ * </p>
+ *
+ * <h2>Usage examples</h2>
+ * <pre>{@code
+ * // Build a new Process instance
+ * Win32Process process = Win32Process.builder()
+ *     .processId(19845)
+ *     .name("svchost.exe")
+ *     .priority(8)
+ *     .build();
+ *
+ * // Create a modified copy using the builder
+ * Win32Process updated = process.toBuilder()
+ *     .priority(1)
+ *     .build();
+ *
+ * }</pre>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @see <a href="https://learn.microsoft.com/en-us/windows/win32/cimwin32prov/win32-process">Win32_Process Documentation</a>
+ * @since 3.0.0
+ */
+@Value
+@Builder(toBuilder = true)
+public class Win32Process {
+
+    /**
+     * Unique identifier of the process.
+     */
+    @SerializedName("ProcessId")
+    @Nullable
+    Long processId;
+
+    /**
+     * Identifier of the session under which this process is running.
+     */
+    @SerializedName("SessionId")
+    @Nullable
+    Long sessionId;
+
+    /**
+     * Name of the executable file responsible for this process.
+     */
+    @SerializedName("Name")
+    @Nullable
+    String name;
+
+    /**
+     * Short one-line description of the process.
+     */
+    @SerializedName("Caption")
+    @Nullable
+    String caption;
+
+    /**
+     * Full description of the process.
+     */
+    @SerializedName("Description")
+    @Nullable
+    String description;
+
+    /**
+     * Full path to the executable file of the process.
+     */
+    @SerializedName("ExecutablePath")
+    @Nullable
+    String executablePath;
+
+    /**
+     * Current execution state of the process.
+     * <ul>
+     *   <li>0 — Unknown</li>
+     *   <li>1 — Other</li>
+     *   <li>2 — Ready</li>
+     *   <li>3 — Running</li>
+     *   <li>4 — Blocked</li>
+     *   <li>5 — Suspended Blocked</li>
+     *   <li>6 — Suspended Ready</li>
+     *   <li>7 — Terminated</li>
+     *   <li>8 — Stopped</li>
+     *   <li>9 — Growing</li>
+     * </ul>
+     */
+    @SerializedName("ExecutionState")
+    @Nullable
+    Integer executionState;
+
+    /**
+     * Handle of the process (string representation of ProcessId).
+     */
+    @SerializedName("Handle")
+    @Nullable
+    String handle;
+
+    /**
+     * Number of handles currently open by the process.
+     */
+    @SerializedName("HandleCount")
+    @Nullable
+    Long handleCount;
+
+    /**
+     * Scheduling priority of the process.
+     * <ul>
+     *   <li>0 (lowest) to 31 (highest)</li>
+     * </ul>
+     */
+    @SerializedName("Priority")
+    @Nullable
+    Long priority;
+
+    /**
+     * Number of active threads in the process.
+     */
+    @SerializedName("ThreadCount")
+    @Nullable
+    Long threadCount;
+
+    /**
+     * Time spent by the process in kernel mode (in ms).
+     */
+    @Getter(AccessLevel.NONE)
+    @SerializedName("KernelModeTime")
+    @Nullable
+    BigInteger kernelModeTime;
+
+    // the kernel mode time when decoded into a long by the mappers or set as one, in which case it is not 0
+    @Getter(AccessLevel.NONE)
+    transient long kernelModeTimeLong;
+
+    /**
+     * Time spent by the process in user mode (in ms).
+     */
+    @Getter(AccessLevel.NONE)
+    @SerializedName("UserModeTime")
+    @Nullable
+    BigInteger userModeTime;
+
+    // the user mode time when decoded into a long by the mappers or set as one, in which case it is not 0
+    @Getter(AccessLevel.NONE)
+    transient long userModeTimeLong;
+
+    /**
+     * Current working set size (in bytes) used by the process.
+     */
+    @Getter(AccessLevel.NONE)
+    @SerializedName("WorkingSetSize")
+    @Nullable
+    BigInteger workingSetSize;
+
+    // the working set size when decoded into a long by the mappers or set as one, in which case it is not 0
+    @Getter(AccessLevel.NONE)
+    transient long workingSetSizeLong;
+
+    /**
+     * Peak working set size (in KB) of the process.
+     */
+    @Getter(AccessLevel.NONE)
+    @SerializedName("PeakWorkingSetSize")
+    @Nullable
+    BigInteger peakWorkingSetSize;
+
+    // the peak working set size when decoded into a long by the mappers or set as one, in which case it is not 0
+    @Getter(AccessLevel.NONE)
+    transient long peakWorkingSetSizeLong;
+
+    /**
+     * Current number of private memory pages used by the process.
+     */
+    @Getter(AccessLevel.NONE)
+    @SerializedName("PrivatePageCount")
+    @Nullable
+    BigInteger privatePageCount;
+
+    // the private page count when decoded into a long by the mappers or set as one, in which case it is not 0
+    @Getter(AccessLevel.NONE)
+    transient long privatePageCountLong;
+
+    /**
+     * Current amount of page file usage (kilobytes).
+     */
+    @SerializedName("PageFileUsage")
+    @Nullable
+    Long pageFileUsage;
+
+    /**
+     * Peak page file usage (kilobytes).
+     */
+    @SerializedName("PeakPageFileUsage")
+    @Nullable
+    Long peakPageFileUsage;
+
+    /**
+     * Current virtual address space used by the process (bytes).
+     */
+    @Getter(AccessLevel.NONE)
+    @SerializedName("VirtualSize")
+    @Nullable
+    BigInteger virtualSize;
+
+    // the virtual size when decoded into a long by the mappers or set as one, in which case it is not 0
+    @Getter(AccessLevel.NONE)
+    transient long virtualSizeLong;
+
+    /**
+     * Peak virtual address space used by the process (bytes).
+     */
+    @Getter(AccessLevel.NONE)
+    @SerializedName("PeakVirtualSize")
+    @Nullable
+    BigInteger peakVirtualSize;
+
+    // the peak virtual size when decoded into a long by the mappers or set as one, in which case it is not 0
+    @Getter(AccessLevel.NONE)
+    transient long peakVirtualSizeLong;
+
+    /**
+     * Date/time when the process was created.
+     */
+    @SerializedName("CreationDate")
+    @Nullable
+    String creationDate;
+
+    // the creation date, parsed on the first call of getCreationDateAsInstant by a memo created then
+    @NonFinal
+    @Getter(AccessLevel.NONE)
+    transient volatile CimDateTime.Memo creationDateInstant;
+
+    /**
+     * Date/time when the process was terminated (if available).
+     */
+    @SerializedName("TerminationDate")
+    @Nullable
+    String terminationDate;
+
+    /**
+     * Retrieves the {@link #getCreationDate() creation date} as an {@link Instant}, which is parsed on the first call only
+     *
+     * @return the creation date, or {@code null} if it is not available
+     * @throws DateTimeParseException if the creation date is in none of the forms supported by {@link CimDateTime}
+     * @since 4.1.0
+     */
+    public @Nullable Instant getCreationDateAsInstant() {
+        CimDateTime.Memo memo = creationDateInstant;
+        if (memo == null)
+            creationDateInstant = memo = new CimDateTime.Memo();
+        return memo.get(creationDate);
+    }
+
+    /**
+     * Retrieves the kernel mode time, see {@link #kernelModeTime}
+     * <p>
+     * A value decoded into a {@code long} is wrapped into a new {@link BigInteger} on every call,
+     * which {@link #getKernelModeTimeAsLong(long)} avoids.
+     * </p>
+     *
+     * @return the kernel mode time, or {@code null} if it is not available
+     */
+    public @Nullable BigInteger getKernelModeTime() {
+        return CimCounter.toBigInteger(kernelModeTime, kernelModeTimeLong);
+    }
+
+    /**
+     * Retrieves the {@link #getKernelModeTime() kernel mode time} as a primitive {@code long}
+     *
+     * @param defaultValue the value to return if the kernel mode time is not available
+     * @return the kernel mode time, or the given default value if it is not available
+     * @throws ArithmeticException if the kernel mode time does not fit in a {@code long}
+     * @since 4.1.0
+     */
+    public long getKernelModeTimeAsLong(long defaultValue) {
+        return CimCounter.toLong(kernelModeTime, kernelModeTimeLong, defaultValue);
+    }
+
+    /**
+     * Retrieves the user mode time, see {@link #userModeTime}
+     * <p>
+     * A value decoded into a {@code long} is wrapped into a new {@link BigInteger} on every call,
+     * which {@link #getUserModeTimeAsLong(long)} avoids.
+     * </p>
+     *
+     * @return the user mode time, or {@code null} if it is not available
+     */
+    public @Nullable BigInteger getUserModeTime() {
+        return CimCounter.toBigInteger(userModeTime, userModeTimeLong);
+    }
+
+    /**
+     * Retrieves the {@link #getUserModeTime() user mode time} as a primitive {@code long}
+     *
+     * @param defaultValue the value to return if the user mode time is not available
+     * @return the user mode time, or the given default value if it is not available
+     * @throws ArithmeticException if the user mode time does not fit in a {@code long}
+     * @since 4.1.0
+     */
+    public long getUserModeTimeAsLong(long defaultValue) {
+        return CimCounter.toLong(userModeTime, userModeTimeLong, defaultValue);
+    }
+
+    /**
+     * Retrieves the working set size, see {@link #workingSetSize}
+     * <p>
+     * A value decoded into a {@code long} is wrapped into a new {@link BigInteger} on every call,
+     * which {@link #getWorkingSetSizeAsLong(long)} avoids.
+     * </p>
+     *
+     * @return the working set size, or {@code null} if it is not available
+     */
+    public @Nullable BigInteger getWorkingSetSize() {
+        return CimCounter.toBigInteger(workingSetSize, workingSetSizeLong);
+    }
+
+    /**
+     * Retrieves the {@link #getWorkingSetSize() working set size} as a primitive {@code long}
+     *
+     * @param defaultValue the value to return if the working set size is not available
+     * @return the working set size, or the given default value if it is not available
+     * @throws ArithmeticException if the working set size does not fit in a {@code long}
+     * @since 4.1.0
+     */
+    public long getWorkingSetSizeAsLong(long defaultValue) {
+        return CimCounter.toLong(workingSetSize, workingSetSizeLong, defaultValue);
+    }
+
+    /**
+     * Retrieves the peak working set size, see {@link #peakWorkingSetSize}
+     * <p>
+     * A value decoded into a {@code long} is wrapped into a new {@link BigInteger} on every call,
+     * which {@link #getPeakWorkingSetSizeAsLong(long)} avoids.
+     * </p>
+     *
+     * @return the peak working set size, or {@code null} if it is not available
+     */
+    public @Nullable BigInteger getPeakWorkingSetSize() {
+        return CimCounter.toBigInteger(peakWorkingSetSize, peakWorkingSetSizeLong);
+    }
+
+    /**
+     * Retrieves the {@link #getPeakWorkingSetSize() peak working set size} as a primitive {@code long}
+     *
+     * @param defaultValue the value to return if the peak working set size is not available
+     * @return the peak working set size, or the given default value if it is not available
+     * @throws ArithmeticException if the peak working set size does not fit in a {@code long}
+     * @since 4.1.0
+     */
+    public long getPeakWorkingSetSizeAsLong(long defaultValue) {
+        return CimCounter.toLong(peakWorkingSetSize, peakWorkingSetSizeLong, defaultValue);
+    }
+
+    /**
+     * Retrieves the private page count, see {@link #privatePageCount}
+     * <p>
+     * A value decoded into a {@code long} is wrapped into a new {@link BigInteger} on every call,
+     * which {@link #getPrivatePageCountAsLong(long)} avoids.
+     * </p>
+     *
+     * @return the private page count, or {@code null} if it is not available
+     */
+    public @Nullable BigInteger getPrivatePageCount() {
+        return CimCounter.toBigInteger(privatePageCount, privatePageCountLong);
+    }
+
+    /**
+     * Retrieves the {@link #getPrivatePageCount() private page count} as a primitive {@code long}
+     *
+     * @param defaultValue the value to return if the private page count is not available
+     * @return the private page count, or the given default value if it is not available
+     * @throws ArithmeticException if the private page count does not fit in a {@code long}
+     * @since 4.1.0
+     */
+    public long getPrivatePageCountAsLong(long defaultValue) {
+        return CimCounter.toLong(privatePageCount, privatePageCountLong, defaultValue);
+    }
+
+    /**
+     * Retrieves the virtual size, see {@link #virtualSize}
+     * <p>
+     * A value decoded into a {@code long} is wrapped into a new {@link BigInteger} on every call,
+     * which {@link #getVirtualSizeAsLong(long)} avoids.
+     * </p>
+     *
+     * @return the virtual size, or {@code null} if it is not available
+     */
+    public @Nullable BigInteger getVirtualSize() {
+        return CimCounter.toBigInteger(virtualSize, virtualSizeLong);
+    }
+
+    /**
+     * Retrieves the {@link #getVirtualSize() virtual size} as a primitive {@code long}
+     *
+     * @param defaultValue the value to return if the virtual size is not available
+     * @return the virtual size, or the given default value if it is not available
+     * @throws ArithmeticException if the virtual size does not fit in a {@code long}
+     * @since 4.1.0
+     */
+    public long getVirtualSizeAsLong(long defaultValue) {
+        return CimCounter.toLong(virtualSize, virtualSizeLong, defaultValue);
+    }
+
+    /**
+     * Retrieves the peak virtual size, see {@link #peakVirtualSize}
+     * <p>
+     * A value decoded into a {@code long} is wrapped into a new {@link BigInteger} on every call,
+     * which {@link #getPeakVirtualSizeAsLong(long)} avoids.
+     * </p>
+     *
+     * @return the peak virtual size, or {@code null} if it is not available
+     */
+    public @Nullable BigInteger getPeakVirtualSize() {
+        return CimCounter.toBigInteger(peakVirtualSize, peakVirtualSizeLong);
+    }
+
+    /**
+     * Retrieves the {@link #getPeakVirtualSize() peak virtual size} as a primitive {@code long}
+     *
+     * @param defaultValue the value to return if the peak virtual size is not available
+     * @return the peak virtual size, or the given default value if it is not available
+     * @throws ArithmeticException if the peak virtual size does not fit in a {@code long}
+     * @since 4.1.0
+     */
+    public long getPeakVirtualSizeAsLong(long defaultValue) {
+        return CimCounter.toLong(peakVirtualSize, peakVirtualSizeLong, defaultValue);
+    }
+
+    /**
+     * Retrieves the entity in a JSON pretty-print formatted string
+     *
+     * @return the {@link String} value of the object in JSON pretty-print format
+     */
+    @Override
+    @NotNull
+    public String toString() {
+        return EntityJson.toPrettyJson(this);
+    }
+
+    /**
+     * Builds {@link Win32Process} instances, whose counters are set either as {@link BigInteger}s or as {@code long}s
+     */
+    public static class Win32ProcessBuilder {
+
+        /**
+         * Sets the {@link Win32Process#getKernelModeTime() kernel mode time}
+         *
+         * @param kernelModeTime the kernel mode time, or {@code null} if it is not available
+         * @return this builder
+         */
+        public Win32ProcessBuilder kernelModeTime(@Nullable BigInteger kernelModeTime) {
+            this.kernelModeTime = kernelModeTime;
+            this.kernelModeTimeLong = 0;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Win32Process#getKernelModeTime() kernel mode time} as a primitive {@code long}
+         *
+         * @param kernelModeTimeAsLong the kernel mode time
+         * @return this builder
+         */
+        public Win32ProcessBuilder kernelModeTimeAsLong(long kernelModeTimeAsLong) {
+            this.kernelModeTime = kernelModeTimeAsLong == 0 ? BigInteger.ZERO : null;
+            this.kernelModeTimeLong = kernelModeTimeAsLong;
+            return this;
+        }
+
+        // copies the long companion as is, for toBuilder()
+        private Win32ProcessBuilder kernelModeTimeLong(long kernelModeTimeLong) {
+            this.kernelModeTimeLong = kernelModeTimeLong;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Win32Process#getUserModeTime() user mode time}
+         *
+         * @param userModeTime the user mode time, or {@code null} if it is not available
+         * @return this builder
+         */
+        public Win32ProcessBuilder userModeTime(@Nullable BigInteger userModeTime) {
+            this.userModeTime = userModeTime;
+            this.userModeTimeLong = 0;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Win32Process#getUserModeTime() user mode time} as a primitive {@code long}
+         *
+         * @param userModeTimeAsLong the user mode time
+         * @return this builder
+         */
+        public Win32ProcessBuilder userModeTimeAsLong(long userModeTimeAsLong) {
+            this.userModeTime = userModeTimeAsLong == 0 ? BigInteger.ZERO : null;
+            this.userModeTimeLong = userModeTimeAsLong;
+            return this;
+        }
+
+        // copies the long companion as is, for toBuilder()
+        private Win32ProcessBuilder userModeTimeLong(long userModeTimeLong) {
+            this.userModeTimeLong = userModeTimeLong;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Win32Process#getWorkingSetSize() working set size}
+         *
+         * @param workingSetSize the working set size, or {@code null} if it is not available
+         * @return this builder
+         */
+        public Win32ProcessBuilder workingSetSize(@Nullable BigInteger workingSetSize) {
+            this.workingSetSize = workingSetSize;
+            this.workingSetSizeLong = 0;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Win32Process#getWorkingSetSize() working set size} as a primitive {@code long}
+         *
+         * @param workingSetSizeAsLong the working set size
+         * @return this builder
+         */
+        public Win32ProcessBuilder workingSetSizeAsLong(long workingSetSizeAsLong) {
+            this.workingSetSize = workingSetSizeAsLong == 0 ? BigInteger.ZERO : null;
+            this.workingSetSizeLong = workingSetSizeAsLong;
+            return this;
+        }
+
+        // copies the long companion as is, for toBuilder()
+        private Win32ProcessBuilder workingSetSizeLong(long workingSetSizeLong) {
+            this.workingSetSizeLong = workingSetSizeLong;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Win32Process#getPeakWorkingSetSize() peak working set size}
+         *
+         * @param peakWorkingSetSize the peak working set size, or {@code null} if it is not available
+         * @return this builder
+         */
+        public Win32ProcessBuilder peakWorkingSetSize(@Nullable BigInteger peakWorkingSetSize) {
+            this.peakWorkingSetSize = peakWorkingSetSize;
+            this.peakWorkingSetSizeLong = 0;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Win32Process#getPeakWorkingSetSize() peak working set size} as a primitive {@code long}
+         *
+         * @param peakWorkingSetSizeAsLong the peak working set size
+         * @return this builder
+         */
+        public Win32ProcessBuilder peakWorkingSetSizeAsLong(long peakWorkingSetSizeAsLong) {
+            this.peakWorkingSetSize = peakWorkingSetSizeAsLong == 0 ? BigInteger.ZERO : null;
+            this.peakWorkingSetSizeLong = peakWorkingSetSizeAsLong;
+            return this;
+        }
+
+        // copies the long companion as is, for toBuilder()
+        private Win32ProcessBuilder peakWorkingSetSizeLong(long peakWorkingSetSizeLong) {
+            this.peakWorkingSetSizeLong = peakWorkingSetSizeLong;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Win32Process#getPrivatePageCount() private page count}
+         *
+         * @param privatePageCount the private page count, or {@code null} if it is not available
+         * @return this builder
+         */
+        public Win32ProcessBuilder privatePageCount(@Nullable BigInteger privatePageCount) {
+            this.privatePageCount = privatePageCount;
+            this.privatePageCountLong = 0;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Win32Process#getPrivatePageCount() private page count} as a primitive {@code long}
+         *
+         * @param privatePageCountAsLong the private page count
+         * @return this builder
+         */
+        public Win32ProcessBuilder privatePageCountAsLong(long privatePageCountAsLong) {
+            this.privatePageCount = privatePageCountAsLong == 0 ? BigInteger.ZERO : null;
+            this.privatePageCountLong = privatePageCountAsLong;
+            return this;
+        }
+
+        // copies the long companion as is, for toBuilder()
+        private Win32ProcessBuilder privatePageCountLong(long privatePageCountLong) {
+            this.privatePageCountLong = privatePageCountLong;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Win32Process#getVirtualSize() virtual size}
+         *
+         * @param virtualSize the virtual size, or {@code null} if it is not available
+         * @return this builder
+         */
+        public Win32ProcessBuilder virtualSize(@Nullable BigInteger virtualSize) {
+            this.virtualSize = virtualSize;
+            this.virtualSizeLong = 0;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Win32Process#getVirtualSize() virtual size} as a primitive {@code long}
+         *
+         * @param virtualSizeAsLong the virtual size
+         * @return this builder
+         */
+        public Win32ProcessBuilder virtualSizeAsLong(long virtualSizeAsLong) {
+            this.virtualSize = virtualSizeAsLong == 0 ? BigInteger.ZERO : null;
+            this.virtualSizeLong = virtualSizeAsLong;
+            return this;
+        }
+
+        // copies the long companion as is, for toBuilder()
+        private Win32ProcessBuilder virtualSizeLong(long virtualSizeLong) {
+            this.virtualSizeLong = virtualSizeLong;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Win32Process#getPeakVirtualSize() peak virtual size}
+         *
+         * @param peakVirtualSize the peak virtual size, or {@code null} if it is not available
+         * @return this builder
+         */
+        public Win32ProcessBuilder peakVirtualSize(@Nullable BigInteger peakVirtualSize) {
+            this.peakVirtualSize = peakVirtualSize;
+            this.peakVirtualSizeLong = 0;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Win32Process#getPeakVirtualSize() peak virtual size} as a primitive {@code long}
+         *
+         * @param peakVirtualSizeAsLong the peak virtual size
+         * @return this builder
+         */
+        public Win32ProcessBuilder peakVirtualSizeAsLong(long peakVirtualSizeAsLong) {
+            this.peakVirtualSize = peakVirtualSizeAsLong == 0 ? BigInteger.ZERO : null;
+            this.peakVirtualSizeLong = peakVirtualSizeAsLong;
+            return this;
+        }
+
+        // copies the long companion as is, for toBuilder()
+        private Win32ProcessBuilder peakVirtualSizeLong(long peakVirtualSizeLong) {
+            this.peakVirtualSizeLong = peakVirtualSizeLong;
+            return this;
+        }
+
+        // every entity creates a memo of its own, which toBuilder() thus does not copy
+        private Win32ProcessBuilder creationDateInstant(CimDateTime.Memo creationDateInstant) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.executor;
+
+import io.github.eggy03.ferrumx.windows.exception.TerminalExecutionException;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Reader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A {@link CommandExecutor} decorator that lets concurrent callers of the same command share one execution.
+ * <p>
+ * The first caller of a command runs it through the delegate, while every caller arriving before it has finished
+ * waits for that execution and receives the same result instead of launching another PowerShell process.
+ * Executions are keyed on the command text, which includes the full script for queries based on
+ * {@link io.github.eggy03.ferrumx.windows.constant.PowerShellScript}, and on the {@link MappingKey} of the mapping
+ * applied to the output, which every service passes. Executions mapped through
+ * {@link #executeAndMap(String, long, Function)}, without a key, are only shared by callers passing the same
+ * mapping instance, since the identity of a lambda is not specified.
+ * Since the services map their output into immutable lists, the mapped results are safe to share.
+ * Nothing is cached: once an execution has finished, the next caller runs the command again.
+ * </p>
+ *
+ * <h2>Timeouts and failures</h2>
+ * <p>
+ * The execution runs with the timeout of the caller that started it, while every other caller waits at most
+ * for its own timeout. A failure of the execution is rethrown to every caller that waited for it, and cancelling the
+ * task of the caller that started it fails the execution for everyone.
+ * {@link #execute(String, long, Consumer) Streaming executions} are never shared.
+ * </p>
+ *
+ * <h2>Usage example</h2>
+ * <pre>{@code
+ * // share one instance between all services and threads
+ * CommandExecutor executor = new CoalescingCommandExecutor(new TerminalCommandExecutor());
+ * Win32LogicalDiskService service = new Win32LogicalDiskService(executor);
+ * List<Win32LogicalDisk> disks = service.get(10);
+ * }</pre>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CoalescingCommandExecutor implements CommandExecutor {
+
+    /**
+     * The executor that runs the shared executions
+     */
+    @Getter
+    @NonNull
+    private final CommandExecutor delegate;
+
+    // the key of the raw output of a command
+    private static final MappingKey OUTPUT = MappingKey.of(CommandExecutor.class, "execute", String.class);
+
+    private final ConcurrentMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Executes the command, or waits for the execution of the same command that is already in flight
+     *
+     * @param command        the command or multi-line script to execute
+     * @param timeoutSeconds the maximum time (in seconds) to wait for the command to complete
+     * @return the standard output of the executed command
+     */
+    @NotNull
+    @Override
+    public String execute(@NonNull String command, long timeoutSeconds) {
+        return executeAndMap(command, timeoutSeconds, OUTPUT, Function.identity());
+    }
+
+    /**
+     * Executes the command through the delegate without sharing the execution
+     *
+     * @param command        the command or multi-line script to execute
+     * @param timeoutSeconds the maximum time (in seconds) to wait for the command to complete
+     * @param outputConsumer the consumer of the standard output of the executed command
+     */
+    @Override
+    public void execute(@NonNull String command, long timeoutSeconds, @NonNull Consumer<Reader> outputConsumer) {
+        delegate.execute(command, timeoutSeconds, outputConsumer);
+    }
+
+    /**
+     * Executes the command and maps its output, or waits for the execution of the same command
+     * with the same mapping that is already in flight and returns its mapped result
+     *
+     * @param command        the command or multi-line script to execute
+     * @param timeoutSeconds the maximum time (in seconds) to wait for the command to complete
+     * @param mapping        the function that maps the standard output of the executed command
+     * @param <T>            the type of the mapped result
+     * @return the mapped result, shared with every caller of the same execution
+     */
+    @Override
+    public <T> T executeAndMap(@NonNull String command, long timeoutSeconds, @NonNull Function<String, T> mapping) {
+        return execute(new Key(command, mapping), timeoutSeconds, null, mapping);
+    }
+
+    /**
+     * Executes the command and maps its output, or waits for the execution of the same command
+     * with an equal mapping key that is already in flight and returns its mapped result
+     *
+     * @param command        the command or multi-line script to execute
+     * @param timeoutSeconds the maximum time (in seconds) to wait for the command to complete
+     * @param mappingKey     the key of the mapping, which must be equal for the calls mapping the output into equal results
+     * @param mapping        the function that maps the standard output of the executed command
+     * @param <T>            the type of the mapped result
+     * @return the mapped result, shared with every caller of the same execution
+     */
+    @Override
+    public <T> T executeAndMap(@NonNull String command, long timeoutSeconds, @NonNull MappingKey mappingKey, @NonNull Function<String, T> mapping) {
+        return execute(new Key(command, mappingKey), timeoutSeconds, mappingKey, mapping);
+    }
+
+    /**
+     * Returns the number of executions currently in flight
+     *
+     * @return the number of distinct command and mapping pairs being executed
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    @SuppressWarnings("unchecked") // the key identifies the mapping, which determines the result
+    private <T> T execute(@NotNull Key key, long timeoutSeconds, @Nullable MappingKey mappingKey, @NotNull Function<String, T> mapping) {
+
+        if (timeoutSeconds < 0)
+            throw new IllegalArgumentException("Timeout cannot be negative");
+
+        String command = key.getCommand();
+        CompletableFuture<Object> execution = new CompletableFuture<>();
+        CompletableFuture<Object> inFlightExecution = inFlight.putIfAbsent(key, execution);
+
+        if (inFlightExecution == null)
+            return runExecution(key, execution, timeoutSeconds, mappingKey, mapping);
+
+        log.trace("Joining the in-flight execution of the following command:\n{}", command);
+        try {
+            return (T) inFlightExecution.get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            throw new TerminalExecutionException("\nIn-flight execution of the following command: " + command + "\nDid not complete within a timeout of " + timeoutSeconds + " seconds\n", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TerminalExecutionException("Interrupted while waiting for the in-flight execution of the following command:\n" + command, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw new TerminalExecutionException("\nIn-flight execution of the following command: " + command + "\nFailed with an exception\n", cause);
+        }
+    }
+
+    private <T> T runExecution(@NotNull Key key, @NotNull CompletableFuture<Object> execution, long timeoutSeconds,
+                               @Nullable MappingKey mappingKey, @NotNull Function<String, T> mapping) {
+        try {
+            T result = mappingKey != null
+                    ? delegate.executeAndMap(key.getCommand(), timeoutSeconds, mappingKey, mapping)
+                    : delegate.executeAndMap(key.getCommand(), timeoutSeconds, mapping);
+            execution.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            execution.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, execution);
+        }
+    }
+
+    /**
+     * Identifies executions that can be shared
+     */
+    @Value
+    private static class Key {
+        String command;
+        // the mapping key, or the mapping function itself when the caller passed no key
+        Object mapping;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.executor;
+
+import io.github.eggy03.ferrumx.windows.exception.TerminalExecutionException;
+import io.github.eggy03.ferrumx.windows.service.CommonServiceInterface;
+import io.github.eggy03.ferrumx.windows.service.OptionalCommonServiceInterface;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Strategy for executing a PowerShell command or script and returning its standard output.
+ * <p>
+ * Services implementing {@link CommonServiceInterface} or {@link OptionalCommonServiceInterface}
+ * accept an implementation of this interface through their constructor and use it to run their queries,
+ * which makes it possible to swap the PowerShell backend without touching the service or mapping code.
+ * </p>
+ *
+ * <h2>Bundled implementations</h2>
+ * <ul>
+ *     <li>{@link TerminalCommandExecutor} - launches an isolated PowerShell process per command (the default)</li>
+ *     <li>{@link PooledCommandExecutor} - runs commands on a pool of long-lived PowerShell workers</li>
+ *     <li>{@link JPowerShellCommandExecutor} - runs commands through {@code jPowerShell} sessions</li>
+ *     <li>{@link ConfinedJPowerShellCommandExecutor} - runs commands from any thread on one {@code jPowerShell} session confined to a dedicated thread</li>
+ *     <li>{@link ReplayCommandExecutor} - answers commands with previously recorded output, without PowerShell</li>
+ *     <li>{@link CoalescingCommandExecutor} - lets concurrent callers of the same command share one execution and its mapped result</li>
+ * </ul>
+ *
+ * <h2>Usage example</h2>
+ * <pre>{@code
+ * try (PowerShellWorkerPool pool = new PowerShellWorkerPool(4)) {
+ *     Win32ProcessService service = new Win32ProcessService(new PooledCommandExecutor(pool));
+ *     List<Win32Process> processList = service.get(10);
+ * }
+ * }</pre>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@FunctionalInterface
+public interface CommandExecutor {
+
+    /**
+     * Executes a PowerShell command or script and returns its standard output
+     *
+     * @param command        the command or multi-line script to execute
+     * @param timeoutSeconds the maximum time (in seconds) to wait for the command to complete.
+     *                       Implementations that cannot enforce a timeout must document how they treat it.
+     * @return the standard output of the executed command
+     * @throws TerminalExecutionException if the command times out, yields an error or cannot be executed
+     * @throws IllegalArgumentException   if the provided timeout is in the negative
+     * @since 4.1.0
+     */
+    @NotNull
+    String execute(@NotNull String command, long timeoutSeconds);
+
+    /**
+     * Executes a PowerShell command or script and hands its standard output to the given consumer
+     * <p>
+     * Implementations that can read the output while the command is running, such as
+     * {@link TerminalCommandExecutor}, override this method so that the output is never held in memory as a whole.
+     * The default implementation collects the output through {@link #execute(String, long)} first.
+     * </p>
+     *
+     * @param command        the command or multi-line script to execute
+     * @param timeoutSeconds the maximum time (in seconds) to wait for the command to complete
+     * @param outputConsumer the consumer of the standard output of the executed command
+     * @throws TerminalExecutionException if the command times out, yields an error or cannot be executed
+     * @throws IllegalArgumentException   if the provided timeout is in the negative
+     * @since 4.1.0
+     */
+    default void execute(@NotNull String command, long timeoutSeconds, @NonNull Consumer<Reader> outputConsumer) {
+        outputConsumer.accept(new StringReader(execute(command, timeoutSeconds)));
+    }
+
+    /**
+     * Executes a PowerShell command or script and maps its standard output
+     * <p>
+     * Decorators such as {@link CoalescingCommandExecutor} can share the mapped result and not just the output.
+     * The default implementation applies the mapping to the result of {@link #execute(String, long)}.
+     * </p>
+     *
+     * @param command        the command or multi-line script to execute
+     * @param timeoutSeconds the maximum time (in seconds) to wait for the command to complete
+     * @param mapping        the function that maps the standard output of the executed command
+     * @param <T>            the type of the mapped result
+     * @return the mapped result
+     * @throws TerminalExecutionException if the command times out, yields an error or cannot be executed
+     * @throws IllegalArgumentException   if the provided timeout is in the negative
+     * @since 4.1.0
+     */
+    default <T> T executeAndMap(@NotNull String command, long timeoutSeconds, @NonNull Function<String, T> mapping) {
+        return mapping.apply(execute(command, timeoutSeconds));
+    }
+
+    /**
+     * Executes a PowerShell command or script and maps its standard output with the mapping identified by the given key
+     * <p>
+     * The services run their queries through this method. Unlike the mapping function, whose identity is not
+     * specified for lambdas, the key lets decorators such as {@link CoalescingCommandExecutor} recognise the calls
+     * mapping the output of the same command the same way. The default implementation ignores the key and calls
+     * {@link #executeAndMap(String, long, Function)}.
+     * </p>
+     *
+     * @param command        the command or multi-line script to execute
+     * @param timeoutSeconds the maximum time (in seconds) to wait for the command to complete
+     * @param mappingKey     the key of the mapping, which must be equal for the calls mapping the output into equal results
+     * @param mapping        the function that maps the standard output of the executed command
+     * @param <T>            the type of the mapped result
+     * @return the mapped result
+     * @throws TerminalExecutionException if the command times out, yields an error or cannot be executed
+     * @throws IllegalArgumentException   if the provided timeout is in the negative
+     * @since 4.1.0
+     */
+    default <T> T executeAndMap(@NotNull String command, long timeoutSeconds, @NonNull MappingKey mappingKey, @NonNull Function<String, T> mapping) {
+        return executeAndMap(command, timeoutSeconds, mapping);
+    }
+}
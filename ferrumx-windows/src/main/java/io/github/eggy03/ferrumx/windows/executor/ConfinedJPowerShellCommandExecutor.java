@@ -0,0 +1,226 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.executor;
+
+import com.profesorfalken.jpowershell.PowerShell;
+import com.profesorfalken.jpowershell.PowerShellResponse;
+import io.github.eggy03.ferrumx.windows.exception.TerminalExecutionException;
+import io.github.eggy03.ferrumx.windows.utility.CancellationScope;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A {@link CommandExecutor} that confines a single, long-lived {@code jPowerShell} session to a dedicated thread.
+ * <p>
+ * Commands submitted from any thread are queued and executed one after the other by the session thread,
+ * which makes the {@code jPowerShell} path <b>safe to use concurrently across multiple threads or executors</b>
+ * while skipping the session startup cost that {@link PowerShell#executeSingleCommand(String)} pays for every query.
+ * </p>
+ *
+ * <h2>Session recycling</h2>
+ * <p>
+ * The session is opened lazily and replaced with a fresh one:
+ * </p>
+ * <ul>
+ *     <li>after it has executed the configured number of commands</li>
+ *     <li>after a command reported an error or a timeout, or threw an exception</li>
+ *     <li>after a command finished whose caller had already given up waiting for it</li>
+ * </ul>
+ *
+ * <h2>Timeouts</h2>
+ * <p>
+ * The timeout passed to {@link #execute(String, long)} covers both the time spent in the queue and the execution.
+ * A command that is still queued when its timeout is reached is never executed. A command that is already running
+ * cannot be interrupted: it is left to the {@code maxWait} configuration of {@code jPowerShell}, and the session is
+ * recycled once it finishes.
+ * </p>
+ *
+ * <h2>Usage example</h2>
+ * <pre>{@code
+ * try (ConfinedJPowerShellCommandExecutor executor = new ConfinedJPowerShellCommandExecutor(100)) {
+ *     Win32ProcessService service = new Win32ProcessService(executor);
+ *     List<Win32Process> processList = service.get(10);
+ * }
+ * }</pre>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@Slf4j
+public class ConfinedJPowerShellCommandExecutor implements CommandExecutor, AutoCloseable {
+
+    /**
+     * The number of commands a session executes before it is replaced, used by the no-arg constructor
+     */
+    public static final int DEFAULT_COMMANDS_PER_SESSION = 100;
+
+    private static final AtomicLong THREAD_COUNT = new AtomicLong();
+
+    private final int commandsPerSession;
+    private final Supplier<PowerShell> sessionFactory;
+    private final ExecutorService sessionThread;
+    private final AtomicLong openedSessions = new AtomicLong();
+
+    // confined to the session thread
+    @Nullable
+    private PowerShell session;
+    private int commandsInSession;
+
+    /**
+     * Creates an executor whose sessions are replaced after {@link #DEFAULT_COMMANDS_PER_SESSION} commands
+     */
+    public ConfinedJPowerShellCommandExecutor() {
+        this(DEFAULT_COMMANDS_PER_SESSION);
+    }
+
+    /**
+     * Creates an executor whose sessions are opened with {@link PowerShell#openSession()}
+     *
+     * @param commandsPerSession the number of commands a session executes before it is replaced
+     * @throws IllegalArgumentException if the number of commands is less than 1
+     */
+    public ConfinedJPowerShellCommandExecutor(int commandsPerSession) {
+        this(commandsPerSession, PowerShell::openSession);
+    }
+
+    /**
+     * Creates an executor whose sessions are opened by the given factory,
+     * which may apply a custom {@code jPowerShell} configuration
+     *
+     * @param commandsPerSession the number of commands a session executes before it is replaced
+     * @param sessionFactory     the factory that opens a new session. It is only ever called on the session thread.
+     * @throws IllegalArgumentException if the number of commands is less than 1
+     */
+    public ConfinedJPowerShellCommandExecutor(int commandsPerSession, @NonNull Supplier<PowerShell> sessionFactory) {
+
+        if (commandsPerSession < 1)
+            throw new IllegalArgumentException("Commands per session must be at least 1");
+
+        this.commandsPerSession = commandsPerSession;
+        this.sessionFactory = sessionFactory;
+        this.sessionThread = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "ferrumx-jpowershell-session-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues the command for the session thread and waits for its result
+     *
+     * @param command        the command or multi-line script to execute
+     * @param timeoutSeconds the maximum time (in seconds) to wait for the command to be executed, including the time spent in the queue
+     * @return the standard output of the executed command
+     * @throws TerminalExecutionException if the command times out, is cancelled, or {@code jPowerShell} reports a timeout or an error
+     * @throws IllegalArgumentException   if the provided timeout is in the negative
+     * @throws IllegalStateException      if the executor has been closed
+     */
+    @NotNull
+    @Override
+    public String execute(@NonNull String command, long timeoutSeconds) {
+
+        if (timeoutSeconds < 0)
+            throw new IllegalArgumentException("Timeout cannot be negative");
+
+        AtomicBoolean abandoned = new AtomicBoolean();
+        Future<PowerShellResponse> result;
+        try {
+            result = sessionThread.submit(() -> executeOnSession(command, abandoned));
+        } catch (RejectedExecutionException e) {
+            throw new IllegalStateException("Executor has been closed", e);
+        }
+
+        try (CancellationScope.Registration ignored = CancellationScope.onCancel(() -> abandon(result, abandoned))) {
+            PowerShellResponse response = result.get(timeoutSeconds, TimeUnit.SECONDS);
+            log.trace("PowerShell response for confined jPowerShell session :\n{}", response.getCommandOutput());
+            return JPowerShellCommandExecutor.outputOf(response, command);
+        } catch (TimeoutException e) {
+            abandon(result, abandoned);
+            throw new TerminalExecutionException("\nConfined jPowerShell session executing the following command: " + command + "\nDid not answer within a timeout of " + timeoutSeconds + " seconds\n", e);
+        } catch (CancellationException e) {
+            throw new TerminalExecutionException("\nConfined jPowerShell session executing the following command: " + command + "\nWas abandoned after its task was cancelled\n", e);
+        } catch (InterruptedException e) {
+            abandon(result, abandoned);
+            Thread.currentThread().interrupt();
+            throw new TerminalExecutionException("Interrupted while executing the following command:\n" + command, e);
+        } catch (ExecutionException e) {
+            throw new TerminalExecutionException("\nConfined jPowerShell session executing the following command: " + command + "\nFailed with an exception\n", e.getCause());
+        }
+    }
+
+    /**
+     * Returns the number of sessions opened so far, including the current one
+     *
+     * @return the number of opened sessions
+     */
+    public long getOpenedSessionCount() {
+        return openedSessions.get();
+    }
+
+    /**
+     * Rejects further commands and closes the session once the queued commands have been executed
+     */
+    @Override
+    public void close() {
+        try {
+            sessionThread.execute(this::closeSession);
+        } catch (RejectedExecutionException e) {
+            return; // already closed
+        }
+        sessionThread.shutdown();
+    }
+
+    @NotNull
+    private PowerShellResponse executeOnSession(@NotNull String command, @NotNull AtomicBoolean abandoned) {
+
+        if (session == null) {
+            session = sessionFactory.get();
+            commandsInSession = 0;
+            openedSessions.incrementAndGet();
+        }
+
+        boolean recycle = true;
+        try {
+            PowerShellResponse response = JPowerShellCommandExecutor.execute(session, command);
+            commandsInSession++;
+            recycle = response.isError() || response.isTimeout() || abandoned.get() || commandsInSession >= commandsPerSession;
+            return response;
+        } finally {
+            if (recycle)
+                closeSession();
+        }
+    }
+
+    private void closeSession() {
+        if (session == null)
+            return;
+        try {
+            session.close();
+        } catch (RuntimeException e) {
+            log.debug("Failed to close the jPowerShell session", e);
+        }
+        session = null;
+    }
+
+    private static void abandon(@NotNull Future<?> result, @NotNull AtomicBoolean abandoned) {
+        abandoned.set(true);
+        result.cancel(false); // only removes the command if it has not started yet
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.executor;
+
+import com.profesorfalken.jpowershell.PowerShell;
+import com.profesorfalken.jpowershell.PowerShellResponse;
+import io.github.eggy03.ferrumx.windows.exception.TerminalExecutionException;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+
+/**
+ * A {@link CommandExecutor} that runs commands through {@code jPowerShell}.
+ * <p>
+ * Depending on how it is created, this executor either opens a short-lived {@link PowerShell} session
+ * per command or re-uses a session managed by the caller. Multi-line commands are executed as scripts.
+ * </p>
+ *
+ * <h2>Timeouts and concurrency</h2>
+ * <p>
+ * {@code jPowerShell} enforces its own {@code maxWait} configuration instead of the timeout passed to
+ * {@link #execute(String, long)}, which is only validated by this executor.
+ * Due to the internal global configuration of {@code jPowerShell}, this executor is
+ * <b>not safe to use concurrently across multiple threads or executors</b>.
+ * </p>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@Slf4j
+public class JPowerShellCommandExecutor implements CommandExecutor {
+
+    @Nullable
+    private final PowerShell session;
+
+    /**
+     * Creates an executor that opens and closes a short-lived session for every command
+     */
+    public JPowerShellCommandExecutor() {
+        this.session = null;
+    }
+
+    /**
+     * Creates an executor that runs every command on a session managed by the caller.
+     * <p>The session is not closed by this executor.</p>
+     *
+     * @param session the caller-managed PowerShell session
+     */
+    public JPowerShellCommandExecutor(@NonNull PowerShell session) {
+        this.session = session;
+    }
+
+    /**
+     * Executes the command through {@code jPowerShell} and returns the result
+     *
+     * @param command        the command or multi-line script to execute
+     * @param timeoutSeconds validated, but not enforced. See the class documentation.
+     * @return the standard output of the executed command
+     * @throws TerminalExecutionException if {@code jPowerShell} reports a timeout or an error
+     * @throws IllegalArgumentException   if the provided timeout is in the negative
+     */
+    @NotNull
+    @Override
+    public String execute(@NonNull String command, long timeoutSeconds) {
+
+        if (timeoutSeconds < 0)
+            throw new IllegalArgumentException("Timeout cannot be negative");
+
+        PowerShellResponse response;
+        if (session != null) {
+            response = execute(session, command);
+        } else {
+            try (PowerShell shell = PowerShell.openSession()) {
+                response = execute(shell, command);
+            }
+        }
+
+        log.trace("PowerShell response for jPowerShell session :\n{}", response.getCommandOutput());
+        return outputOf(response, command);
+    }
+
+    @NotNull
+    static PowerShellResponse execute(@NotNull PowerShell shell, @NotNull String command) {
+        return command.indexOf('\n') >= 0 ?
+                shell.executeScript(new BufferedReader(new StringReader(command))) :
+                shell.executeCommand(command);
+    }
+
+    @NotNull
+    static String outputOf(@NotNull PowerShellResponse response, @NotNull String command) {
+
+        if (response.isTimeout())
+            throw new TerminalExecutionException("\njPowerShell session executing the following command: " + command + "\nTimed out before completion\n");
+        if (response.isError())
+            throw new TerminalExecutionException("\njPowerShell session executing the following command: " + command + "\nReported an error\nTerminal Error Output: " + response.getCommandOutput());
+
+        return response.getCommandOutput();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.executor;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import lombok.Value;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Identifies how the output of a command is mapped, for {@link CommandExecutor#executeAndMap(String, long, MappingKey, java.util.function.Function)}
+ * <p>
+ * A mapping is identified by the class of its mapper, the name of the mapper method it calls and the class of the
+ * entities it maps into. Two calls of the same command with equal keys must map the output into equal results, so that
+ * decorators such as {@link CoalescingCommandExecutor} can share one result between them. Unlike the mapping
+ * functions themselves, whose identity is not specified for lambdas, equal keys are recognised wherever they are
+ * created.
+ * </p>
+ * <p>
+ * Instances of this class are immutable and thread-safe.
+ * </p>
+ *
+ * <h2>Usage example</h2>
+ * <pre>{@code
+ * List<Win32Process> processes = executor.executeAndMap(command, 10,
+ *         MappingKey.of(Win32ProcessMapper.class, "mapToList", Win32Process.class),
+ *         response -> new Win32ProcessMapper().mapToList(response, Win32Process.class));
+ * }</pre>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class MappingKey {
+
+    /**
+     * The class of the mapper applied to the output
+     */
+    @NonNull
+    Class<?> mapperClass;
+
+    /**
+     * The name of the mapper method applied to the output, such as {@code mapToList} or {@code mapToLazyList}
+     */
+    @NonNull
+    String method;
+
+    /**
+     * The class of the entities the output is mapped into
+     */
+    @NonNull
+    Class<?> entityClass;
+
+    /**
+     * Creates the key of a mapping
+     *
+     * @param mapperClass the class of the mapper applied to the output
+     * @param method      the name of the mapper method applied to the output
+     * @param entityClass the class of the entities the output is mapped into
+     * @return the key
+     */
+    @NotNull
+    public static MappingKey of(@NonNull Class<?> mapperClass, @NonNull String method, @NonNull Class<?> entityClass) {
+        return new MappingKey(mapperClass, method, entityClass);
+    }
+}
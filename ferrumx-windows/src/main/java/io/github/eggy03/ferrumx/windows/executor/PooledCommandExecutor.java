@@ -0,0 +1,47 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.executor;
+
+import io.github.eggy03.ferrumx.windows.utility.PowerShellWorkerPool;
+import io.github.eggy03.ferrumx.windows.utility.TerminalUtility;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link CommandExecutor} that runs commands on the long-lived workers of a {@link PowerShellWorkerPool}.
+ * <p>
+ * The pool is managed by the caller and is not closed by this executor.
+ * Like the pool itself, this executor is safe to use in multithreaded and executor-based environments.
+ * </p>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@RequiredArgsConstructor
+@Getter
+public class PooledCommandExecutor implements CommandExecutor {
+
+    /**
+     * The caller-managed pool the commands are executed on
+     */
+    @NonNull
+    private final PowerShellWorkerPool pool;
+
+    /**
+     * Executes the command on one of the pooled workers and returns the result
+     *
+     * @param command        the command or multi-line script to execute
+     * @param timeoutSeconds time in seconds after which the worker executing the command will be killed
+     * @return the standard output of the executed command
+     */
+    @NotNull
+    @Override
+    public String execute(@NonNull String command, long timeoutSeconds) {
+        return TerminalUtility.executeCommand(pool, command, timeoutSeconds);
+    }
+}
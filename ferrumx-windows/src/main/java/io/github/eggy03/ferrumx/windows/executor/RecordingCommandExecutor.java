@@ -0,0 +1,92 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.executor;
+
+import com.google.gson.GsonBuilder;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link CommandExecutor} decorator that records the output of every successful command it delegates.
+ * <p>
+ * The recordings can be saved to a file and replayed later with {@link ReplayCommandExecutor}.
+ * This class is thread-safe if the delegate is.
+ * </p>
+ *
+ * <h2>Usage example</h2>
+ * <pre>{@code
+ * RecordingCommandExecutor recorder = new RecordingCommandExecutor(new TerminalCommandExecutor());
+ * new Win32ProcessService(recorder).get(10);
+ * recorder.save(Paths.get("recordings.json"));
+ * }</pre>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @see ReplayCommandExecutor
+ * @since 4.1.0
+ */
+public class RecordingCommandExecutor implements CommandExecutor {
+
+    @NonNull
+    private final CommandExecutor delegate;
+
+    private final Map<String, String> recordings = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a recorder around the executor that actually runs the commands
+     *
+     * @param delegate the executor whose output is recorded
+     */
+    public RecordingCommandExecutor(@NonNull CommandExecutor delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Executes the command through the delegate and records its output
+     *
+     * @param command        the command or multi-line script to execute
+     * @param timeoutSeconds the timeout passed on to the delegate
+     * @return the standard output of the executed command
+     */
+    @NotNull
+    @Override
+    public String execute(@NonNull String command, long timeoutSeconds) {
+        String output = delegate.execute(command, timeoutSeconds);
+        recordings.put(ReplayCommandExecutor.normalize(command), output);
+        return output;
+    }
+
+    /**
+     * Returns a snapshot of the recordings made so far
+     *
+     * @return an unmodifiable map of the recorded output, keyed by the normalized command text
+     */
+    @NotNull
+    public Map<String, String> getRecordings() {
+        return Collections.unmodifiableMap(new TreeMap<>(recordings));
+    }
+
+    /**
+     * Saves the recordings made so far in a format understood by {@link ReplayCommandExecutor#load(Path)}
+     *
+     * @param file the file to write the recordings to, as UTF-8 encoded JSON
+     * @throws IOException if the file cannot be written
+     */
+    public void save(@NonNull Path file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create().toJson(getRecordings(), writer);
+        }
+    }
+}
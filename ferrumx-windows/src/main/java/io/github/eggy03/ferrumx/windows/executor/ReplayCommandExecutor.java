@@ -0,0 +1,116 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.executor;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import io.github.eggy03.ferrumx.windows.exception.TerminalExecutionException;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link CommandExecutor} that answers commands with previously recorded output instead of running PowerShell.
+ * <p>
+ * Recordings map the exact text of a command to its standard output. They can be supplied directly,
+ * or captured on a Windows machine with {@link RecordingCommandExecutor} and loaded from the saved file,
+ * which makes it possible to run and benchmark the whole service and mapping stack on systems without PowerShell.
+ * Line endings of commands are normalized, so recordings made on Windows can be replayed anywhere.
+ * </p>
+ * <p>
+ * Instances of this class are immutable and thread-safe.
+ * </p>
+ *
+ * <h2>Usage example</h2>
+ * <pre>{@code
+ * ReplayCommandExecutor replay = ReplayCommandExecutor.load(Paths.get("recordings.json"));
+ * List<Win32Process> processList = new Win32ProcessService(replay).get(10);
+ * }</pre>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @see RecordingCommandExecutor
+ * @since 4.1.0
+ */
+public class ReplayCommandExecutor implements CommandExecutor {
+
+    private static final Type RECORDINGS_TYPE = new TypeToken<Map<String, String>>() {
+    }.getType();
+
+    private final Map<String, String> recordings;
+
+    /**
+     * Creates an executor that answers from the given recordings
+     *
+     * @param recordings the standard output of each command, keyed by the command text
+     */
+    public ReplayCommandExecutor(@NonNull Map<String, String> recordings) {
+        Map<String, String> normalized = new HashMap<>();
+        recordings.forEach((command, output) -> normalized.put(normalize(command), output));
+        this.recordings = Collections.unmodifiableMap(normalized);
+    }
+
+    /**
+     * Loads recordings previously saved with {@link RecordingCommandExecutor#save(Path)}
+     *
+     * @param file the UTF-8 encoded JSON file holding the recordings
+     * @return an executor that answers from the loaded recordings
+     * @throws IOException if the file cannot be read
+     */
+    @NotNull
+    public static ReplayCommandExecutor load(@NonNull Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            Map<String, String> recordings = new Gson().fromJson(reader, RECORDINGS_TYPE);
+            return new ReplayCommandExecutor(recordings != null ? recordings : Collections.emptyMap());
+        }
+    }
+
+    /**
+     * Returns the recorded output of the command
+     *
+     * @param command        the command or multi-line script to look up
+     * @param timeoutSeconds validated, but otherwise unused
+     * @return the recorded standard output of the command
+     * @throws TerminalExecutionException if nothing has been recorded for the command
+     * @throws IllegalArgumentException   if the provided timeout is in the negative
+     */
+    @NotNull
+    @Override
+    public String execute(@NonNull String command, long timeoutSeconds) {
+
+        if (timeoutSeconds < 0)
+            throw new IllegalArgumentException("Timeout cannot be negative");
+
+        String output = recordings.get(normalize(command));
+        if (output == null)
+            throw new TerminalExecutionException("\nNo recorded output found for the following command: " + command);
+
+        return output;
+    }
+
+    /**
+     * Returns the recordings this executor answers from
+     *
+     * @return an unmodifiable map of the recorded output, keyed by the normalized command text
+     */
+    @NotNull
+    public Map<String, String> getRecordings() {
+        return recordings;
+    }
+
+    @NotNull
+    static String normalize(@NotNull String command) {
+        return command.replace("\r\n", "\n");
+    }
+}
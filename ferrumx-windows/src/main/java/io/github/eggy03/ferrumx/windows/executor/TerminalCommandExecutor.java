@@ -0,0 +1,53 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.executor;
+
+import io.github.eggy03.ferrumx.windows.utility.TerminalUtility;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Reader;
+import java.util.function.Consumer;
+
+/**
+ * A {@link CommandExecutor} that launches an isolated PowerShell process for every command
+ * through {@link TerminalUtility#executeCommand(String, long)}.
+ * <p>
+ * This is the executor used by the services when none is supplied.
+ * Each call is fully isolated, which makes this executor safe to use in multithreaded and executor-based environments.
+ * </p>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+public class TerminalCommandExecutor implements CommandExecutor {
+
+    /**
+     * Launches an isolated PowerShell process, executes the command and returns the result
+     *
+     * @param command        the command or multi-line script to execute
+     * @param timeoutSeconds time in seconds after which the process will be force stopped
+     * @return the standard output of the executed command
+     */
+    @NotNull
+    @Override
+    public String execute(@NonNull String command, long timeoutSeconds) {
+        return TerminalUtility.executeCommand(command, timeoutSeconds);
+    }
+
+    /**
+     * Launches an isolated PowerShell process, executes the command and hands its standard output
+     * to the consumer while the process is still running
+     *
+     * @param command        the command or multi-line script to execute
+     * @param timeoutSeconds time in seconds after which the process will be force stopped
+     * @param outputConsumer the consumer of the standard output of the executed command
+     */
+    @Override
+    public void execute(@NonNull String command, long timeoutSeconds, @NonNull Consumer<Reader> outputConsumer) {
+        TerminalUtility.executeCommand(command, timeoutSeconds, outputConsumer);
+    }
+}
@@ -0,0 +1,14 @@
+/**
+ * Contains the {@link io.github.eggy03.ferrumx.windows.executor.CommandExecutor} abstraction and its bundled
+ * implementations, which decide how PowerShell commands issued by the classes in the
+ * {@link io.github.eggy03.ferrumx.windows.service} package are executed.
+ * <p>
+ * Executors are injected into services through their constructors, making it possible to swap
+ * isolated processes for pooled workers, {@code jPowerShell} sessions or recorded output
+ * without changing the service or mapping code.
+ * </p>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+package io.github.eggy03.ferrumx.windows.executor;
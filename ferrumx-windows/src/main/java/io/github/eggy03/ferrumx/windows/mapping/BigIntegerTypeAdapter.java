@@ -0,0 +1,75 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.mapping;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.github.eggy03.ferrumx.windows.utility.CimCounter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * Decodes the {@code uint64} counters of CIM, such as sizes and times, into {@link BigInteger}s, going through a
+ * {@code long} whenever the value fits in one
+ * <p>
+ * Gson's own adapter hands every value to {@link BigInteger#BigInteger(String)}, which checks the length of the
+ * value, splits it into groups of digits and multiplies them into an array. Nearly every counter fits in a signed
+ * {@code long}, so this adapter accumulates the digits of values of up to 18 digits into a {@code long} in a single
+ * pass through {@link CimCounter#parseLong(String)} and wraps it with {@link BigInteger#valueOf(long)}, which also
+ * reuses its cached instances for small values. Longer values are parsed the way Gson parses them.
+ * </p>
+ * <p>
+ * The generated entity adapters only fall back to this adapter for the counters without a {@code long} companion,
+ * see {@link CimCounter}.
+ * </p>
+ * <p>
+ * Numbers and strings holding numbers are both accepted, which also covers the values of the
+ * {@link io.github.eggy03.ferrumx.windows.query.WireFormat#DELIMITED} format.
+ * </p>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+final class BigIntegerTypeAdapter extends TypeAdapter<BigInteger> {
+
+    @Override
+    @Nullable
+    public BigInteger read(@NotNull JsonReader in) throws IOException {
+
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        // JsonReader#nextLong would go through a double for numbers beyond the range of a long,
+        // silently turning those just above Long.MAX_VALUE into Long.MAX_VALUE, so the digits are parsed here
+        return parse(in.nextString(), in);
+    }
+
+    @Override
+    public void write(@NotNull JsonWriter out, @Nullable BigInteger value) throws IOException {
+        out.value(value);
+    }
+
+    @NotNull
+    private static BigInteger parse(@NotNull String value, @NotNull JsonReader in) {
+
+        long parsed = CimCounter.parseLong(value);
+        if (parsed != CimCounter.NOT_DECODED)
+            return BigInteger.valueOf(parsed);
+
+        try {
+            return new BigInteger(value);
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException("Failed parsing '" + value + "' as BigInteger; at path " + in.getPreviousPath(), e);
+        }
+    }
+}
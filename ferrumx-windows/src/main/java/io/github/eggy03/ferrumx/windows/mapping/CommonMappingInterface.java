@@ -0,0 +1,357 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.mapping;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import io.github.eggy03.ferrumx.windows.mapping.adapter.EntityTypeAdapterFactory;
+import io.github.eggy03.ferrumx.windows.query.WireFormat;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+/**
+ * A common mapping interface for mapping JSON strings to Java objects.
+ * <p>
+ * Provides default methods to convert JSON responses
+ * into either a {@link List} of objects or a single {@link Optional} object,
+ * or to stream them one by one from a {@link Reader} or {@link InputStream}.
+ * The default methods in this interface use Gson for JSON deserialization.
+ * </p>
+ *
+ * @param <S> the entity type returned by the service implementation
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 3.0.0
+ */
+public interface CommonMappingInterface<S> {
+
+    /**
+     * The Gson instance shared by every mapper
+     * <p>
+     * Entities are mapped by the streaming adapters of {@link EntityTypeAdapterFactory},
+     * which are generated at compile time, instead of Gson's reflective adapter.
+     * Their {@link BigInteger} counters that fit in a {@code long} are decoded into primitive companion fields,
+     * see {@link io.github.eggy03.ferrumx.windows.utility.CimCounter}, and the others by a
+     * {@link BigIntegerTypeAdapter}. Their strings are decoded by a
+     * {@link DeduplicatingStringTypeAdapter}, which makes the entities of a list share their repeated values,
+     * see {@link StringPool}.
+     * </p>
+     */
+    @NotNull
+    Gson GSON = new GsonBuilder()
+            .registerTypeAdapter(BigInteger.class, new BigIntegerTypeAdapter())
+            .registerTypeAdapter(String.class, new DeduplicatingStringTypeAdapter())
+            .registerTypeAdapterFactory(new EntityTypeAdapterFactory())
+            .create();
+
+    /**
+     * The length, in characters, from which {@link #mapToListInParallel(String, Class)} decodes a JSON array in parallel
+     * <p>
+     * Below it, splitting the array and scheduling the chunks costs more than it saves.
+     * </p>
+     *
+     * @since 4.1.0
+     */
+    int PARALLEL_MAPPING_THRESHOLD = 256 * 1024;
+
+    /**
+     * Converts a JSON string into a list of objects of the specified type {@code <S>}.
+     * <p>
+     * If the JSON represents a single object, it is returned as a singleton list.
+     * If the JSON is null or empty, returns an empty list.
+     * </p>
+     * <p>
+     * Useful for implementing the mappers of classes which return more than one instance
+     * such as the {@code Win32_NetworkAdapter}
+     * </p>
+     * <p>
+     * Equal string values within the JSON are mapped into a single instance shared by the objects of the list,
+     * and into the instance held by the {@link StringPool#getShared() shared pool} when it is enabled.
+     * </p>
+     *
+     * @param json        the JSON string to parse; must not be null
+     * @param objectClass the class of the objects in the list; must not be null
+     * @return an immutable, non-null list of objects deserialized from JSON.
+     * If the JSON string is empty, it will return an empty unmodifiable list.
+     * If the JSON string does not match the schema of the {@code objectClass}, an immutable
+     * list containing exactly 1 object of type {@code objectClass} will be returned.
+     * If the object allows for null values in its fields, the returned object in the list will have null fields.
+     * If null values are disallowed, a {@link NullPointerException} may be thrown.
+     * @throws NullPointerException if the JSON string or the objectClass is null
+     * @throws JsonSyntaxException  if the JSON is malformed
+     * @since 3.0.0
+     */
+    @NotNull
+    default List<S> mapToList(@NonNull String json, @NonNull Class<S> objectClass) {
+
+        return StringTable.deduplicating(() -> {
+            if (json.startsWith("[")) {
+                Type listType = TypeToken.getParameterized(List.class, objectClass).getType();
+                // this returns null iff JSON is null or empty.
+                // Former is annotation checked and the latter gets checked in the else block
+                List<S> result = GSON.fromJson(json, listType);
+                return Collections.unmodifiableList(result); // therefore, no need to check for null in return line
+            } else {
+                S singleObject = GSON.fromJson(json, objectClass);
+                return singleObject != null ? Collections.singletonList(singleObject) : Collections.emptyList();
+            }
+        });
+    }
+
+    /**
+     * Converts the output of a query serialized in the given {@link WireFormat} into a list of objects
+     * of the specified type {@code <S>}.
+     * <p>
+     * {@link WireFormat#JSON} output is mapped by {@link #mapToList(String, Class)}. Every row of
+     * {@link WireFormat#DELIMITED} output is mapped into one object by the same type adapters,
+     * which read the values straight from the row.
+     * </p>
+     *
+     * @param output      the output of the query; must not be null
+     * @param objectClass the class of the objects in the list; must not be null
+     * @param format      the format the output is serialized in; must not be null
+     * @return an immutable, non-null list of objects, in output order.
+     * If the output is empty, it will return an empty unmodifiable list.
+     * @throws NullPointerException if any of the arguments is null
+     * @throws JsonSyntaxException  if the output is malformed
+     * @since 4.1.0
+     */
+    @NotNull
+    default List<S> mapToList(@NonNull String output, @NonNull Class<S> objectClass, @NonNull WireFormat format) {
+
+        if (format == WireFormat.JSON)
+            return mapToList(output, objectClass);
+
+        return StringTable.deduplicating(() -> {
+            List<S> result = new ArrayList<>();
+            DelimitedTextParser.forEachRow(output, GSON.getAdapter(objectClass), result::add);
+            return Collections.unmodifiableList(result);
+        });
+    }
+
+    /**
+     * Converts a JSON string into a list of objects of the specified type {@code <S>},
+     * decoding large arrays on the threads of the {@link ForkJoinPool#commonPool() common pool}.
+     * <p>
+     * See {@link #mapToListInParallel(String, Class, int, ForkJoinPool)} for details.
+     * Arrays shorter than {@link #PARALLEL_MAPPING_THRESHOLD} characters are decoded on the calling thread.
+     * </p>
+     *
+     * @param json        the JSON string to parse; must not be null
+     * @param objectClass the class of the objects in the list; must not be null
+     * @return an immutable, non-null list of objects deserialized from JSON, in document order
+     * @throws NullPointerException if the JSON string or the objectClass is null
+     * @throws JsonSyntaxException  if the JSON is malformed
+     * @since 4.1.0
+     */
+    @NotNull
+    default List<S> mapToListInParallel(@NonNull String json, @NonNull Class<S> objectClass) {
+        return mapToListInParallel(json, objectClass, PARALLEL_MAPPING_THRESHOLD, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Converts a JSON string into a list of objects of the specified type {@code <S>},
+     * decoding large arrays on the threads of the given pool.
+     * <p>
+     * A top-level array of at least {@code threshold} characters is split at element boundaries into one chunk per
+     * thread of the pool, without being decoded, and the chunks are then decoded concurrently.
+     * Anything else, including arrays the splitter does not recognize as complete, is handed to
+     * {@link #mapToList(String, Class)} on the calling thread. Either way, the result is the same as the one of
+     * {@link #mapToList(String, Class)}, except that repeated string values are only shared within each chunk,
+     * and across chunks through the {@link StringPool#getShared() shared pool} when it is enabled.
+     * </p>
+     * <p>
+     * Useful for the outputs of classes with thousands of instances such as {@code Win32_Process}
+     * or {@code Win32_PnPEntity}
+     * </p>
+     *
+     * @param json        the JSON string to parse; must not be null
+     * @param objectClass the class of the objects in the list; must not be null
+     * @param threshold   the length, in characters, from which arrays are decoded in parallel
+     * @param pool        the pool the chunks are decoded on; must not be null
+     * @return an immutable, non-null list of objects deserialized from JSON, in document order
+     * @throws NullPointerException if the JSON string, the objectClass or the pool is null
+     * @throws JsonSyntaxException  if the JSON is malformed
+     * @since 4.1.0
+     */
+    @NotNull
+    default List<S> mapToListInParallel(@NonNull String json, @NonNull Class<S> objectClass, int threshold, @NonNull ForkJoinPool pool) {
+
+        if (json.length() < threshold || pool.getParallelism() < 2 || !json.startsWith("["))
+            return mapToList(json, objectClass);
+
+        List<String> chunks = JsonArraySplitter.split(json, pool.getParallelism());
+        if (chunks.size() < 2)
+            return mapToList(json, objectClass);
+
+        List<ForkJoinTask<List<S>>> tasks = new ArrayList<>(chunks.size());
+        for (String chunk : chunks)
+            tasks.add(pool.submit(() -> mapToList(chunk, objectClass)));
+
+        List<S> result = new ArrayList<>();
+        for (ForkJoinTask<List<S>> task : tasks)
+            result.addAll(task.join()); // joining in submission order keeps the document order
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Converts a JSON string into a list of objects of the specified type {@code <S>},
+     * decoding every object only on its first access.
+     * <p>
+     * The elements of a top-level array are located without being decoded, and the returned list retains the JSON
+     * string along with their bounds. The first call of {@link List#get(int)} for an element decodes it, and every
+     * later call returns the same object. Elements that are never accessed are never decoded, which suits the
+     * consumers reading only a few of the thousands of entries of classes such as {@code Win32_Process} or
+     * {@code Win32_PnPEntity}, at the cost of keeping the JSON string alive as long as the list.
+     * Equal string values are only shared across objects through the {@link StringPool#getShared() shared pool},
+     * when it is enabled.
+     * </p>
+     * <p>
+     * Anything but a structurally complete top-level array, including a single object, is handed to
+     * {@link #mapToList(String, Class)} and decoded at once. The elements of an array are only validated on access:
+     * a malformed element makes every access to it throw a {@link JsonSyntaxException}, instead of this method.
+     * </p>
+     *
+     * @param json        the JSON string to parse; must not be null
+     * @param objectClass the class of the objects in the list; must not be null
+     * @return an immutable, thread-safe, non-null list of objects deserialized from JSON on access, in document order
+     * @throws NullPointerException if the JSON string or the objectClass is null
+     * @throws JsonSyntaxException  if the JSON is not a structurally complete array and is malformed
+     * @since 4.1.0
+     */
+    @NotNull
+    default List<S> mapToLazyList(@NonNull String json, @NonNull Class<S> objectClass) {
+
+        int[] bounds = JsonArraySplitter.elementBounds(json);
+        if (bounds == null)
+            return mapToList(json, objectClass);
+        return new LazyEntityList<>(json, bounds, objectClass);
+    }
+
+    /**
+     * Converts a JSON string into an {@link Optional} object of the specified type {@code <S>}.
+     * <p>
+     * Useful for implementing the mappers classes which return exactly one instance
+     * such as the {@code Win32_ComputerSystem} WMI class
+     * </p>
+     *
+     * @param json        the JSON string to parse; must not be null
+     * @param objectClass the class of the object; must not be null
+     * @return an {@link Optional} containing the deserialized object,
+     * or {@link Optional#empty()} if the JSON is empty.
+     * If the JSON string does not match the schema of the objectClass,
+     * an {@link Optional} containing an object of type {@code objectClass}
+     * will be created with null fields. If null values are disallowed,
+     * a {@link NullPointerException} may be thrown.
+     * @throws JsonSyntaxException  if the JSON is malformed
+     * @throws NullPointerException if the JSON string or the objectClass is null
+     * @since 3.0.0
+     */
+    @NotNull
+    default Optional<S> mapToObject(@NonNull String json, @NonNull Class<S> objectClass) {
+        // this returns null iff JSON is null or empty.
+        // Former is annotation checked while the latter is taken care of by Optional
+        S object = StringTable.deduplicating(() -> GSON.fromJson(json, objectClass));
+        return Optional.ofNullable(object);
+    }
+
+    /**
+     * Decodes a JSON document from a {@link Reader} and passes each object of the specified type {@code <S>}
+     * to the given action as soon as it has been decoded.
+     * <p>
+     * Unlike {@link #mapToList(String, Class)}, the document is never held in memory as a whole:
+     * only the element currently being decoded is, which keeps the memory footprint of large outputs
+     * such as the ones of {@code Win32_Process} or {@code Win32_PnPEntity} independent of their size.
+     * For the same reason, repeated string values are only shared through the {@link StringPool#getShared() shared pool},
+     * when it is enabled, which unlike the table of a single parse does not keep the values of discarded objects alive.
+     * </p>
+     * <p>
+     * If the JSON represents a single object, the action is invoked once.
+     * If the JSON is empty or {@code null}, the action is not invoked at all.
+     * The reader is not closed by this method.
+     * </p>
+     *
+     * @param json        the reader supplying the JSON document; must not be null
+     * @param objectClass the class of the decoded objects; must not be null
+     * @param action      the action invoked with every decoded object, in document order; must not be null
+     * @throws NullPointerException if any of the arguments is null
+     * @throws JsonSyntaxException  if the JSON is malformed. Objects decoded before the malformed part
+     *                              have already been passed to the action.
+     * @throws JsonIOException      if the reader fails
+     * @since 4.1.0
+     */
+    default void mapEach(@NonNull Reader json, @NonNull Class<S> objectClass, @NonNull Consumer<? super S> action) {
+
+        JsonReader reader = GSON.newJsonReader(json);
+        try {
+            JsonToken token;
+            try {
+                token = reader.peek();
+            } catch (EOFException e) {
+                return; // empty document
+            }
+
+            if (token == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    S element = GSON.fromJson(reader, objectClass);
+                    if (element != null)
+                        action.accept(element);
+                }
+                reader.endArray();
+            } else {
+                S singleObject = GSON.fromJson(reader, objectClass);
+                if (singleObject != null)
+                    action.accept(singleObject);
+            }
+        } catch (MalformedJsonException e) {
+            throw new JsonSyntaxException(e);
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    /**
+     * Decodes a JSON document from an {@link InputStream} and passes each object of the specified type {@code <S>}
+     * to the given action as soon as it has been decoded.
+     * <p>
+     * See {@link #mapEach(Reader, Class, Consumer)} for details. The stream is not closed by this method.
+     * </p>
+     *
+     * @param json        the stream supplying the JSON document; must not be null
+     * @param charset     the charset the JSON document is encoded in; must not be null
+     * @param objectClass the class of the decoded objects; must not be null
+     * @param action      the action invoked with every decoded object, in document order; must not be null
+     * @throws NullPointerException if any of the arguments is null
+     * @throws JsonSyntaxException  if the JSON is malformed
+     * @throws JsonIOException      if the stream fails
+     * @since 4.1.0
+     */
+    default void mapEach(@NonNull InputStream json, @NonNull Charset charset, @NonNull Class<S> objectClass, @NonNull Consumer<? super S> action) {
+        mapEach(new InputStreamReader(json, charset), objectClass, action);
+    }
+}
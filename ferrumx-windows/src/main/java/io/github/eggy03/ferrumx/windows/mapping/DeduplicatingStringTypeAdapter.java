@@ -0,0 +1,49 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.mapping;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+
+/**
+ * Decodes strings the way Gson's own adapter does, then replaces each of them with the instance shared by the
+ * current parse, see {@link StringTable}
+ * <p>
+ * Rows of the {@link io.github.eggy03.ferrumx.windows.query.WireFormat#DELIMITED} format are looked up by region
+ * instead, which spares creating the strings of repeated values altogether.
+ * </p>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+final class DeduplicatingStringTypeAdapter extends TypeAdapter<String> {
+
+    @Override
+    @Nullable
+    public String read(@NotNull JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.BOOLEAN)
+            return Boolean.toString(in.nextBoolean());
+        if (in instanceof DelimitedTextParser.RowReader)
+            return ((DelimitedTextParser.RowReader) in).nextDeduplicatedString();
+        return StringTable.deduplicate(in.nextString());
+    }
+
+    @Override
+    public void write(@NotNull JsonWriter out, @Nullable String value) throws IOException {
+        out.value(value);
+    }
+}
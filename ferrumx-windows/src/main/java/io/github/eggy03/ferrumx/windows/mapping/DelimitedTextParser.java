@@ -0,0 +1,408 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.mapping;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.github.eggy03.ferrumx.windows.query.WireFormat;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.function.Consumer;
+
+/**
+ * Parses the output of a query in the {@link WireFormat#DELIMITED} format
+ * <p>
+ * Every row is presented to the type adapter of the entity as a JSON object keyed by the names of the header row,
+ * holding strings, {@code null}s and arrays of strings, without building a JSON tree in between. The type adapters
+ * are the ones that decode JSON output, which convert the strings into numbers and booleans where the entity fields
+ * call for it.
+ * </p>
+ * <p>
+ * Values are read in place from the output: numbers are parsed from their characters, and the values of string
+ * fields are looked up in the {@link StringTable} of the parse by their region, so that a string is only created for
+ * the first occurrence of every value.
+ * </p>
+ * <p>
+ * Backs {@link CommonMappingInterface#mapToList(String, Class, WireFormat)}.
+ * </p>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@UtilityClass
+class DelimitedTextParser {
+
+    private static final String FIELD_SEPARATOR = "\t";
+    private static final char FIELD_SEPARATOR_CHAR = '\t';
+    private static final char ELEMENT_SEPARATOR = '\u001F';
+    private static final String NULL_VALUE = "\\N";
+    private static final String ARRAY_PREFIX = "\\A";
+
+    /**
+     * Parses the given output and passes the object decoded from each of its rows to the given action, in order
+     *
+     * @param text    the output of the query; blank lines are ignored
+     * @param adapter the adapter decoding the rows
+     * @param action  the action invoked with every decoded object
+     * @param <S>     the type of the decoded objects
+     * @throws JsonSyntaxException if a row does not hold as many values as the header, or if a value is malformed
+     */
+    static <S> void forEachRow(@NonNull String text, @NonNull TypeAdapter<S> adapter, @NonNull Consumer<? super S> action) {
+
+        RowReader reader = null;
+        int lineNumber = 0;
+        int start = 0;
+
+        while (start < text.length()) {
+            int end = text.indexOf('\n', start);
+            if (end < 0)
+                end = text.length();
+            // carriage returns within values are escaped, so a raw one can only belong to a line break
+            int lineEnd = end > start && text.charAt(end - 1) == '\r' ? end - 1 : end;
+            lineNumber++;
+
+            if (lineEnd > start) {
+                if (reader == null) {
+                    reader = new RowReader(text, text.substring(start, lineEnd).split(FIELD_SEPARATOR, -1));
+                } else {
+                    reader.reset(start, lineEnd, lineNumber);
+                    try {
+                        action.accept(adapter.read(reader));
+                    } catch (IOException | IllegalStateException e) {
+                        throw new JsonSyntaxException("Malformed row on line " + lineNumber, e);
+                    }
+                }
+            }
+            start = end + 1;
+        }
+    }
+
+    /**
+     * Presents one row at a time as a JSON object
+     */
+    static final class RowReader extends JsonReader {
+
+        private final String text;
+        private final String[] names;
+        // the regions of the values of the current row within the text
+        private final int[] fieldStarts;
+        private final int[] fieldEnds;
+        private int lineNumber;
+
+        private boolean objectStarted;
+        private boolean objectEnded;
+        // the index of the next name to read, or of the value that follows the name just read
+        private int index;
+        private boolean valueNext;
+
+        // the unescaped elements of the array being read, and the index of the next one
+        private String[] elements;
+        private int elementIndex;
+
+        private RowReader(@NotNull String text, @NotNull String[] names) {
+            super(new StringReader(""));
+            this.text = text;
+            this.names = names;
+            this.fieldStarts = new int[names.length];
+            this.fieldEnds = new int[names.length];
+        }
+
+        private void reset(int lineStart, int lineEnd, int lineNumber) {
+            int count = 0;
+            int fieldStart = lineStart;
+            for (int i = lineStart; i <= lineEnd; i++) {
+                if (i < lineEnd && text.charAt(i) != FIELD_SEPARATOR_CHAR)
+                    continue;
+                if (count < names.length) {
+                    fieldStarts[count] = fieldStart;
+                    fieldEnds[count] = i;
+                }
+                count++;
+                fieldStart = i + 1;
+            }
+            if (count != names.length)
+                throw new JsonSyntaxException("Line " + lineNumber + " holds " + count + " values, the header holds " + names.length);
+
+            this.lineNumber = lineNumber;
+            this.objectStarted = false;
+            this.objectEnded = false;
+            this.index = 0;
+            this.valueNext = false;
+            this.elements = null;
+        }
+
+        @Override
+        public JsonToken peek() {
+            if (!objectStarted)
+                return JsonToken.BEGIN_OBJECT;
+            if (objectEnded)
+                return JsonToken.END_DOCUMENT;
+            if (elements != null) {
+                if (elementIndex == elements.length)
+                    return JsonToken.END_ARRAY;
+                return elements[elementIndex] == null ? JsonToken.NULL : JsonToken.STRING;
+            }
+            if (!valueNext)
+                return index < names.length ? JsonToken.NAME : JsonToken.END_OBJECT;
+
+            int start = fieldStarts[index];
+            int length = fieldEnds[index] - start;
+            if (length == NULL_VALUE.length() && text.startsWith(NULL_VALUE, start))
+                return JsonToken.NULL;
+            return text.startsWith(ARRAY_PREFIX, start) ? JsonToken.BEGIN_ARRAY : JsonToken.STRING;
+        }
+
+        @Override
+        public void beginObject() {
+            expect(JsonToken.BEGIN_OBJECT);
+            objectStarted = true;
+        }
+
+        @Override
+        public void endObject() {
+            expect(JsonToken.END_OBJECT);
+            objectEnded = true;
+        }
+
+        @Override
+        public void beginArray() {
+            expect(JsonToken.BEGIN_ARRAY);
+            elements = splitArray(text.substring(fieldStarts[index], fieldEnds[index]));
+            elementIndex = 0;
+        }
+
+        @Override
+        public void endArray() {
+            expect(JsonToken.END_ARRAY);
+            elements = null;
+            valueEnded();
+        }
+
+        @Override
+        public boolean hasNext() {
+            JsonToken token = peek();
+            return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+        }
+
+        @Override
+        public String nextName() {
+            expect(JsonToken.NAME);
+            valueNext = true;
+            return names[index];
+        }
+
+        @Override
+        public String nextString() {
+            expect(JsonToken.STRING);
+            if (elements != null)
+                return elements[elementIndex++];
+
+            int start = fieldStarts[index];
+            int end = fieldEnds[index];
+            String value = hasEscapes(start, end) ? unescape(text.substring(start, end)) : text.substring(start, end);
+            valueEnded();
+            return value;
+        }
+
+        /**
+         * Reads the next string like {@link #nextString()}, looking it up in the {@link StringTable} of the parse by
+         * its region, so that no string is created for a value already seen
+         *
+         * @return the string shared by the current parse
+         */
+        @NotNull
+        String nextDeduplicatedString() {
+            expect(JsonToken.STRING);
+            if (elements != null)
+                return elements[elementIndex++];
+
+            int start = fieldStarts[index];
+            int end = fieldEnds[index];
+            String value = hasEscapes(start, end)
+                    ? StringTable.deduplicate(unescape(text.substring(start, end)))
+                    : StringTable.deduplicate(text, start, end);
+            valueEnded();
+            return value;
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            return Boolean.parseBoolean(nextString());
+        }
+
+        @Override
+        public void nextNull() {
+            expect(JsonToken.NULL);
+            if (elements != null)
+                elementIndex++;
+            else
+                valueEnded();
+        }
+
+        @Override
+        public double nextDouble() {
+            return Double.parseDouble(nextString());
+        }
+
+        @Override
+        public long nextLong() {
+            expect(JsonToken.STRING);
+            if (elements != null || !isPlainLong(fieldStarts[index], fieldEnds[index]))
+                return Long.parseLong(nextString()); // lets Long report anything else
+
+            int position = fieldStarts[index];
+            boolean negative = text.charAt(position) == '-';
+            if (negative)
+                position++;
+            long value = 0;
+            for (int end = fieldEnds[index]; position < end; position++)
+                value = value * 10 + (text.charAt(position) - '0');
+            valueEnded();
+            return negative ? -value : value;
+        }
+
+        @Override
+        public int nextInt() {
+            long value = nextLong();
+            if ((int) value != value)
+                throw new NumberFormatException("Value out of range for an int: " + value + location());
+            return (int) value;
+        }
+
+        @Override
+        public void skipValue() {
+            JsonToken token = peek();
+            if (token == JsonToken.NAME) {
+                nextName();
+                return;
+            }
+            if (token == JsonToken.BEGIN_OBJECT || token == JsonToken.END_OBJECT || token == JsonToken.END_DOCUMENT)
+                throw new IllegalStateException("Cannot skip the row itself " + location());
+
+            if (elements != null)
+                elementIndex++;
+            else
+                valueEnded();
+        }
+
+        @Override
+        public void close() {
+            // nothing to release: the rows are held by the caller
+        }
+
+        @Override
+        public String getPath() {
+            StringBuilder path = new StringBuilder("$");
+            if (objectStarted && index < names.length)
+                path.append('.').append(names[index]);
+            if (elements != null)
+                path.append('[').append(elementIndex).append(']');
+            return path.toString();
+        }
+
+        @Override
+        public String toString() {
+            return "DelimitedTextParser.RowReader" + location();
+        }
+
+        private void valueEnded() {
+            valueNext = false;
+            index++;
+        }
+
+        private void expect(@NotNull JsonToken expected) {
+            JsonToken actual = peek();
+            if (actual != expected)
+                throw new IllegalStateException("Expected " + expected + " but was " + actual + location());
+        }
+
+        @NotNull
+        private String location() {
+            return " on line " + lineNumber + " at path " + getPath();
+        }
+
+        // an optional minus sign followed by 1 to 18 digits, which always fit in a long
+        private boolean isPlainLong(int start, int end) {
+            int digitsStart = start < end && text.charAt(start) == '-' ? start + 1 : start;
+            if (end == digitsStart || end - digitsStart > 18)
+                return false;
+            for (int i = digitsStart; i < end; i++) {
+                char c = text.charAt(i);
+                if (c < '0' || c > '9')
+                    return false;
+            }
+            return true;
+        }
+
+        private boolean hasEscapes(int start, int end) {
+            for (int i = start; i < end; i++) {
+                if (text.charAt(i) == '\\')
+                    return true;
+            }
+            return false;
+        }
+
+        @NotNull
+        private String[] splitArray(@NotNull String field) {
+            if (field.length() == ARRAY_PREFIX.length())
+                return new String[0];
+            if (field.charAt(ARRAY_PREFIX.length()) != ELEMENT_SEPARATOR)
+                throw new JsonSyntaxException("Malformed array" + location() + ": " + field);
+
+            String[] split = field.substring(ARRAY_PREFIX.length() + 1).split(String.valueOf(ELEMENT_SEPARATOR), -1);
+            for (int i = 0; i < split.length; i++)
+                split[i] = split[i].equals(NULL_VALUE) ? null : StringTable.deduplicate(unescape(split[i]));
+            return split;
+        }
+
+        @NotNull
+        private String unescape(@NotNull String value) {
+
+            int backslash = value.indexOf('\\');
+            if (backslash < 0)
+                return value;
+
+            StringBuilder unescaped = new StringBuilder(value.length()).append(value, 0, backslash);
+            for (int i = backslash; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c != '\\') {
+                    unescaped.append(c);
+                    continue;
+                }
+                if (++i == value.length())
+                    throw new JsonSyntaxException("Unterminated escape sequence" + location() + ": " + value);
+
+                char escaped = value.charAt(i);
+                switch (escaped) {
+                    case '\\':
+                        unescaped.append('\\');
+                        break;
+                    case 't':
+                        unescaped.append('\t');
+                        break;
+                    case 'n':
+                        unescaped.append('\n');
+                        break;
+                    case 'r':
+                        unescaped.append('\r');
+                        break;
+                    case 's':
+                        unescaped.append(ELEMENT_SEPARATOR);
+                        break;
+                    default:
+                        throw new JsonSyntaxException("Invalid escape sequence \\" + escaped + location() + ": " + value);
+                }
+            }
+            return unescaped.toString();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.mapping;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A utility class that serializes entities into JSON, the same way their {@code toString()} does
+ * <p>
+ * Unlike creating a {@link Gson} per call, the instances used by this class are created once, along with the
+ * adapters of every entity type they serialize. Entities and lists of entities can be written straight to an
+ * {@link Appendable} or an {@link OutputStream}, without building the JSON as a {@link String} first, which suits
+ * logging or exporting thousands of entities such as the ones of {@code Win32_Process}.
+ * </p>
+ * <p>
+ * Fields holding {@code null} are written as {@code null}. The JSON is either compact, or pretty-printed with an
+ * indentation of two spaces. Methods of this class are thread-safe.
+ * </p>
+ *
+ * <h2>Usage example</h2>
+ * <pre>{@code
+ * List<Win32Process> processList = new Win32ProcessService().get(10);
+ * try (OutputStream out = Files.newOutputStream(Paths.get("processes.json"))) {
+ *     EntityJson.writeJsonArray(processList, out, false);
+ * }
+ * }</pre>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@UtilityClass
+public class EntityJson {
+
+    private static final Gson COMPACT = CommonMappingInterface.GSON.newBuilder()
+            .serializeNulls()
+            .create();
+
+    private static final Gson PRETTY = COMPACT.newBuilder()
+            .setPrettyPrinting()
+            .create();
+
+    /**
+     * Serializes an entity into a JSON string
+     *
+     * @param entity the entity to serialize, or {@code null}
+     * @param pretty {@code true} to pretty-print the JSON, {@code false} to keep it compact
+     * @return the JSON string, which is {@code null} in JSON if the entity is {@code null}
+     */
+    @NotNull
+    public static String toJson(@Nullable Object entity, boolean pretty) {
+        return gson(pretty).toJson(entity);
+    }
+
+    /**
+     * Serializes an entity into a pretty-printed JSON string, as returned by the {@code toString()} of the entities
+     *
+     * @param entity the entity to serialize, or {@code null}
+     * @return the pretty-printed JSON string
+     */
+    @NotNull
+    public static String toPrettyJson(@Nullable Object entity) {
+        return PRETTY.toJson(entity);
+    }
+
+    /**
+     * Writes an entity as JSON to the given {@link Appendable}, such as a {@link StringBuilder} or a {@link Writer}
+     * <p>
+     * The appendable is neither flushed nor closed by this method.
+     * </p>
+     *
+     * @param entity the entity to serialize, or {@code null}
+     * @param out    the appendable to write the JSON to
+     * @param pretty {@code true} to pretty-print the JSON, {@code false} to keep it compact
+     * @throws JsonIOException if the appendable fails
+     */
+    public static void writeJson(@Nullable Object entity, @NonNull Appendable out, boolean pretty) {
+        gson(pretty).toJson(entity, out);
+    }
+
+    /**
+     * Writes the given entities as a JSON array to the given {@link Appendable}, one entity at a time
+     * <p>
+     * The appendable is neither flushed nor closed by this method.
+     * </p>
+     *
+     * @param entities the entities to serialize, which may be of different types and may hold {@code null}
+     * @param out      the appendable to write the JSON array to
+     * @param pretty   {@code true} to pretty-print the JSON, {@code false} to keep it compact
+     * @throws JsonIOException if the appendable fails
+     */
+    public static void writeJsonArray(@NonNull Iterable<?> entities, @NonNull Appendable out, boolean pretty) {
+        Writer writer = out instanceof Writer ? (Writer) out : new AppendableWriter(out);
+        try {
+            writeArray(entities, gson(pretty).newJsonWriter(writer), gson(pretty));
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    /**
+     * Writes the given entities as a JSON array to the given {@link OutputStream} in UTF-8, one entity at a time
+     * <p>
+     * The stream is flushed, but not closed, by this method.
+     * </p>
+     *
+     * @param entities the entities to serialize, which may be of different types and may hold {@code null}
+     * @param out      the stream to write the JSON array to
+     * @param pretty   {@code true} to pretty-print the JSON, {@code false} to keep it compact
+     * @throws JsonIOException if the stream fails
+     */
+    public static void writeJsonArray(@NonNull Iterable<?> entities, @NonNull OutputStream out, boolean pretty) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try {
+            JsonWriter jsonWriter = gson(pretty).newJsonWriter(writer);
+            writeArray(entities, jsonWriter, gson(pretty));
+            jsonWriter.flush();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    @NotNull
+    private static Gson gson(boolean pretty) {
+        return pretty ? PRETTY : COMPACT;
+    }
+
+    @SuppressWarnings("unchecked") // the adapter is looked up with the class of the entity it writes
+    private static void writeArray(@NotNull Iterable<?> entities, @NotNull JsonWriter out, @NotNull Gson gson) throws IOException {
+
+        // lists usually hold a single entity type, whose adapter is only looked up once
+        Class<?> adapterClass = null;
+        TypeAdapter<Object> adapter = null;
+
+        out.beginArray();
+        for (Object entity : entities) {
+            if (entity == null) {
+                out.nullValue();
+                continue;
+            }
+            if (entity.getClass() != adapterClass) {
+                adapterClass = entity.getClass();
+                adapter = (TypeAdapter<Object>) gson.getAdapter(adapterClass);
+            }
+            adapter.write(out, entity);
+        }
+        out.endArray();
+    }
+
+    // JsonWriter needs a Writer, which most appendables, such as StringBuilder, are not
+    private static final class AppendableWriter extends Writer {
+
+        private final Appendable out;
+
+        private AppendableWriter(@NotNull Appendable out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            out.append(CharBuffer.wrap(buffer, offset, length));
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            out.append((char) c);
+        }
+
+        @Override
+        public void write(@NotNull String text, int offset, int length) throws IOException {
+            out.append(text, offset, offset + length);
+        }
+
+        @Override
+        public void flush() {
+            // the appendable is flushed by its owner, if at all
+        }
+
+        @Override
+        public void close() {
+            // the appendable is closed by its owner, if at all
+        }
+    }
+}
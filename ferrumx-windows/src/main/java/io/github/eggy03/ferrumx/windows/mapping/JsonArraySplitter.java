@@ -0,0 +1,202 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.mapping;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Splits a top-level JSON array into smaller, self-contained arrays at element boundaries, or locates its elements
+ * <p>
+ * The scanner only tracks the nesting depth and string literals of the document, which is enough to find the commas
+ * separating the top-level elements without decoding them. It does not validate the elements themselves: that is left
+ * to the decoder of each chunk.
+ * </p>
+ * <p>
+ * Backs {@link CommonMappingInterface#mapToListInParallel(String, Class, int, java.util.concurrent.ForkJoinPool)}
+ * and {@link CommonMappingInterface#mapToLazyList(String, Class)}.
+ * </p>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@UtilityClass
+class JsonArraySplitter {
+
+    /**
+     * Splits the given JSON array into at most the given number of chunks of roughly equal length
+     * <p>
+     * Every chunk is itself a JSON array holding consecutive elements of the original one, and the chunks are
+     * returned in document order, so decoding them one after the other yields the elements of the original array
+     * in their original order.
+     * </p>
+     *
+     * @param json      the JSON document, which must start with the opening bracket of the array
+     * @param maxChunks the maximum number of chunks to split the array into
+     * @return the chunks, or an empty list if the document is not a single, structurally complete array,
+     * in which case the caller is expected to hand the whole document to the decoder so that it reports the error
+     */
+    @NotNull
+    static List<String> split(@NonNull String json, int maxChunks) {
+
+        int length = json.length();
+        if (maxChunks < 1 || length == 0 || json.charAt(0) != '[')
+            return Collections.emptyList();
+
+        int targetChunkLength = Math.max(1, length / maxChunks);
+        int nextCut = targetChunkLength;
+
+        List<String> chunks = new ArrayList<>(maxChunks);
+        int chunkStart = 1;
+        int depth = 0;
+        boolean inString = false;
+        int end = -1;
+
+        for (int i = 1; i < length; i++) {
+            char c = json.charAt(i);
+
+            if (inString) {
+                if (c == '\\')
+                    i++; // the escaped character can neither end the string nor start another escape
+                else if (c == '"')
+                    inString = false;
+                continue;
+            }
+
+            if (c == '"') {
+                inString = true;
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                if (depth == 0) {
+                    if (c == '}')
+                        return Collections.emptyList();
+                    end = i;
+                    break;
+                }
+                depth--;
+            } else if (c == ',' && depth == 0 && i >= nextCut && chunks.size() < maxChunks - 1) {
+                chunks.add(wrap(json, chunkStart, i));
+                chunkStart = i + 1;
+                nextCut = i + targetChunkLength;
+            }
+        }
+
+        if (end < 0 || !isBlank(json, end + 1))
+            return Collections.emptyList();
+
+        chunks.add(wrap(json, chunkStart, end));
+        return chunks;
+    }
+
+    /**
+     * Locates the elements of the given JSON array, without decoding them
+     *
+     * @param json the JSON document, which must start with the opening bracket of the array
+     * @return the bounds of the elements in document order, as pairs of the index of the first character of an element
+     * and the index following its last one, without surrounding whitespace, or {@code null} if the document is not a
+     * single, structurally complete array, in which case the caller is expected to hand the whole document to the
+     * decoder so that it reports the error
+     */
+    @Nullable
+    static int[] elementBounds(@NonNull String json) {
+
+        int length = json.length();
+        if (length == 0 || json.charAt(0) != '[')
+            return null;
+
+        int[] bounds = new int[16];
+        int count = 0;
+        int elementStart = 1;
+        int depth = 0;
+        boolean inString = false;
+        int end = -1;
+
+        for (int i = 1; i < length; i++) {
+            char c = json.charAt(i);
+
+            if (inString) {
+                if (c == '\\')
+                    i++; // the escaped character can neither end the string nor start another escape
+                else if (c == '"')
+                    inString = false;
+                continue;
+            }
+
+            if (c == '"') {
+                inString = true;
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                if (depth == 0) {
+                    if (c == '}')
+                        return null;
+                    end = i;
+                    break;
+                }
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                if (count == bounds.length)
+                    bounds = Arrays.copyOf(bounds, count << 1);
+                count = addTrimmed(json, elementStart, i, bounds, count);
+                if (count < 0)
+                    return null; // an empty element, as in [1,,2]
+                elementStart = i + 1;
+            }
+        }
+
+        if (end < 0 || !isBlank(json, end + 1))
+            return null;
+
+        // the last element is only empty if the array is, as in []
+        if (count == bounds.length)
+            bounds = Arrays.copyOf(bounds, count + 2);
+        int last = addTrimmed(json, elementStart, end, bounds, count);
+        if (last >= 0)
+            count = last;
+        else if (count > 0)
+            return null; // a trailing comma, as in [1,]
+
+        return Arrays.copyOf(bounds, count);
+    }
+
+    // stores the bounds of the region without its surrounding whitespace, returning the new count or -1 if it is blank
+    private static int addTrimmed(@NotNull String json, int start, int end, int[] bounds, int count) {
+        while (start < end && Character.isWhitespace(json.charAt(start)))
+            start++;
+        while (end > start && Character.isWhitespace(json.charAt(end - 1)))
+            end--;
+        if (start == end)
+            return -1;
+        bounds[count] = start;
+        bounds[count + 1] = end;
+        return count + 2;
+    }
+
+    @NotNull
+    private static String wrap(@NotNull String json, int start, int end) {
+        return new StringBuilder(end - start + 2)
+                .append('[')
+                .append(json, start, end)
+                .append(']')
+                .toString();
+    }
+
+    private static boolean isBlank(@NotNull String json, int from) {
+        for (int i = from; i < json.length(); i++) {
+            if (!Character.isWhitespace(json.charAt(i)))
+                return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.mapping;
+
+import com.google.gson.JsonSyntaxException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Reader;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An immutable list of the elements of a JSON array, each of which is only decoded on its first access
+ * <p>
+ * The list retains the JSON document along with the bounds of its elements, located by {@link JsonArraySplitter}
+ * without decoding them. {@link #get(int)} decodes the element on its first call and keeps the decoded object,
+ * which every later call returns. Elements that are never accessed are never decoded, so reading a few entries out
+ * of thousands only costs the decoding of those entries.
+ * </p>
+ * <p>
+ * Instances of this class are thread-safe: concurrent first calls of {@link #get(int)} for the same element may
+ * decode it more than once, but all of them return the same object. Since only one element is decoded at a time,
+ * repeated string values are only shared across elements through the {@link StringPool#getShared() shared pool},
+ * when it is enabled.
+ * </p>
+ * <p>
+ * Backs {@link CommonMappingInterface#mapToLazyList(String, Class)}.
+ * </p>
+ *
+ * @param <S> the type of the elements
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+final class LazyEntityList<S> extends AbstractList<S> implements RandomAccess {
+
+    // stands for an element decoded to null, since a null slot stands for an element not decoded yet
+    private static final Object NULL = new Object();
+
+    private final String json;
+    private final int[] bounds;
+    private final Class<S> objectClass;
+    private final AtomicReferenceArray<Object> decoded;
+
+    /**
+     * Creates a list of the elements of the given JSON array
+     *
+     * @param json        the JSON document
+     * @param bounds      the bounds of the elements, as returned by {@link JsonArraySplitter#elementBounds(String)}
+     * @param objectClass the class the elements are decoded into
+     */
+    LazyEntityList(@NotNull String json, int[] bounds, @NotNull Class<S> objectClass) {
+        this.json = json;
+        this.bounds = bounds;
+        this.objectClass = objectClass;
+        this.decoded = new AtomicReferenceArray<>(bounds.length >> 1);
+    }
+
+    /**
+     * Returns the element at the given position, decoding it on the first call
+     *
+     * @param index the position of the element
+     * @return the decoded element, or {@code null} if the array holds {@code null} at that position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws JsonSyntaxException       if the element is malformed. The failure is not remembered: every call
+     *                                   throws again.
+     */
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public S get(int index) {
+
+        Object element = decoded.get(index);
+        if (element == null) {
+            S value = CommonMappingInterface.GSON.fromJson(new RegionReader(json, bounds[index << 1], bounds[(index << 1) + 1]), objectClass);
+            // the first decoding to be stored wins, so that every caller gets the same object
+            decoded.compareAndSet(index, null, value != null ? value : NULL);
+            element = decoded.get(index);
+        }
+        return element != NULL ? (S) element : null;
+    }
+
+    @Override
+    public int size() {
+        return decoded.length();
+    }
+
+    // reads a region of a string without copying it first, unlike a StringReader over a substring
+    private static final class RegionReader extends Reader {
+
+        private final String text;
+        private final int end;
+        private int position;
+
+        private RegionReader(@NotNull String text, int start, int end) {
+            this.text = text;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (length == 0)
+                return 0;
+            if (position >= end)
+                return -1;
+            int count = Math.min(length, end - position);
+            text.getChars(position, position + count, buffer, offset);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+            // nothing to release
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.mapping;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of string values shared across the outputs mapped by {@link CommonMappingInterface}, which makes snapshots
+ * taken at different times share one instance of every value they have in common
+ * <p>
+ * Within a single output, repeated values are always shared, through the intern table of the parse. Long-lived
+ * snapshots, such as the successive polls of a process monitor, repeat the same names, paths and manufacturers
+ * across outputs too, which the {@link #getShared() shared pool} lets them share. The pool only holds its values
+ * weakly: a value is dropped once no snapshot references it any more.
+ * </p>
+ * <p>
+ * The shared pool is disabled by default, since looking values up in it takes a lock. It is enabled by setting the
+ * {@value #SHARED_POOL_PROPERTY} system property to {@code true} before the first mapping, or at any time through
+ * {@link #setSharedPoolEnabled(boolean)}. Instances of this class are thread-safe.
+ * </p>
+ *
+ * <h2>Usage example</h2>
+ * <pre>{@code
+ * // -Dferrumx.windows.sharedStringPool=true
+ * List<Win32Process> first = new Win32ProcessService().get(10);
+ * List<Win32Process> second = new Win32ProcessService().get(10);
+ * // the processes of both polls now share their names and executable paths
+ * log.info("{} distinct strings pooled", StringPool.getShared().size());
+ * }</pre>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@Slf4j
+public final class StringPool {
+
+    /**
+     * The system property enabling the {@link #getShared() shared pool} when set to {@code true}
+     */
+    public static final String SHARED_POOL_PROPERTY = "ferrumx.windows.sharedStringPool";
+
+    // values are spread over several maps, so that parallel mappings rarely wait for each other
+    private static final int STRIPES = 16;
+
+    private static volatile boolean sharedPoolEnabled = Boolean.getBoolean(SHARED_POOL_PROPERTY);
+
+    @SuppressWarnings("unchecked")
+    private final Map<String, WeakReference<String>>[] stripes = new Map[STRIPES];
+
+    /**
+     * Creates an empty pool
+     */
+    public StringPool() {
+        for (int i = 0; i < stripes.length; i++)
+            stripes[i] = new WeakHashMap<>();
+    }
+
+    /**
+     * Retrieves the pool shared by every mapping while {@link #isSharedPoolEnabled() enabled}
+     *
+     * @return the shared pool
+     */
+    @NotNull
+    public static StringPool getShared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * Tells whether the mappings look their values up in the {@link #getShared() shared pool}
+     *
+     * @return {@code true} if the shared pool is enabled
+     */
+    public static boolean isSharedPoolEnabled() {
+        return sharedPoolEnabled;
+    }
+
+    /**
+     * Enables or disables the {@link #getShared() shared pool} for the mappings started from now on
+     * <p>
+     * Disabling the pool keeps the values it holds, which are dropped once the snapshots referencing them are.
+     * </p>
+     *
+     * @param enabled {@code true} to enable the shared pool
+     */
+    public static void setSharedPoolEnabled(boolean enabled) {
+        sharedPoolEnabled = enabled;
+        log.debug("Shared string pool {}", enabled ? "enabled" : "disabled");
+    }
+
+    /**
+     * Returns the instance of the given value held by the pool, adding the value if the pool does not hold an
+     * equal one
+     *
+     * @param value the value to look up
+     * @return the pooled string equal to the value
+     */
+    @NotNull
+    public String intern(@NonNull String value) {
+        Map<String, WeakReference<String>> stripe = stripes[(value.hashCode() & 0x7FFFFFFF) % STRIPES];
+        synchronized (stripe) {
+            WeakReference<String> reference = stripe.get(value);
+            String pooled = reference != null ? reference.get() : null;
+            if (pooled == null) {
+                stripe.put(value, new WeakReference<>(value));
+                pooled = value;
+            }
+            return pooled;
+        }
+    }
+
+    /**
+     * Retrieves the number of values held by the pool, including the ones no longer referenced that have not been
+     * dropped yet
+     *
+     * @return the number of pooled values
+     */
+    public int size() {
+        int size = 0;
+        for (Map<String, WeakReference<String>> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    // the values of a parse pass through here on their first occurrence only, see StringTable
+    @Nullable
+    static String deduplicateShared(@Nullable String value) {
+        return value != null && sharedPoolEnabled ? getShared().intern(value) : value;
+    }
+
+    private static final class SharedHolder {
+        private static final StringPool INSTANCE = new StringPool();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.mapping;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * The intern table of a single parse, which makes the entities mapped by it share one instance of every repeated
+ * string value, such as the manufacturers and statuses of {@code Win32_PnPEntity}
+ * <p>
+ * The table is installed on the mapping thread by {@link #deduplicating(Supplier)} for the duration of a parse,
+ * during which {@link #deduplicate(String)} is called with every decoded string. Values can also be looked up by a
+ * region of a larger text, in which case a string is only created for values not seen before. Once the parse is
+ * over, the table is dropped and only the strings referenced by the entities remain. When the
+ * {@link StringPool#isSharedPoolEnabled() shared pool} is enabled, the first occurrence of every value within a parse
+ * is also looked up in it, so that the values are shared across parses too.
+ * </p>
+ * <p>
+ * Instances of this class are confined to the thread they are installed on.
+ * </p>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+final class StringTable {
+
+    private static final ThreadLocal<StringTable> CURRENT = new ThreadLocal<>();
+    private static final int INITIAL_CAPACITY = 64;
+
+    // open addressing with linear probing; the capacity is a power of two and the table is at most half full
+    private String[] slots = new String[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Runs a mapping with a fresh table installed on the current thread, restoring the table of an enclosing
+     * mapping, if any, afterwards
+     *
+     * @param mapping the mapping to run
+     * @param <T>     the type of the mapped result
+     * @return the result of the mapping
+     */
+    static <T> T deduplicating(@NotNull Supplier<T> mapping) {
+        StringTable enclosing = CURRENT.get();
+        CURRENT.set(new StringTable());
+        try {
+            return mapping.get();
+        } finally {
+            if (enclosing == null)
+                CURRENT.remove();
+            else
+                CURRENT.set(enclosing);
+        }
+    }
+
+    /**
+     * Returns the instance of the given value held by the table of the current thread, adding it if needed
+     *
+     * @param value the decoded value
+     * @return an equal string shared by the current parse, or the value itself if no table is installed
+     */
+    @Nullable
+    static String deduplicate(@Nullable String value) {
+        StringTable table = CURRENT.get();
+        if (value == null || table == null)
+            return StringPool.deduplicateShared(value);
+        return table.intern(value, 0, value.length(), value, value.hashCode());
+    }
+
+    /**
+     * Returns the instance of the given region of a text held by the table of the current thread, only creating a
+     * string for it if the table does not hold one yet
+     *
+     * @param text  the text holding the value
+     * @param start the index of the first character of the value
+     * @param end   the index following the last character of the value
+     * @return a string equal to the region, shared by the current parse
+     */
+    @NotNull
+    static String deduplicate(@NotNull String text, int start, int end) {
+        StringTable table = CURRENT.get();
+        if (table == null)
+            return StringPool.deduplicateShared(text.substring(start, end));
+        int hash = 0;
+        for (int i = start; i < end; i++)
+            hash = 31 * hash + text.charAt(i);
+        return table.intern(text, start, end, null, hash);
+    }
+
+    // value, if not null, is text.substring(start, end) and is added as is on a miss; hash is the one of the region
+    @NotNull
+    private String intern(@NotNull String text, int start, int end, @Nullable String value, int hash) {
+
+        int mask = slots.length - 1;
+        int index = spread(hash) & mask;
+        String slot;
+        while ((slot = slots[index]) != null) {
+            if (slot.hashCode() == hash && regionEquals(slot, text, start, end))
+                return slot;
+            index = (index + 1) & mask;
+        }
+
+        String added = StringPool.deduplicateShared(value != null ? value : text.substring(start, end));
+        slots[index] = added;
+        if (++size > slots.length >> 1)
+            grow();
+        return added;
+    }
+
+    private void grow() {
+        String[] old = slots;
+        slots = new String[old.length << 1];
+        int mask = slots.length - 1;
+        for (String value : old) {
+            if (value == null)
+                continue;
+            int index = spread(value.hashCode()) & mask;
+            while (slots[index] != null)
+                index = (index + 1) & mask;
+            slots[index] = value;
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean regionEquals(@NotNull String value, @NotNull String text, int start, int end) {
+        return value.length() == end - start && value.regionMatches(0, text, start, end - start);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.mapping.system;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import io.github.eggy03.ferrumx.windows.entity.system.ProcessTable;
+import io.github.eggy03.ferrumx.windows.entity.system.Win32Process;
+import io.github.eggy03.ferrumx.windows.mapping.CommonMappingInterface;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps the JSON output of a {@code Win32_Process} query straight into a {@link ProcessTable}
+ * <p>
+ * The output is decoded token by token into the columns of the table, without building a {@link Win32Process}
+ * or boxing a number per process. Properties that the table does not hold are skipped, so the output of
+ * {@link io.github.eggy03.ferrumx.windows.constant.namespace.Cimv2Namespace#WIN32_PROCESS_QUERY} can be mapped
+ * as well as the one of a query projected on {@link ProcessTable#getSerializedNames()}.
+ * </p>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+public class ProcessTableMapper {
+
+    private static final Map<String, ProcessTable.Column> COLUMNS = new HashMap<>();
+
+    static {
+        for (ProcessTable.Column column : ProcessTable.Column.values())
+            COLUMNS.put(column.getSerializedName(), column);
+    }
+
+    /**
+     * Converts a JSON string into a {@link ProcessTable}
+     *
+     * @param json the JSON string, holding an array of processes or a single one
+     * @return the table, which is empty if the JSON is empty
+     * @throws JsonSyntaxException if the JSON is malformed, or if a column holds a value that is not a
+     *                             non-negative integer below {@link Long#MAX_VALUE}
+     */
+    @NotNull
+    public ProcessTable mapToTable(@NonNull String json) {
+        return mapToTable(new StringReader(json));
+    }
+
+    /**
+     * Decodes a JSON document from a {@link Reader} into a {@link ProcessTable}, row by row as it is being read
+     * <p>
+     * The reader is not closed by this method.
+     * </p>
+     *
+     * @param json the reader supplying the JSON document, holding an array of processes or a single one
+     * @return the table, which is empty if the document is empty
+     * @throws JsonSyntaxException if the JSON is malformed, or if a column holds a value that is not a
+     *                             non-negative integer below {@link Long#MAX_VALUE}
+     * @throws JsonIOException     if the reader fails
+     */
+    @NotNull
+    public ProcessTable mapToTable(@NonNull Reader json) {
+
+        ProcessTable.Builder builder = ProcessTable.builder();
+        JsonReader reader = CommonMappingInterface.GSON.newJsonReader(json);
+        try {
+            JsonToken token;
+            try {
+                token = reader.peek();
+            } catch (EOFException e) {
+                return builder.build(); // empty document
+            }
+
+            if (token == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                while (reader.hasNext())
+                    readRow(reader, builder);
+                reader.endArray();
+            } else {
+                readRow(reader, builder);
+            }
+        } catch (MalformedJsonException | EOFException e) {
+            // a document ending within a value is malformed rather than unreadable
+            throw new JsonSyntaxException(e);
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        } catch (NumberFormatException | IllegalStateException e) {
+            throw new JsonSyntaxException("Malformed process at path " + reader.getPath(), e);
+        }
+        return builder.build();
+    }
+
+    private static void readRow(@NotNull JsonReader reader, @NotNull ProcessTable.Builder builder) throws IOException {
+
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return;
+        }
+
+        builder.beginRow();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+
+            ProcessTable.Column column = COLUMNS.get(name);
+            if (column != null) {
+                // nextLong() rounds the values just above Long.MAX_VALUE down to it, so that it is rejected as well
+                long value = reader.nextLong();
+                if (value < 0 || value == Long.MAX_VALUE)
+                    throw new JsonSyntaxException("Value " + value + " of " + name + " out of range at path " + reader.getPath());
+                builder.set(column, value);
+            } else if (ProcessTable.NAME_PROPERTY.equals(name)) {
+                builder.name(reader.nextString());
+            } else if (ProcessTable.EXECUTABLE_PATH_PROPERTY.equals(name)) {
+                builder.executablePath(reader.nextString());
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.query;
+
+import io.github.eggy03.ferrumx.windows.utility.ReflectionUtility;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An immutable selection of the properties of an entity, which restricts a query to the given properties
+ * <p>
+ * A masked query asks the WMI provider for the selected properties only and serializes nothing else, so the entities
+ * mapped from its output are partially populated: the fields outside the mask are {@code null}.
+ * Properties are named by the {@link com.google.gson.annotations.SerializedName} values of the entity fields,
+ * which are the names of the WMI properties.
+ * </p>
+ *
+ * <h2>Usage example</h2>
+ * <pre>{@code
+ * PropertyMask<Win32Process> mask = PropertyMask.of(Win32Process.class,
+ *         "ProcessId", "WorkingSetSize", "KernelModeTime", "UserModeTime");
+ * List<Win32Process> processes = new Win32ProcessService().get(mask, 10);
+ * }</pre>
+ *
+ * @param <S> the entity type whose properties are selected
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@Getter
+@EqualsAndHashCode
+public final class PropertyMask<S> {
+
+    /**
+     * The entity class whose properties are selected
+     */
+    @NonNull
+    private final Class<S> entityClass;
+
+    /**
+     * The selected property names, in the order they were given
+     */
+    @NonNull
+    private final List<String> properties;
+
+    private PropertyMask(@NotNull Class<S> entityClass, @NotNull List<String> properties) {
+        this.entityClass = entityClass;
+        this.properties = properties;
+    }
+
+    /**
+     * Creates a mask selecting the given properties of the entity
+     *
+     * @param entityClass the entity class whose properties are selected
+     * @param properties  the names of the selected properties, as given by the
+     *                    {@link com.google.gson.annotations.SerializedName} values of the entity fields
+     * @param <S>         the entity type
+     * @return the mask
+     * @throws IllegalArgumentException if no property is given or if a property is not declared by the entity
+     */
+    @NotNull
+    public static <S> PropertyMask<S> of(@NonNull Class<S> entityClass, @NonNull String... properties) {
+
+        if (properties.length == 0)
+            throw new IllegalArgumentException("A property mask must select at least one property");
+
+        List<String> declared = ReflectionUtility.getSerializedNames(entityClass);
+        Set<String> selected = new LinkedHashSet<>();
+        for (String property : properties) {
+            if (!declared.contains(property))
+                throw new IllegalArgumentException(entityClass.getSimpleName() + " does not declare the property: " + property);
+            selected.add(property);
+        }
+
+        return new PropertyMask<>(entityClass, Collections.unmodifiableList(new ArrayList<>(selected)));
+    }
+
+    /**
+     * Returns the selected properties as a comma-separated list, the way they are passed to PowerShell
+     *
+     * @return the comma-separated property names
+     */
+    @NotNull
+    public String toPropertyList() {
+        return String.join(", ", properties);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.query;
+
+import io.github.eggy03.ferrumx.windows.constant.PowerShellCmdlets;
+import io.github.eggy03.ferrumx.windows.mapping.CommonMappingInterface;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+import static io.github.eggy03.ferrumx.windows.constant.PowerShellCmdlets.CONVERT_TO_JSON;
+
+/**
+ * The format PowerShell serializes the output of a query in
+ * <p>
+ * Queries are built for {@link #JSON} and can be switched to another format by {@link #apply(String)}. The output of
+ * the switched query is then mapped by {@link CommonMappingInterface#mapToList(String, Class, WireFormat)} with the
+ * same format.
+ * </p>
+ *
+ * <h2>Usage example</h2>
+ * <pre>{@code
+ * String query = WireFormat.DELIMITED.apply(Cimv2Namespace.WIN32_PROCESS_QUERY.getQuery());
+ * List<Win32Process> processes = new TerminalCommandExecutor().executeAndMap(query, 10,
+ *         output -> new Win32ProcessMapper().mapToList(output, Win32Process.class, WireFormat.DELIMITED));
+ * }</pre>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@RequiredArgsConstructor
+@Getter
+public enum WireFormat {
+
+    /**
+     * The output of {@code ConvertTo-Json}, which the queries of the library are built for
+     */
+    JSON(CONVERT_TO_JSON),
+
+    /**
+     * A compact, tab-delimited text, with a header row holding the property names followed by one row per object
+     * holding the property values in the same order
+     * <p>
+     * Rows are separated by line breaks. Within a value, a backslash, a tab, a line feed, a carriage return and the
+     * unit separator ({@code U+001F}) are escaped as {@code \\}, {@code \t}, {@code \n}, {@code \r} and {@code \s}.
+     * A {@code null} value is written as {@code \N}. An array is written as {@code \A} followed by its elements, each
+     * of which is preceded by a unit separator. Dates are written like {@code ConvertTo-Json} writes them:
+     * {@code /Date(<milliseconds since the epoch>)/}, and every other value in its invariant culture form.
+     * </p>
+     * <p>
+     * Only suited to queries whose objects hold scalar values and arrays of them, which is the case of every query
+     * of the {@link io.github.eggy03.ferrumx.windows.constant.namespace.Cimv2Namespace}.
+     * Nested objects are written as their string form.
+     * </p>
+     */
+    DELIMITED(PowerShellCmdlets.CONVERT_TO_DELIMITED);
+
+    /**
+     * The cmdlet, at the end of the query pipeline, which serializes the output
+     */
+    @NonNull
+    private final PowerShellCmdlets serializer;
+
+    /**
+     * Switches the given query to this format by replacing the {@code ConvertTo-Json} at the end of its pipeline
+     *
+     * @param query a query whose pipeline ends with {@code ConvertTo-Json} and no further parameters
+     * @return the query serializing its output in this format
+     * @throws IllegalArgumentException if the pipeline of the query does not end with {@code ConvertTo-Json}
+     */
+    @NotNull
+    public String apply(@NonNull String query) {
+
+        String json = CONVERT_TO_JSON.getCmdlet().replace("|", "").trim();
+        String trimmed = query.trim();
+        if (!trimmed.endsWith(json))
+            throw new IllegalArgumentException("The query does not end with " + json + ": " + query);
+
+        String pipeline = trimmed.substring(0, trimmed.length() - json.length()).trim();
+        if (!pipeline.endsWith("|"))
+            throw new IllegalArgumentException("The query does not end with " + json + ": " + query);
+
+        return pipeline.substring(0, pipeline.length() - 1).trim() + serializer.getCmdlet();
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.query;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.regex.Pattern;
+
+/**
+ * An immutable WQL {@code WHERE} clause, which is passed to {@code Get-CimInstance -Filter} so that the WMI provider
+ * only returns the matching instances
+ * <p>
+ * Conditions are created through the static factory methods and combined with {@link #and(WqlFilter)},
+ * {@link #or(WqlFilter)} and {@link #negate()}. Property names must be plain WMI property names such as
+ * {@code ProcessId}, and string values are escaped, so a filter cannot alter the rest of the query.
+ * </p>
+ * <p>
+ * The query is handed to {@code powershell.exe} as a command-line argument, which Windows may split at whitespace and
+ * double quotes before PowerShell joins the pieces with single spaces. String values holding a double quote, or
+ * whitespace other than single spaces, would thus not reach WMI as written, and are rejected.
+ * </p>
+ *
+ * <h2>Usage example</h2>
+ * <pre>{@code
+ * WqlFilter filter = WqlFilter.equalTo("Name", "java.exe").or(WqlFilter.equalTo("ProcessId", 4));
+ * List<Win32Process> processes = new Win32ProcessService().get(filter, 10);
+ *
+ * // renders (Name = 'java.exe') OR (ProcessId = 4)
+ * String wql = filter.toWql();
+ * }</pre>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@EqualsAndHashCode
+public final class WqlFilter {
+
+    private static final Pattern PROPERTY_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+    // what the command line of powershell.exe does not carry through unchanged
+    private static final Pattern UNSAFE_LITERAL = Pattern.compile("\"|[\\s&&[^ ]]| {2}");
+
+    private final String wql;
+
+    private WqlFilter(@NotNull String wql) {
+        this.wql = wql;
+    }
+
+    /**
+     * Matches instances whose string property equals the given value
+     *
+     * @param property the name of the WMI property
+     * @param value    the value to compare with
+     * @return the filter
+     * @throws IllegalArgumentException if the property is not a valid WMI property name, or if the value holds
+     *                                  a double quote or whitespace other than single spaces
+     */
+    @NotNull
+    public static WqlFilter equalTo(@NonNull String property, @NonNull String value) {
+        return compare(property, "=", literal(value));
+    }
+
+    /**
+     * Matches instances whose numeric property equals the given value
+     *
+     * @param property the name of the WMI property
+     * @param value    the value to compare with
+     * @return the filter
+     * @throws IllegalArgumentException if the property is not a valid WMI property name
+     */
+    @NotNull
+    public static WqlFilter equalTo(@NonNull String property, long value) {
+        return compare(property, "=", Long.toString(value));
+    }
+
+    /**
+     * Matches instances whose boolean property equals the given value
+     *
+     * @param property the name of the WMI property
+     * @param value    the value to compare with
+     * @return the filter
+     * @throws IllegalArgumentException if the property is not a valid WMI property name
+     */
+    @NotNull
+    public static WqlFilter equalTo(@NonNull String property, boolean value) {
+        return compare(property, "=", value ? "TRUE" : "FALSE");
+    }
+
+    /**
+     * Matches instances whose string property differs from the given value
+     *
+     * @param property the name of the WMI property
+     * @param value    the value to compare with
+     * @return the filter
+     * @throws IllegalArgumentException if the property is not a valid WMI property name, or if the value holds
+     *                                  a double quote or whitespace other than single spaces
+     */
+    @NotNull
+    public static WqlFilter notEqualTo(@NonNull String property, @NonNull String value) {
+        return compare(property, "<>", literal(value));
+    }
+
+    /**
+     * Matches instances whose numeric property differs from the given value
+     *
+     * @param property the name of the WMI property
+     * @param value    the value to compare with
+     * @return the filter
+     * @throws IllegalArgumentException if the property is not a valid WMI property name
+     */
+    @NotNull
+    public static WqlFilter notEqualTo(@NonNull String property, long value) {
+        return compare(property, "<>", Long.toString(value));
+    }
+
+    /**
+     * Matches instances whose numeric property is greater than the given value
+     *
+     * @param property the name of the WMI property
+     * @param value    the value to compare with
+     * @return the filter
+     * @throws IllegalArgumentException if the property is not a valid WMI property name
+     */
+    @NotNull
+    public static WqlFilter greaterThan(@NonNull String property, long value) {
+        return compare(property, ">", Long.toString(value));
+    }
+
+    /**
+     * Matches instances whose numeric property is less than the given value
+     *
+     * @param property the name of the WMI property
+     * @param value    the value to compare with
+     * @return the filter
+     * @throws IllegalArgumentException if the property is not a valid WMI property name
+     */
+    @NotNull
+    public static WqlFilter lessThan(@NonNull String property, long value) {
+        return compare(property, "<", Long.toString(value));
+    }
+
+    /**
+     * Matches instances whose string property matches the given WQL {@code LIKE} pattern
+     * <p>
+     * {@code %} matches any number of characters and {@code _} matches exactly one character.
+     * </p>
+     *
+     * @param property the name of the WMI property
+     * @param pattern  the pattern to match
+     * @return the filter
+     * @throws IllegalArgumentException if the property is not a valid WMI property name, or if the pattern holds
+     *                                  a double quote or whitespace other than single spaces
+     */
+    @NotNull
+    public static WqlFilter like(@NonNull String property, @NonNull String pattern) {
+        return compare(property, "LIKE", literal(pattern));
+    }
+
+    /**
+     * Matches instances whose property has no value
+     *
+     * @param property the name of the WMI property
+     * @return the filter
+     * @throws IllegalArgumentException if the property is not a valid WMI property name
+     */
+    @NotNull
+    public static WqlFilter isNull(@NonNull String property) {
+        return compare(property, "IS", "NULL");
+    }
+
+    /**
+     * Matches instances whose property has a value
+     *
+     * @param property the name of the WMI property
+     * @return the filter
+     * @throws IllegalArgumentException if the property is not a valid WMI property name
+     */
+    @NotNull
+    public static WqlFilter isNotNull(@NonNull String property) {
+        return compare(property, "IS NOT", "NULL");
+    }
+
+    /**
+     * Matches instances matched by both this filter and the other one
+     *
+     * @param other the other filter
+     * @return the combined filter
+     */
+    @NotNull
+    public WqlFilter and(@NonNull WqlFilter other) {
+        return new WqlFilter("(" + wql + ") AND (" + other.wql + ")");
+    }
+
+    /**
+     * Matches instances matched by this filter, the other one or both
+     *
+     * @param other the other filter
+     * @return the combined filter
+     */
+    @NotNull
+    public WqlFilter or(@NonNull WqlFilter other) {
+        return new WqlFilter("(" + wql + ") OR (" + other.wql + ")");
+    }
+
+    /**
+     * Matches instances not matched by this filter
+     *
+     * @return the negated filter
+     */
+    @NotNull
+    public WqlFilter negate() {
+        return new WqlFilter("NOT (" + wql + ")");
+    }
+
+    /**
+     * Returns the WQL {@code WHERE} clause of this filter, without the {@code WHERE} keyword
+     *
+     * @return the WQL condition
+     */
+    @NotNull
+    public String toWql() {
+        return wql;
+    }
+
+    @Override
+    public String toString() {
+        return wql;
+    }
+
+    @NotNull
+    private static WqlFilter compare(@NotNull String property, @NotNull String operator, @NotNull String operand) {
+        if (!PROPERTY_NAME.matcher(property).matches())
+            throw new IllegalArgumentException("Not a valid WMI property name: " + property);
+
+        return new WqlFilter(property + " " + operator + " " + operand);
+    }
+
+    @NotNull
+    private static String literal(@NotNull String value) {
+        if (UNSAFE_LITERAL.matcher(value).find())
+            throw new IllegalArgumentException("Not a value the PowerShell command line passes unchanged: " + value);
+        return "'" + value.replace("\\", "\\\\").replace("'", "\\'") + "'";
+    }
+}
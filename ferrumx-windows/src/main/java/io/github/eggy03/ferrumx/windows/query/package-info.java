@@ -0,0 +1,19 @@
+/**
+ * Contains the {@link io.github.eggy03.ferrumx.windows.query.WqlFilter} builder, which narrows down the instances
+ * returned by the queries of the {@link io.github.eggy03.ferrumx.windows.constant.namespace.Cimv2Namespace} on the
+ * WMI provider side.
+ * <p>
+ * Filtered queries are run by the services implementing
+ * {@link io.github.eggy03.ferrumx.windows.service.FilterableServiceInterface}, so that only the matching instances
+ * are serialized by PowerShell and mapped by Gson.
+ * </p>
+ * <p>
+ * It also contains {@link io.github.eggy03.ferrumx.windows.query.PropertyMask}, which narrows down the properties
+ * returned by those queries, and {@link io.github.eggy03.ferrumx.windows.query.WireFormat}, which switches them to
+ * a more compact output format than JSON.
+ * </p>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+package io.github.eggy03.ferrumx.windows.query;
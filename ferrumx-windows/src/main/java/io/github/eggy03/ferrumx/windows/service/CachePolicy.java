@@ -0,0 +1,146 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.service;
+
+import io.github.eggy03.ferrumx.windows.entity.compounded.HardwareId;
+import io.github.eggy03.ferrumx.windows.entity.compounded.Win32ProcessorToCacheMemory;
+import io.github.eggy03.ferrumx.windows.entity.mainboard.Win32Baseboard;
+import io.github.eggy03.ferrumx.windows.entity.mainboard.Win32Bios;
+import io.github.eggy03.ferrumx.windows.entity.mainboard.Win32PortConnector;
+import io.github.eggy03.ferrumx.windows.entity.memory.Win32PhysicalMemory;
+import io.github.eggy03.ferrumx.windows.entity.processor.Win32AssociatedProcessorMemory;
+import io.github.eggy03.ferrumx.windows.entity.processor.Win32CacheMemory;
+import io.github.eggy03.ferrumx.windows.entity.processor.Win32Processor;
+import io.github.eggy03.ferrumx.windows.entity.storage.Win32LogicalDisk;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import lombok.Value;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tells how long the result of a service is cached by {@link CachingService} and {@link CachingOptionalService}
+ * <p>
+ * A result is fresh for the {@link #getTimeToLive() time to live} after it was fetched, during which it is returned
+ * without running the query again. For the {@link #getStaleWhileRevalidate() stale-while-revalidate} window that
+ * follows, the stale result is still returned at once, while a background task fetches a fresh one. After that,
+ * the next caller fetches a fresh result itself.
+ * </p>
+ * <p>
+ * {@link #forEntity(Class)} provides a default policy per entity class:
+ * </p>
+ * <ul>
+ *     <li>six hours, and as long again stale, for the hardware that only changes across reboots: the BIOS, the
+ *     baseboard and its port connectors, the physical memory, the processors and their caches, and the
+ *     {@link HardwareId} derived from them</li>
+ *     <li>five seconds, and as long again stale, for {@link Win32LogicalDisk}, whose free space keeps changing</li>
+ *     <li>no caching for any other class, such as {@code Win32Process}</li>
+ * </ul>
+ * <p>
+ * Instances of this class are immutable and thread-safe.
+ * </p>
+ *
+ * <h2>Usage example</h2>
+ * <pre>{@code
+ * CachePolicy policy = CachePolicy.of(Duration.ofMinutes(10), Duration.ofMinutes(1));
+ * CachingService<Win32VideoController> service = new CachingService<>(new Win32VideoControllerService(), policy);
+ * }</pre>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CachePolicy {
+
+    /**
+     * The policy that caches nothing, with which every call runs the query
+     */
+    public static final CachePolicy NONE = new CachePolicy(Duration.ZERO, Duration.ZERO);
+
+    private static final CachePolicy HARDWARE = new CachePolicy(Duration.ofHours(6), Duration.ofHours(6));
+    private static final CachePolicy FREE_SPACE = new CachePolicy(Duration.ofSeconds(5), Duration.ofSeconds(5));
+
+    private static final Map<Class<?>, CachePolicy> DEFAULTS = new HashMap<>();
+
+    static {
+        DEFAULTS.put(Win32Bios.class, HARDWARE);
+        DEFAULTS.put(Win32Baseboard.class, HARDWARE);
+        DEFAULTS.put(Win32PortConnector.class, HARDWARE);
+        DEFAULTS.put(Win32PhysicalMemory.class, HARDWARE);
+        DEFAULTS.put(Win32Processor.class, HARDWARE);
+        DEFAULTS.put(Win32CacheMemory.class, HARDWARE);
+        DEFAULTS.put(Win32AssociatedProcessorMemory.class, HARDWARE);
+        DEFAULTS.put(Win32ProcessorToCacheMemory.class, HARDWARE);
+        DEFAULTS.put(HardwareId.class, HARDWARE);
+        DEFAULTS.put(Win32LogicalDisk.class, FREE_SPACE);
+    }
+
+    /**
+     * The time for which a result is returned without running the query again
+     */
+    @NonNull
+    Duration timeToLive;
+
+    /**
+     * The time following the {@link #getTimeToLive() time to live} for which the stale result is still returned,
+     * while a fresh one is fetched in the background
+     */
+    @NonNull
+    Duration staleWhileRevalidate;
+
+    /**
+     * Creates a policy caching results for the given time, without serving stale results
+     *
+     * @param timeToLive the time for which a result is returned without running the query again
+     * @return the policy
+     * @throws IllegalArgumentException if the time to live is negative
+     */
+    @NotNull
+    public static CachePolicy of(@NonNull Duration timeToLive) {
+        return of(timeToLive, Duration.ZERO);
+    }
+
+    /**
+     * Creates a policy caching results for the given time, and serving them stale for the given time afterwards
+     *
+     * @param timeToLive           the time for which a result is returned without running the query again
+     * @param staleWhileRevalidate the time following the time to live for which the stale result is returned,
+     *                             while a fresh one is fetched in the background
+     * @return the policy
+     * @throws IllegalArgumentException if either time is negative
+     */
+    @NotNull
+    public static CachePolicy of(@NonNull Duration timeToLive, @NonNull Duration staleWhileRevalidate) {
+        if (timeToLive.isNegative() || staleWhileRevalidate.isNegative())
+            throw new IllegalArgumentException("Cache durations cannot be negative");
+        return new CachePolicy(timeToLive, staleWhileRevalidate);
+    }
+
+    /**
+     * Returns the default policy of the given entity class, as described by {@link CachePolicy}
+     *
+     * @param entityClass the class of the entities returned by the cached service
+     * @return the default policy of the class, which is {@link #NONE} for classes without one
+     */
+    @NotNull
+    public static CachePolicy forEntity(@NonNull Class<?> entityClass) {
+        return DEFAULTS.getOrDefault(entityClass, NONE);
+    }
+
+    /**
+     * Tells whether results are cached at all under this policy
+     *
+     * @return {@code true} if the time to live or the stale-while-revalidate window is positive
+     */
+    public boolean isCaching() {
+        return !timeToLive.isZero() || !staleWhileRevalidate.isZero();
+    }
+}
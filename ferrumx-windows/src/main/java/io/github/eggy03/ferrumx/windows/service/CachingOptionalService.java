@@ -0,0 +1,147 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.service;
+
+import com.profesorfalken.jpowershell.PowerShell;
+import io.github.eggy03.ferrumx.windows.utility.AsyncUtility;
+import lombok.Getter;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+/**
+ * A {@link OptionalCommonServiceInterface} decorator that caches the entity of the service it wraps under a {@link CachePolicy}
+ * <p>
+ * The cached entity is returned by every method for the {@link CachePolicy#getTimeToLive() time to live}
+ * of the policy, without running the query again. Since the services return immutable entities, the cached entity is safe
+ * to share. Callers missing the cache wait for each other, so that concurrent callers share a single query.
+ * </p>
+ * <p>
+ * Within the {@link CachePolicy#getStaleWhileRevalidate() stale-while-revalidate} window of the policy,
+ * {@link #get(long)} returns the previous entity at once, while the query runs again on the refresh executor.
+ * A failed refresh is logged and leaves the previous entity in place until the window is over.
+ * {@link #get()} and {@link #get(PowerShell)} never return stale entities, since the jPowerShell sessions they
+ * rely on cannot be used from a background thread: once the time to live is over, they run the query themselves.
+ * </p>
+ * <p>
+ * This class is thread-safe if the wrapped service is. See
+ * {@link io.github.eggy03.ferrumx.windows.executor.CoalescingCommandExecutor} for sharing executions without
+ * caching them.
+ * </p>
+ *
+ * <h2>Usage example</h2>
+ * <pre>{@code
+ * CachingOptionalService<HardwareId> hardwareId = new CachingOptionalService<>(new HardwareIdService(), HardwareId.class);
+ * Optional<HardwareId> id = hardwareId.get(10); // runs the query at most every six hours
+ * }</pre>
+ *
+ * @param <S> the entity type returned by the service
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @see CachePolicy
+ * @since 4.1.0
+ */
+public class CachingOptionalService<S> implements OptionalCommonServiceInterface<S> {
+
+    /**
+     * The service whose entities are cached
+     */
+    @Getter
+    @NonNull
+    private final OptionalCommonServiceInterface<S> delegate;
+
+    /**
+     * The policy the entities are cached under
+     */
+    @Getter
+    @NonNull
+    private final CachePolicy policy;
+
+    private final ResultCache<Optional<S>> cache;
+
+    /**
+     * Creates a cache around the given service with the {@link CachePolicy#forEntity(Class) default policy}
+     * of its entity class
+     *
+     * @param delegate    the service whose entities are cached
+     * @param entityClass the class of the entities returned by the service
+     */
+    public CachingOptionalService(@NonNull OptionalCommonServiceInterface<S> delegate, @NonNull Class<S> entityClass) {
+        this(delegate, CachePolicy.forEntity(entityClass));
+    }
+
+    /**
+     * Creates a cache around the given service, refreshing stale entities on the
+     * {@link AsyncUtility#getDefaultExecutor() default executor} of the asynchronous service methods
+     *
+     * @param delegate the service whose entities are cached
+     * @param policy   the policy the entities are cached under
+     */
+    public CachingOptionalService(@NonNull OptionalCommonServiceInterface<S> delegate, @NonNull CachePolicy policy) {
+        this(delegate, policy, AsyncUtility.getDefaultExecutor());
+    }
+
+    /**
+     * Creates a cache around the given service, refreshing stale entities on the given executor
+     *
+     * @param delegate        the service whose entities are cached
+     * @param policy          the policy the entities are cached under
+     * @param refreshExecutor the executor the background refreshes run on
+     */
+    public CachingOptionalService(@NonNull OptionalCommonServiceInterface<S> delegate, @NonNull CachePolicy policy, @NonNull Executor refreshExecutor) {
+        this.delegate = delegate;
+        this.policy = policy;
+        this.cache = new ResultCache<>(policy, refreshExecutor);
+    }
+
+    /**
+     * Returns the cached entity, or retrieves a new one through {@link OptionalCommonServiceInterface#get()} once it is stale
+     *
+     * @return the cached or retrieved {@link Optional} entity of type {@code <S>}
+     */
+    @NotNull
+    @Override
+    public Optional<S> get() {
+        return cache.get(delegate::get, false);
+    }
+
+    /**
+     * Returns the cached entity, or retrieves a new one through {@link OptionalCommonServiceInterface#get(PowerShell)}
+     * with the caller's session once it is stale
+     *
+     * @param powerShell an existing PowerShell session managed by the caller
+     * @return the cached or retrieved {@link Optional} entity of type {@code <S>}
+     */
+    @NotNull
+    @Override
+    public Optional<S> get(@NonNull PowerShell powerShell) {
+        return cache.get(() -> delegate.get(powerShell), false);
+    }
+
+    /**
+     * Returns the cached entity, or retrieves a new one through {@link OptionalCommonServiceInterface#get(long)}
+     * <p>
+     * Within the stale-while-revalidate window, the stale entity is returned at once,
+     * while a new one is retrieved with the same timeout in the background.
+     * </p>
+     *
+     * @param timeout the maximum time (in seconds) to wait for the PowerShell command to complete before terminating the process
+     * @return the cached or retrieved {@link Optional} entity of type {@code <S>}
+     */
+    @NotNull
+    @Override
+    public Optional<S> get(long timeout) {
+        return cache.get(() -> delegate.get(timeout), true);
+    }
+
+    /**
+     * Drops the cached entity, so that the next call runs the query again
+     */
+    public void invalidate() {
+        cache.invalidate();
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.service;
+
+import com.profesorfalken.jpowershell.PowerShell;
+import io.github.eggy03.ferrumx.windows.utility.AsyncUtility;
+import lombok.Getter;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.UnaryOperator;
+
+/**
+ * A {@link CommonServiceInterface} decorator that caches the list of the service it wraps under a {@link CachePolicy}
+ * <p>
+ * The cached list is returned by every method for the {@link CachePolicy#getTimeToLive() time to live}
+ * of the policy, without running the query again. Since the services return immutable lists, the cached list is safe
+ * to share. Callers missing the cache wait for each other, so that concurrent callers share a single query.
+ * </p>
+ * <p>
+ * Within the {@link CachePolicy#getStaleWhileRevalidate() stale-while-revalidate} window of the policy,
+ * {@link #get(long)} returns the previous list at once, while the query runs again on the refresh executor.
+ * A failed refresh is logged and leaves the previous list in place until the window is over.
+ * {@link #get()} and {@link #get(PowerShell)} never return stale lists, since the jPowerShell sessions they
+ * rely on cannot be used from a background thread: once the time to live is over, they run the query themselves.
+ * </p>
+ * <p>
+ * This class is thread-safe if the wrapped service is. See
+ * {@link io.github.eggy03.ferrumx.windows.executor.CoalescingCommandExecutor} for sharing executions without
+ * caching them.
+ * </p>
+ *
+ * <h2>Usage example</h2>
+ * <pre>{@code
+ * CachingService<Win32Bios> bios = new CachingService<>(new Win32BiosService(), Win32Bios.class);
+ * List<Win32Bios> first = bios.get(10);  // runs the query
+ * List<Win32Bios> second = bios.get(10); // returns the same list for the next six hours
+ * }</pre>
+ *
+ * @param <S> the entity type returned by the service
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @see CachePolicy
+ * @since 4.1.0
+ */
+public class CachingService<S> implements CommonServiceInterface<S> {
+
+    /**
+     * The service whose lists are cached
+     */
+    @Getter
+    @NonNull
+    private final CommonServiceInterface<S> delegate;
+
+    /**
+     * The policy the lists are cached under
+     */
+    @Getter
+    @NonNull
+    private final CachePolicy policy;
+
+    private final ResultCache<List<S>> cache;
+
+    /**
+     * Creates a cache around the given service with the {@link CachePolicy#forEntity(Class) default policy}
+     * of its entity class
+     *
+     * @param delegate    the service whose lists are cached
+     * @param entityClass the class of the entities returned by the service
+     */
+    public CachingService(@NonNull CommonServiceInterface<S> delegate, @NonNull Class<S> entityClass) {
+        this(delegate, CachePolicy.forEntity(entityClass));
+    }
+
+    /**
+     * Creates a cache around the given service, refreshing stale lists on the
+     * {@link AsyncUtility#getDefaultExecutor() default executor} of the asynchronous service methods
+     *
+     * @param delegate the service whose lists are cached
+     * @param policy   the policy the lists are cached under
+     */
+    public CachingService(@NonNull CommonServiceInterface<S> delegate, @NonNull CachePolicy policy) {
+        this(delegate, policy, AsyncUtility.getDefaultExecutor());
+    }
+
+    /**
+     * Creates a cache around the given service, refreshing stale lists on the given executor
+     *
+     * @param delegate        the service whose lists are cached
+     * @param policy          the policy the lists are cached under
+     * @param refreshExecutor the executor the background refreshes run on
+     */
+    public CachingService(@NonNull CommonServiceInterface<S> delegate, @NonNull CachePolicy policy, @NonNull Executor refreshExecutor) {
+        this.delegate = delegate;
+        this.policy = policy;
+        this.cache = new ResultCache<>(policy, refreshExecutor);
+    }
+
+    /**
+     * Returns the cached list, or retrieves a new one through {@link CommonServiceInterface#get()} once it is stale
+     *
+     * @return the cached or retrieved immutable list of entities of type {@code <S>}
+     */
+    @NotNull
+    @Override
+    public List<S> get() {
+        return cache.get(delegate::get, false);
+    }
+
+    /**
+     * Returns the cached list, or retrieves a new one through {@link CommonServiceInterface#get(PowerShell)}
+     * with the caller's session once it is stale
+     *
+     * @param powerShell an existing PowerShell session managed by the caller
+     * @return the cached or retrieved immutable list of entities of type {@code <S>}
+     */
+    @NotNull
+    @Override
+    public List<S> get(@NonNull PowerShell powerShell) {
+        return cache.get(() -> delegate.get(powerShell), false);
+    }
+
+    /**
+     * Returns the cached list, or retrieves a new one through {@link CommonServiceInterface#get(long)}
+     * <p>
+     * Within the stale-while-revalidate window, the stale list is returned at once,
+     * while a new one is retrieved with the same timeout in the background.
+     * </p>
+     *
+     * @param timeout the maximum time (in seconds) to wait for the PowerShell command to complete before terminating the process
+     * @return the cached or retrieved immutable list of entities of type {@code <S>}
+     */
+    @NotNull
+    @Override
+    public List<S> get(long timeout) {
+        return cache.get(() -> delegate.get(timeout), true);
+    }
+
+    /**
+     * Drops the cached list, so that the next call runs the query again
+     */
+    public void invalidate() {
+        cache.invalidate();
+    }
+
+    /**
+     * Replaces the cached list with the given function of it, without running the query again
+     * <p>
+     * The patched list keeps the age of the cached one, so that patches never extend its time to live. Nothing
+     * happens if no list is cached, or if the cached list is past its time to live and stale window, in which case
+     * the next call runs the query. The patch is also replayed on the lists still being retrieved when it is
+     * applied, before they are cached, since they may predate it. The patch never waits for a running query, and
+     * must therefore give the same result when applied to a list that already reflects it.
+     * </p>
+     *
+     * @param patch computes the patched immutable list from the cached one, which it must not modify
+     */
+    public void patch(@NonNull UnaryOperator<List<S>> patch) {
+        cache.update(patch);
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.service;
+
+import io.github.eggy03.ferrumx.windows.constant.namespace.Cimv2Namespace;
+import io.github.eggy03.ferrumx.windows.query.WqlFilter;
+
+import java.util.List;
+
+/**
+ * Service interface whose method implementations let the WMI provider filter the instances of a class,
+ * instead of fetching every instance and filtering them in Java afterwards
+ * <p>
+ * Useful for implementing services of classes with many instances, of which callers typically need only a few,
+ * such as the {@code Win32_Process} or {@code Win32_PnPEntity} WMI classes.
+ * </p>
+ *
+ * @param <S> the entity type returned by the service implementation
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @see CommonServiceInterface
+ * @since 4.1.0
+ */
+public interface FilterableServiceInterface<S> {
+
+    /**
+     * Implementations of this method are expected to run the query returned by
+     * {@link Cimv2Namespace#getQuery(WqlFilter)} the same way they run their unfiltered query
+     *
+     * @param filter  the filter the returned entities must match
+     * @param timeout the maximum time (in seconds) to wait for the PowerShell command to complete before terminating the process
+     * @return an immutable list of the entities of type {@code <S>} matching the filter, or an empty list if none match
+     * @since 4.1.0
+     */
+    List<S> get(WqlFilter filter, long timeout);
+}
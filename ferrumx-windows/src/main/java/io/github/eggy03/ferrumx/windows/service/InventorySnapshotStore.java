@@ -0,0 +1,418 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.service;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
+import io.github.eggy03.ferrumx.windows.constant.namespace.Cimv2Namespace;
+import io.github.eggy03.ferrumx.windows.entity.system.Win32OperatingSystem;
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
+import io.github.eggy03.ferrumx.windows.executor.MappingKey;
+import io.github.eggy03.ferrumx.windows.executor.TerminalCommandExecutor;
+import io.github.eggy03.ferrumx.windows.mapping.CommonMappingInterface;
+import io.github.eggy03.ferrumx.windows.mapping.system.Win32OperatingSystemMapper;
+import io.github.eggy03.ferrumx.windows.query.PropertyMask;
+import io.github.eggy03.ferrumx.windows.utility.AsyncUtility;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * A file-backed snapshot of the entities that only change across reboots, such as {@code Win32_BIOS},
+ * {@code Win32_BaseBoard}, {@code Win32_Processor}, {@code Win32_PhysicalMemory} or the {@code HardwareId}
+ * <p>
+ * The snapshot is loaded from its file when the store is opened, without starting PowerShell, so that an application
+ * restarted since the snapshot was taken gets its entities at once. An entity class missing from the snapshot is
+ * retrieved through the given service on its first request, and the snapshot file is then rewritten with it.
+ * </p>
+ * <p>
+ * The snapshot is keyed by the {@link Win32OperatingSystem#getLastBootUpTime() last boot-up time} of the system.
+ * {@link #revalidateAsync(long)} queries it in the background and drops the snapshot if the system has rebooted
+ * since, so that the next requests retrieve their entities again. Entities retrieved before any revalidation succeeded
+ * are not keyed, and are dropped by the first one, since they may predate a reboot. A snapshot file that cannot be read or written is
+ * logged and otherwise ignored: the store then behaves as if the snapshot were empty.
+ * </p>
+ * <p>
+ * Instances of this class are thread-safe. Concurrent requests for an entity class that is being retrieved share
+ * a single query, which runs without holding the lock of the store, so that a slow query never holds up the requests
+ * of other entity classes, revalidations or invalidations. The entities of a query are only added to the snapshot if
+ * no revalidation dropped it and no invalidation ran while it was running.
+ * </p>
+ *
+ * <h2>Usage example</h2>
+ * <pre>{@code
+ * InventorySnapshotStore store = InventorySnapshotStore.open(Paths.get("inventory.json"));
+ * store.revalidateAsync(10); // the boot-up time is checked in the background
+ * List<Win32Bios> bios = store.get(Win32Bios.class, new Win32BiosService(), 10);
+ * Optional<HardwareId> hardwareId = store.getOptional(HardwareId.class, new HardwareIdService(), 10);
+ * }</pre>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @see CachingService
+ * @since 4.1.0
+ */
+@Slf4j
+public class InventorySnapshotStore {
+
+    private static final String LAST_BOOT_UP_TIME = "LastBootUpTime";
+    private static final String ENTITIES = "Entities";
+
+    /**
+     * The file the snapshot is persisted in
+     */
+    @Getter
+    @NonNull
+    private final Path file;
+
+    @NonNull
+    private final CommandExecutor commandExecutor;
+
+    // guarded by this; entities of the file that have not been requested yet stay undecoded
+    private final Map<String, JsonArray> undecoded = new TreeMap<>();
+    private final Map<String, List<?>> decoded = new HashMap<>();
+    private String lastBootUpTime;
+    // guarded by this; the queries running for the entity classes missing from the snapshot
+    private final Map<String, CompletableFuture<List<?>>> retrievals = new HashMap<>();
+    // guarded by this; bumped whenever the snapshot is dropped, so that queries started before are not added to it
+    private long generation;
+
+    private InventorySnapshotStore(@NonNull Path file, @NonNull CommandExecutor commandExecutor) {
+        this.file = file;
+        this.commandExecutor = commandExecutor;
+    }
+
+    /**
+     * Opens the store persisted in the given file, revalidating it through an isolated PowerShell process
+     * launched by {@link TerminalCommandExecutor}
+     *
+     * @param file the snapshot file, which does not need to exist
+     * @return the store, holding the snapshot of the file if it could be read
+     */
+    @NotNull
+    public static InventorySnapshotStore open(@NonNull Path file) {
+        return open(file, new TerminalCommandExecutor());
+    }
+
+    /**
+     * Opens the store persisted in the given file, revalidating it through the given executor
+     *
+     * @param file            the snapshot file, which does not need to exist
+     * @param commandExecutor the executor used to query the last boot-up time of the system
+     * @return the store, holding the snapshot of the file if it could be read
+     */
+    @NotNull
+    public static InventorySnapshotStore open(@NonNull Path file, @NonNull CommandExecutor commandExecutor) {
+        InventorySnapshotStore store = new InventorySnapshotStore(file, commandExecutor);
+        store.load();
+        return store;
+    }
+
+    /**
+     * Returns the entities of the given class from the snapshot, or retrieves them through the given service
+     * using an isolated PowerShell process with a configurable timeout, and adds them to the snapshot
+     *
+     * @param entityClass the class of the entities, which identifies them in the snapshot
+     * @param service     the service retrieving the entities if the snapshot does not hold them
+     * @param timeout     the maximum time (in seconds) to wait for the PowerShell command to complete
+     *                    before terminating the process
+     * @param <S>         the entity type
+     * @return an immutable list of the entities
+     */
+    @NotNull
+    @SuppressWarnings("unchecked") // the snapshot holds entities of the class they are keyed by
+    public <S> List<S> get(@NonNull Class<S> entityClass, @NonNull CommonServiceInterface<S> service, long timeout) {
+        return (List<S>) retrieve(entityClass, () -> Collections.unmodifiableList(service.get(timeout)));
+    }
+
+    /**
+     * Returns the entity of the given class from the snapshot, or retrieves it through the given service
+     * using an isolated PowerShell process with a configurable timeout, and adds it to the snapshot
+     *
+     * @param entityClass the class of the entity, which identifies it in the snapshot
+     * @param service     the service retrieving the entity if the snapshot does not hold it
+     * @param timeout     the maximum time (in seconds) to wait for the PowerShell command to complete
+     *                    before terminating the process
+     * @param <S>         the entity type
+     * @return an {@link Optional} of the entity, which is empty if the service found none
+     */
+    @NotNull
+    @SuppressWarnings("unchecked") // the snapshot holds entities of the class they are keyed by
+    public <S> Optional<S> getOptional(@NonNull Class<S> entityClass, @NonNull OptionalCommonServiceInterface<S> service, long timeout) {
+
+        List<S> entities = (List<S>) retrieve(entityClass, () -> {
+            Optional<S> entity = service.get(timeout);
+            return entity.isPresent() ? Collections.singletonList(entity.get()) : Collections.emptyList();
+        });
+        return entities.isEmpty() ? Optional.empty() : Optional.ofNullable(entities.get(0));
+    }
+
+    /**
+     * Tells whether the snapshot holds the entities of the given class
+     *
+     * @param entityClass the class of the entities
+     * @return {@code true} if the entities are returned without running a query
+     */
+    public synchronized boolean contains(@NonNull Class<?> entityClass) {
+        return decoded.containsKey(entityClass.getName()) || undecoded.containsKey(entityClass.getName());
+    }
+
+    /**
+     * Returns the last boot-up time of the system the snapshot was taken in
+     *
+     * @return the last boot-up time, as returned by {@link Win32OperatingSystem#getLastBootUpTime()},
+     * or {@code null} if the snapshot has not been validated yet
+     */
+    @Nullable
+    public synchronized String getLastBootUpTime() {
+        return lastBootUpTime;
+    }
+
+    /**
+     * Queries the last boot-up time of the system and drops the snapshot if the system has rebooted since it was taken
+     * <p>
+     * The snapshot file is rewritten with the queried boot-up time, which keys the entities retrieved from then on.
+     * A snapshot that has not been validated yet is dropped as well, since it cannot tell which boot it was taken in.
+     * </p>
+     *
+     * @param timeout the maximum time (in seconds) to wait for the PowerShell command to complete before terminating the process
+     * @return {@code true} if the snapshot was dropped
+     */
+    public boolean revalidate(long timeout) {
+
+        String command = Cimv2Namespace.WIN32_OPERATING_SYSTEM_QUERY.getQuery(PropertyMask.of(Win32OperatingSystem.class, LAST_BOOT_UP_TIME));
+        List<Win32OperatingSystem> operatingSystems = commandExecutor.executeAndMap(command, timeout,
+                MappingKey.of(Win32OperatingSystemMapper.class, "mapToList", Win32OperatingSystem.class),
+                response -> new Win32OperatingSystemMapper().mapToList(response, Win32OperatingSystem.class));
+        String current = operatingSystems.isEmpty() ? null : operatingSystems.get(0).getLastBootUpTime();
+        if (current == null) {
+            log.warn("Could not revalidate the inventory snapshot, the last boot-up time of the system is unknown");
+            return false;
+        }
+
+        synchronized (this) {
+            if (current.equals(lastBootUpTime))
+                return false;
+
+            // an unkeyed snapshot may have been taken before a reboot, by a process that exited before validating it
+            boolean dropped = lastBootUpTime != null || !undecoded.isEmpty() || !decoded.isEmpty();
+            if (dropped) {
+                log.debug("System booted at {}, which the inventory snapshot was not taken after, dropping it", current);
+                drop();
+            }
+            lastBootUpTime = current;
+            save();
+            return dropped;
+        }
+    }
+
+    /**
+     * Runs {@link #revalidate(long)} on a shared pool of daemon threads and returns a future of its result
+     *
+     * @param timeout the maximum time (in seconds) to wait for the PowerShell command to complete before terminating the process
+     * @return a cancellable {@link CompletableFuture} telling whether the snapshot was dropped
+     */
+    @NotNull
+    public CompletableFuture<Boolean> revalidateAsync(long timeout) {
+        return AsyncUtility.supplyAsync(() -> revalidate(timeout), AsyncUtility.getDefaultExecutor());
+    }
+
+    /**
+     * Drops the snapshot, so that every entity class is retrieved again on its next request
+     */
+    public synchronized void invalidate() {
+        drop();
+        save();
+    }
+
+    // returns the entities of the snapshot, or those of a query shared with the concurrent requests for the class
+    @NotNull
+    private List<?> retrieve(@NotNull Class<?> entityClass, @NotNull Supplier<List<?>> query) {
+
+        String key = entityClass.getName();
+        CompletableFuture<List<?>> retrieval;
+        CompletableFuture<List<?>> running;
+        long startedIn;
+        synchronized (this) {
+            List<?> entities = snapshotOf(entityClass);
+            if (entities != null)
+                return entities;
+
+            running = retrievals.get(key);
+            retrieval = new CompletableFuture<>();
+            if (running == null)
+                retrievals.put(key, retrieval);
+            startedIn = generation;
+        }
+        if (running != null)
+            return await(running);
+
+        List<?> entities;
+        try {
+            entities = query.get();
+        } catch (RuntimeException | Error e) {
+            synchronized (this) {
+                retrievals.remove(key, retrieval);
+            }
+            retrieval.completeExceptionally(e);
+            throw e;
+        }
+
+        synchronized (this) {
+            retrievals.remove(key, retrieval);
+            // the snapshot was dropped while the query ran, which may thus predate a reboot
+            if (generation == startedIn) {
+                decoded.put(key, entities);
+                save();
+            }
+        }
+        retrieval.complete(entities);
+        return entities;
+    }
+
+    @NotNull
+    private static List<?> await(@NotNull CompletableFuture<List<?>> retrieval) {
+        try {
+            return retrieval.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            if (e.getCause() instanceof Error)
+                throw (Error) e.getCause();
+            throw e;
+        }
+    }
+
+    // must hold the lock; the requests made from then on no longer share the queries already running
+    private void drop() {
+        undecoded.clear();
+        decoded.clear();
+        retrievals.clear();
+        generation++;
+    }
+
+    // must hold the lock
+    @Nullable
+    private List<?> snapshotOf(@NotNull Class<?> entityClass) {
+
+        String key = entityClass.getName();
+        List<?> entities = decoded.get(key);
+        if (entities != null)
+            return entities;
+
+        JsonArray json = undecoded.remove(key);
+        if (json == null)
+            return null;
+        try {
+            Type listType = TypeToken.getParameterized(List.class, entityClass).getType();
+            List<?> mapped = CommonMappingInterface.GSON.fromJson(json, listType);
+            entities = Collections.unmodifiableList(mapped);
+            decoded.put(key, entities);
+            return entities;
+        } catch (JsonParseException e) {
+            log.warn("Ignoring the malformed {} entities of the inventory snapshot {}", entityClass.getSimpleName(), file, e);
+            return null;
+        }
+    }
+
+    private void load() {
+        try {
+            String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            JsonObject snapshot = JsonParser.parseString(json).getAsJsonObject();
+
+            JsonElement bootUpTime = snapshot.get(LAST_BOOT_UP_TIME);
+            lastBootUpTime = bootUpTime != null && !bootUpTime.isJsonNull() ? bootUpTime.getAsString() : null;
+
+            JsonElement entities = snapshot.get(ENTITIES);
+            if (entities != null && entities.isJsonObject()) {
+                for (Map.Entry<String, JsonElement> entry : entities.getAsJsonObject().entrySet()) {
+                    if (entry.getValue().isJsonArray())
+                        undecoded.put(entry.getKey(), entry.getValue().getAsJsonArray());
+                }
+            }
+            log.debug("Loaded the inventory snapshot {} taken after the boot-up at {}", file, lastBootUpTime);
+        } catch (NoSuchFileException e) {
+            log.debug("No inventory snapshot at {}, starting empty", file);
+        } catch (IOException | RuntimeException e) {
+            // a JsonParseException, or an IllegalStateException of a document that is not an object
+            log.warn("Ignoring the unreadable inventory snapshot {}", file, e);
+            lastBootUpTime = null;
+            undecoded.clear();
+        }
+    }
+
+    // must hold the lock; the file is replaced at once, so that a crash never leaves half a snapshot behind
+    private void save() {
+
+        Path directory = file.toAbsolutePath().getParent();
+        Path temporary = null;
+        try {
+            Files.createDirectories(directory);
+            temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+            try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                JsonWriter out = CommonMappingInterface.GSON.newJsonWriter(writer);
+                out.beginObject();
+                out.name(LAST_BOOT_UP_TIME).value(lastBootUpTime);
+                out.name(ENTITIES).beginObject();
+                for (Map.Entry<String, List<?>> entry : new TreeMap<>(decoded).entrySet()) {
+                    out.name(entry.getKey());
+                    CommonMappingInterface.GSON.toJson(entry.getValue(), List.class, out);
+                }
+                for (Map.Entry<String, JsonArray> entry : undecoded.entrySet()) {
+                    out.name(entry.getKey());
+                    CommonMappingInterface.GSON.toJson(entry.getValue(), out);
+                }
+                out.endObject();
+                out.endObject();
+            }
+
+            try {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not save the inventory snapshot {}", file, e);
+            deleteQuietly(temporary);
+        }
+    }
+
+    private static void deleteQuietly(@Nullable Path temporary) {
+        if (temporary == null)
+            return;
+        try {
+            Files.deleteIfExists(temporary);
+        } catch (IOException e) {
+            log.debug("Could not delete the temporary inventory snapshot {}", temporary, e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.service;
+
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
+import io.github.eggy03.ferrumx.windows.executor.MappingKey;
+import io.github.eggy03.ferrumx.windows.mapping.CommonMappingInterface;
+
+import java.util.List;
+
+/**
+ * Service interface whose method implementations return a list of WMI entities
+ * that are only decoded once they are accessed
+ * <p>
+ * Useful for implementing services of classes which may return thousands of instances
+ * such as the {@code Win32_Process} or {@code Win32_PnPEntity} WMI classes,
+ * whose consumers often only read a few of the returned entities.
+ * </p>
+ *
+ * @param <S> the entity type returned by the service implementation
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @see CommonServiceInterface
+ * @since 4.1.0
+ */
+public interface LazyServiceInterface<S> {
+
+    /**
+     * Implementations of this method are expected to run their query through
+     * {@link CommandExecutor#executeAndMap(String, long, MappingKey, java.util.function.Function)} and map its output with
+     * {@link CommonMappingInterface#mapToLazyList(String, Class)}
+     * <p>
+     * The returned list keeps the output of the query until it is discarded itself. An entity that PowerShell
+     * returned malformed is only reported when it is accessed.
+     * </p>
+     *
+     * @param timeout the maximum time (in seconds) to wait for the PowerShell command to complete before terminating the process
+     * @return an immutable, thread-safe list of entities of type {@code <S>}, each of which is decoded on its first access
+     * @since 4.1.0
+     */
+    List<S> getLazily(long timeout);
+}
@@ -6,10 +6,17 @@
 package io.github.eggy03.ferrumx.windows.service;
 
 import com.profesorfalken.jpowershell.PowerShell;
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
 import io.github.eggy03.ferrumx.windows.mapping.CommonMappingInterface;
+import io.github.eggy03.ferrumx.windows.utility.AsyncUtility;
 import io.github.eggy03.ferrumx.windows.utility.TerminalUtility;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
 
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Common service interface whose method implementations provide a way to fetch WMI data from PowerShell
@@ -51,7 +58,7 @@ public interface OptionalCommonServiceInterface<S> {
 
     /**
      * Implementations of this method are expected to skip {@link PowerShell} entirely and rely on
-     * {@link TerminalUtility} instead for PowerShell session management
+     * {@link TerminalUtility} or an injected {@link CommandExecutor} instead for PowerShell session management
      * and then map the results to the expected entity types using a custom implementation
      * or the default methods of {@link CommonMappingInterface}
      *
@@ -60,4 +67,40 @@ public interface OptionalCommonServiceInterface<S> {
      * @since 3.1.0
      */
     Optional<S> get(long timeout);
-}
\ No newline at end of file
+
+    /**
+     * Runs {@link #get(long)} on the given executor and returns a future of its result
+     * <p>
+     * Cancelling the returned future kills the PowerShell process the query is running in,
+     * provided the process was launched through {@link TerminalUtility} or a
+     * {@link io.github.eggy03.ferrumx.windows.utility.PowerShellWorkerPool}, which is the case for the bundled
+     * {@link io.github.eggy03.ferrumx.windows.executor.TerminalCommandExecutor} and
+     * {@link io.github.eggy03.ferrumx.windows.executor.PooledCommandExecutor}.
+     * </p>
+     *
+     * @param timeout  the maximum time (in seconds) to wait for the PowerShell command to complete before terminating the process
+     * @param executor the executor the query is submitted to
+     * @return a cancellable {@link CompletableFuture} of an {@link Optional} entity of type {@code <S>} defined by the caller
+     * @since 4.1.0
+     */
+    @NotNull
+    default CompletableFuture<Optional<S>> getAsync(long timeout, @NonNull Executor executor) {
+        return AsyncUtility.supplyAsync(() -> get(timeout), executor);
+    }
+
+    /**
+     * Runs {@link #get(long)} on a shared pool of daemon threads and returns a future of its result
+     * <p>
+     * The timeout is rounded up to whole seconds. See {@link #getAsync(long, Executor)} for the cancellation behavior.
+     * </p>
+     *
+     * @param timeout the maximum time to wait for the PowerShell command to complete before terminating the process
+     * @return a cancellable {@link CompletableFuture} of an {@link Optional} entity of type {@code <S>} defined by the caller
+     * @throws IllegalArgumentException if the provided timeout is in the negative
+     * @since 4.1.0
+     */
+    @NotNull
+    default CompletableFuture<Optional<S>> getAsync(@NonNull Duration timeout) {
+        return getAsync(AsyncUtility.toTimeoutSeconds(timeout), AsyncUtility.getDefaultExecutor());
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.service;
+
+import io.github.eggy03.ferrumx.windows.constant.namespace.Cimv2Namespace;
+import io.github.eggy03.ferrumx.windows.query.PropertyMask;
+import io.github.eggy03.ferrumx.windows.query.WqlFilter;
+
+import java.util.List;
+
+/**
+ * Service interface whose method implementations only fetch and map the properties selected by a
+ * {@link PropertyMask}, returning partially populated entities
+ * <p>
+ * Useful for implementing services of wide classes which are polled for a few of their properties,
+ * such as the {@code Win32_Process} WMI class, where the cost of serializing and parsing the output
+ * should scale with the properties requested rather than with the width of the entity.
+ * </p>
+ *
+ * @param <S> the entity type returned by the service implementation
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @see FilterableServiceInterface
+ * @since 4.1.0
+ */
+public interface ProjectableServiceInterface<S> {
+
+    /**
+     * Implementations of this method are expected to run the query returned by
+     * {@link Cimv2Namespace#getQuery(PropertyMask)} the same way they run their unprojected query
+     *
+     * @param mask    the properties to fetch, every other field of the returned entities is {@code null}
+     * @param timeout the maximum time (in seconds) to wait for the PowerShell command to complete before terminating the process
+     * @return an immutable list of partially populated entities of type {@code <S>}, or an empty list if none are found
+     * @since 4.1.0
+     */
+    List<S> get(PropertyMask<S> mask, long timeout);
+
+    /**
+     * Implementations of this method are expected to run the query returned by
+     * {@link Cimv2Namespace#getQuery(WqlFilter, PropertyMask)} the same way they run their unprojected query
+     *
+     * @param filter  the filter the returned entities must match
+     * @param mask    the properties to fetch, every other field of the returned entities is {@code null}
+     * @param timeout the maximum time (in seconds) to wait for the PowerShell command to complete before terminating the process
+     * @return an immutable list of partially populated entities of type {@code <S>} matching the filter, or an empty list if none match
+     * @since 4.1.0
+     */
+    List<S> get(WqlFilter filter, PropertyMask<S> mask, long timeout);
+}
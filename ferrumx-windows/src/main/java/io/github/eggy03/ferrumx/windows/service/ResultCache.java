@@ -0,0 +1,254 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.service;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Holds the last result of a service under a {@link CachePolicy}, backing {@link CachingService} and
+ * {@link CachingOptionalService}
+ * <p>
+ * Concurrent callers missing the cache share a single fetch. Fetches run without holding the lock guarding the
+ * cached result, so that a slow query never holds up updates and invalidations. At most one background refresh
+ * runs at a time. Updates applied while a fetch runs are replayed on its result before it is cached, since the
+ * result may predate them. Instances of this class are thread-safe.
+ * </p>
+ *
+ * @param <T> the type of the cached result
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@Slf4j
+final class ResultCache<T> {
+
+    private final long timeToLiveNanos;
+    private final long staleWhileRevalidateNanos;
+    private final boolean caching;
+    private final Executor refreshExecutor;
+
+    private final Object fetchLock = new Object();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile Entry<T> entry;
+    // the fetch that callers missing the cache wait for, guarded by the fetch lock
+    private CompletableFuture<T> inFlight;
+    // the updates applied while fetches were running, and the number of the first one, guarded by the fetch lock
+    private final List<UnaryOperator<T>> updates = new ArrayList<>();
+    private long firstUpdate;
+    private int runningFetches;
+    // bumped by every invalidation, so that results fetched before it are not stored
+    private volatile long generation;
+
+    ResultCache(@NotNull CachePolicy policy, @NotNull Executor refreshExecutor) {
+        this.timeToLiveNanos = toNanos(policy.getTimeToLive());
+        this.staleWhileRevalidateNanos = toNanos(policy.getStaleWhileRevalidate());
+        this.caching = policy.isCaching();
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Returns the cached result if it is fresh, or fetches a new one
+     *
+     * @param fetch      fetches the result from the service
+     * @param allowStale {@code true} if a stale result may be returned while the same fetch refreshes it in the
+     *                   background, which requires the fetch to be safe to run on another thread
+     * @return the cached or fetched result
+     */
+    T get(@NotNull Supplier<T> fetch, boolean allowStale) {
+
+        if (!caching)
+            return fetch.get();
+
+        Entry<T> current = entry;
+        if (current != null) {
+            long age = System.nanoTime() - current.getFetchedAt();
+            if (age < timeToLiveNanos)
+                return current.getValue();
+            if (allowStale && age - timeToLiveNanos < staleWhileRevalidateNanos) {
+                refreshInBackground(fetch);
+                return current.getValue();
+            }
+        }
+
+        CompletableFuture<T> pending;
+        Fetch started = null;
+        synchronized (fetchLock) {
+            // another caller may have fetched a fresh result in the meantime
+            current = entry;
+            if (current != null && System.nanoTime() - current.getFetchedAt() < timeToLiveNanos)
+                return current.getValue();
+
+            if (inFlight == null) {
+                inFlight = new CompletableFuture<>();
+                started = start();
+            }
+            pending = inFlight;
+        }
+        return started != null ? runFetch(fetch, pending, started) : await(pending);
+    }
+
+    /**
+     * Replaces the cached result with the given function of it, without changing its age.
+     * Nothing happens to a result past its time to live and stale window, or if no result is cached.
+     * The update is also applied to the results of the fetches running meanwhile, before they are cached.
+     *
+     * @param patch computes the new result from the cached one
+     */
+    void update(@NotNull UnaryOperator<T> patch) {
+        synchronized (fetchLock) {
+            Entry<T> current = entry;
+            if (current != null && isUsable(current))
+                entry = new Entry<>(patch.apply(current.getValue()), current.getFetchedAt());
+            if (runningFetches > 0)
+                updates.add(patch);
+        }
+    }
+
+    /**
+     * Drops the cached result, so that the next caller fetches a new one
+     */
+    void invalidate() {
+        synchronized (fetchLock) {
+            entry = null;
+            inFlight = null;
+            generation++;
+            // the running fetches are dropped, so their updates are no longer needed
+            firstUpdate += updates.size();
+            updates.clear();
+        }
+    }
+
+    // runs the fetch shared through the pending future, and caches its result unless it was invalidated meanwhile
+    private T runFetch(@NotNull Supplier<T> fetch, @NotNull CompletableFuture<T> pending, @NotNull Fetch started) {
+        T value = null;
+        try {
+            value = fetch.get();
+        } catch (RuntimeException | Error e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            synchronized (fetchLock) {
+                if (inFlight == pending)
+                    inFlight = null;
+                value = finish(started, value);
+            }
+        }
+        pending.complete(value);
+        return value;
+    }
+
+    // waits outside the fetch lock for a fetch run by another caller, and rethrows its failure as is
+    private static <T> T await(@NotNull CompletableFuture<T> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            if (e.getCause() instanceof Error)
+                throw (Error) e.getCause();
+            throw e;
+        }
+    }
+
+    private void refreshInBackground(@NotNull Supplier<T> fetch) {
+
+        if (!refreshing.compareAndSet(false, true))
+            return; // a refresh is already running
+
+        try {
+            refreshExecutor.execute(() -> {
+                Fetch started;
+                synchronized (fetchLock) {
+                    started = start();
+                }
+                T value = null;
+                try {
+                    value = fetch.get();
+                } catch (RuntimeException e) {
+                    log.warn("Background refresh of a cached result failed, the stale result is kept", e);
+                } finally {
+                    synchronized (fetchLock) {
+                        finish(started, value);
+                    }
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.set(false);
+            log.warn("Background refresh of a cached result was rejected by its executor", e);
+        }
+    }
+
+    // must hold the fetch lock
+    private Fetch start() {
+        runningFetches++;
+        return new Fetch(generation, System.nanoTime(), firstUpdate + updates.size());
+    }
+
+    // must hold the fetch lock; replays the updates applied since the fetch started on its result, which is null if
+    // the fetch failed, and caches it unless a result fetched later is cached or the cache was invalidated meanwhile
+    private T finish(@NotNull Fetch started, T value) {
+        try {
+            if (value == null || started.getGeneration() != generation)
+                return value;
+            T updated = value;
+            for (int i = (int) (started.getFirstUpdate() - firstUpdate); i < updates.size(); i++)
+                updated = updates.get(i).apply(updated);
+            Entry<T> current = entry;
+            if (current == null || started.getFetchedAt() - current.getFetchedAt() >= 0)
+                entry = new Entry<>(updated, started.getFetchedAt());
+            return updated;
+        } catch (RuntimeException e) {
+            log.warn("Replaying an update on a fetched result failed, the result is not cached", e);
+            return value;
+        } finally {
+            if (--runningFetches == 0) {
+                firstUpdate += updates.size();
+                updates.clear();
+            }
+        }
+    }
+
+    private boolean isUsable(@NotNull Entry<T> current) {
+        long age = System.nanoTime() - current.getFetchedAt();
+        return age < timeToLiveNanos || age - timeToLiveNanos < staleWhileRevalidateNanos;
+    }
+
+    // durations of about three centuries or more are as good as forever
+    private static long toNanos(@NotNull Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    @Value
+    private static class Entry<T> {
+        T value;
+        long fetchedAt;
+    }
+
+    @Value
+    private static class Fetch {
+        long generation;
+        long fetchedAt;
+        // the number of the first update its result misses
+        long firstUpdate;
+    }
+}
@@ -0,0 +1,555 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.service;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import io.github.eggy03.ferrumx.windows.mapping.CommonMappingInterface;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+/**
+ * A host-local cache of entities shared by every JVM that opens the same file, through a memory-mapped file
+ * <p>
+ * The file holds one slot per entity class. A process that queries an entity class publishes the serialized
+ * entities in its slot, along with the time they were published, and the other processes read them from the mapped
+ * memory instead of starting PowerShell for the same data. Entities older than the maximum age of the caller, or
+ * missing from the file, are queried directly through the given service and published in turn. Typically, a
+ * long-running agent keeps the slots fresh, while short-lived processes, such as a health check, only read them.
+ * </p>
+ * <p>
+ * Slots are versioned like a seqlock. A publisher holds an exclusive {@link FileLock} on the file, makes the
+ * sequence number of the slot odd, writes the entities and makes the sequence number even again. Readers take no
+ * lock: they decode the entities straight from the mapped memory, without copying them out first, and only accept
+ * them if the sequence number was even and unchanged across the read. Since Java 8 offers no memory fences for
+ * mapped buffers, every slot also carries a CRC-32 of its entities, which readers verify while decoding. A read that
+ * keeps overlapping with publications falls back to a direct query.
+ * </p>
+ * <p>
+ * The slot count and capacity are fixed when the file is created, and processes opening an existing file adopt
+ * them. Entities that do not fit in a slot, or classes finding no free slot, are not shared. A file that cannot be
+ * mapped is logged, and the cache then queries every request directly. Instances of this class are thread-safe.
+ * </p>
+ *
+ * <h2>Usage example</h2>
+ * <pre>{@code
+ * try (SharedInventoryCache cache = SharedInventoryCache.open(Paths.get(System.getProperty("java.io.tmpdir"), "ferrumx.cache"))) {
+ *     List<Win32Bios> bios = cache.get(Win32Bios.class, new Win32BiosService(), 10);
+ *     List<Win32LogicalDisk> disks = cache.get(Win32LogicalDisk.class, new Win32LogicalDiskService(), Duration.ofSeconds(30), 10);
+ * }
+ * }</pre>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @see InventorySnapshotStore
+ * @since 4.1.0
+ */
+@Slf4j
+public final class SharedInventoryCache implements Closeable {
+
+    /**
+     * The number of slots of a file created by {@link #open(Path)}
+     */
+    public static final int DEFAULT_SLOT_COUNT = 32;
+
+    /**
+     * The capacity (in bytes) of the serialized entities of a slot in a file created by {@link #open(Path)}
+     */
+    public static final int DEFAULT_SLOT_CAPACITY = 256 * 1024;
+
+    // file header: magic, layout version, slot count and slot capacity, followed by the slots
+    private static final int MAGIC = 0x46584943;
+    private static final int LAYOUT_VERSION = 1;
+    private static final int FILE_HEADER_SIZE = 64;
+
+    // slot header: sequence, publication time, checksum, entity length, key length and key, followed by the entities
+    private static final int SEQUENCE_OFFSET = 0;
+    private static final int PUBLISHED_AT_OFFSET = 8;
+    private static final int CHECKSUM_OFFSET = 16;
+    private static final int LENGTH_OFFSET = 20;
+    private static final int KEY_LENGTH_OFFSET = 24;
+    private static final int KEY_OFFSET = 28;
+    private static final int SLOT_HEADER_SIZE = 256;
+    private static final int KEY_CAPACITY = SLOT_HEADER_SIZE - KEY_OFFSET;
+
+    private static final int READ_ATTEMPTS = 3;
+
+    // file locks are held by the whole JVM, so the threads of a JVM take turns before locking the file
+    private static final Object PUBLISH_LOCK = new Object();
+
+    /**
+     * The file shared by the processes
+     */
+    @Getter
+    @NonNull
+    private final Path file;
+
+    @Nullable
+    private final FileChannel channel;
+
+    @Nullable
+    private final MappedByteBuffer buffer;
+
+    private final int slotCount;
+    private final int slotCapacity;
+    private volatile boolean closed;
+
+    private SharedInventoryCache(@NonNull Path file, @Nullable FileChannel channel, @Nullable MappedByteBuffer buffer, int slotCount, int slotCapacity) {
+        this.file = file;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.slotCount = slotCount;
+        this.slotCapacity = slotCapacity;
+    }
+
+    /**
+     * Opens the cache shared through the given file, creating the file with {@link #DEFAULT_SLOT_COUNT} slots of
+     * {@link #DEFAULT_SLOT_CAPACITY} bytes if it does not exist
+     *
+     * @param file the shared file
+     * @return the cache, which queries every request directly if the file could not be mapped
+     */
+    @NotNull
+    public static SharedInventoryCache open(@NonNull Path file) {
+        return open(file, DEFAULT_SLOT_COUNT, DEFAULT_SLOT_CAPACITY);
+    }
+
+    /**
+     * Opens the cache shared through the given file, creating the file with the given geometry if it does not exist
+     *
+     * @param file         the shared file
+     * @param slotCount    the number of entity classes the file can hold, if it is created
+     * @param slotCapacity the capacity (in bytes) of the serialized entities of a class, if the file is created
+     * @return the cache, which queries every request directly if the file could not be mapped
+     * @throws IllegalArgumentException if the slot count or capacity is not positive, or the file would exceed 2 GiB
+     */
+    @NotNull
+    public static SharedInventoryCache open(@NonNull Path file, int slotCount, int slotCapacity) {
+
+        if (slotCount <= 0 || slotCapacity <= 0)
+            throw new IllegalArgumentException("The slot count and capacity must be positive");
+        if (fileSize(slotCount, slotCapacity) > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("A shared inventory cache cannot exceed 2 GiB");
+
+        FileChannel channel = null;
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            if (directory != null)
+                Files.createDirectories(directory);
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+            int[] geometry;
+            synchronized (PUBLISH_LOCK) {
+                try (FileLock ignored = channel.lock()) {
+                    geometry = readOrCreateHeader(channel, slotCount, slotCapacity);
+                }
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(geometry[0], geometry[1]));
+            log.debug("Opened the shared inventory cache {} with {} slots of {} bytes", file, geometry[0], geometry[1]);
+            return new SharedInventoryCache(file, channel, buffer, geometry[0], geometry[1]);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not map the shared inventory cache {}, every request will be queried directly", file, e);
+            closeQuietly(channel);
+            return new SharedInventoryCache(file, null, null, 0, 0);
+        }
+    }
+
+    /**
+     * Tells whether the cache is shared with other processes
+     *
+     * @return {@code false} if the file could not be mapped or the cache has been closed,
+     * in which case every request is queried directly
+     */
+    public boolean isShared() {
+        return buffer != null && !closed;
+    }
+
+    /**
+     * Returns the entities of the given class from the shared file if they are younger than the time to live of
+     * their {@link CachePolicy#forEntity(Class) default policy}, or retrieves them through the given service
+     * using an isolated PowerShell process with a configurable timeout, and publishes them
+     *
+     * @param entityClass the class of the entities, which identifies their slot
+     * @param service     the service retrieving the entities if the shared file does not hold fresh ones
+     * @param timeout     the maximum time (in seconds) to wait for the PowerShell command to complete
+     *                    before terminating the process
+     * @param <S>         the entity type
+     * @return an immutable list of the entities
+     */
+    @NotNull
+    public <S> List<S> get(@NonNull Class<S> entityClass, @NonNull CommonServiceInterface<S> service, long timeout) {
+        return get(entityClass, service, CachePolicy.forEntity(entityClass).getTimeToLive(), timeout);
+    }
+
+    /**
+     * Returns the entities of the given class from the shared file if they are younger than the given age,
+     * or retrieves them through the given service using an isolated PowerShell process with a configurable timeout,
+     * and publishes them
+     *
+     * @param entityClass the class of the entities, which identifies their slot
+     * @param service     the service retrieving the entities if the shared file does not hold fresh ones
+     * @param maxAge      the maximum age of shared entities, a zero age bypassing the shared file entirely
+     * @param timeout     the maximum time (in seconds) to wait for the PowerShell command to complete
+     *                    before terminating the process
+     * @param <S>         the entity type
+     * @return an immutable list of the entities
+     */
+    @NotNull
+    public <S> List<S> get(@NonNull Class<S> entityClass, @NonNull CommonServiceInterface<S> service, @NonNull Duration maxAge, long timeout) {
+
+        if (maxAge.isZero() || maxAge.isNegative())
+            return service.get(timeout);
+
+        Optional<List<S>> shared = read(entityClass, maxAge);
+        if (shared.isPresent())
+            return shared.get();
+
+        List<S> entities = Collections.unmodifiableList(service.get(timeout));
+        publish(entityClass, entities);
+        return entities;
+    }
+
+    /**
+     * Returns the entity of the given class from the shared file if it is younger than the time to live of
+     * its {@link CachePolicy#forEntity(Class) default policy}, or retrieves it through the given service
+     * using an isolated PowerShell process with a configurable timeout, and publishes it
+     *
+     * @param entityClass the class of the entity, which identifies its slot
+     * @param service     the service retrieving the entity if the shared file does not hold a fresh one
+     * @param timeout     the maximum time (in seconds) to wait for the PowerShell command to complete
+     *                    before terminating the process
+     * @param <S>         the entity type
+     * @return an {@link Optional} of the entity, which is empty if the service found none
+     */
+    @NotNull
+    public <S> Optional<S> getOptional(@NonNull Class<S> entityClass, @NonNull OptionalCommonServiceInterface<S> service, long timeout) {
+        return getOptional(entityClass, service, CachePolicy.forEntity(entityClass).getTimeToLive(), timeout);
+    }
+
+    /**
+     * Returns the entity of the given class from the shared file if it is younger than the given age,
+     * or retrieves it through the given service using an isolated PowerShell process with a configurable timeout,
+     * and publishes it
+     *
+     * @param entityClass the class of the entity, which identifies its slot
+     * @param service     the service retrieving the entity if the shared file does not hold a fresh one
+     * @param maxAge      the maximum age of a shared entity, a zero age bypassing the shared file entirely
+     * @param timeout     the maximum time (in seconds) to wait for the PowerShell command to complete
+     *                    before terminating the process
+     * @param <S>         the entity type
+     * @return an {@link Optional} of the entity, which is empty if the service found none
+     */
+    @NotNull
+    public <S> Optional<S> getOptional(@NonNull Class<S> entityClass, @NonNull OptionalCommonServiceInterface<S> service, @NonNull Duration maxAge, long timeout) {
+
+        if (maxAge.isZero() || maxAge.isNegative())
+            return service.get(timeout);
+
+        Optional<List<S>> shared = read(entityClass, maxAge);
+        if (shared.isPresent())
+            return shared.get().isEmpty() ? Optional.empty() : Optional.ofNullable(shared.get().get(0));
+
+        Optional<S> entity = service.get(timeout);
+        publish(entityClass, entity.isPresent() ? Collections.singletonList(entity.get()) : Collections.<S>emptyList());
+        return entity;
+    }
+
+    /**
+     * Reads the entities of the given class from the shared file, without querying them
+     *
+     * @param entityClass the class of the entities, which identifies their slot
+     * @param maxAge      the maximum age of the entities
+     * @param <S>         the entity type
+     * @return an {@link Optional} of an immutable list of the entities, which is empty if the shared file holds
+     * no entities of the class younger than the given age, or if they could not be read consistently
+     */
+    @NotNull
+    @SuppressWarnings("unchecked") // the slot holds entities of the class it is keyed by
+    public <S> Optional<List<S>> read(@NonNull Class<S> entityClass, @NonNull Duration maxAge) {
+
+        if (!isShared())
+            return Optional.empty();
+
+        Type listType = TypeToken.getParameterized(List.class, entityClass).getType();
+        List<S> entities = (List<S>) readSlot(key(entityClass), toMillis(maxAge), listType);
+        return entities == null ? Optional.empty() : Optional.of(Collections.unmodifiableList(entities));
+    }
+
+    /**
+     * Publishes the given entities in the slot of their class, for every process sharing the file to read
+     *
+     * @param entityClass the class of the entities, which identifies their slot
+     * @param entities    the entities
+     * @param <S>         the entity type
+     * @return {@code true} if the entities were published, {@code false} if they do not fit in a slot,
+     * no slot is left for their class, or the cache is not {@link #isShared() shared}
+     */
+    public <S> boolean publish(@NonNull Class<S> entityClass, @NonNull List<S> entities) {
+
+        if (!isShared())
+            return false;
+
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(serialized, StandardCharsets.UTF_8)) {
+            CommonMappingInterface.GSON.toJson(entities, List.class, writer);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not serialize the entities in memory", e); // no I/O is involved
+        }
+        return writeSlot(key(entityClass), serialized.toByteArray());
+    }
+
+    /**
+     * Closes the shared file, after which every request is queried directly
+     * <p>
+     * The mapping itself is only released once it is garbage collected, since Java 8 cannot unmap files.
+     * </p>
+     */
+    @Override
+    public void close() {
+        closed = true;
+        closeQuietly(channel);
+    }
+
+    @Nullable
+    private Object readSlot(@NotNull byte[] key, long maxAgeMillis, @NotNull Type type) {
+
+        for (int attempt = 0; attempt < READ_ATTEMPTS; attempt++) {
+
+            int slot = findSlot(key);
+            if (slot < 0)
+                return null;
+
+            int base = slotOffset(slot);
+            long sequence = buffer.getLong(base + SEQUENCE_OFFSET);
+            if (sequence == 0)
+                return null; // claimed, but not published yet
+            if ((sequence & 1) != 0) {
+                Thread.yield(); // a publication is in progress
+                continue;
+            }
+
+            long age = System.currentTimeMillis() - buffer.getLong(base + PUBLISHED_AT_OFFSET);
+            int checksum = buffer.getInt(base + CHECKSUM_OFFSET);
+            int length = buffer.getInt(base + LENGTH_OFFSET);
+            if (age < 0 || age > maxAgeMillis)
+                return null;
+            if (length < 0 || length > slotCapacity)
+                continue; // a publication started after the sequence was read
+
+            ByteBuffer payload = buffer.duplicate();
+            payload.position(base + SLOT_HEADER_SIZE);
+            payload.limit(base + SLOT_HEADER_SIZE + length);
+
+            CRC32 crc = new CRC32();
+            Object value;
+            try (Reader reader = new InputStreamReader(new CheckedInputStream(new ByteBufferInputStream(payload), crc), StandardCharsets.UTF_8)) {
+                value = CommonMappingInterface.GSON.fromJson(reader, type);
+                drain(reader); // the checksum covers the whole payload
+            } catch (JsonParseException | IOException e) {
+                value = null; // torn by a publication, or malformed
+            }
+
+            if (buffer.getLong(base + SEQUENCE_OFFSET) != sequence || (int) crc.getValue() != checksum)
+                continue;
+            if (value == null)
+                log.warn("Ignoring the malformed entities of slot {} in the shared inventory cache {}", slot, file);
+            return value;
+        }
+        log.debug("Could not read a consistent snapshot from the shared inventory cache {}", file);
+        return null;
+    }
+
+    private boolean writeSlot(@NotNull byte[] key, @NotNull byte[] data) {
+
+        if (key.length > KEY_CAPACITY || data.length > slotCapacity) {
+            log.debug("Not sharing {} bytes of entities, which exceed the slots of the shared inventory cache {}", data.length, file);
+            return false;
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length);
+
+        synchronized (PUBLISH_LOCK) {
+            try (FileLock ignored = channel.lock()) {
+
+                int slot = findSlot(key);
+                boolean claimed = slot < 0;
+                if (claimed)
+                    slot = findFreeSlot();
+                if (slot < 0) {
+                    log.warn("No free slot is left in the shared inventory cache {}", file);
+                    return false;
+                }
+
+                int base = slotOffset(slot);
+                long sequence = buffer.getLong(base + SEQUENCE_OFFSET);
+                long writing = (sequence & 1) == 0 ? sequence + 1 : sequence + 2; // a crashed publisher may have left it odd
+                buffer.putLong(base + SEQUENCE_OFFSET, writing);
+
+                if (claimed) {
+                    ByteBuffer keyRegion = buffer.duplicate();
+                    keyRegion.position(base + KEY_OFFSET);
+                    keyRegion.put(key);
+                    buffer.putInt(base + KEY_LENGTH_OFFSET, key.length);
+                }
+                ByteBuffer payload = buffer.duplicate();
+                payload.position(base + SLOT_HEADER_SIZE);
+                payload.put(data);
+                buffer.putLong(base + PUBLISHED_AT_OFFSET, System.currentTimeMillis());
+                buffer.putInt(base + CHECKSUM_OFFSET, (int) crc.getValue());
+                buffer.putInt(base + LENGTH_OFFSET, data.length);
+
+                buffer.putLong(base + SEQUENCE_OFFSET, writing + 1);
+                return true;
+            } catch (IOException | OverlappingFileLockException e) {
+                log.warn("Could not publish to the shared inventory cache {}", file, e);
+                return false;
+            }
+        }
+    }
+
+    private int findSlot(@NotNull byte[] key) {
+        for (int slot = 0; slot < slotCount; slot++) {
+            int base = slotOffset(slot);
+            if (buffer.getInt(base + KEY_LENGTH_OFFSET) == key.length && keyEquals(base, key))
+                return slot;
+        }
+        return -1;
+    }
+
+    // must hold the file lock
+    private int findFreeSlot() {
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (buffer.getInt(slotOffset(slot) + KEY_LENGTH_OFFSET) == 0)
+                return slot;
+        }
+        return -1;
+    }
+
+    private boolean keyEquals(int base, @NotNull byte[] key) {
+        for (int i = 0; i < key.length; i++) {
+            if (buffer.get(base + KEY_OFFSET + i) != key[i])
+                return false;
+        }
+        return true;
+    }
+
+    private int slotOffset(int slot) {
+        return FILE_HEADER_SIZE + slot * (SLOT_HEADER_SIZE + slotCapacity);
+    }
+
+    @NotNull
+    private static byte[] key(@NotNull Class<?> entityClass) {
+        return entityClass.getName().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long fileSize(int slotCount, int slotCapacity) {
+        return FILE_HEADER_SIZE + (long) slotCount * (SLOT_HEADER_SIZE + slotCapacity);
+    }
+
+    // must hold the file lock; returns the slot count and capacity of the file
+    @NotNull
+    private static int[] readOrCreateHeader(@NotNull FileChannel channel, int slotCount, int slotCapacity) throws IOException {
+
+        ByteBuffer header = ByteBuffer.allocate(16);
+        channel.read(header, 0);
+        int magic = header.getInt(0); // zero for an empty file
+        if (magic == MAGIC && header.getInt(4) == LAYOUT_VERSION) {
+            int existingCount = header.getInt(8);
+            int existingCapacity = header.getInt(12);
+            if (existingCount > 0 && existingCapacity > 0 && channel.size() >= fileSize(existingCount, existingCapacity))
+                return new int[]{existingCount, existingCapacity};
+        }
+        if (magic != 0)
+            throw new IOException("The file is not a shared inventory cache of this version");
+
+        // a new file, whose slots are zeroed by growing it
+        channel.write(ByteBuffer.wrap(new byte[1]), fileSize(slotCount, slotCapacity) - 1);
+        header.clear();
+        header.putInt(MAGIC).putInt(LAYOUT_VERSION).putInt(slotCount).putInt(slotCapacity).flip();
+        channel.write(header, 0);
+        return new int[]{slotCount, slotCapacity};
+    }
+
+    // durations of about three hundred million years or more are as good as forever
+    private static long toMillis(@NotNull Duration duration) {
+        try {
+            return duration.toMillis();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static void drain(@NotNull Reader reader) throws IOException {
+        char[] skipped = new char[256];
+        while (reader.read(skipped) != -1) {
+            // the characters are only read for their checksum
+        }
+    }
+
+    private static void closeQuietly(@Nullable FileChannel channel) {
+        if (channel == null)
+            return;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("Could not close the shared inventory cache", e);
+        }
+    }
+
+    // reads the entities straight from the mapped memory
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(@NotNull ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(@NotNull byte[] bytes, int offset, int length) {
+            if (length == 0)
+                return 0;
+            if (!buffer.hasRemaining())
+                return -1;
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.service;
+
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
+import io.github.eggy03.ferrumx.windows.mapping.CommonMappingInterface;
+
+import java.io.Reader;
+import java.util.function.Consumer;
+
+/**
+ * Service interface whose method implementations hand WMI entities to a callback one at a time,
+ * while the PowerShell output is still being decoded
+ * <p>
+ * Useful for implementing services of classes which may return thousands of instances
+ * such as the {@code Win32_Process} or {@code Win32_PnPEntity} WMI classes,
+ * where collecting the whole output into a {@link java.util.List} first would multiply the memory footprint.
+ * </p>
+ *
+ * @param <S> the entity type returned by the service implementation
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @see CommonServiceInterface
+ * @since 4.1.0
+ */
+public interface StreamingServiceInterface<S> {
+
+    /**
+     * Implementations of this method are expected to run their query through
+     * {@link CommandExecutor#execute(String, long, Consumer)} and decode its output with
+     * {@link CommonMappingInterface#mapEach(Reader, Class, Consumer)},
+     * handing every entity to the action as soon as it has been decoded
+     * <p>
+     * The action is invoked on the calling thread. If the query fails or times out,
+     * the entities decoded until then have already been handed to the action.
+     * </p>
+     *
+     * @param timeout the maximum time (in seconds) to wait for the PowerShell command to complete before terminating the process
+     * @param action  the action invoked with every entity of type {@code <S>}, in the order they are returned by PowerShell
+     * @since 4.1.0
+     */
+    void forEach(long timeout, Consumer<? super S> action);
+}
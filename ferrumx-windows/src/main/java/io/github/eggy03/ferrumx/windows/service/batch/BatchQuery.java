@@ -0,0 +1,101 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.service.batch;
+
+import io.github.eggy03.ferrumx.windows.constant.PowerShellScript;
+import io.github.eggy03.ferrumx.windows.constant.namespace.Cimv2Namespace;
+import io.github.eggy03.ferrumx.windows.constant.namespace.StandardCimv2Namespace;
+import io.github.eggy03.ferrumx.windows.mapping.CommonMappingInterface;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A typed query that can be added to a {@link CimQueryBatch}.
+ * <p>
+ * Pairs the PowerShell query with the mapper and entity class its output is routed to,
+ * and doubles as the key under which the mapped result is looked up in the {@link BatchResult}.
+ * Instances are compared by identity, so the same instance must be used to add a query and to read its result.
+ * </p>
+ * <p>
+ * Instances of this class are immutable and thread-safe.
+ * </p>
+ *
+ * <h2>Usage example</h2>
+ * <pre>{@code
+ * BatchQuery<Win32Bios> bios = BatchQuery.of(Cimv2Namespace.WIN32_BIOS_QUERY, new Win32BiosMapper(), Win32Bios.class);
+ * }</pre>
+ *
+ * @param <S> the entity type the query output is mapped to
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class BatchQuery<S> {
+
+    /**
+     * The PowerShell command or script whose JSON output is mapped
+     */
+    @NonNull
+    private final String query;
+
+    /**
+     * The mapper that converts the JSON output of the query
+     */
+    @NonNull
+    private final CommonMappingInterface<S> mapper;
+
+    /**
+     * The entity class the JSON output of the query is mapped to
+     */
+    @NonNull
+    private final Class<S> entityClass;
+
+    /**
+     * Creates a batch query for a class in the {@code root/cimv2} namespace
+     *
+     * @param query       the query constant
+     * @param mapper      the mapper that converts the JSON output of the query
+     * @param entityClass the entity class the JSON output of the query is mapped to
+     * @param <S>         the entity type
+     * @return the batch query
+     */
+    @NotNull
+    public static <S> BatchQuery<S> of(@NonNull Cimv2Namespace query, @NonNull CommonMappingInterface<S> mapper, @NonNull Class<S> entityClass) {
+        return new BatchQuery<>(query.getQuery(), mapper, entityClass);
+    }
+
+    /**
+     * Creates a batch query for a class in the {@code root/StandardCimv2} namespace
+     *
+     * @param query       the query constant
+     * @param mapper      the mapper that converts the JSON output of the query
+     * @param entityClass the entity class the JSON output of the query is mapped to
+     * @param <S>         the entity type
+     * @return the batch query
+     */
+    @NotNull
+    public static <S> BatchQuery<S> of(@NonNull StandardCimv2Namespace query, @NonNull CommonMappingInterface<S> mapper, @NonNull Class<S> entityClass) {
+        return new BatchQuery<>(query.getQuery(), mapper, entityClass);
+    }
+
+    /**
+     * Creates a batch query that runs one of the predefined PowerShell scripts
+     *
+     * @param script      the script constant
+     * @param mapper      the mapper that converts the JSON output of the script
+     * @param entityClass the entity class the JSON output of the script is mapped to
+     * @param <S>         the entity type
+     * @return the batch query
+     */
+    @NotNull
+    public static <S> BatchQuery<S> of(@NonNull PowerShellScript script, @NonNull CommonMappingInterface<S> mapper, @NonNull Class<S> entityClass) {
+        return new BatchQuery<>(PowerShellScript.getScript(script.getScriptPath()), mapper, entityClass);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.service.batch;
+
+import io.github.eggy03.ferrumx.windows.exception.TerminalExecutionException;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The outcome of a {@link CimQueryBatch} execution, holding either the mapped entities
+ * or the failure of every query in the batch.
+ * <p>
+ * The failure of one query does not affect the results of the other queries.
+ * Instances of this class are immutable and thread-safe.
+ * </p>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+public final class BatchResult {
+
+    private final Map<BatchQuery<?>, List<?>> results;
+    private final Map<BatchQuery<?>, RuntimeException> failures;
+
+    BatchResult(@NotNull Map<BatchQuery<?>, List<?>> results, @NotNull Map<BatchQuery<?>, RuntimeException> failures) {
+        this.results = Collections.unmodifiableMap(new IdentityHashMap<>(results));
+        this.failures = Collections.unmodifiableMap(new IdentityHashMap<>(failures));
+    }
+
+    /**
+     * Returns the entities mapped from the output of the given query
+     *
+     * @param query the query, as added to the batch
+     * @param <S>   the entity type of the query
+     * @return an immutable list of the mapped entities. Returns an empty list if the query found no instances.
+     * @throws TerminalExecutionException if the query failed in PowerShell, with the PowerShell error as message
+     * @throws RuntimeException           the exception thrown by the mapper, if the output of the query could not be mapped
+     * @throws IllegalArgumentException   if the query was not part of the batch
+     */
+    @NotNull
+    @SuppressWarnings("unchecked") // the list was mapped with the entity class of the query
+    public <S> List<S> get(@NonNull BatchQuery<S> query) {
+
+        RuntimeException failure = failures.get(query);
+        if (failure != null)
+            throw failure;
+
+        List<?> result = results.get(query);
+        if (result == null)
+            throw new IllegalArgumentException("Query was not part of the batch: " + query.getQuery());
+
+        return (List<S>) result;
+    }
+
+    /**
+     * Returns the failure of the given query, if any
+     *
+     * @param query the query, as added to the batch
+     * @return an {@link Optional} containing the failure of the query, or {@link Optional#empty()} if it succeeded
+     * @throws IllegalArgumentException if the query was not part of the batch
+     */
+    @NotNull
+    public Optional<RuntimeException> getFailure(@NonNull BatchQuery<?> query) {
+
+        if (!failures.containsKey(query) && !results.containsKey(query))
+            throw new IllegalArgumentException("Query was not part of the batch: " + query.getQuery());
+
+        return Optional.ofNullable(failures.get(query));
+    }
+
+    /**
+     * Checks whether the given query succeeded
+     *
+     * @param query the query, as added to the batch
+     * @return {@code true} if the output of the query was mapped successfully
+     * @throws IllegalArgumentException if the query was not part of the batch
+     */
+    public boolean isSuccessful(@NonNull BatchQuery<?> query) {
+        return !getFailure(query).isPresent();
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.service.batch;
+
+import io.github.eggy03.ferrumx.windows.exception.TerminalExecutionException;
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
+import io.github.eggy03.ferrumx.windows.executor.TerminalCommandExecutor;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Runs several queries in a single PowerShell invocation and routes the output of each query to its own mapper.
+ * <p>
+ * Every query launched through {@link io.github.eggy03.ferrumx.windows.service.CommonServiceInterface#get(long)}
+ * pays for a PowerShell process start-up, which usually takes longer than the query itself.
+ * A batch pays for it once: all queries are written into one script, each in its own script block
+ * framed by marker lines, and the framed output is split back into one section per query.
+ * </p>
+ * <p>
+ * Each query runs with {@code $ErrorActionPreference = 'Stop'} inside its own {@code try/catch}, so a query
+ * that fails in PowerShell only fails its own section. The error is reported through the {@link BatchResult}
+ * while the remaining queries still complete. Failures that affect the whole invocation,
+ * such as a timeout, are thrown by {@link #execute(long)}.
+ * </p>
+ * <p>
+ * The batch is not thread-safe while queries are being added, but {@link #execute(long)} may be
+ * called any number of times once the batch is set up.
+ * </p>
+ *
+ * <h2>Usage example</h2>
+ * <pre>{@code
+ * BatchQuery<Win32Bios> bios = BatchQuery.of(Cimv2Namespace.WIN32_BIOS_QUERY, new Win32BiosMapper(), Win32Bios.class);
+ * BatchQuery<Win32Processor> cpu = BatchQuery.of(Cimv2Namespace.WIN32_PROCESSOR_QUERY, new Win32ProcessorMapper(), Win32Processor.class);
+ *
+ * BatchResult result = new CimQueryBatch()
+ *         .add(bios)
+ *         .add(cpu)
+ *         .execute(10);
+ *
+ * List<Win32Bios> biosList = result.get(bios);
+ * List<Win32Processor> processors = result.get(cpu);
+ * }</pre>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@Slf4j
+public class CimQueryBatch {
+
+    private static final String MARKER_PREFIX = "<<ferrumx:";
+    private static final String MARKER_SUFFIX = ">>";
+
+    @NonNull
+    private final CommandExecutor commandExecutor;
+
+    private final List<BatchQuery<?>> queries = new ArrayList<>();
+
+    /**
+     * Creates a batch that launches an isolated PowerShell process per execution
+     * through {@link TerminalCommandExecutor}
+     */
+    public CimQueryBatch() {
+        this(new TerminalCommandExecutor());
+    }
+
+    /**
+     * Creates a batch that runs its script through the given executor
+     *
+     * @param commandExecutor the executor used to run the batch script
+     */
+    public CimQueryBatch(@NonNull CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
+    /**
+     * Adds a query to the batch. Adding the same query instance twice has no effect.
+     *
+     * @param query the query to add
+     * @return this batch
+     */
+    @NotNull
+    public CimQueryBatch add(@NonNull BatchQuery<?> query) {
+        for (BatchQuery<?> added : queries) {
+            if (added == query)
+                return this;
+        }
+        queries.add(query);
+        return this;
+    }
+
+    /**
+     * Returns the queries added to the batch
+     *
+     * @return an immutable list of the queries, in the order they were added
+     */
+    @NotNull
+    public List<BatchQuery<?>> getQueries() {
+        return Collections.unmodifiableList(new ArrayList<>(queries));
+    }
+
+    /**
+     * Runs all queries of the batch in a single PowerShell invocation.
+     *
+     * @param timeout the maximum time (in seconds) to wait for the whole batch to complete
+     * @return the result of every query in the batch
+     * @throws IllegalStateException      if no queries were added to the batch
+     * @throws TerminalExecutionException if the invocation itself fails or times out,
+     *                                    or if its output does not contain the section of every query
+     */
+    @NotNull
+    public BatchResult execute(long timeout) {
+
+        if (queries.isEmpty())
+            throw new IllegalStateException("The batch does not contain any queries");
+
+        // a fresh nonce per execution keeps the markers from colliding with anything a query may print
+        String nonce = UUID.randomUUID().toString();
+        List<BatchQuery<?>> snapshot = new ArrayList<>(queries);
+
+        String response = commandExecutor.execute(buildScript(snapshot, nonce), timeout);
+        log.trace("PowerShell response for the batch of {} queries: \n{}", snapshot.size(), response);
+
+        return parseResponse(snapshot, nonce, response);
+    }
+
+    @NotNull
+    static String buildScript(@NotNull List<BatchQuery<?>> queries, @NotNull String nonce) {
+
+        StringBuilder script = new StringBuilder("$ErrorActionPreference = 'Stop'\n");
+        for (int i = 0; i < queries.size(); i++) {
+            script.append("Write-Output '").append(sectionMarker(nonce, i)).append("'\n")
+                    .append("try {\n")
+                    .append("& {\n").append(queries.get(i).getQuery().trim()).append("\n}\n")
+                    .append("} catch {\n")
+                    .append("Write-Output '").append(errorMarker(nonce, i)).append("'\n")
+                    .append("Write-Output $_.Exception.Message\n")
+                    .append("}\n");
+        }
+        script.append("Write-Output '").append(endMarker(nonce)).append("'\n");
+        return script.toString();
+    }
+
+    @NotNull
+    static BatchResult parseResponse(@NotNull List<BatchQuery<?>> queries, @NotNull String nonce, @NotNull String response) {
+
+        String[] outputs = new String[queries.size()];
+        String[] errors = new String[queries.size()];
+        boolean ended = false;
+
+        StringBuilder current = null;
+        int currentIndex = -1;
+        boolean currentIsError = false;
+
+        for (String line : response.split("\r?\n", -1)) {
+
+            int sectionIndex = markerIndex(line, nonce, "section:");
+            int errorIndex = markerIndex(line, nonce, "error:");
+            boolean end = line.trim().equals(endMarker(nonce));
+
+            if (sectionIndex < 0 && errorIndex < 0 && !end) {
+                if (current != null)
+                    current.append(line).append('\n');
+                continue;
+            }
+
+            store(current, currentIndex, currentIsError, outputs, errors);
+            current = null;
+
+            if (end) {
+                ended = true;
+                break;
+            }
+
+            if (errorIndex >= 0) {
+                currentIndex = errorIndex;
+                currentIsError = true;
+            } else {
+                currentIndex = sectionIndex;
+                currentIsError = false;
+            }
+            current = new StringBuilder();
+        }
+        store(current, currentIndex, currentIsError, outputs, errors);
+
+        Map<BatchQuery<?>, List<?>> results = new IdentityHashMap<>();
+        Map<BatchQuery<?>, RuntimeException> failures = new IdentityHashMap<>();
+
+        for (int i = 0; i < queries.size(); i++) {
+            BatchQuery<?> query = queries.get(i);
+
+            if (errors[i] != null) {
+                failures.put(query, new TerminalExecutionException("Batched query failed: " + query.getQuery() + "\nTerminal Error Output: " + errors[i].trim()));
+            } else if (outputs[i] == null) {
+                throw new TerminalExecutionException("The batch output does not contain a section for the query: " + query.getQuery()
+                        + (ended ? "" : "\nThe batch output ended prematurely"));
+            } else {
+                try {
+                    results.put(query, map(query, outputs[i]));
+                } catch (RuntimeException e) {
+                    failures.put(query, e);
+                }
+            }
+        }
+
+        return new BatchResult(results, failures);
+    }
+
+    private static <S> List<S> map(@NotNull BatchQuery<S> query, @NotNull String output) {
+        return query.getMapper().mapToList(output, query.getEntityClass());
+    }
+
+    private static void store(StringBuilder section, int index, boolean isError, String[] outputs, String[] errors) {
+
+        if (section == null || index >= outputs.length)
+            return;
+
+        if (isError)
+            errors[index] = section.toString();
+        else
+            outputs[index] = section.toString();
+    }
+
+    private static int markerIndex(@NotNull String line, @NotNull String nonce, @NotNull String kind) {
+
+        String prefix = MARKER_PREFIX + nonce + ":" + kind;
+        String trimmed = line.trim();
+        if (!trimmed.startsWith(prefix) || !trimmed.endsWith(MARKER_SUFFIX))
+            return -1;
+
+        try {
+            return Integer.parseInt(trimmed.substring(prefix.length(), trimmed.length() - MARKER_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String sectionMarker(String nonce, int index) {
+        return MARKER_PREFIX + nonce + ":section:" + index + MARKER_SUFFIX;
+    }
+
+    private static String errorMarker(String nonce, int index) {
+        return MARKER_PREFIX + nonce + ":error:" + index + MARKER_SUFFIX;
+    }
+
+    private static String endMarker(String nonce) {
+        return MARKER_PREFIX + nonce + ":end" + MARKER_SUFFIX;
+    }
+}
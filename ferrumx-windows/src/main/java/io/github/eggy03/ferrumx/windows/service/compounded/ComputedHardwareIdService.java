@@ -0,0 +1,253 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.service.compounded;
+
+import com.profesorfalken.jpowershell.PowerShell;
+import io.github.eggy03.ferrumx.windows.constant.PowerShellScript;
+import io.github.eggy03.ferrumx.windows.entity.compounded.HardwareId;
+import io.github.eggy03.ferrumx.windows.entity.mainboard.Win32Baseboard;
+import io.github.eggy03.ferrumx.windows.entity.mainboard.Win32Bios;
+import io.github.eggy03.ferrumx.windows.entity.processor.Win32Processor;
+import io.github.eggy03.ferrumx.windows.service.CachePolicy;
+import io.github.eggy03.ferrumx.windows.service.CachingService;
+import io.github.eggy03.ferrumx.windows.service.CommonServiceInterface;
+import io.github.eggy03.ferrumx.windows.service.OptionalCommonServiceInterface;
+import io.github.eggy03.ferrumx.windows.service.mainboard.Win32BaseboardService;
+import io.github.eggy03.ferrumx.windows.service.mainboard.Win32BiosService;
+import io.github.eggy03.ferrumx.windows.service.processor.Win32ProcessorService;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Service class computing the HWID information in Java, from the {@code Win32_BIOS}, {@code Win32_BaseBoard}
+ * and {@code Win32_Processor} entities returned by other services
+ * <p>
+ * The {@link HardwareId} is built the way the {@link PowerShellScript#HWID_SCRIPT} of {@link HardwareIdService}
+ * builds it: the identifying properties listed by {@link HardwareId} are trimmed, sorted and joined with {@code |},
+ * and the SHA-256 hash of the joined string is formatted in {@code 8-4-4-4-12-16-16} groups. The identifiers are
+ * sorted the way {@code Sort-Object} sorts them by default, case-insensitively and ignoring hyphens first,
+ * rather than by their character codes. Identifiers that only differ by case keep the order they were listed in,
+ * which {@code Sort-Object} does not define.
+ * </p>
+ * <p>
+ * Unlike {@link HardwareIdService}, which runs a whole script on every call, this service only costs the queries of
+ * the component services it is created with. When these are {@link CachingService cached}, as they are with the
+ * default constructor, the HWID is computed from the cached entities without starting PowerShell. The first call
+ * still runs three queries, so {@link HardwareIdService} remains cheaper for a one-off HWID.
+ * </p>
+ * <p>
+ * This class is thread-safe if the component services are. {@link #get()} and {@link #get(PowerShell)} share the
+ * concurrency restrictions of the jPowerShell-based methods of the component services.
+ * </p>
+ *
+ * <h2>Usage example</h2>
+ * <pre>{@code
+ * // Computed from the services of an application that already caches its hardware inventory
+ * ComputedHardwareIdService service = new ComputedHardwareIdService(biosService, baseboardService, processorService);
+ * Optional<HardwareId> hwid = service.get(10);
+ *
+ * // Computed from entities at hand
+ * Optional<HardwareId> same = ComputedHardwareIdService.compute(bios, baseboards, processors);
+ * }</pre>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @see HardwareIdService
+ * @since 4.1.0
+ */
+public class ComputedHardwareIdService implements OptionalCommonServiceInterface<HardwareId> {
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    private static final int[] HASH_GROUPS = {8, 4, 4, 4, 12, 16, 16};
+
+    // like Sort-Object, ignores case entirely rather than ordering lowercase first; Collator.compare is synchronized
+    private static final Collator ORDER = Collator.getInstance(Locale.ROOT);
+
+    static {
+        ORDER.setStrength(Collator.SECONDARY);
+    }
+
+    @NonNull
+    private final CommonServiceInterface<Win32Bios> biosService;
+
+    @NonNull
+    private final CommonServiceInterface<Win32Baseboard> baseboardService;
+
+    @NonNull
+    private final CommonServiceInterface<Win32Processor> processorService;
+
+    /**
+     * Creates a service computing the HWID from the entities of {@link Win32BiosService}, {@link Win32BaseboardService}
+     * and {@link Win32ProcessorService}, each cached under its default {@link CachePolicy}
+     */
+    public ComputedHardwareIdService() {
+        this(new CachingService<>(new Win32BiosService(), Win32Bios.class),
+                new CachingService<>(new Win32BaseboardService(), Win32Baseboard.class),
+                new CachingService<>(new Win32ProcessorService(), Win32Processor.class));
+    }
+
+    /**
+     * Creates a service computing the HWID from the entities of the given services
+     *
+     * @param biosService      the service returning the {@code Win32_BIOS} entities
+     * @param baseboardService the service returning the {@code Win32_BaseBoard} entities
+     * @param processorService the service returning the {@code Win32_Processor} entities
+     */
+    public ComputedHardwareIdService(@NonNull CommonServiceInterface<Win32Bios> biosService,
+                                     @NonNull CommonServiceInterface<Win32Baseboard> baseboardService,
+                                     @NonNull CommonServiceInterface<Win32Processor> processorService) {
+        this.biosService = biosService;
+        this.baseboardService = baseboardService;
+        this.processorService = processorService;
+    }
+
+    /**
+     * Computes the HWID from the entities returned by the {@link CommonServiceInterface#get()} method
+     * of the component services
+     *
+     * @return an {@link Optional} of {@link HardwareId} representing the HWID.
+     * Returns {@link Optional#empty()} if no information is detected.
+     */
+    @NotNull
+    @Override
+    public Optional<HardwareId> get() {
+        return compute(biosService.get(), baseboardService.get(), processorService.get());
+    }
+
+    /**
+     * Computes the HWID from the entities returned by the {@link CommonServiceInterface#get(PowerShell)} method
+     * of the component services, using the caller's {@link PowerShell} session
+     *
+     * @param powerShell an existing PowerShell session managed by the caller
+     * @return an {@link Optional} of {@link HardwareId} representing the HWID.
+     * Returns {@link Optional#empty()} if no information is detected.
+     */
+    @NotNull
+    @Override
+    public Optional<HardwareId> get(@NonNull PowerShell powerShell) {
+        return compute(biosService.get(powerShell), baseboardService.get(powerShell), processorService.get(powerShell));
+    }
+
+    /**
+     * Computes the HWID from the entities returned by the {@link CommonServiceInterface#get(long)} method
+     * of the component services
+     *
+     * @param timeout the maximum time (in seconds) to wait for each PowerShell command to complete
+     *                before terminating the process
+     * @return an {@link Optional} of {@link HardwareId} representing the HWID.
+     * Returns {@link Optional#empty()} if no information is detected.
+     */
+    @NotNull
+    @Override
+    public Optional<HardwareId> get(long timeout) {
+        return compute(biosService.get(timeout), baseboardService.get(timeout), processorService.get(timeout));
+    }
+
+    /**
+     * Computes the HWID from the given entities, as described by {@link ComputedHardwareIdService}
+     *
+     * @param bios       the {@code Win32_BIOS} entities
+     * @param baseboards the {@code Win32_BaseBoard} entities
+     * @param processors the {@code Win32_Processor} entities
+     * @return an {@link Optional} of {@link HardwareId} representing the HWID.
+     * Returns {@link Optional#empty()} if none of the entities has an identifying property.
+     */
+    @NotNull
+    public static Optional<HardwareId> compute(@NonNull List<Win32Bios> bios, @NonNull List<Win32Baseboard> baseboards,
+                                               @NonNull List<Win32Processor> processors) {
+
+        List<String> ids = new ArrayList<>();
+        for (Win32Processor processor : processors)
+            add(ids, processor.getProcessorId());
+        for (Win32Bios biosEntity : bios) {
+            add(ids, biosEntity.getSmbiosBiosVersion());
+            add(ids, biosEntity.getSmbiosMajorVersion());
+            add(ids, biosEntity.getSmbiosMinorVersion());
+            add(ids, biosEntity.getSystemBiosMajorVersion());
+            add(ids, biosEntity.getSystemBiosMinorVersion());
+        }
+        for (Win32Baseboard baseboard : baseboards) {
+            add(ids, baseboard.getManufacturer());
+            add(ids, baseboard.getModel());
+            add(ids, baseboard.getOtherIdentifyingInfo());
+            add(ids, baseboard.getPartNumber());
+            add(ids, baseboard.getSerialNumber());
+            add(ids, baseboard.getSku());
+            add(ids, baseboard.getVersion());
+            add(ids, baseboard.getProduct());
+        }
+        if (ids.isEmpty())
+            return Optional.empty();
+
+        ids.sort(ORDER);
+        String rawHWID = String.join("|", ids);
+        return Optional.of(HardwareId.builder()
+                .rawHWID(rawHWID)
+                .hashHWID(formatHash(sha256(rawHWID)))
+                .build());
+    }
+
+    // like the script, null values are skipped while empty ones are kept
+    private static void add(@NotNull List<String> ids, @Nullable Object value) {
+        if (value != null)
+            ids.add(trim(value.toString()));
+    }
+
+    // trims the characters .NET's String.Trim() does, which String.trim() does not all match
+    @NotNull
+    private static String trim(@NotNull String value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && isDotNetWhitespace(value.charAt(start)))
+            start++;
+        while (end > start && isDotNetWhitespace(value.charAt(end - 1)))
+            end--;
+        return value.substring(start, end);
+    }
+
+    private static boolean isDotNetWhitespace(char c) {
+        return Character.isSpaceChar(c) || (c >= '\t' && c <= '\r') || c == '\u0085';
+    }
+
+    @NotNull
+    private static byte[] sha256(@NotNull String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    @NotNull
+    private static String formatHash(@NotNull byte[] hash) {
+
+        char[] hex = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            hex[2 * i] = HEX_DIGITS[(hash[i] >> 4) & 0xF];
+            hex[2 * i + 1] = HEX_DIGITS[hash[i] & 0xF];
+        }
+
+        StringBuilder formatted = new StringBuilder(hex.length + HASH_GROUPS.length - 1);
+        int offset = 0;
+        for (int group : HASH_GROUPS) {
+            if (offset > 0)
+                formatted.append('-');
+            formatted.append(hex, offset, group);
+            offset += group;
+        }
+        return formatted.toString();
+    }
+}
@@ -9,6 +9,9 @@ import com.profesorfalken.jpowershell.PowerShell;
 import com.profesorfalken.jpowershell.PowerShellResponse;
 import io.github.eggy03.ferrumx.windows.constant.PowerShellScript;
 import io.github.eggy03.ferrumx.windows.entity.compounded.HardwareId;
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
+import io.github.eggy03.ferrumx.windows.executor.MappingKey;
+import io.github.eggy03.ferrumx.windows.executor.TerminalCommandExecutor;
 import io.github.eggy03.ferrumx.windows.mapping.compounded.HardwareIdMapper;
 import io.github.eggy03.ferrumx.windows.service.OptionalCommonServiceInterface;
 import io.github.eggy03.ferrumx.windows.utility.TerminalUtility;
@@ -40,6 +43,10 @@ import java.util.Optional;
  * // API with execution timeout (auto-created session is terminated if the timeout is exceeded)
  * HardwareIdService service = new HardwareIdService();
  * Optional<HardwareId> hwid = service.get(10);
+ *
+ * // API with a custom command executor (e.g. a pool of long-lived PowerShell workers)
+ * HardwareIdService service = new HardwareIdService(new PooledCommandExecutor(pool));
+ * Optional<HardwareId> hwid = service.get(10);
  * }</pre>
  *
  * <h2>Execution models and concurrency</h2>
@@ -66,6 +73,9 @@ import java.util.Optional;
  *     standalone PowerShell process per invocation using
  *     {@link TerminalUtility}. Each call is fully isolated and
  *     <b>safe to use in multithreaded and executor-based environments</b>.
+ *     <br>
+ *     The PowerShell backend used by this method can be replaced by creating the
+ *     service with a different {@link CommandExecutor}.
  *   </li>
  * </ul>
  *
@@ -74,11 +84,33 @@ import java.util.Optional;
  * </p>
  *
  * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @see ComputedHardwareIdService
  * @since 3.0.0
  */
 @Slf4j
 public class HardwareIdService implements OptionalCommonServiceInterface<HardwareId> {
 
+    @NonNull
+    private final CommandExecutor commandExecutor;
+
+    /**
+     * Creates a service whose {@link #get(long)} method launches an isolated PowerShell process
+     * per invocation through {@link TerminalCommandExecutor}
+     */
+    public HardwareIdService() {
+        this(new TerminalCommandExecutor());
+    }
+
+    /**
+     * Creates a service whose {@link #get(long)} method runs its PowerShell query through the given executor
+     *
+     * @param commandExecutor the executor used to run the PowerShell query
+     * @since 4.1.0
+     */
+    public HardwareIdService(@NonNull CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
     /**
      * Retrieves an {@link Optional} containing the HWID information.
      * <p>
@@ -120,7 +152,8 @@ public class HardwareIdService implements OptionalCommonServiceInterface<Hardwar
      * Retrieves an {@link Optional} containing the HWID information
      * using an isolated PowerShell process with a configurable timeout.
      * <p>
-     * Each invocation creates an isolated PowerShell process, which is
+     * Unless a different {@link CommandExecutor} was supplied through the constructor,
+     * each invocation creates an isolated PowerShell process, which is
      * pre-maturely terminated if execution exceeds the specified timeout.
      * </p>
      *
@@ -136,8 +169,9 @@ public class HardwareIdService implements OptionalCommonServiceInterface<Hardwar
     public Optional<HardwareId> get(long timeout) {
 
         String script = PowerShellScript.getScript(PowerShellScript.HWID_SCRIPT.getScriptPath());
-        String response = TerminalUtility.executeCommand(script, timeout);
-        log.trace("PowerShell response for the apache terminal session: \n{}", response);
-        return new HardwareIdMapper().mapToObject(response, HardwareId.class);
+        return commandExecutor.executeAndMap(script, timeout, MappingKey.of(HardwareIdMapper.class, "mapToObject", HardwareId.class), response -> {
+            log.trace("PowerShell response for the command executor: \n{}", response);
+            return new HardwareIdMapper().mapToObject(response, HardwareId.class);
+        });
     }
 }
\ No newline at end of file
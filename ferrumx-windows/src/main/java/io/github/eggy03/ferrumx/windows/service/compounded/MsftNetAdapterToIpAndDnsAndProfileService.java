@@ -9,6 +9,9 @@ import com.profesorfalken.jpowershell.PowerShell;
 import com.profesorfalken.jpowershell.PowerShellResponse;
 import io.github.eggy03.ferrumx.windows.constant.PowerShellScript;
 import io.github.eggy03.ferrumx.windows.entity.compounded.MsftNetAdapterToIpAndDnsAndProfile;
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
+import io.github.eggy03.ferrumx.windows.executor.MappingKey;
+import io.github.eggy03.ferrumx.windows.executor.TerminalCommandExecutor;
 import io.github.eggy03.ferrumx.windows.mapping.compounded.MsftNetAdapterToIpAndDnsAndProfileMapper;
 import io.github.eggy03.ferrumx.windows.service.CommonServiceInterface;
 import io.github.eggy03.ferrumx.windows.service.network.MsftDnsClientServerAddressService;
@@ -43,6 +46,10 @@ import java.util.List;
  * // API with execution timeout (auto-created session is terminated if the timeout is exceeded)
  * MsftNetAdapterToIpAndDnsAndProfileService service = new MsftNetAdapterToIpAndDnsAndProfileService();
  * List<MsftNetAdapterToIpAndDnsAndProfile> compoundAdapters = service.get(10);
+ *
+ * // API with a custom command executor (e.g. a pool of long-lived PowerShell workers)
+ * MsftNetAdapterToIpAndDnsAndProfileService service = new MsftNetAdapterToIpAndDnsAndProfileService(new PooledCommandExecutor(pool));
+ * List<MsftNetAdapterToIpAndDnsAndProfile> compoundAdapters = service.get(10);
  * }</pre>
  *
  * <h2>Execution models and concurrency</h2>
@@ -69,6 +76,9 @@ import java.util.List;
  *     standalone PowerShell process per invocation using
  *     {@link TerminalUtility}. Each call is fully isolated and
  *     <b>safe to use in multithreaded and executor-based environments</b>.
+ *     <br>
+ *     The PowerShell backend used by this method can be replaced by creating the
+ *     service with a different {@link CommandExecutor}.
  *   </li>
  * </ul>
  *
@@ -87,6 +97,27 @@ import java.util.List;
 @Slf4j
 public class MsftNetAdapterToIpAndDnsAndProfileService implements CommonServiceInterface<MsftNetAdapterToIpAndDnsAndProfile> {
 
+    @NonNull
+    private final CommandExecutor commandExecutor;
+
+    /**
+     * Creates a service whose {@link #get(long)} method launches an isolated PowerShell process
+     * per invocation through {@link TerminalCommandExecutor}
+     */
+    public MsftNetAdapterToIpAndDnsAndProfileService() {
+        this(new TerminalCommandExecutor());
+    }
+
+    /**
+     * Creates a service whose {@link #get(long)} method runs its PowerShell query through the given executor
+     *
+     * @param commandExecutor the executor used to run the PowerShell query
+     * @since 4.1.0
+     */
+    public MsftNetAdapterToIpAndDnsAndProfileService(@NonNull CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
     /**
      * Retrieves an immutable list of adapters and their configs connected to the system.
      * <p>
@@ -128,7 +159,8 @@ public class MsftNetAdapterToIpAndDnsAndProfileService implements CommonServiceI
      * Retrieves an immutable list of adapters and their configs connected to the system
      * using an isolated PowerShell process with a configurable timeout.
      * <p>
-     * Each invocation creates an isolated PowerShell process, which is
+     * Unless a different {@link CommandExecutor} was supplied through the constructor,
+     * each invocation creates an isolated PowerShell process, which is
      * pre-maturely terminated if execution exceeds the specified timeout.
      * </p>
      *
@@ -143,8 +175,9 @@ public class MsftNetAdapterToIpAndDnsAndProfileService implements CommonServiceI
     public List<MsftNetAdapterToIpAndDnsAndProfile> get(long timeout) {
 
         String script = PowerShellScript.getScript(PowerShellScript.MSFT_NET_ADAPTER_TO_IP_AND_DNS_AND_PROFILE_SCRIPT.getScriptPath());
-        String response = TerminalUtility.executeCommand(script, timeout);
-        log.trace("PowerShell response for the apache terminal session: \n{}", response);
-        return new MsftNetAdapterToIpAndDnsAndProfileMapper().mapToList(response, MsftNetAdapterToIpAndDnsAndProfile.class);
+        return commandExecutor.executeAndMap(script, timeout, MappingKey.of(MsftNetAdapterToIpAndDnsAndProfileMapper.class, "mapToList", MsftNetAdapterToIpAndDnsAndProfile.class), response -> {
+            log.trace("PowerShell response for the command executor: \n{}", response);
+            return new MsftNetAdapterToIpAndDnsAndProfileMapper().mapToList(response, MsftNetAdapterToIpAndDnsAndProfile.class);
+        });
     }
 }
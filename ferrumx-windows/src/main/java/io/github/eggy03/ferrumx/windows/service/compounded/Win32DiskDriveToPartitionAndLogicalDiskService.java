@@ -9,6 +9,9 @@ import com.profesorfalken.jpowershell.PowerShell;
 import com.profesorfalken.jpowershell.PowerShellResponse;
 import io.github.eggy03.ferrumx.windows.constant.PowerShellScript;
 import io.github.eggy03.ferrumx.windows.entity.compounded.Win32DiskDriveToPartitionAndLogicalDisk;
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
+import io.github.eggy03.ferrumx.windows.executor.MappingKey;
+import io.github.eggy03.ferrumx.windows.executor.TerminalCommandExecutor;
 import io.github.eggy03.ferrumx.windows.mapping.compounded.Win32DiskDriveToPartitionAndLogicalDiskMapper;
 import io.github.eggy03.ferrumx.windows.service.CommonServiceInterface;
 import io.github.eggy03.ferrumx.windows.service.storage.Win32DiskDriveService;
@@ -44,6 +47,10 @@ import java.util.List;
  * // API with execution timeout (auto-created session is terminated if the timeout is exceeded)
  * Win32DiskDriveToPartitionAndLogicalDiskService service = new Win32DiskDriveToPartitionAndLogicalDiskService();
  * List<Win32DiskDriveToPartitionAndLogicalDisk> disks = service.get(10);
+ *
+ * // API with a custom command executor (e.g. a pool of long-lived PowerShell workers)
+ * Win32DiskDriveToPartitionAndLogicalDiskService service = new Win32DiskDriveToPartitionAndLogicalDiskService(new PooledCommandExecutor(pool));
+ * List<Win32DiskDriveToPartitionAndLogicalDisk> disks = service.get(10);
  * }</pre>
  *
  * <h2>Execution models and concurrency</h2>
@@ -70,6 +77,9 @@ import java.util.List;
  *     standalone PowerShell process per invocation using
  *     {@link TerminalUtility}. Each call is fully isolated and
  *     <b>safe to use in multithreaded and executor-based environments</b>.
+ *     <br>
+ *     The PowerShell backend used by this method can be replaced by creating the
+ *     service with a different {@link CommandExecutor}.
  *   </li>
  * </ul>
  *
@@ -89,6 +99,27 @@ import java.util.List;
 @Slf4j
 public class Win32DiskDriveToPartitionAndLogicalDiskService implements CommonServiceInterface<Win32DiskDriveToPartitionAndLogicalDisk> {
 
+    @NonNull
+    private final CommandExecutor commandExecutor;
+
+    /**
+     * Creates a service whose {@link #get(long)} method launches an isolated PowerShell process
+     * per invocation through {@link TerminalCommandExecutor}
+     */
+    public Win32DiskDriveToPartitionAndLogicalDiskService() {
+        this(new TerminalCommandExecutor());
+    }
+
+    /**
+     * Creates a service whose {@link #get(long)} method runs its PowerShell query through the given executor
+     *
+     * @param commandExecutor the executor used to run the PowerShell query
+     * @since 4.1.0
+     */
+    public Win32DiskDriveToPartitionAndLogicalDiskService(@NonNull CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
     /**
      * Retrieves an immutable list of physical disks with related partition and logical disk data connected to the system.
      * <p>
@@ -130,7 +161,8 @@ public class Win32DiskDriveToPartitionAndLogicalDiskService implements CommonSer
      * Retrieves an immutable list of physical disks with related partition and logical disk data connected to the system
      * using an isolated PowerShell process with a configurable timeout.
      * <p>
-     * Each invocation creates an isolated PowerShell process, which is
+     * Unless a different {@link CommandExecutor} was supplied through the constructor,
+     * each invocation creates an isolated PowerShell process, which is
      * pre-maturely terminated if execution exceeds the specified timeout.
      * </p>
      *
@@ -145,8 +177,9 @@ public class Win32DiskDriveToPartitionAndLogicalDiskService implements CommonSer
     public List<Win32DiskDriveToPartitionAndLogicalDisk> get(long timeout) {
 
         String script = PowerShellScript.getScript(PowerShellScript.WIN32_DISK_DRIVE_TO_PARTITION_AND_LOGICAL_DISK_SCRIPT.getScriptPath());
-        String response = TerminalUtility.executeCommand(script, timeout);
-        log.trace("PowerShell response for the apache terminal session: \n{}", response);
-        return new Win32DiskDriveToPartitionAndLogicalDiskMapper().mapToList(response, Win32DiskDriveToPartitionAndLogicalDisk.class);
+        return commandExecutor.executeAndMap(script, timeout, MappingKey.of(Win32DiskDriveToPartitionAndLogicalDiskMapper.class, "mapToList", Win32DiskDriveToPartitionAndLogicalDisk.class), response -> {
+            log.trace("PowerShell response for the command executor: \n{}", response);
+            return new Win32DiskDriveToPartitionAndLogicalDiskMapper().mapToList(response, Win32DiskDriveToPartitionAndLogicalDisk.class);
+        });
     }
 }
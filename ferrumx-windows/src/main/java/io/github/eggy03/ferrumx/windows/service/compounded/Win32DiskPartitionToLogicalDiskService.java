@@ -10,6 +10,9 @@ import com.profesorfalken.jpowershell.PowerShellResponse;
 import io.github.eggy03.ferrumx.windows.constant.PowerShellScript;
 import io.github.eggy03.ferrumx.windows.entity.compounded.Win32DiskDriveToPartitionAndLogicalDisk;
 import io.github.eggy03.ferrumx.windows.entity.compounded.Win32DiskPartitionToLogicalDisk;
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
+import io.github.eggy03.ferrumx.windows.executor.MappingKey;
+import io.github.eggy03.ferrumx.windows.executor.TerminalCommandExecutor;
 import io.github.eggy03.ferrumx.windows.mapping.compounded.Win32DiskPartitionToLogicalDiskMapper;
 import io.github.eggy03.ferrumx.windows.service.CommonServiceInterface;
 import io.github.eggy03.ferrumx.windows.service.storage.Win32DiskDriveService;
@@ -45,6 +48,10 @@ import java.util.List;
  * // API with execution timeout (auto-created session is terminated if the timeout is exceeded)
  * Win32DiskPartitionToLogicalDiskService service = new Win32DiskPartitionToLogicalDiskService();
  * List<Win32DiskPartitionToLogicalDisk> disks = service.get(10);
+ *
+ * // API with a custom command executor (e.g. a pool of long-lived PowerShell workers)
+ * Win32DiskPartitionToLogicalDiskService service = new Win32DiskPartitionToLogicalDiskService(new PooledCommandExecutor(pool));
+ * List<Win32DiskPartitionToLogicalDisk> disks = service.get(10);
  * }</pre>
  *
  * <h2>Execution models and concurrency</h2>
@@ -71,6 +78,9 @@ import java.util.List;
  *     standalone PowerShell process per invocation using
  *     {@link TerminalUtility}. Each call is fully isolated and
  *     <b>safe to use in multithreaded and executor-based environments</b>.
+ *     <br>
+ *     The PowerShell backend used by this method can be replaced by creating the
+ *     service with a different {@link CommandExecutor}.
  *   </li>
  * </ul>
  *
@@ -90,6 +100,27 @@ import java.util.List;
 @Slf4j
 public class Win32DiskPartitionToLogicalDiskService implements CommonServiceInterface<Win32DiskPartitionToLogicalDisk> {
 
+    @NonNull
+    private final CommandExecutor commandExecutor;
+
+    /**
+     * Creates a service whose {@link #get(long)} method launches an isolated PowerShell process
+     * per invocation through {@link TerminalCommandExecutor}
+     */
+    public Win32DiskPartitionToLogicalDiskService() {
+        this(new TerminalCommandExecutor());
+    }
+
+    /**
+     * Creates a service whose {@link #get(long)} method runs its PowerShell query through the given executor
+     *
+     * @param commandExecutor the executor used to run the PowerShell query
+     * @since 4.1.0
+     */
+    public Win32DiskPartitionToLogicalDiskService(@NonNull CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
     /**
      * Retrieves an immutable list of physical disk and related logical disks connected to the system.
      * <p>
@@ -131,7 +162,8 @@ public class Win32DiskPartitionToLogicalDiskService implements CommonServiceInte
      * Retrieves an immutable list of physical disk and related logical disks connected to the system
      * using an isolated PowerShell process with a configurable timeout.
      * <p>
-     * Each invocation creates an isolated PowerShell process, which is
+     * Unless a different {@link CommandExecutor} was supplied through the constructor,
+     * each invocation creates an isolated PowerShell process, which is
      * pre-maturely terminated if execution exceeds the specified timeout.
      * </p>
      *
@@ -146,8 +178,9 @@ public class Win32DiskPartitionToLogicalDiskService implements CommonServiceInte
     public List<Win32DiskPartitionToLogicalDisk> get(long timeout) {
 
         String command = PowerShellScript.getScript(PowerShellScript.WIN32_DISK_PARTITION_TO_LOGICAL_DISK_SCRIPT.getScriptPath());
-        String response = TerminalUtility.executeCommand(command, timeout);
-        log.trace("PowerShell response for the apache terminal session: \n{}", response);
-        return new Win32DiskPartitionToLogicalDiskMapper().mapToList(response, Win32DiskPartitionToLogicalDisk.class);
+        return commandExecutor.executeAndMap(command, timeout, MappingKey.of(Win32DiskPartitionToLogicalDiskMapper.class, "mapToList", Win32DiskPartitionToLogicalDisk.class), response -> {
+            log.trace("PowerShell response for the command executor: \n{}", response);
+            return new Win32DiskPartitionToLogicalDiskMapper().mapToList(response, Win32DiskPartitionToLogicalDisk.class);
+        });
     }
 }
@@ -9,6 +9,9 @@ import com.profesorfalken.jpowershell.PowerShell;
 import com.profesorfalken.jpowershell.PowerShellResponse;
 import io.github.eggy03.ferrumx.windows.constant.PowerShellScript;
 import io.github.eggy03.ferrumx.windows.entity.compounded.Win32NetworkAdapterToConfiguration;
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
+import io.github.eggy03.ferrumx.windows.executor.MappingKey;
+import io.github.eggy03.ferrumx.windows.executor.TerminalCommandExecutor;
 import io.github.eggy03.ferrumx.windows.mapping.compounded.Win32NetworkAdapterToConfigurationMapper;
 import io.github.eggy03.ferrumx.windows.service.CommonServiceInterface;
 import io.github.eggy03.ferrumx.windows.service.network.Win32NetworkAdapterConfigurationService;
@@ -42,6 +45,10 @@ import java.util.List;
  * // API with execution timeout (auto-created session is terminated if the timeout is exceeded)
  * Win32NetworkAdapterToConfigurationService service = new Win32NetworkAdapterToConfigurationService();
  * List<Win32NetworkAdapterToConfiguration> netAdapConList = service.get(10);
+ *
+ * // API with a custom command executor (e.g. a pool of long-lived PowerShell workers)
+ * Win32NetworkAdapterToConfigurationService service = new Win32NetworkAdapterToConfigurationService(new PooledCommandExecutor(pool));
+ * List<Win32NetworkAdapterToConfiguration> netAdapConList = service.get(10);
  * }</pre>
  *
  * <h2>Execution models and concurrency</h2>
@@ -68,6 +75,9 @@ import java.util.List;
  *     standalone PowerShell process per invocation using
  *     {@link TerminalUtility}. Each call is fully isolated and
  *     <b>safe to use in multithreaded and executor-based environments</b>.
+ *     <br>
+ *     The PowerShell backend used by this method can be replaced by creating the
+ *     service with a different {@link CommandExecutor}.
  *   </li>
  * </ul>
  *
@@ -85,6 +95,27 @@ import java.util.List;
 @Slf4j
 public class Win32NetworkAdapterToConfigurationService implements CommonServiceInterface<Win32NetworkAdapterToConfiguration> {
 
+    @NonNull
+    private final CommandExecutor commandExecutor;
+
+    /**
+     * Creates a service whose {@link #get(long)} method launches an isolated PowerShell process
+     * per invocation through {@link TerminalCommandExecutor}
+     */
+    public Win32NetworkAdapterToConfigurationService() {
+        this(new TerminalCommandExecutor());
+    }
+
+    /**
+     * Creates a service whose {@link #get(long)} method runs its PowerShell query through the given executor
+     *
+     * @param commandExecutor the executor used to run the PowerShell query
+     * @since 4.1.0
+     */
+    public Win32NetworkAdapterToConfigurationService(@NonNull CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
     /**
      * Retrieves an immutable list of network adapters and related configuration connected in the system.
      * <p>
@@ -126,7 +157,8 @@ public class Win32NetworkAdapterToConfigurationService implements CommonServiceI
      * Retrieves an immutable list of network adapters and related configuration connected in the system
      * using an isolated PowerShell process with a configurable timeout.
      * <p>
-     * Each invocation creates an isolated PowerShell process, which is
+     * Unless a different {@link CommandExecutor} was supplied through the constructor,
+     * each invocation creates an isolated PowerShell process, which is
      * pre-maturely terminated if execution exceeds the specified timeout.
      * </p>
      *
@@ -141,8 +173,9 @@ public class Win32NetworkAdapterToConfigurationService implements CommonServiceI
     public List<Win32NetworkAdapterToConfiguration> get(long timeout) {
 
         String command = PowerShellScript.getScript(PowerShellScript.WIN32_NETWORK_ADAPTER_TO_CONFIGURATION_SCRIPT.getScriptPath());
-        String response = TerminalUtility.executeCommand(command, timeout);
-        log.trace("PowerShell response for the apache terminal session: \n{}", response);
-        return new Win32NetworkAdapterToConfigurationMapper().mapToList(response, Win32NetworkAdapterToConfiguration.class);
+        return commandExecutor.executeAndMap(command, timeout, MappingKey.of(Win32NetworkAdapterToConfigurationMapper.class, "mapToList", Win32NetworkAdapterToConfiguration.class), response -> {
+            log.trace("PowerShell response for the command executor: \n{}", response);
+            return new Win32NetworkAdapterToConfigurationMapper().mapToList(response, Win32NetworkAdapterToConfiguration.class);
+        });
     }
 }
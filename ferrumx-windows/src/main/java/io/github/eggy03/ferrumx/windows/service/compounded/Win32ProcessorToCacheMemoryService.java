@@ -9,6 +9,9 @@ import com.profesorfalken.jpowershell.PowerShell;
 import com.profesorfalken.jpowershell.PowerShellResponse;
 import io.github.eggy03.ferrumx.windows.constant.PowerShellScript;
 import io.github.eggy03.ferrumx.windows.entity.compounded.Win32ProcessorToCacheMemory;
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
+import io.github.eggy03.ferrumx.windows.executor.MappingKey;
+import io.github.eggy03.ferrumx.windows.executor.TerminalCommandExecutor;
 import io.github.eggy03.ferrumx.windows.mapping.compounded.Win32ProcessorToCacheMemoryMapper;
 import io.github.eggy03.ferrumx.windows.service.CommonServiceInterface;
 import io.github.eggy03.ferrumx.windows.service.processor.Win32AssociatedProcessorMemoryService;
@@ -42,6 +45,10 @@ import java.util.List;
  * // API with execution timeout (auto-created session is terminated if the timeout is exceeded)
  * Win32ProcessorToCacheMemoryService service = new Win32ProcessorToCacheMemoryService();
  * List<Win32ProcessorToCacheMemory> procAndCacheList = service.get(10);
+ *
+ * // API with a custom command executor (e.g. a pool of long-lived PowerShell workers)
+ * Win32ProcessorToCacheMemoryService service = new Win32ProcessorToCacheMemoryService(new PooledCommandExecutor(pool));
+ * List<Win32ProcessorToCacheMemory> procAndCacheList = service.get(10);
  * }</pre>
  *
  * <h2>Execution models and concurrency</h2>
@@ -68,6 +75,9 @@ import java.util.List;
  *     standalone PowerShell process per invocation using
  *     {@link TerminalUtility}. Each call is fully isolated and
  *     <b>safe to use in multithreaded and executor-based environments</b>.
+ *     <br>
+ *     The PowerShell backend used by this method can be replaced by creating the
+ *     service with a different {@link CommandExecutor}.
  *   </li>
  * </ul>
  *
@@ -84,6 +94,27 @@ import java.util.List;
 @Slf4j
 public class Win32ProcessorToCacheMemoryService implements CommonServiceInterface<Win32ProcessorToCacheMemory> {
 
+    @NonNull
+    private final CommandExecutor commandExecutor;
+
+    /**
+     * Creates a service whose {@link #get(long)} method launches an isolated PowerShell process
+     * per invocation through {@link TerminalCommandExecutor}
+     */
+    public Win32ProcessorToCacheMemoryService() {
+        this(new TerminalCommandExecutor());
+    }
+
+    /**
+     * Creates a service whose {@link #get(long)} method runs its PowerShell query through the given executor
+     *
+     * @param commandExecutor the executor used to run the PowerShell query
+     * @since 4.1.0
+     */
+    public Win32ProcessorToCacheMemoryService(@NonNull CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
     /**
      * Retrieves an immutable list of processors and related cache information connected to the system.
      * <p>
@@ -125,7 +156,8 @@ public class Win32ProcessorToCacheMemoryService implements CommonServiceInterfac
      * Retrieves an immutable list of processors and related cache information connected to the system
      * using an isolated PowerShell process with a configurable timeout.
      * <p>
-     * Each invocation creates an isolated PowerShell process, which is
+     * Unless a different {@link CommandExecutor} was supplied through the constructor,
+     * each invocation creates an isolated PowerShell process, which is
      * pre-maturely terminated if execution exceeds the specified timeout.
      * </p>
      *
@@ -140,8 +172,9 @@ public class Win32ProcessorToCacheMemoryService implements CommonServiceInterfac
     public List<Win32ProcessorToCacheMemory> get(long timeout) {
 
         String command = PowerShellScript.getScript(PowerShellScript.WIN32_PROCESSOR_TO_CACHE_MEMORY_SCRIPT.getScriptPath());
-        String response = TerminalUtility.executeCommand(command, timeout);
-        log.trace("PowerShell response for the apache terminal session: \n{}", response);
-        return new Win32ProcessorToCacheMemoryMapper().mapToList(response, Win32ProcessorToCacheMemory.class);
+        return commandExecutor.executeAndMap(command, timeout, MappingKey.of(Win32ProcessorToCacheMemoryMapper.class, "mapToList", Win32ProcessorToCacheMemory.class), response -> {
+            log.trace("PowerShell response for the command executor: \n{}", response);
+            return new Win32ProcessorToCacheMemoryMapper().mapToList(response, Win32ProcessorToCacheMemory.class);
+        });
     }
 }
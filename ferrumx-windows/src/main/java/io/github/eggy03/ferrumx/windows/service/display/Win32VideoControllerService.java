@@ -10,6 +10,9 @@ import com.profesorfalken.jpowershell.PowerShell;
 import com.profesorfalken.jpowershell.PowerShellResponse;
 import io.github.eggy03.ferrumx.windows.constant.namespace.Cimv2Namespace;
 import io.github.eggy03.ferrumx.windows.entity.display.Win32VideoController;
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
+import io.github.eggy03.ferrumx.windows.executor.MappingKey;
+import io.github.eggy03.ferrumx.windows.executor.TerminalCommandExecutor;
 import io.github.eggy03.ferrumx.windows.mapping.display.Win32VideoControllerMapper;
 import io.github.eggy03.ferrumx.windows.service.CommonServiceInterface;
 import io.github.eggy03.ferrumx.windows.utility.TerminalUtility;
@@ -41,6 +44,10 @@ import java.util.List;
  * // API with execution timeout (auto-created session is terminated if the timeout is exceeded)
  * Win32VideoControllerService service = new Win32VideoControllerService();
  * List<Win32VideoController> controllers = service.get(10);
+ *
+ * // API with a custom command executor (e.g. a pool of long-lived PowerShell workers)
+ * Win32VideoControllerService service = new Win32VideoControllerService(new PooledCommandExecutor(pool));
+ * List<Win32VideoController> controllers = service.get(10);
  * }</pre>
  *
  * <h2>Execution models and concurrency</h2>
@@ -67,6 +74,9 @@ import java.util.List;
  *     standalone PowerShell process per invocation using
  *     {@link TerminalUtility}. Each call is fully isolated and
  *     <b>safe to use in multithreaded and executor-based environments</b>.
+ *     <br>
+ *     The PowerShell backend used by this method can be replaced by creating the
+ *     service with a different {@link CommandExecutor}.
  *   </li>
  * </ul>
  *
@@ -80,6 +90,27 @@ import java.util.List;
 @Slf4j
 public class Win32VideoControllerService implements CommonServiceInterface<Win32VideoController> {
 
+    @NonNull
+    private final CommandExecutor commandExecutor;
+
+    /**
+     * Creates a service whose {@link #get(long)} method launches an isolated PowerShell process
+     * per invocation through {@link TerminalCommandExecutor}
+     */
+    public Win32VideoControllerService() {
+        this(new TerminalCommandExecutor());
+    }
+
+    /**
+     * Creates a service whose {@link #get(long)} method runs its PowerShell query through the given executor
+     *
+     * @param commandExecutor the executor used to run the PowerShell query
+     * @since 4.1.0
+     */
+    public Win32VideoControllerService(@NonNull CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
     /**
      * Retrieves an immutable list of video controllers (GPUs) present in the system.
      * <p>
@@ -123,7 +154,8 @@ public class Win32VideoControllerService implements CommonServiceInterface<Win32
      * Retrieves an immutable list of video controllers (GPUs) present in the system
      * using an isolated PowerShell process with a configurable timeout.
      * <p>
-     * Each invocation creates an isolated PowerShell process, which is
+     * Unless a different {@link CommandExecutor} was supplied through the constructor,
+     * each invocation creates an isolated PowerShell process, which is
      * pre-maturely terminated if execution exceeds the specified timeout.
      * </p>
      *
@@ -137,8 +169,9 @@ public class Win32VideoControllerService implements CommonServiceInterface<Win32
     @Override
     public List<Win32VideoController> get(long timeout) {
         String command = Cimv2Namespace.WIN32_VIDEO_CONTROLLER_QUERY.getQuery();
-        String response = TerminalUtility.executeCommand(command, timeout);
-        log.trace("PowerShell response for the apache terminal session: \n{}", response);
-        return new Win32VideoControllerMapper().mapToList(response, Win32VideoController.class);
+        return commandExecutor.executeAndMap(command, timeout, MappingKey.of(Win32VideoControllerMapper.class, "mapToList", Win32VideoController.class), response -> {
+            log.trace("PowerShell response for the command executor: \n{}", response);
+            return new Win32VideoControllerMapper().mapToList(response, Win32VideoController.class);
+        });
     }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.service.indication;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Immutable representation of a CIM indication, telling that an instance of a subscribed class was created,
+ * deleted or modified
+ * <p>
+ * The instance is carried as the compact JSON of the properties of its {@link CimSubscription}, so that it maps
+ * into the entity class of the subscription the same way the output of a query does.
+ * Instances of this class are thread-safe.
+ * </p>
+ *
+ * <h2>Usage example</h2>
+ * <pre>{@code
+ * CimIndication indication = new CimIndication(CimIndication.Kind.CREATED, "Win32_Process",
+ *         "{\"ProcessId\":4242,\"Name\":\"notepad.exe\"}");
+ * }</pre>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@Value
+public class CimIndication {
+
+    /**
+     * The change the indication reports
+     */
+    @NonNull
+    Kind kind;
+
+    /**
+     * The subscribed CIM class the instance belongs to, such as {@code Win32_Process}
+     */
+    @NonNull
+    String className;
+
+    /**
+     * The JSON of the instance, after the change for creations and modifications and before it for deletions
+     */
+    @NonNull
+    String instance;
+
+    /**
+     * The changes reported by CIM indications, after the {@code __InstanceCreationEvent},
+     * {@code __InstanceDeletionEvent} and {@code __InstanceModificationEvent} classes
+     */
+    public enum Kind {
+        /**
+         * The instance was created
+         */
+        CREATED,
+        /**
+         * The instance was deleted
+         */
+        DELETED,
+        /**
+         * One or more properties of the instance changed
+         */
+        MODIFIED
+    }
+}
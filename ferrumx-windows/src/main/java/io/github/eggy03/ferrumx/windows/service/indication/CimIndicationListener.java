@@ -0,0 +1,36 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.service.indication;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Receives the indications of a {@link CimIndicationSource}
+ * <p>
+ * Both methods are called on a thread of the source, one call at a time and in the order of the indications.
+ * </p>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+public interface CimIndicationListener {
+
+    /**
+     * Called for every indication of the subscribed classes
+     *
+     * @param indication the indication
+     */
+    void onIndication(@NotNull CimIndication indication);
+
+    /**
+     * Called once if the source stops delivering indications before it is closed,
+     * after which indications may have been missed
+     *
+     * @param cause the reason the source stopped, or {@code null} if it is unknown
+     */
+    void onDisconnect(@Nullable Throwable cause);
+}
@@ -0,0 +1,40 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.service.indication;
+
+import lombok.NonNull;
+
+import java.util.List;
+
+/**
+ * Strategy for subscribing to the CIM indications of a set of classes
+ * <p>
+ * {@link PowerShellIndicationSource} subscribes through a long-lived PowerShell process. Other implementations
+ * can replay a scripted stream of indications, for instance to test a {@link CimIndicationSubscriber}
+ * on systems without PowerShell.
+ * </p>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+public interface CimIndicationSource extends AutoCloseable {
+
+    /**
+     * Starts delivering the indications of the given classes to the listener, without blocking
+     *
+     * @param subscriptions the classes to subscribe to
+     * @param listener      the listener receiving the indications on a thread of the source
+     * @throws IllegalStateException                                                   if the source is already started
+     * @throws io.github.eggy03.ferrumx.windows.exception.TerminalExecutionException if the subscription cannot be started
+     */
+    void start(@NonNull List<CimSubscription<?>> subscriptions, @NonNull CimIndicationListener listener);
+
+    /**
+     * Stops delivering indications, without notifying the listener
+     */
+    @Override
+    void close();
+}
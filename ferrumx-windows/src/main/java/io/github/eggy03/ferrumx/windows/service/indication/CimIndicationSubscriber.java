@@ -0,0 +1,209 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.service.indication;
+
+import com.google.gson.JsonParseException;
+import io.github.eggy03.ferrumx.windows.mapping.CommonMappingInterface;
+import io.github.eggy03.ferrumx.windows.service.CachingService;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the lists of {@link CachingService} instances up to date from the CIM indications of their classes,
+ * instead of waiting for their time-to-live to expire
+ * <p>
+ * Every indication is mapped into the entity class of its {@link CimSubscription} and patched into the cached list:
+ * a created instance is appended, a modified one replaces the entity with the same key in place,
+ * and a deleted one is removed. Nothing happens to a service with no cached list, whose next retrieval runs
+ * the query anyway. An indication that cannot be mapped, or whose entity has no key, invalidates the list instead.
+ * </p>
+ * <p>
+ * If the {@link CimIndicationSource} stops, every registered list is invalidated, since indications may have
+ * been missed, and the services fall back to their time-to-live until the subscriber is started again.
+ * Instances of this class are thread-safe.
+ * </p>
+ *
+ * <h2>Usage example</h2>
+ * <pre>{@code
+ * // process lists are not cached by default, since they change all the time
+ * CachingService<Win32Process> processes = new CachingService<>(new Win32ProcessService(), CachePolicy.of(Duration.ofMinutes(5)));
+ * try (CimIndicationSubscriber subscriber = new CimIndicationSubscriber()) {
+ *     subscriber.register(CimSubscription.WIN32_PROCESS, processes).start();
+ *     List<Win32Process> running = processes.get(); // patched as processes start and exit
+ * }
+ * }</pre>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @see CachingService#patch(java.util.function.UnaryOperator)
+ * @since 4.1.0
+ */
+@Slf4j
+public class CimIndicationSubscriber implements AutoCloseable, CimIndicationListener {
+
+    private final CimIndicationSource source;
+
+    // keyed by the upper-cased CIM class name, since CIM class names are case-insensitive
+    private final Map<String, Registration<?>> registrations = new ConcurrentHashMap<>();
+
+    private boolean started;
+
+    /**
+     * Creates a subscriber receiving the indications through a {@link PowerShellIndicationSource}
+     */
+    public CimIndicationSubscriber() {
+        this(new PowerShellIndicationSource());
+    }
+
+    /**
+     * Creates a subscriber receiving the indications through the given source
+     *
+     * @param source the source of the indications
+     */
+    public CimIndicationSubscriber(@NonNull CimIndicationSource source) {
+        this.source = source;
+    }
+
+    /**
+     * Keeps the lists of a service up to date from the indications of a CIM class
+     *
+     * @param subscription the CIM class and how its instances map into entities
+     * @param service      the service whose lists are patched
+     * @param <S>          the entity type
+     * @return this subscriber
+     * @throws IllegalStateException if the subscriber is started, or the class is already registered
+     */
+    @NotNull
+    public synchronized <S> CimIndicationSubscriber register(@NonNull CimSubscription<S> subscription, @NonNull CachingService<S> service) {
+        if (started)
+            throw new IllegalStateException("Cannot register a subscription once the subscriber is started");
+        if (registrations.putIfAbsent(normalize(subscription.getCimClassName()), new Registration<>(subscription, service)) != null)
+            throw new IllegalStateException("Already subscribed to " + subscription.getCimClassName());
+        return this;
+    }
+
+    /**
+     * Starts receiving the indications of the registered classes, without blocking
+     * <p>
+     * A subscriber can be started again after its source stopped.
+     * </p>
+     *
+     * @throws IllegalStateException                                                   if the subscriber is started,
+     *                                                                                 or nothing is registered
+     * @throws io.github.eggy03.ferrumx.windows.exception.TerminalExecutionException if the source cannot be started
+     */
+    public synchronized void start() {
+        if (started)
+            throw new IllegalStateException("The subscriber is already started");
+        if (registrations.isEmpty())
+            throw new IllegalStateException("No subscription is registered");
+
+        List<CimSubscription<?>> subscriptions = new ArrayList<>();
+        registrations.values().forEach(registration -> subscriptions.add(registration.subscription));
+        source.start(subscriptions, this);
+        started = true;
+    }
+
+    /**
+     * Stops receiving indications, leaving the cached lists as they are
+     */
+    @Override
+    public synchronized void close() {
+        started = false;
+        source.close();
+    }
+
+    /**
+     * Patches the list of the service registered for the class of the indication
+     *
+     * @param indication the indication
+     */
+    @Override
+    public void onIndication(@NotNull CimIndication indication) {
+        Registration<?> registration = registrations.get(normalize(indication.getClassName()));
+        if (registration == null) {
+            log.debug("Ignoring a {} indication of the unregistered class {}", indication.getKind(), indication.getClassName());
+            return;
+        }
+        registration.apply(indication);
+    }
+
+    /**
+     * Invalidates the lists of every registered service, since indications may have been missed
+     *
+     * @param cause the reason the source stopped, or {@code null} if it is unknown
+     */
+    @Override
+    public void onDisconnect(@Nullable Throwable cause) {
+        synchronized (this) {
+            started = false;
+        }
+        log.warn("CIM indications stopped, invalidating {} cached service(s)", registrations.size(), cause);
+        registrations.values().forEach(registration -> registration.service.invalidate());
+    }
+
+    @NotNull
+    private static String normalize(@NotNull String className) {
+        return className.toUpperCase(Locale.ROOT);
+    }
+
+    private static final class Registration<S> {
+
+        private final CimSubscription<S> subscription;
+        private final CachingService<S> service;
+
+        private Registration(@NotNull CimSubscription<S> subscription, @NotNull CachingService<S> service) {
+            this.subscription = subscription;
+            this.service = service;
+        }
+
+        private void apply(@NotNull CimIndication indication) {
+
+            S entity;
+            Object key;
+            try {
+                entity = CommonMappingInterface.GSON.fromJson(indication.getInstance(), subscription.getEntityClass());
+                key = entity == null ? null : subscription.getKey().apply(entity);
+            } catch (JsonParseException | IllegalStateException e) {
+                entity = null;
+                key = null;
+            }
+            if (key == null) {
+                log.debug("Could not map a {} indication of {}, invalidating the cached list", indication.getKind(), indication.getClassName());
+                service.invalidate();
+                return;
+            }
+
+            S changed = entity;
+            Object changedKey = key;
+            service.patch(cached -> {
+                List<S> patched = new ArrayList<>(cached.size() + 1);
+                boolean replaced = false;
+                for (S element : cached) {
+                    if (!Objects.equals(changedKey, subscription.getKey().apply(element)))
+                        patched.add(element);
+                    else if (indication.getKind() == CimIndication.Kind.MODIFIED && !replaced) {
+                        patched.add(changed);
+                        replaced = true;
+                    }
+                }
+                // a modification of an instance missing from the list, which was retrieved before its creation
+                if (indication.getKind() == CimIndication.Kind.CREATED || (indication.getKind() == CimIndication.Kind.MODIFIED && !replaced))
+                    patched.add(changed);
+                return Collections.unmodifiableList(patched);
+            });
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.service.indication;
+
+import io.github.eggy03.ferrumx.windows.entity.storage.Win32LogicalDisk;
+import io.github.eggy03.ferrumx.windows.entity.system.Win32PnPEntity;
+import io.github.eggy03.ferrumx.windows.entity.system.Win32Process;
+import io.github.eggy03.ferrumx.windows.utility.ReflectionUtility;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import lombok.Value;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Tells which CIM class to subscribe to, which entity class its instances map into,
+ * and how the entities of the same instance are recognized
+ * <p>
+ * Indications carry the properties the entity class maps, the same ones its query selects. The key identifies the
+ * instance an indication is about among the cached entities, such as the {@code ProcessId} of a process.
+ * Instances of this class are immutable and thread-safe.
+ * </p>
+ *
+ * <h2>Usage example</h2>
+ * <pre>{@code
+ * CimSubscription<Win32DiskDrive> drives = CimSubscription.of(Win32DiskDrive.class, "Win32_DiskDrive", Win32DiskDrive::getDeviceId);
+ * }</pre>
+ *
+ * @param <S> the entity type the instances map into
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CimSubscription<S> {
+
+    private static final Pattern CLASS_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    /**
+     * Subscription to the processes, recognized by their {@code ProcessId}
+     */
+    public static final CimSubscription<Win32Process> WIN32_PROCESS =
+            of(Win32Process.class, "Win32_Process", Win32Process::getProcessId);
+
+    /**
+     * Subscription to the Plug and Play devices, recognized by their {@code DeviceID}
+     */
+    public static final CimSubscription<Win32PnPEntity> WIN32_PNP_ENTITY =
+            of(Win32PnPEntity.class, "Win32_PnPEntity", Win32PnPEntity::getDeviceId);
+
+    /**
+     * Subscription to the logical disks, recognized by their {@code DeviceID}
+     */
+    public static final CimSubscription<Win32LogicalDisk> WIN32_LOGICAL_DISK =
+            of(Win32LogicalDisk.class, "Win32_LogicalDisk", Win32LogicalDisk::getDeviceId);
+
+    /**
+     * The entity class the instances map into
+     */
+    @NonNull
+    Class<S> entityClass;
+
+    /**
+     * The name of the subscribed CIM class, in the {@code root/cimv2} namespace
+     */
+    @NonNull
+    String cimClassName;
+
+    /**
+     * Extracts the value identifying the instance of an entity
+     */
+    @NonNull
+    Function<S, ?> key;
+
+    /**
+     * Creates a subscription to the given CIM class
+     *
+     * @param entityClass  the entity class the instances map into
+     * @param cimClassName the name of the CIM class, in the {@code root/cimv2} namespace
+     * @param key          extracts the value identifying the instance of an entity
+     * @param <S>          the entity type
+     * @return the subscription
+     * @throws IllegalArgumentException if the class name is not a valid CIM class name
+     */
+    @NotNull
+    public static <S> CimSubscription<S> of(@NonNull Class<S> entityClass, @NonNull String cimClassName, @NonNull Function<S, ?> key) {
+        if (!CLASS_NAME.matcher(cimClassName).matches())
+            throw new IllegalArgumentException("Invalid CIM class name: " + cimClassName);
+        return new CimSubscription<>(entityClass, cimClassName, key);
+    }
+
+    /**
+     * Returns the properties carried by the indications, which are the ones the entity class maps
+     *
+     * @return an immutable list of the property names
+     */
+    @NotNull
+    public List<String> getProperties() {
+        return ReflectionUtility.getSerializedNames(entityClass);
+    }
+}
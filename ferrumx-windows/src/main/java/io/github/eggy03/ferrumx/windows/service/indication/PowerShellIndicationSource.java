@@ -0,0 +1,291 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.service.indication;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.github.eggy03.ferrumx.windows.exception.TerminalExecutionException;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A {@link CimIndicationSource} running one long-lived PowerShell process that subscribes to the
+ * {@code __InstanceCreationEvent}, {@code __InstanceDeletionEvent} and {@code __InstanceModificationEvent}
+ * indications of every subscribed class through {@code Register-CimIndicationEvent}
+ * <p>
+ * The process writes every indication to its standard output as a frame: a single line made of
+ * {@link #FRAME_PREFIX} followed by a compressed JSON object with the {@code Kind} ({@code Created},
+ * {@code Deleted} or {@code Modified}), the {@code ClassName} and the {@code Instance} of the indication.
+ * Lines without the prefix are ignored, and so are frames that cannot be parsed.
+ * </p>
+ * <p>
+ * CIM polls the subscribed classes for changes every {@link #getPollingInterval() polling interval}.
+ * The process exits on its own once the JVM that launched it is gone. If it exits while the source is open,
+ * the listener is {@link CimIndicationListener#onDisconnect(Throwable) notified}, and the source may be started
+ * again. A custom command, such as a stub replaying a scripted stream of frames, can be launched instead of
+ * PowerShell on systems without it. Instances of this class are thread-safe.
+ * </p>
+ *
+ * <h2>Usage example</h2>
+ * <pre>{@code
+ * try (CimIndicationSubscriber subscriber = new CimIndicationSubscriber(new PowerShellIndicationSource(5))) {
+ *     subscriber.register(CimSubscription.WIN32_PROCESS, processes).start();
+ *     // ...
+ * }
+ * }</pre>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@Slf4j
+public class PowerShellIndicationSource implements CimIndicationSource {
+
+    /**
+     * The prefix of the lines carrying an indication
+     */
+    public static final String FRAME_PREFIX = "<<ferrumx:indication>>";
+
+    /**
+     * The polling interval (in seconds) of a source created by the default constructor
+     */
+    public static final int DEFAULT_POLLING_INTERVAL = 2;
+
+    private static final List<String> EVENT_CLASSES = Collections.unmodifiableList(Arrays.asList(
+            "__InstanceCreationEvent", "__InstanceDeletionEvent", "__InstanceModificationEvent"));
+
+    @Nullable
+    private final List<String> command;
+
+    private final int pollingInterval;
+
+    private volatile Process process;
+    private volatile boolean closed;
+
+    /**
+     * Creates a source subscribing through PowerShell, with CIM polling for changes every
+     * {@link #DEFAULT_POLLING_INTERVAL} seconds
+     */
+    public PowerShellIndicationSource() {
+        this(DEFAULT_POLLING_INTERVAL);
+    }
+
+    /**
+     * Creates a source subscribing through PowerShell, with CIM polling for changes at the given interval
+     *
+     * @param pollingInterval the interval (in seconds) at which CIM polls the subscribed classes for changes
+     * @throws IllegalArgumentException if the interval is less than 1
+     */
+    public PowerShellIndicationSource(int pollingInterval) {
+        if (pollingInterval < 1)
+            throw new IllegalArgumentException("Polling interval must be at least 1 second");
+        this.command = null;
+        this.pollingInterval = pollingInterval;
+    }
+
+    /**
+     * Creates a source launching a custom command instead of PowerShell
+     * <p>
+     * The launched process must write frames as described in the class documentation,
+     * and is not told which classes are subscribed.
+     * </p>
+     *
+     * @param command the executable and arguments of the process
+     * @throws IllegalArgumentException if the command is empty
+     */
+    public PowerShellIndicationSource(@NonNull List<String> command) {
+        if (command.isEmpty())
+            throw new IllegalArgumentException("Command cannot be empty");
+        this.command = Collections.unmodifiableList(new ArrayList<>(command));
+        this.pollingInterval = DEFAULT_POLLING_INTERVAL;
+    }
+
+    /**
+     * Returns the interval at which CIM polls the subscribed classes for changes
+     *
+     * @return the polling interval (in seconds)
+     */
+    public int getPollingInterval() {
+        return pollingInterval;
+    }
+
+    @Override
+    public synchronized void start(@NonNull List<CimSubscription<?>> subscriptions, @NonNull CimIndicationListener listener) {
+
+        if (process != null && process.isAlive() && !closed)
+            throw new IllegalStateException("The indication source is already started");
+        if (subscriptions.isEmpty())
+            throw new IllegalArgumentException("No classes to subscribe to");
+
+        List<String> processCommand = command != null ? command : powerShellCommand(subscriptions, pollingInterval);
+        Process started;
+        try {
+            started = new ProcessBuilder(processCommand).start();
+            started.getOutputStream().close(); // the subscriber never reads from stdin
+        } catch (IOException e) {
+            throw new TerminalExecutionException("Could not launch the CIM indication subscriber", e);
+        }
+        process = started;
+        closed = false;
+
+        startDaemon("ferrumx-indication-stdout-" + started.hashCode(), () -> readFrames(started, listener));
+        startDaemon("ferrumx-indication-stderr-" + started.hashCode(), () -> {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(started.getErrorStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null)
+                    log.debug("CIM indication subscriber error stream: {}", line);
+            } catch (IOException e) {
+                log.trace("CIM indication subscriber stderr closed", e);
+            }
+        });
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (process != null)
+            process.destroyForcibly();
+    }
+
+    private void readFrames(@NotNull Process source, @NotNull CimIndicationListener listener) {
+
+        Throwable cause = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(source.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                CimIndication indication = parseFrame(line);
+                if (indication == null)
+                    continue;
+                try {
+                    listener.onIndication(indication);
+                } catch (RuntimeException e) {
+                    log.warn("CIM indication listener failed on {} of {}", indication.getKind(), indication.getClassName(), e);
+                }
+            }
+        } catch (IOException e) {
+            cause = e;
+        }
+
+        if (closed || process != source)
+            return;
+        if (cause == null) {
+            try {
+                cause = new TerminalExecutionException("CIM indication subscriber exited with code " + source.waitFor());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cause = e;
+            }
+        }
+        log.warn("CIM indication subscriber stopped, indications may have been missed", cause);
+        listener.onDisconnect(cause);
+    }
+
+    /**
+     * Parses a line of the output of the subscriber process
+     *
+     * @param line the line
+     * @return the indication the line carries, or {@code null} if it carries none or is malformed
+     */
+    @Nullable
+    static CimIndication parseFrame(@NotNull String line) {
+
+        if (!line.startsWith(FRAME_PREFIX)) {
+            log.trace("Ignoring a line of the CIM indication subscriber: {}", line);
+            return null;
+        }
+
+        try {
+            JsonObject frame = JsonParser.parseString(line.substring(FRAME_PREFIX.length())).getAsJsonObject();
+            CimIndication.Kind kind = CimIndication.Kind.valueOf(frame.get("Kind").getAsString().toUpperCase(Locale.ROOT));
+            String className = frame.get("ClassName").getAsString();
+            JsonElement instance = frame.get("Instance");
+            if (instance == null || !instance.isJsonObject())
+                throw new IllegalArgumentException("The frame carries no instance");
+            return new CimIndication(kind, className, instance.toString());
+        } catch (RuntimeException e) {
+            // a JsonParseException, an IllegalStateException of a non-object or a missing or unknown member
+            log.warn("Ignoring a malformed CIM indication frame: {}", line, e);
+            return null;
+        }
+    }
+
+    @NotNull
+    static String buildScript(@NotNull List<CimSubscription<?>> subscriptions, int pollingInterval, long parentProcessId) {
+
+        StringBuilder script = new StringBuilder()
+                .append("[Console]::OutputEncoding = New-Object System.Text.UTF8Encoding $false\n")
+                .append("$ErrorActionPreference = 'Stop'\n")
+                .append("$stdout = [Console]::Out\n")
+                .append("$kinds = @{ '__InstanceCreationEvent' = 'Created'; '__InstanceDeletionEvent' = 'Deleted'; '__InstanceModificationEvent' = 'Modified' }\n")
+                .append("$properties = @{}\n");
+
+        for (CimSubscription<?> subscription : subscriptions) {
+            String className = subscription.getCimClassName();
+            script.append("$properties['").append(className).append("'] = @('")
+                    .append(String.join("', '", subscription.getProperties())).append("')\n");
+            for (String eventClass : EVENT_CLASSES) {
+                script.append("Register-CimIndicationEvent -Namespace root/cimv2 -Query \"SELECT * FROM ").append(eventClass)
+                        .append(" WITHIN ").append(pollingInterval)
+                        .append(" WHERE TargetInstance ISA '").append(className).append("'\" -SourceIdentifier 'ferrumx:")
+                        .append(className).append(':').append(eventClass).append("' | Out-Null\n");
+            }
+        }
+
+        // the subscriber exits once the JVM that launched it is gone, instead of lingering until the next reboot
+        return script
+                .append("while ($true) {\n")
+                .append("    $event = Wait-Event -Timeout 5\n")
+                .append("    if ($null -eq $event) {\n")
+                .append("        if ($null -eq (Get-Process -Id ").append(parentProcessId).append(" -ErrorAction SilentlyContinue)) { exit }\n")
+                .append("        continue\n")
+                .append("    }\n")
+                .append("    Remove-Event -EventIdentifier $event.EventIdentifier\n")
+                .append("    $source = $event.SourceIdentifier.Split(':')\n")
+                .append("    $instance = $event.SourceEventArgs.NewEvent.TargetInstance | Select-Object -Property $properties[$source[1]]\n")
+                .append("    $frame = [PSCustomObject]@{ Kind = $kinds[$source[2]]; ClassName = $source[1]; Instance = $instance } | ConvertTo-Json -Compress -Depth 4\n")
+                .append("    $stdout.WriteLine('").append(FRAME_PREFIX).append("' + $frame)\n")
+                .append("    $stdout.Flush()\n")
+                .append("}\n")
+                .toString();
+    }
+
+    @NotNull
+    private static List<String> powerShellCommand(@NotNull List<CimSubscription<?>> subscriptions, int pollingInterval) {
+        String script = buildScript(subscriptions, pollingInterval, currentProcessId());
+        return Arrays.asList("powershell.exe", "-NoLogo", "-NoProfile", "-NonInteractive", "-EncodedCommand",
+                Base64.getEncoder().encodeToString(script.getBytes(StandardCharsets.UTF_16LE)));
+    }
+
+    // Java 8 has no ProcessHandle, but the name of the runtime is "<pid>@<host>" on the usual JVMs
+    private static long currentProcessId() {
+        String name = ManagementFactory.getRuntimeMXBean().getName();
+        try {
+            return Long.parseLong(name.substring(0, name.indexOf('@')));
+        } catch (RuntimeException e) {
+            throw new TerminalExecutionException("Could not determine the process ID of the JVM from " + name, e);
+        }
+    }
+
+    private static void startDaemon(@NotNull String name, @NotNull Runnable task) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
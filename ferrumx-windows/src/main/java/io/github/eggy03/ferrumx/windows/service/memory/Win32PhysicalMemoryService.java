@@ -9,6 +9,9 @@ import com.profesorfalken.jpowershell.PowerShell;
 import com.profesorfalken.jpowershell.PowerShellResponse;
 import io.github.eggy03.ferrumx.windows.constant.namespace.Cimv2Namespace;
 import io.github.eggy03.ferrumx.windows.entity.memory.Win32PhysicalMemory;
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
+import io.github.eggy03.ferrumx.windows.executor.MappingKey;
+import io.github.eggy03.ferrumx.windows.executor.TerminalCommandExecutor;
 import io.github.eggy03.ferrumx.windows.mapping.memory.Win32PhysicalMemoryMapper;
 import io.github.eggy03.ferrumx.windows.service.CommonServiceInterface;
 import io.github.eggy03.ferrumx.windows.utility.TerminalUtility;
@@ -43,6 +46,10 @@ import java.util.List;
  * // API with execution timeout (auto-created session is terminated if the timeout is exceeded)
  * Win32PhysicalMemoryService service = new Win32PhysicalMemoryService();
  * List<Win32PhysicalMemory> memories = service.get(10);
+ *
+ * // API with a custom command executor (e.g. a pool of long-lived PowerShell workers)
+ * Win32PhysicalMemoryService service = new Win32PhysicalMemoryService(new PooledCommandExecutor(pool));
+ * List<Win32PhysicalMemory> memories = service.get(10);
  * }</pre>
  *
  * <h2>Execution models and concurrency</h2>
@@ -69,6 +76,9 @@ import java.util.List;
  *     standalone PowerShell process per invocation using
  *     {@link TerminalUtility}. Each call is fully isolated and
  *     <b>safe to use in multithreaded and executor-based environments</b>.
+ *     <br>
+ *     The PowerShell backend used by this method can be replaced by creating the
+ *     service with a different {@link CommandExecutor}.
  *   </li>
  * </ul>
  *
@@ -82,6 +92,27 @@ import java.util.List;
 @Slf4j
 public class Win32PhysicalMemoryService implements CommonServiceInterface<Win32PhysicalMemory> {
 
+    @NonNull
+    private final CommandExecutor commandExecutor;
+
+    /**
+     * Creates a service whose {@link #get(long)} method launches an isolated PowerShell process
+     * per invocation through {@link TerminalCommandExecutor}
+     */
+    public Win32PhysicalMemoryService() {
+        this(new TerminalCommandExecutor());
+    }
+
+    /**
+     * Creates a service whose {@link #get(long)} method runs its PowerShell query through the given executor
+     *
+     * @param commandExecutor the executor used to run the PowerShell query
+     * @since 4.1.0
+     */
+    public Win32PhysicalMemoryService(@NonNull CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
     /**
      * Retrieves an immutable list of physical memory modules present in the system.
      * <p>
@@ -122,7 +153,8 @@ public class Win32PhysicalMemoryService implements CommonServiceInterface<Win32P
      * Retrieves an immutable list of physical memory modules connected to the system
      * using an isolated PowerShell process with a configurable timeout.
      * <p>
-     * Each invocation creates an isolated PowerShell process, which is
+     * Unless a different {@link CommandExecutor} was supplied through the constructor,
+     * each invocation creates an isolated PowerShell process, which is
      * pre-maturely terminated if execution exceeds the specified timeout.
      * </p>
      *
@@ -136,9 +168,10 @@ public class Win32PhysicalMemoryService implements CommonServiceInterface<Win32P
     @Override
     public List<Win32PhysicalMemory> get(long timeout) {
         String command = Cimv2Namespace.WIN32_PHYSICAL_MEMORY_QUERY.getQuery();
-        String response = TerminalUtility.executeCommand(command, timeout);
-        log.trace("PowerShell response for the apache terminal session: \n{}", response);
-        return new Win32PhysicalMemoryMapper().mapToList(response, Win32PhysicalMemory.class);
+        return commandExecutor.executeAndMap(command, timeout, MappingKey.of(Win32PhysicalMemoryMapper.class, "mapToList", Win32PhysicalMemory.class), response -> {
+            log.trace("PowerShell response for the command executor: \n{}", response);
+            return new Win32PhysicalMemoryMapper().mapToList(response, Win32PhysicalMemory.class);
+        });
     }
 
 }
\ No newline at end of file
@@ -9,6 +9,9 @@ import com.profesorfalken.jpowershell.PowerShell;
 import com.profesorfalken.jpowershell.PowerShellResponse;
 import io.github.eggy03.ferrumx.windows.constant.namespace.StandardCimv2Namespace;
 import io.github.eggy03.ferrumx.windows.entity.network.MsftNetConnectionProfile;
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
+import io.github.eggy03.ferrumx.windows.executor.MappingKey;
+import io.github.eggy03.ferrumx.windows.executor.TerminalCommandExecutor;
 import io.github.eggy03.ferrumx.windows.mapping.network.MsftNetConnectionProfileMapper;
 import io.github.eggy03.ferrumx.windows.service.CommonServiceInterface;
 import io.github.eggy03.ferrumx.windows.utility.TerminalUtility;
@@ -40,6 +43,10 @@ import java.util.List;
  * // API with execution timeout (auto-created session is terminated if the timeout is exceeded)
  * MsftNetConnectionProfileService service = new MsftNetConnectionProfileService();
  * List<MsftNetConnectionProfile> profiles = service.get(10);
+ *
+ * // API with a custom command executor (e.g. a pool of long-lived PowerShell workers)
+ * MsftNetConnectionProfileService service = new MsftNetConnectionProfileService(new PooledCommandExecutor(pool));
+ * List<MsftNetConnectionProfile> profiles = service.get(10);
  * }</pre>
  *
  * <h2>Execution models and concurrency</h2>
@@ -66,6 +73,9 @@ import java.util.List;
  *     standalone PowerShell process per invocation using
  *     {@link TerminalUtility}. Each call is fully isolated and
  *     <b>safe to use in multithreaded and executor-based environments</b>.
+ *     <br>
+ *     The PowerShell backend used by this method can be replaced by creating the
+ *     service with a different {@link CommandExecutor}.
  *   </li>
  * </ul>
  *
@@ -79,6 +89,27 @@ import java.util.List;
 @Slf4j
 public class MsftNetConnectionProfileService implements CommonServiceInterface<MsftNetConnectionProfile> {
 
+    @NonNull
+    private final CommandExecutor commandExecutor;
+
+    /**
+     * Creates a service whose {@link #get(long)} method launches an isolated PowerShell process
+     * per invocation through {@link TerminalCommandExecutor}
+     */
+    public MsftNetConnectionProfileService() {
+        this(new TerminalCommandExecutor());
+    }
+
+    /**
+     * Creates a service whose {@link #get(long)} method runs its PowerShell query through the given executor
+     *
+     * @param commandExecutor the executor used to run the PowerShell query
+     * @since 4.1.0
+     */
+    public MsftNetConnectionProfileService(@NonNull CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
     /**
      * Retrieves an immutable list of connection profiles for all network adapters present in the system.
      * <p>
@@ -118,7 +149,8 @@ public class MsftNetConnectionProfileService implements CommonServiceInterface<M
      * Retrieves an immutable list of connection profiles for all network adapters connected to the system
      * using an isolated PowerShell process with a configurable timeout.
      * <p>
-     * Each invocation creates an isolated PowerShell process, which is
+     * Unless a different {@link CommandExecutor} was supplied through the constructor,
+     * each invocation creates an isolated PowerShell process, which is
      * pre-maturely terminated if execution exceeds the specified timeout.
      * </p>
      *
@@ -132,8 +164,9 @@ public class MsftNetConnectionProfileService implements CommonServiceInterface<M
     @Override
     public List<MsftNetConnectionProfile> get(long timeout) {
         String command = StandardCimv2Namespace.MSFT_NET_CONNECTION_PROFILE_QUERY.getQuery();
-        String response = TerminalUtility.executeCommand(command, timeout);
-        log.trace("PowerShell response for the apache terminal session: \n{}", response);
-        return new MsftNetConnectionProfileMapper().mapToList(response, MsftNetConnectionProfile.class);
+        return commandExecutor.executeAndMap(command, timeout, MappingKey.of(MsftNetConnectionProfileMapper.class, "mapToList", MsftNetConnectionProfile.class), response -> {
+            log.trace("PowerShell response for the command executor: \n{}", response);
+            return new MsftNetConnectionProfileMapper().mapToList(response, MsftNetConnectionProfile.class);
+        });
     }
 }
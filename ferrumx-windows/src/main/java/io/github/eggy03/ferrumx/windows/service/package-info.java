@@ -13,6 +13,10 @@
  *   <li>Map the result using mappers defined in the {@link io.github.eggy03.ferrumx.windows.mapping} package</li>
  *   <li>Into instances of entity classes defined in the {@link io.github.eggy03.ferrumx.windows.entity} package</li>
  * </ul>
+ * <p>
+ * The PowerShell backend used by the timeout based methods of these services can be replaced by passing a
+ * {@link io.github.eggy03.ferrumx.windows.executor.CommandExecutor} to their constructors.
+ * </p>
  *
  * @author Egg-03
  * @since 2.0.0
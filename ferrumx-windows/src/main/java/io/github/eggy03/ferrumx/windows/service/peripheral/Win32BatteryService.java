@@ -9,6 +9,9 @@ import com.profesorfalken.jpowershell.PowerShell;
 import com.profesorfalken.jpowershell.PowerShellResponse;
 import io.github.eggy03.ferrumx.windows.constant.namespace.Cimv2Namespace;
 import io.github.eggy03.ferrumx.windows.entity.peripheral.Win32Battery;
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
+import io.github.eggy03.ferrumx.windows.executor.MappingKey;
+import io.github.eggy03.ferrumx.windows.executor.TerminalCommandExecutor;
 import io.github.eggy03.ferrumx.windows.mapping.peripheral.Win32BatteryMapper;
 import io.github.eggy03.ferrumx.windows.service.CommonServiceInterface;
 import io.github.eggy03.ferrumx.windows.utility.TerminalUtility;
@@ -39,6 +42,10 @@ import java.util.List;
  * // API with execution timeout (auto-created session is terminated if the timeout is exceeded)
  * Win32BatteryService service = new Win32BatteryService();
  * List<Win32Battery> batteries = service.get(10);
+ *
+ * // API with a custom command executor (e.g. a pool of long-lived PowerShell workers)
+ * Win32BatteryService service = new Win32BatteryService(new PooledCommandExecutor(pool));
+ * List<Win32Battery> batteries = service.get(10);
  * }</pre>
  *
  * <h2>Execution models and concurrency</h2>
@@ -65,6 +72,9 @@ import java.util.List;
  *     standalone PowerShell process per invocation using
  *     {@link TerminalUtility}. Each call is fully isolated and
  *     <b>safe to use in multithreaded and executor-based environments</b>.
+ *     <br>
+ *     The PowerShell backend used by this method can be replaced by creating the
+ *     service with a different {@link CommandExecutor}.
  *   </li>
  * </ul>
  *
@@ -78,6 +88,27 @@ import java.util.List;
 @Slf4j
 public class Win32BatteryService implements CommonServiceInterface<Win32Battery> {
 
+    @NonNull
+    private final CommandExecutor commandExecutor;
+
+    /**
+     * Creates a service whose {@link #get(long)} method launches an isolated PowerShell process
+     * per invocation through {@link TerminalCommandExecutor}
+     */
+    public Win32BatteryService() {
+        this(new TerminalCommandExecutor());
+    }
+
+    /**
+     * Creates a service whose {@link #get(long)} method runs its PowerShell query through the given executor
+     *
+     * @param commandExecutor the executor used to run the PowerShell query
+     * @since 4.1.0
+     */
+    public Win32BatteryService(@NonNull CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
     /**
      * Retrieves an immutable list of batteries present on the system.
      * <p>
@@ -119,7 +150,8 @@ public class Win32BatteryService implements CommonServiceInterface<Win32Battery>
      * Retrieves an immutable list of batteries present on the system
      * using an isolated PowerShell process with a configurable timeout.
      * <p>
-     * Each invocation creates an isolated PowerShell process, which is
+     * Unless a different {@link CommandExecutor} was supplied through the constructor,
+     * each invocation creates an isolated PowerShell process, which is
      * pre-maturely terminated if execution exceeds the specified timeout.
      * </p>
      *
@@ -133,8 +165,9 @@ public class Win32BatteryService implements CommonServiceInterface<Win32Battery>
     @Override
     public List<Win32Battery> get(long timeout) {
         String command = Cimv2Namespace.WIN32_BATTERY_QUERY.getQuery();
-        String response = TerminalUtility.executeCommand(command, timeout);
-        log.trace("PowerShell response for the apache terminal session: \n{}", response);
-        return new Win32BatteryMapper().mapToList(response, Win32Battery.class);
+        return commandExecutor.executeAndMap(command, timeout, MappingKey.of(Win32BatteryMapper.class, "mapToList", Win32Battery.class), response -> {
+            log.trace("PowerShell response for the command executor: \n{}", response);
+            return new Win32BatteryMapper().mapToList(response, Win32Battery.class);
+        });
     }
 }
\ No newline at end of file
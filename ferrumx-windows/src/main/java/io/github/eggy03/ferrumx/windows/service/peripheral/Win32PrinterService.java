@@ -9,6 +9,9 @@ import com.profesorfalken.jpowershell.PowerShell;
 import com.profesorfalken.jpowershell.PowerShellResponse;
 import io.github.eggy03.ferrumx.windows.constant.namespace.Cimv2Namespace;
 import io.github.eggy03.ferrumx.windows.entity.peripheral.Win32Printer;
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
+import io.github.eggy03.ferrumx.windows.executor.MappingKey;
+import io.github.eggy03.ferrumx.windows.executor.TerminalCommandExecutor;
 import io.github.eggy03.ferrumx.windows.mapping.peripheral.Win32PrinterMapper;
 import io.github.eggy03.ferrumx.windows.service.CommonServiceInterface;
 import io.github.eggy03.ferrumx.windows.utility.TerminalUtility;
@@ -39,6 +42,10 @@ import java.util.List;
  * // API with execution timeout (auto-created session is terminated if the timeout is exceeded)
  * Win32PrinterService service = new Win32PrinterService();
  * List<Win32Printer> printers = service.get(10);
+ *
+ * // API with a custom command executor (e.g. a pool of long-lived PowerShell workers)
+ * Win32PrinterService service = new Win32PrinterService(new PooledCommandExecutor(pool));
+ * List<Win32Printer> printers = service.get(10);
  * }</pre>
  *
  * <h2>Execution models and concurrency</h2>
@@ -65,6 +72,9 @@ import java.util.List;
  *     standalone PowerShell process per invocation using
  *     {@link TerminalUtility}. Each call is fully isolated and
  *     <b>safe to use in multithreaded and executor-based environments</b>.
+ *     <br>
+ *     The PowerShell backend used by this method can be replaced by creating the
+ *     service with a different {@link CommandExecutor}.
  *   </li>
  * </ul>
  *
@@ -78,6 +88,27 @@ import java.util.List;
 @Slf4j
 public class Win32PrinterService implements CommonServiceInterface<Win32Printer> {
 
+    @NonNull
+    private final CommandExecutor commandExecutor;
+
+    /**
+     * Creates a service whose {@link #get(long)} method launches an isolated PowerShell process
+     * per invocation through {@link TerminalCommandExecutor}
+     */
+    public Win32PrinterService() {
+        this(new TerminalCommandExecutor());
+    }
+
+    /**
+     * Creates a service whose {@link #get(long)} method runs its PowerShell query through the given executor
+     *
+     * @param commandExecutor the executor used to run the PowerShell query
+     * @since 4.1.0
+     */
+    public Win32PrinterService(@NonNull CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
     /**
      * Retrieves an immutable list of printers present on the system.
      * <p>
@@ -117,7 +148,8 @@ public class Win32PrinterService implements CommonServiceInterface<Win32Printer>
      * Retrieves an immutable list of printers connected to the system
      * using an isolated PowerShell process with a configurable timeout.
      * <p>
-     * Each invocation creates an isolated PowerShell process, which is
+     * Unless a different {@link CommandExecutor} was supplied through the constructor,
+     * each invocation creates an isolated PowerShell process, which is
      * pre-maturely terminated if execution exceeds the specified timeout.
      * </p>
      *
@@ -131,8 +163,9 @@ public class Win32PrinterService implements CommonServiceInterface<Win32Printer>
     @Override
     public List<Win32Printer> get(long timeout) {
         String command = Cimv2Namespace.WIN32_PRINTER_QUERY.getQuery();
-        String response = TerminalUtility.executeCommand(command, timeout);
-        log.trace("PowerShell response for the apache terminal session: \n{}", response);
-        return new Win32PrinterMapper().mapToList(response, Win32Printer.class);
+        return commandExecutor.executeAndMap(command, timeout, MappingKey.of(Win32PrinterMapper.class, "mapToList", Win32Printer.class), response -> {
+            log.trace("PowerShell response for the command executor: \n{}", response);
+            return new Win32PrinterMapper().mapToList(response, Win32Printer.class);
+        });
     }
 }
@@ -9,6 +9,9 @@ import com.profesorfalken.jpowershell.PowerShell;
 import com.profesorfalken.jpowershell.PowerShellResponse;
 import io.github.eggy03.ferrumx.windows.constant.namespace.Cimv2Namespace;
 import io.github.eggy03.ferrumx.windows.entity.processor.Win32CacheMemory;
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
+import io.github.eggy03.ferrumx.windows.executor.MappingKey;
+import io.github.eggy03.ferrumx.windows.executor.TerminalCommandExecutor;
 import io.github.eggy03.ferrumx.windows.mapping.processor.Win32CacheMemoryMapper;
 import io.github.eggy03.ferrumx.windows.service.CommonServiceInterface;
 import io.github.eggy03.ferrumx.windows.utility.TerminalUtility;
@@ -40,6 +43,10 @@ import java.util.List;
  * // API with execution timeout (auto-created session is terminated if the timeout is exceeded)
  * Win32CacheMemoryService service = new Win32CacheMemoryService();
  * List<Win32CacheMemory> caches = service.get(10);
+ *
+ * // API with a custom command executor (e.g. a pool of long-lived PowerShell workers)
+ * Win32CacheMemoryService service = new Win32CacheMemoryService(new PooledCommandExecutor(pool));
+ * List<Win32CacheMemory> caches = service.get(10);
  * }</pre>
  *
  * <h2>Execution models and concurrency</h2>
@@ -66,6 +73,9 @@ import java.util.List;
  *     standalone PowerShell process per invocation using
  *     {@link TerminalUtility}. Each call is fully isolated and
  *     <b>safe to use in multithreaded and executor-based environments</b>.
+ *     <br>
+ *     The PowerShell backend used by this method can be replaced by creating the
+ *     service with a different {@link CommandExecutor}.
  *   </li>
  * </ul>
  *
@@ -79,6 +89,27 @@ import java.util.List;
 @Slf4j
 public class Win32CacheMemoryService implements CommonServiceInterface<Win32CacheMemory> {
 
+    @NonNull
+    private final CommandExecutor commandExecutor;
+
+    /**
+     * Creates a service whose {@link #get(long)} method launches an isolated PowerShell process
+     * per invocation through {@link TerminalCommandExecutor}
+     */
+    public Win32CacheMemoryService() {
+        this(new TerminalCommandExecutor());
+    }
+
+    /**
+     * Creates a service whose {@link #get(long)} method runs its PowerShell query through the given executor
+     *
+     * @param commandExecutor the executor used to run the PowerShell query
+     * @since 4.1.0
+     */
+    public Win32CacheMemoryService(@NonNull CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
     /**
      * Retrieves an immutable list of processor cache entries present in the system.
      * <p>
@@ -119,7 +150,8 @@ public class Win32CacheMemoryService implements CommonServiceInterface<Win32Cach
      * Retrieves an immutable list of processor cache entries
      * using an isolated PowerShell process with a configurable timeout.
      * <p>
-     * Each invocation creates an isolated PowerShell process, which is
+     * Unless a different {@link CommandExecutor} was supplied through the constructor,
+     * each invocation creates an isolated PowerShell process, which is
      * pre-maturely terminated if execution exceeds the specified timeout.
      * </p>
      *
@@ -133,8 +165,9 @@ public class Win32CacheMemoryService implements CommonServiceInterface<Win32Cach
     @Override
     public List<Win32CacheMemory> get(long timeout) {
         String command = Cimv2Namespace.WIN32_CACHE_MEMORY_QUERY.getQuery();
-        String response = TerminalUtility.executeCommand(command, timeout);
-        log.trace("PowerShell response for the apache terminal session: \n{}", response);
-        return new Win32CacheMemoryMapper().mapToList(response, Win32CacheMemory.class);
+        return commandExecutor.executeAndMap(command, timeout, MappingKey.of(Win32CacheMemoryMapper.class, "mapToList", Win32CacheMemory.class), response -> {
+            log.trace("PowerShell response for the command executor: \n{}", response);
+            return new Win32CacheMemoryMapper().mapToList(response, Win32CacheMemory.class);
+        });
     }
 }
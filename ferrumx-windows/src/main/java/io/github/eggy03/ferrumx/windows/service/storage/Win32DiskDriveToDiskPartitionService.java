@@ -11,6 +11,9 @@ import io.github.eggy03.ferrumx.windows.constant.namespace.Cimv2Namespace;
 import io.github.eggy03.ferrumx.windows.entity.storage.Win32DiskDrive;
 import io.github.eggy03.ferrumx.windows.entity.storage.Win32DiskDriveToDiskPartition;
 import io.github.eggy03.ferrumx.windows.entity.storage.Win32DiskPartition;
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
+import io.github.eggy03.ferrumx.windows.executor.MappingKey;
+import io.github.eggy03.ferrumx.windows.executor.TerminalCommandExecutor;
 import io.github.eggy03.ferrumx.windows.mapping.storage.Win32DiskDriveToDiskPartitionMapper;
 import io.github.eggy03.ferrumx.windows.service.CommonServiceInterface;
 import io.github.eggy03.ferrumx.windows.utility.TerminalUtility;
@@ -42,6 +45,10 @@ import java.util.List;
  * // API with execution timeout (auto-created session is terminated if the timeout is exceeded)
  * Win32DiskDriveToDiskPartitionServiceservice = new Win32DiskDriveToDiskPartitionService();
  * List<Win32DiskDriveToDiskPartition> ddt = service.get(10);
+ *
+ * // API with a custom command executor (e.g. a pool of long-lived PowerShell workers)
+ * Win32DiskDriveToDiskPartitionServiceservice = new Win32DiskDriveToDiskPartitionService(new PooledCommandExecutor(pool));
+ * List<Win32DiskDriveToDiskPartition> ddt = service.get(10);
  * }</pre>
  *
  * <h2>Execution models and concurrency</h2>
@@ -68,6 +75,9 @@ import java.util.List;
  *     standalone PowerShell process per invocation using
  *     {@link TerminalUtility}. Each call is fully isolated and
  *     <b>safe to use in multithreaded and executor-based environments</b>.
+ *     <br>
+ *     The PowerShell backend used by this method can be replaced by creating the
+ *     service with a different {@link CommandExecutor}.
  *   </li>
  * </ul>
  *
@@ -81,6 +91,27 @@ import java.util.List;
 @Slf4j
 public class Win32DiskDriveToDiskPartitionService implements CommonServiceInterface<Win32DiskDriveToDiskPartition> {
 
+    @NonNull
+    private final CommandExecutor commandExecutor;
+
+    /**
+     * Creates a service whose {@link #get(long)} method launches an isolated PowerShell process
+     * per invocation through {@link TerminalCommandExecutor}
+     */
+    public Win32DiskDriveToDiskPartitionService() {
+        this(new TerminalCommandExecutor());
+    }
+
+    /**
+     * Creates a service whose {@link #get(long)} method runs its PowerShell query through the given executor
+     *
+     * @param commandExecutor the executor used to run the PowerShell query
+     * @since 4.1.0
+     */
+    public Win32DiskDriveToDiskPartitionService(@NonNull CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
     /**
      * Retrieves an immutable list of {@link Win32DiskDriveToDiskPartition} entities present in the system.
      * <p>
@@ -121,7 +152,8 @@ public class Win32DiskDriveToDiskPartitionService implements CommonServiceInterf
      * Retrieves an immutable list of {@link Win32DiskDriveToDiskPartition} entities
      * using an isolated PowerShell process with a configurable timeout.
      * <p>
-     * Each invocation creates an isolated PowerShell process, which is
+     * Unless a different {@link CommandExecutor} was supplied through the constructor,
+     * each invocation creates an isolated PowerShell process, which is
      * pre-maturely terminated if execution exceeds the specified timeout.
      * </p>
      *
@@ -136,8 +168,9 @@ public class Win32DiskDriveToDiskPartitionService implements CommonServiceInterf
     @Override
     public List<Win32DiskDriveToDiskPartition> get(long timeout) {
         String command = Cimv2Namespace.WIN32_DISK_DRIVE_TO_DISK_PARTITION_QUERY.getQuery();
-        String response = TerminalUtility.executeCommand(command, timeout);
-        log.trace("PowerShell response for the apache terminal session: \n{}", response);
-        return new Win32DiskDriveToDiskPartitionMapper().mapToList(response, Win32DiskDriveToDiskPartition.class);
+        return commandExecutor.executeAndMap(command, timeout, MappingKey.of(Win32DiskDriveToDiskPartitionMapper.class, "mapToList", Win32DiskDriveToDiskPartition.class), response -> {
+            log.trace("PowerShell response for the command executor: \n{}", response);
+            return new Win32DiskDriveToDiskPartitionMapper().mapToList(response, Win32DiskDriveToDiskPartition.class);
+        });
     }
 }
@@ -9,6 +9,9 @@ import com.profesorfalken.jpowershell.PowerShell;
 import com.profesorfalken.jpowershell.PowerShellResponse;
 import io.github.eggy03.ferrumx.windows.constant.namespace.Cimv2Namespace;
 import io.github.eggy03.ferrumx.windows.entity.storage.Win32DiskPartition;
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
+import io.github.eggy03.ferrumx.windows.executor.MappingKey;
+import io.github.eggy03.ferrumx.windows.executor.TerminalCommandExecutor;
 import io.github.eggy03.ferrumx.windows.mapping.storage.Win32DiskPartitionMapper;
 import io.github.eggy03.ferrumx.windows.service.CommonServiceInterface;
 import io.github.eggy03.ferrumx.windows.utility.TerminalUtility;
@@ -40,6 +43,10 @@ import java.util.List;
  * // API with execution timeout (auto-created session is terminated if the timeout is exceeded)
  * Win32DiskPartitionService service = new Win32DiskPartitionService();
  * List<Win32DiskPartition> partitions = service.get(10);
+ *
+ * // API with a custom command executor (e.g. a pool of long-lived PowerShell workers)
+ * Win32DiskPartitionService service = new Win32DiskPartitionService(new PooledCommandExecutor(pool));
+ * List<Win32DiskPartition> partitions = service.get(10);
  * }</pre>
  *
  * <h2>Execution models and concurrency</h2>
@@ -66,6 +73,9 @@ import java.util.List;
  *     standalone PowerShell process per invocation using
  *     {@link TerminalUtility}. Each call is fully isolated and
  *     <b>safe to use in multithreaded and executor-based environments</b>.
+ *     <br>
+ *     The PowerShell backend used by this method can be replaced by creating the
+ *     service with a different {@link CommandExecutor}.
  *   </li>
  * </ul>
  *
@@ -79,6 +89,27 @@ import java.util.List;
 @Slf4j
 public class Win32DiskPartitionService implements CommonServiceInterface<Win32DiskPartition> {
 
+    @NonNull
+    private final CommandExecutor commandExecutor;
+
+    /**
+     * Creates a service whose {@link #get(long)} method launches an isolated PowerShell process
+     * per invocation through {@link TerminalCommandExecutor}
+     */
+    public Win32DiskPartitionService() {
+        this(new TerminalCommandExecutor());
+    }
+
+    /**
+     * Creates a service whose {@link #get(long)} method runs its PowerShell query through the given executor
+     *
+     * @param commandExecutor the executor used to run the PowerShell query
+     * @since 4.1.0
+     */
+    public Win32DiskPartitionService(@NonNull CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
     /**
      * Retrieves an immutable list of disk partitions present in the system.
      * <p>
@@ -117,7 +148,8 @@ public class Win32DiskPartitionService implements CommonServiceInterface<Win32Di
      * Retrieves an immutable list of disk partitions
      * using an isolated PowerShell process with a configurable timeout.
      * <p>
-     * Each invocation creates an isolated PowerShell process, which is
+     * Unless a different {@link CommandExecutor} was supplied through the constructor,
+     * each invocation creates an isolated PowerShell process, which is
      * pre-maturely terminated if execution exceeds the specified timeout.
      * </p>
      *
@@ -131,9 +163,10 @@ public class Win32DiskPartitionService implements CommonServiceInterface<Win32Di
     @Override
     public List<Win32DiskPartition> get(long timeout) {
         String command = Cimv2Namespace.WIN32_DISK_PARTITION_QUERY.getQuery();
-        String response = TerminalUtility.executeCommand(command, timeout);
-        log.trace("PowerShell response for the apache terminal session: \n{}", response);
-        return new Win32DiskPartitionMapper().mapToList(response, Win32DiskPartition.class);
+        return commandExecutor.executeAndMap(command, timeout, MappingKey.of(Win32DiskPartitionMapper.class, "mapToList", Win32DiskPartition.class), response -> {
+            log.trace("PowerShell response for the command executor: \n{}", response);
+            return new Win32DiskPartitionMapper().mapToList(response, Win32DiskPartition.class);
+        });
     }
 
 }
\ No newline at end of file
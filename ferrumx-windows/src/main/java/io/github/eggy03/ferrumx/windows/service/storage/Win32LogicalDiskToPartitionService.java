@@ -11,6 +11,9 @@ import io.github.eggy03.ferrumx.windows.constant.namespace.Cimv2Namespace;
 import io.github.eggy03.ferrumx.windows.entity.storage.Win32DiskPartition;
 import io.github.eggy03.ferrumx.windows.entity.storage.Win32LogicalDisk;
 import io.github.eggy03.ferrumx.windows.entity.storage.Win32LogicalDiskToPartition;
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
+import io.github.eggy03.ferrumx.windows.executor.MappingKey;
+import io.github.eggy03.ferrumx.windows.executor.TerminalCommandExecutor;
 import io.github.eggy03.ferrumx.windows.mapping.storage.Win32LogicalDiskToPartitionMapper;
 import io.github.eggy03.ferrumx.windows.service.CommonServiceInterface;
 import io.github.eggy03.ferrumx.windows.utility.TerminalUtility;
@@ -42,6 +45,10 @@ import java.util.List;
  * // API with execution timeout (auto-created session is terminated if the timeout is exceeded)
  * Win32LogicalDiskToPartitionService service = new Win32LogicalDiskToPartitionService();
  * List<Win32LogicalDiskToPartition> ldt = ddtService.get(10);
+ *
+ * // API with a custom command executor (e.g. a pool of long-lived PowerShell workers)
+ * Win32LogicalDiskToPartitionService service = new Win32LogicalDiskToPartitionService(new PooledCommandExecutor(pool));
+ * List<Win32LogicalDiskToPartition> ldt = service.get(10);
  * }</pre>
  *
  * <h2>Execution models and concurrency</h2>
@@ -68,6 +75,9 @@ import java.util.List;
  *     standalone PowerShell process per invocation using
  *     {@link TerminalUtility}. Each call is fully isolated and
  *     <b>safe to use in multithreaded and executor-based environments</b>.
+ *     <br>
+ *     The PowerShell backend used by this method can be replaced by creating the
+ *     service with a different {@link CommandExecutor}.
  *   </li>
  * </ul>
  *
@@ -81,6 +91,27 @@ import java.util.List;
 @Slf4j
 public class Win32LogicalDiskToPartitionService implements CommonServiceInterface<Win32LogicalDiskToPartition> {
 
+    @NonNull
+    private final CommandExecutor commandExecutor;
+
+    /**
+     * Creates a service whose {@link #get(long)} method launches an isolated PowerShell process
+     * per invocation through {@link TerminalCommandExecutor}
+     */
+    public Win32LogicalDiskToPartitionService() {
+        this(new TerminalCommandExecutor());
+    }
+
+    /**
+     * Creates a service whose {@link #get(long)} method runs its PowerShell query through the given executor
+     *
+     * @param commandExecutor the executor used to run the PowerShell query
+     * @since 4.1.0
+     */
+    public Win32LogicalDiskToPartitionService(@NonNull CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
     /**
      * Retrieves an immutable list of {@link Win32LogicalDiskToPartition} entities present in the system.
      * <p>
@@ -121,7 +152,8 @@ public class Win32LogicalDiskToPartitionService implements CommonServiceInterfac
      * Retrieves an immutable list of {@link Win32LogicalDiskToPartition} entities
      * using an isolated PowerShell process with a configurable timeout.
      * <p>
-     * Each invocation creates an isolated PowerShell process, which is
+     * Unless a different {@link CommandExecutor} was supplied through the constructor,
+     * each invocation creates an isolated PowerShell process, which is
      * pre-maturely terminated if execution exceeds the specified timeout.
      * </p>
      *
@@ -136,8 +168,9 @@ public class Win32LogicalDiskToPartitionService implements CommonServiceInterfac
     @Override
     public List<Win32LogicalDiskToPartition> get(long timeout) {
         String command = Cimv2Namespace.WIN32_LOGICAL_DISK_TO_PARTITION_QUERY.getQuery();
-        String response = TerminalUtility.executeCommand(command, timeout);
-        log.trace("PowerShell response for the apache terminal session: \n{}", response);
-        return new Win32LogicalDiskToPartitionMapper().mapToList(response, Win32LogicalDiskToPartition.class);
+        return commandExecutor.executeAndMap(command, timeout, MappingKey.of(Win32LogicalDiskToPartitionMapper.class, "mapToList", Win32LogicalDiskToPartition.class), response -> {
+            log.trace("PowerShell response for the command executor: \n{}", response);
+            return new Win32LogicalDiskToPartitionMapper().mapToList(response, Win32LogicalDiskToPartition.class);
+        });
     }
 }
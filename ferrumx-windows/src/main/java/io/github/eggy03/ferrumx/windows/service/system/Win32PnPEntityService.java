@@ -0,0 +1,316 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.service.system;
+
+import com.profesorfalken.jpowershell.PowerShell;
+import com.profesorfalken.jpowershell.PowerShellResponse;
+import io.github.eggy03.ferrumx.windows.constant.namespace.Cimv2Namespace;
+import io.github.eggy03.ferrumx.windows.entity.system.Win32PnPEntity;
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
+import io.github.eggy03.ferrumx.windows.executor.MappingKey;
+import io.github.eggy03.ferrumx.windows.executor.TerminalCommandExecutor;
+import io.github.eggy03.ferrumx.windows.mapping.CommonMappingInterface;
+import io.github.eggy03.ferrumx.windows.mapping.system.Win32PnPEntityMapper;
+import io.github.eggy03.ferrumx.windows.query.PropertyMask;
+import io.github.eggy03.ferrumx.windows.query.WqlFilter;
+import io.github.eggy03.ferrumx.windows.service.CommonServiceInterface;
+import io.github.eggy03.ferrumx.windows.service.FilterableServiceInterface;
+import io.github.eggy03.ferrumx.windows.service.LazyServiceInterface;
+import io.github.eggy03.ferrumx.windows.service.ProjectableServiceInterface;
+import io.github.eggy03.ferrumx.windows.service.StreamingServiceInterface;
+import io.github.eggy03.ferrumx.windows.utility.TerminalUtility;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Service class for fetching operating system information from the system.
+ * <p>
+ * This class executes the {@link Cimv2Namespace#WIN32_OPERATING_SYSTEM_QUERY} PowerShell command
+ * and maps the resulting JSON into an immutable list of {@link Win32PnPEntity} objects.
+ * </p>
+ *
+ * <h2>Usage examples</h2>
+ * <pre>{@code
+ * // Convenience API (creates its own short-lived session)
+ * Win32PnPEntityService service = new Win32PnPEntityService();
+ * List<Win32PnPEntity> pnpEntityList = service.get();
+ *
+ * // API with re-usable session (caller manages session lifecycle)
+ * try (PowerShell session = PowerShell.openSession()) {
+ *     Win32PnPEntityService service = new Win32PnPEntityService();
+ *     List<Win32PnPEntity> pnpEntityList = service.get(session);
+ * }
+ *
+ * // API with execution timeout (auto-created session is terminated if the timeout is exceeded)
+ * Win32PnPEntityService service = new Win32PnPEntityService();
+ * List<Win32PnPEntity> pnpEntityList = service.get(10);
+ *
+ * // API with a custom command executor (e.g. a pool of long-lived PowerShell workers)
+ * Win32PnPEntityService service = new Win32PnPEntityService(new PooledCommandExecutor(pool));
+ * List<Win32PnPEntity> pnpEntityList = service.get(10);
+ *
+ * // Streaming API (entities are handed over one at a time while the output is being decoded)
+ * Win32PnPEntityService service = new Win32PnPEntityService();
+ * service.forEach(10, device -> System.out.println(device.getName()));
+ *
+ * // Lazy API (entities are only decoded once they are accessed)
+ * Win32PnPEntityService service = new Win32PnPEntityService();
+ * List<Win32PnPEntity> pnpEntityList = service.getLazily(10);
+ *
+ * // Filtered API (the WMI provider only returns the matching entries)
+ * Win32PnPEntityService service = new Win32PnPEntityService();
+ * List<Win32PnPEntity> pnpEntities = service.get(WqlFilter.equalTo("Present", true), 10);
+ *
+ * // Projected API (only the selected properties are fetched, the other fields are null)
+ * Win32PnPEntityService service = new Win32PnPEntityService();
+ * List<Win32PnPEntity> pnpEntities = service.get(PropertyMask.of(Win32PnPEntity.class, "DeviceID", "Status"), 10);
+ * }</pre>
+ *
+ * <h2>Execution models and concurrency</h2>
+ * <p>
+ * This service supports multiple PowerShell execution strategies:
+ * </p>
+ *
+ * <ul>
+ *   <li>
+ *     <b>jPowerShell-based execution</b> via {@link #get()} and
+ *     {@link #get(PowerShell)}:
+ *     <br>
+ *     These methods rely on {@code jPowerShell} sessions. Due to internal
+ *     global configuration of {@code jPowerShell}, the PowerShell sessions
+ *     launched by it is <b>not safe to use concurrently across multiple
+ *     threads or executors</b>. Running these methods in parallel may result
+ *     in runtime exceptions.
+ *   </li>
+ *
+ *   <li>
+ *     <b>Isolated PowerShell execution</b> via {@link #get(long timeout)}:
+ *     <br>
+ *     This method doesn't rely on {@code jPowerShell} and instead, launches a
+ *     standalone PowerShell process per invocation using
+ *     {@link TerminalUtility}. Each call is fully isolated and
+ *     <b>safe to use in multithreaded and executor-based environments</b>.
+ *     <br>
+ *     The PowerShell backend used by this method can be replaced by creating the
+ *     service with a different {@link CommandExecutor}.
+ *   </li>
+ * </ul>
+ *
+ * <p>
+ * For concurrent or executor-based workloads, prefer {@link #get(long timeout)}.
+ * </p>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 3.0.0
+ */
+@Slf4j
+public class Win32PnPEntityService implements CommonServiceInterface<Win32PnPEntity>, FilterableServiceInterface<Win32PnPEntity>, ProjectableServiceInterface<Win32PnPEntity>, StreamingServiceInterface<Win32PnPEntity>, LazyServiceInterface<Win32PnPEntity> {
+
+    @NonNull
+    private final CommandExecutor commandExecutor;
+
+    /**
+     * Creates a service whose {@link #get(long)} method launches an isolated PowerShell process
+     * per invocation through {@link TerminalCommandExecutor}
+     */
+    public Win32PnPEntityService() {
+        this(new TerminalCommandExecutor());
+    }
+
+    /**
+     * Creates a service whose {@link #get(long)} method runs its PowerShell query through the given executor
+     *
+     * @param commandExecutor the executor used to run the PowerShell query
+     * @since 4.1.0
+     */
+    public Win32PnPEntityService(@NonNull CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
+    /**
+     * Retrieves an immutable list of pnp entities present on the system.
+     * <p>
+     * Each invocation creates and uses a short-lived PowerShell session internally.
+     * </p>
+     *
+     * @return an immutable list of {@link Win32PnPEntity} objects representing the system's pnp entities.
+     * Returns an empty list if none are detected.
+     * @since 3.0.0
+     */
+    @Override
+    @NotNull
+    public List<Win32PnPEntity> get() {
+        PowerShellResponse response = PowerShell.executeSingleCommand(Cimv2Namespace.WIN32_PNP_ENTITY_QUERY.getQuery());
+        log.trace("PowerShell response for auto-managed session :\n{}", response.getCommandOutput());
+        return new Win32PnPEntityMapper().mapToList(response.getCommandOutput(), Win32PnPEntity.class);
+    }
+
+    /**
+     * Retrieves an immutable list of pnp entities using the caller's {@link PowerShell} session.
+     *
+     * @param powerShell an existing PowerShell session managed by the caller
+     * @return an immutable list of {@link Win32PnPEntity} objects representing the system's pnp entities.
+     * Returns an empty list if none are detected.
+     * @since 3.0.0
+     */
+    @Override
+    @NotNull
+    public List<Win32PnPEntity> get(@NonNull PowerShell powerShell) {
+        PowerShellResponse response = powerShell.executeCommand(Cimv2Namespace.WIN32_PNP_ENTITY_QUERY.getQuery());
+        log.trace("PowerShell response for self-managed session :\n{}", response.getCommandOutput());
+        return new Win32PnPEntityMapper().mapToList(response.getCommandOutput(), Win32PnPEntity.class);
+    }
+
+    /**
+     * Retrieves an immutable list of pnp entities connected to the system
+     * using an isolated PowerShell process with a configurable timeout.
+     * <p>
+     * Unless a different {@link CommandExecutor} was supplied through the constructor,
+     * each invocation creates an isolated PowerShell process, which is
+     * pre-maturely terminated if execution exceeds the specified timeout.
+     * </p>
+     *
+     * @param timeout the maximum time (in seconds) to wait for the PowerShell
+     *                command to complete before terminating the process
+     * @return an immutable list of {@link Win32PnPEntity} objects representing the system's pnp entities.
+     * Returns an empty list if none are detected.
+     * @since 3.1.0
+     */
+    @NotNull
+    @Override
+    public List<Win32PnPEntity> get(long timeout) {
+        String command = Cimv2Namespace.WIN32_PNP_ENTITY_QUERY.getQuery();
+        return commandExecutor.executeAndMap(command, timeout, MappingKey.of(Win32PnPEntityMapper.class, "mapToList", Win32PnPEntity.class), response -> {
+            log.trace("PowerShell response for the command executor: \n{}", response);
+            return new Win32PnPEntityMapper().mapToList(response, Win32PnPEntity.class);
+        });
+    }
+
+    /**
+     * Retrieves an immutable list of the Plug and Play devices of the system matching the given filter
+     * using an isolated PowerShell process with a configurable timeout.
+     * <p>
+     * The filter is evaluated by the WMI provider, so only the matching entries are
+     * serialized by PowerShell and mapped, unlike filtering the result of {@link #get(long)}.
+     * </p>
+     *
+     * @param filter  the filter the returned entries must match
+     * @param timeout the maximum time (in seconds) to wait for the PowerShell
+     *                command to complete before terminating the process
+     * @return an immutable list of the matching {@link Win32PnPEntity} objects.
+     * Returns an empty list if none match.
+     * @since 4.1.0
+     */
+    @NotNull
+    @Override
+    public List<Win32PnPEntity> get(@NonNull WqlFilter filter, long timeout) {
+        String command = Cimv2Namespace.WIN32_PNP_ENTITY_QUERY.getQuery(filter);
+        return commandExecutor.executeAndMap(command, timeout, MappingKey.of(Win32PnPEntityMapper.class, "mapToList", Win32PnPEntity.class), response -> {
+            log.trace("PowerShell response for the command executor: \n{}", response);
+            return new Win32PnPEntityMapper().mapToList(response, Win32PnPEntity.class);
+        });
+    }
+
+    /**
+     * Retrieves an immutable list of the Plug and Play devices of the system, populating only the properties selected by the given mask,
+     * using an isolated PowerShell process with a configurable timeout.
+     * <p>
+     * Only the selected properties are fetched by the WMI provider, serialized by PowerShell and mapped,
+     * so the fields outside the mask are {@code null}.
+     * </p>
+     *
+     * @param mask    the properties to fetch
+     * @param timeout the maximum time (in seconds) to wait for the PowerShell
+     *                command to complete before terminating the process
+     * @return an immutable list of partially populated {@link Win32PnPEntity} objects.
+     * Returns an empty list if none are detected.
+     * @since 4.1.0
+     */
+    @NotNull
+    @Override
+    public List<Win32PnPEntity> get(@NonNull PropertyMask<Win32PnPEntity> mask, long timeout) {
+        String command = Cimv2Namespace.WIN32_PNP_ENTITY_QUERY.getQuery(mask);
+        return commandExecutor.executeAndMap(command, timeout, MappingKey.of(Win32PnPEntityMapper.class, "mapToList", Win32PnPEntity.class), response -> {
+            log.trace("PowerShell response for the command executor: \n{}", response);
+            return new Win32PnPEntityMapper().mapToList(response, Win32PnPEntity.class);
+        });
+    }
+
+    /**
+     * Retrieves an immutable list of the Plug and Play devices of the system matching the given filter,
+     * populating only the properties selected by the given mask,
+     * using an isolated PowerShell process with a configurable timeout.
+     *
+     * @param filter  the filter the returned entries must match
+     * @param mask    the properties to fetch
+     * @param timeout the maximum time (in seconds) to wait for the PowerShell
+     *                command to complete before terminating the process
+     * @return an immutable list of the matching, partially populated {@link Win32PnPEntity} objects.
+     * Returns an empty list if none match.
+     * @see #get(WqlFilter, long)
+     * @see #get(PropertyMask, long)
+     * @since 4.1.0
+     */
+    @NotNull
+    @Override
+    public List<Win32PnPEntity> get(@NonNull WqlFilter filter, @NonNull PropertyMask<Win32PnPEntity> mask, long timeout) {
+        String command = Cimv2Namespace.WIN32_PNP_ENTITY_QUERY.getQuery(filter, mask);
+        return commandExecutor.executeAndMap(command, timeout, MappingKey.of(Win32PnPEntityMapper.class, "mapToList", Win32PnPEntity.class), response -> {
+            log.trace("PowerShell response for the command executor: \n{}", response);
+            return new Win32PnPEntityMapper().mapToList(response, Win32PnPEntity.class);
+        });
+    }
+
+    /**
+     * Hands every Plug and Play device present in the system to the given action as soon as it has been decoded,
+     * using an isolated PowerShell process with a configurable timeout.
+     * <p>
+     * Unlike {@link #get(long)}, the output is never collected into a list, so the memory footprint
+     * does not grow with the number of entries. Unless a different {@link CommandExecutor} was supplied
+     * through the constructor, the output is decoded straight from the PowerShell process while it is running.
+     * </p>
+     *
+     * @param timeout the maximum time (in seconds) to wait for the PowerShell
+     *                command to complete before terminating the process
+     * @param action  the action invoked with every {@link Win32PnPEntity} object, on the calling thread
+     * @since 4.1.0
+     */
+    @Override
+    public void forEach(long timeout, @NonNull Consumer<? super Win32PnPEntity> action) {
+        String command = Cimv2Namespace.WIN32_PNP_ENTITY_QUERY.getQuery();
+        commandExecutor.execute(command, timeout, output -> new Win32PnPEntityMapper().mapEach(output, Win32PnPEntity.class, action));
+    }
+
+    /**
+     * Retrieves an immutable list of the Plug and Play devices of the system, each of which is only decoded on its first access,
+     * using an isolated PowerShell process with a configurable timeout.
+     * <p>
+     * Unlike {@link #get(long)}, the devices are not decoded up front: the list keeps the output of the query,
+     * and decodes a device the first time it is read. This suits consumers that only look at a few of the devices,
+     * such as the ones found by a search over their names.
+     * </p>
+     *
+     * @param timeout the maximum time (in seconds) to wait for the PowerShell
+     *                command to complete before terminating the process
+     * @return an immutable, thread-safe list of {@link Win32PnPEntity} objects decoded on access.
+     * Returns an empty list if none are detected.
+     * @see CommonMappingInterface#mapToLazyList(String, Class)
+     * @since 4.1.0
+     */
+    @NotNull
+    @Override
+    public List<Win32PnPEntity> getLazily(long timeout) {
+        String command = Cimv2Namespace.WIN32_PNP_ENTITY_QUERY.getQuery();
+        return commandExecutor.executeAndMap(command, timeout, MappingKey.of(Win32PnPEntityMapper.class, "mapToLazyList", Win32PnPEntity.class), response -> {
+            log.trace("PowerShell response for the command executor: \n{}", response);
+            return new Win32PnPEntityMapper().mapToLazyList(response, Win32PnPEntity.class);
+        });
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.service.system;
+
+import com.profesorfalken.jpowershell.PowerShell;
+import com.profesorfalken.jpowershell.PowerShellResponse;
+import io.github.eggy03.ferrumx.windows.constant.namespace.Cimv2Namespace;
+import io.github.eggy03.ferrumx.windows.entity.system.ProcessTable;
+import io.github.eggy03.ferrumx.windows.entity.system.Win32Process;
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
+import io.github.eggy03.ferrumx.windows.executor.MappingKey;
+import io.github.eggy03.ferrumx.windows.executor.TerminalCommandExecutor;
+import io.github.eggy03.ferrumx.windows.mapping.system.ProcessTableMapper;
+import io.github.eggy03.ferrumx.windows.mapping.CommonMappingInterface;
+import io.github.eggy03.ferrumx.windows.mapping.system.Win32ProcessMapper;
+import io.github.eggy03.ferrumx.windows.query.PropertyMask;
+import io.github.eggy03.ferrumx.windows.query.WqlFilter;
+import io.github.eggy03.ferrumx.windows.service.CommonServiceInterface;
+import io.github.eggy03.ferrumx.windows.service.FilterableServiceInterface;
+import io.github.eggy03.ferrumx.windows.service.LazyServiceInterface;
+import io.github.eggy03.ferrumx.windows.service.ProjectableServiceInterface;
+import io.github.eggy03.ferrumx.windows.service.StreamingServiceInterface;
+import io.github.eggy03.ferrumx.windows.utility.TerminalUtility;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Service class for fetching process information from the system.
+ * <p>
+ * This class executes the {@link Cimv2Namespace#WIN32_PROCESS_QUERY} PowerShell command
+ * and maps the resulting JSON into an immutable list of {@link Win32Process} objects.
+ * </p>
+ *
+ * <h2>Usage examples</h2>
+ * <pre>{@code
+ * // Convenience API (creates its own short-lived session)
+ * Win32ProcessService service = new Win32ProcessService();
+ * List<Win32Process> processList = service.get();
+ *
+ * // API with re-usable session (caller manages session lifecycle)
+ * try (PowerShell session = PowerShell.openSession()) {
+ *     Win32ProcessService service = new Win32ProcessService();
+ *     List<Win32Process> processList = service.get(session);
+ * }
+ *
+ * // API with execution timeout (auto-created session is terminated if the timeout is exceeded)
+ * Win32ProcessService service = new Win32ProcessService();
+ * List<Win32Process> processList = service.get(10);
+ *
+ * // API with a custom command executor (e.g. a pool of long-lived PowerShell workers)
+ * Win32ProcessService service = new Win32ProcessService(new PooledCommandExecutor(pool));
+ * List<Win32Process> processList = service.get(10);
+ *
+ * // Streaming API (entities are handed over one at a time while the output is being decoded)
+ * Win32ProcessService service = new Win32ProcessService();
+ * service.forEach(10, process -> System.out.println(process.getName()));
+ *
+ * // Lazy API (entities are only decoded once they are accessed)
+ * Win32ProcessService service = new Win32ProcessService();
+ * List<Win32Process> processList = service.getLazily(10);
+ *
+ * // Filtered API (the WMI provider only returns the matching entries)
+ * Win32ProcessService service = new Win32ProcessService();
+ * List<Win32Process> processList = service.get(WqlFilter.equalTo("Name", "java.exe"), 10);
+ *
+ * // Projected API (only the selected properties are fetched, the other fields are null)
+ * Win32ProcessService service = new Win32ProcessService();
+ * List<Win32Process> processList = service.get(PropertyMask.of(Win32Process.class, "ProcessId", "WorkingSetSize"), 10);
+ *
+ * // Columnar API (one primitive array per property instead of one object per process)
+ * Win32ProcessService service = new Win32ProcessService();
+ * ProcessTable table = service.getTable(10);
+ * int[] largest = table.topRows(ProcessTable.Column.WORKING_SET_SIZE, 10);
+ * }</pre>
+ *
+ * <h2>Execution models and concurrency</h2>
+ * <p>
+ * This service supports multiple PowerShell execution strategies:
+ * </p>
+ *
+ * <ul>
+ *   <li>
+ *     <b>jPowerShell-based execution</b> via {@link #get()} and
+ *     {@link #get(PowerShell)}:
+ *     <br>
+ *     These methods rely on {@code jPowerShell} sessions. Due to internal
+ *     global configuration of {@code jPowerShell}, the PowerShell sessions
+ *     launched by it is <b>not safe to use concurrently across multiple
+ *     threads or executors</b>. Running these methods in parallel may result
+ *     in runtime exceptions.
+ *   </li>
+ *
+ *   <li>
+ *     <b>Isolated PowerShell execution</b> via {@link #get(long timeout)}:
+ *     <br>
+ *     This method doesn't rely on {@code jPowerShell} and instead, launches a
+ *     standalone PowerShell process per invocation using
+ *     {@link TerminalUtility}. Each call is fully isolated and
+ *     <b>safe to use in multithreaded and executor-based environments</b>.
+ *     <br>
+ *     The PowerShell backend used by this method can be replaced by creating the
+ *     service with a different {@link CommandExecutor}.
+ *   </li>
+ * </ul>
+ *
+ * <p>
+ * For concurrent or executor-based workloads, prefer {@link #get(long timeout)}.
+ * </p>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 3.0.0
+ */
+@Slf4j
+public class Win32ProcessService implements CommonServiceInterface<Win32Process>, FilterableServiceInterface<Win32Process>, ProjectableServiceInterface<Win32Process>, StreamingServiceInterface<Win32Process>, LazyServiceInterface<Win32Process> {
+
+    @NonNull
+    private final CommandExecutor commandExecutor;
+
+    /**
+     * Creates a service whose {@link #get(long)} method launches an isolated PowerShell process
+     * per invocation through {@link TerminalCommandExecutor}
+     */
+    public Win32ProcessService() {
+        this(new TerminalCommandExecutor());
+    }
+
+    /**
+     * Creates a service whose {@link #get(long)} method runs its PowerShell query through the given executor
+     *
+     * @param commandExecutor the executor used to run the PowerShell query
+     * @since 4.1.0
+     */
+    public Win32ProcessService(@NonNull CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
+    /**
+     * Retrieves an immutable list of processes running in the system.
+     * <p>
+     * Each invocation creates and uses a short-lived PowerShell session internally.
+     * </p>
+     *
+     * @return an immutable list of {@link Win32Process} objects representing the system's processes.
+     * Returns an empty list if none are detected.
+     * @since 3.0.0
+     */
+    @Override
+    @NotNull
+    public List<Win32Process> get() {
+        PowerShellResponse response = PowerShell.executeSingleCommand(Cimv2Namespace.WIN32_PROCESS_QUERY.getQuery());
+        log.trace("PowerShell response for auto-managed session :\n{}", response.getCommandOutput());
+        return new Win32ProcessMapper().mapToList(response.getCommandOutput(), Win32Process.class);
+    }
+
+    /**
+     * Retrieves an immutable list of processes running in the system using the caller's {@link PowerShell} session.
+     *
+     * @param powerShell an existing PowerShell session managed by the caller
+     * @return an immutable list of {@link Win32Process} objects representing the system's processes.
+     * Returns an empty list if none are detected.
+     * @since 3.0.0
+     */
+    @Override
+    @NotNull
+    public List<Win32Process> get(@NonNull PowerShell powerShell) {
+        PowerShellResponse response = powerShell.executeCommand(Cimv2Namespace.WIN32_PROCESS_QUERY.getQuery());
+        log.trace("PowerShell response for self-managed session :\n{}", response.getCommandOutput());
+        return new Win32ProcessMapper().mapToList(response.getCommandOutput(), Win32Process.class);
+    }
+
+    /**
+     * Retrieves an immutable list of processes running in the system
+     * using an isolated PowerShell process with a configurable timeout.
+     * <p>
+     * Unless a different {@link CommandExecutor} was supplied through the constructor,
+     * each invocation creates an isolated PowerShell process, which is
+     * pre-maturely terminated if execution exceeds the specified timeout.
+     * </p>
+     *
+     * @param timeout the maximum time (in seconds) to wait for the PowerShell
+     *                command to complete before terminating the process
+     * @return an immutable list of {@link Win32Process} objects representing the system's processes.
+     * Returns an empty list if none are detected.
+     * @since 3.1.0
+     */
+    @NotNull
+    @Override
+    public List<Win32Process> get(long timeout) {
+        String command = Cimv2Namespace.WIN32_PROCESS_QUERY.getQuery();
+        return commandExecutor.executeAndMap(command, timeout, MappingKey.of(Win32ProcessMapper.class, "mapToList", Win32Process.class), response -> {
+            log.trace("PowerShell response for the command executor: \n{}", response);
+            return new Win32ProcessMapper().mapToList(response, Win32Process.class);
+        });
+    }
+
+    /**
+     * Retrieves an immutable list of the processes running in the system matching the given filter
+     * using an isolated PowerShell process with a configurable timeout.
+     * <p>
+     * The filter is evaluated by the WMI provider, so only the matching entries are
+     * serialized by PowerShell and mapped, unlike filtering the result of {@link #get(long)}.
+     * </p>
+     *
+     * @param filter  the filter the returned entries must match
+     * @param timeout the maximum time (in seconds) to wait for the PowerShell
+     *                command to complete before terminating the process
+     * @return an immutable list of the matching {@link Win32Process} objects.
+     * Returns an empty list if none match.
+     * @since 4.1.0
+     */
+    @NotNull
+    @Override
+    public List<Win32Process> get(@NonNull WqlFilter filter, long timeout) {
+        String command = Cimv2Namespace.WIN32_PROCESS_QUERY.getQuery(filter);
+        return commandExecutor.executeAndMap(command, timeout, MappingKey.of(Win32ProcessMapper.class, "mapToList", Win32Process.class), response -> {
+            log.trace("PowerShell response for the command executor: \n{}", response);
+            return new Win32ProcessMapper().mapToList(response, Win32Process.class);
+        });
+    }
+
+    /**
+     * Retrieves an immutable list of the processes running in the system, populating only the properties selected by the given mask,
+     * using an isolated PowerShell process with a configurable timeout.
+     * <p>
+     * Only the selected properties are fetched by the WMI provider, serialized by PowerShell and mapped,
+     * so the fields outside the mask are {@code null}.
+     * </p>
+     *
+     * @param mask    the properties to fetch
+     * @param timeout the maximum time (in seconds) to wait for the PowerShell
+     *                command to complete before terminating the process
+     * @return an immutable list of partially populated {@link Win32Process} objects.
+     * Returns an empty list if none are detected.
+     * @since 4.1.0
+     */
+    @NotNull
+    @Override
+    public List<Win32Process> get(@NonNull PropertyMask<Win32Process> mask, long timeout) {
+        String command = Cimv2Namespace.WIN32_PROCESS_QUERY.getQuery(mask);
+        return commandExecutor.executeAndMap(command, timeout, MappingKey.of(Win32ProcessMapper.class, "mapToList", Win32Process.class), response -> {
+            log.trace("PowerShell response for the command executor: \n{}", response);
+            return new Win32ProcessMapper().mapToList(response, Win32Process.class);
+        });
+    }
+
+    /**
+     * Retrieves an immutable list of the processes running in the system matching the given filter,
+     * populating only the properties selected by the given mask,
+     * using an isolated PowerShell process with a configurable timeout.
+     *
+     * @param filter  the filter the returned entries must match
+     * @param mask    the properties to fetch
+     * @param timeout the maximum time (in seconds) to wait for the PowerShell
+     *                command to complete before terminating the process
+     * @return an immutable list of the matching, partially populated {@link Win32Process} objects.
+     * Returns an empty list if none match.
+     * @see #get(WqlFilter, long)
+     * @see #get(PropertyMask, long)
+     * @since 4.1.0
+     */
+    @NotNull
+    @Override
+    public List<Win32Process> get(@NonNull WqlFilter filter, @NonNull PropertyMask<Win32Process> mask, long timeout) {
+        String command = Cimv2Namespace.WIN32_PROCESS_QUERY.getQuery(filter, mask);
+        return commandExecutor.executeAndMap(command, timeout, MappingKey.of(Win32ProcessMapper.class, "mapToList", Win32Process.class), response -> {
+            log.trace("PowerShell response for the command executor: \n{}", response);
+            return new Win32ProcessMapper().mapToList(response, Win32Process.class);
+        });
+    }
+
+    /**
+     * Hands every process running in the system to the given action as soon as it has been decoded,
+     * using an isolated PowerShell process with a configurable timeout.
+     * <p>
+     * Unlike {@link #get(long)}, the output is never collected into a list, so the memory footprint
+     * does not grow with the number of entries. Unless a different {@link CommandExecutor} was supplied
+     * through the constructor, the output is decoded straight from the PowerShell process while it is running.
+     * </p>
+     *
+     * @param timeout the maximum time (in seconds) to wait for the PowerShell
+     *                command to complete before terminating the process
+     * @param action  the action invoked with every {@link Win32Process} object, on the calling thread
+     * @since 4.1.0
+     */
+    @Override
+    public void forEach(long timeout, @NonNull Consumer<? super Win32Process> action) {
+        String command = Cimv2Namespace.WIN32_PROCESS_QUERY.getQuery();
+        commandExecutor.execute(command, timeout, output -> new Win32ProcessMapper().mapEach(output, Win32Process.class, action));
+    }
+
+    /**
+     * Retrieves an immutable list of the processes running in the system, each of which is only decoded on its first access,
+     * using an isolated PowerShell process with a configurable timeout.
+     * <p>
+     * Unlike {@link #get(long)}, the processes are not decoded up front: the list keeps the output of the query,
+     * and decodes a process the first time it is read. This suits consumers that only look at a few of the processes,
+     * such as the ones found by a search over their names.
+     * </p>
+     *
+     * @param timeout the maximum time (in seconds) to wait for the PowerShell
+     *                command to complete before terminating the process
+     * @return an immutable, thread-safe list of {@link Win32Process} objects decoded on access.
+     * Returns an empty list if none are detected.
+     * @see CommonMappingInterface#mapToLazyList(String, Class)
+     * @since 4.1.0
+     */
+    @NotNull
+    @Override
+    public List<Win32Process> getLazily(long timeout) {
+        String command = Cimv2Namespace.WIN32_PROCESS_QUERY.getQuery();
+        return commandExecutor.executeAndMap(command, timeout, MappingKey.of(Win32ProcessMapper.class, "mapToLazyList", Win32Process.class), response -> {
+            log.trace("PowerShell response for the command executor: \n{}", response);
+            return new Win32ProcessMapper().mapToLazyList(response, Win32Process.class);
+        });
+    }
+
+    /**
+     * Retrieves the processes running in the system as a columnar {@link ProcessTable}
+     * using an isolated PowerShell process with a configurable timeout.
+     * <p>
+     * Only the properties held by the table are fetched, and the output is decoded straight into the columns of the
+     * table, without creating a {@link Win32Process} per process. Unless a different {@link CommandExecutor} was
+     * supplied through the constructor, the output is decoded while the PowerShell process is running.
+     * This suits monitors polling the processes every few seconds.
+     * </p>
+     *
+     * @param timeout the maximum time (in seconds) to wait for the PowerShell
+     *                command to complete before terminating the process
+     * @return a {@link ProcessTable} of the system's processes, which is empty if none are detected
+     * @since 4.1.0
+     */
+    @NotNull
+    public ProcessTable getTable(long timeout) {
+        String command = Cimv2Namespace.WIN32_PROCESS_QUERY.getQuery(PropertyMask.of(Win32Process.class, ProcessTable.getSerializedNames()));
+        AtomicReference<ProcessTable> table = new AtomicReference<>();
+        commandExecutor.execute(command, timeout, output -> table.set(new ProcessTableMapper().mapToTable(output)));
+        return table.get();
+    }
+}
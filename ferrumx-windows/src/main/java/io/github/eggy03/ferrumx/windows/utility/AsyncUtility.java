@@ -0,0 +1,126 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.utility;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A utility class that backs the asynchronous methods of the service interfaces
+ * <p>
+ * The futures created by this class are cancellable: cancelling one kills the PowerShell process
+ * its task is waiting on, see {@link CancellationScope}.
+ * </p>
+ * <p>
+ * <b>Mostly for internal use </b>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@UtilityClass
+public class AsyncUtility {
+
+    /**
+     * Runs the task on the given executor and returns a future of its result
+     * <p>
+     * Cancelling the returned future cancels the {@link CancellationScope} the task runs in,
+     * which kills the PowerShell process the task is waiting on. Futures derived from the returned
+     * future through {@code thenApply} and similar methods do not propagate their cancellation.
+     * </p>
+     *
+     * @param task     the task to run
+     * @param executor the executor the task is submitted to
+     * @param <T>      the result type of the task
+     * @return a cancellable future of the result of the task. If the executor rejects the task,
+     * the future is completed exceptionally with the {@link RejectedExecutionException}
+     */
+    @NotNull
+    public static <T> CompletableFuture<T> supplyAsync(@NonNull Supplier<T> task, @NonNull Executor executor) {
+
+        CancellationScope scope = new CancellationScope();
+        CompletableFuture<T> future = new CompletableFuture<T>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                boolean cancelled = super.cancel(mayInterruptIfRunning);
+                scope.cancel();
+                return cancelled;
+            }
+        };
+
+        try {
+            executor.execute(() -> {
+                if (future.isDone())
+                    return;
+                try {
+                    future.complete(scope.run(task));
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
+
+    /**
+     * Returns the executor used by the asynchronous service methods that do not take one
+     * <p>
+     * The executor grows on demand and its idle daemon threads are retired after a minute,
+     * so it does not keep the JVM alive.
+     * </p>
+     *
+     * @return the shared default executor
+     */
+    @NotNull
+    public static Executor getDefaultExecutor() {
+        return DefaultExecutorHolder.EXECUTOR;
+    }
+
+    /**
+     * Converts a timeout into the number of seconds expected by the blocking service methods, rounding up
+     *
+     * @param timeout the timeout
+     * @return the timeout in whole seconds
+     * @throws IllegalArgumentException if the provided timeout is in the negative
+     */
+    public static long toTimeoutSeconds(@NonNull Duration timeout) {
+
+        if (timeout.isNegative())
+            throw new IllegalArgumentException("Timeout cannot be negative");
+
+        long seconds = timeout.getSeconds();
+        return timeout.getNano() > 0 ? seconds + 1 : seconds;
+    }
+
+    /**
+     * Creates the default executor on first use only
+     */
+    private static final class DefaultExecutorHolder {
+
+        private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+        private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "ferrumx-async-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        private DefaultExecutorHolder() {
+        }
+    }
+}
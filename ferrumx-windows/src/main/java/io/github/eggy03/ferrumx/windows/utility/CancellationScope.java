@@ -0,0 +1,152 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.utility;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.Supplier;
+
+/**
+ * Connects the cancellation of an asynchronous task to the PowerShell processes it launches
+ * <p>
+ * A task started through {@link AsyncUtility#supplyAsync(Supplier, java.util.concurrent.Executor)} runs inside a scope
+ * bound to its thread. {@link TerminalUtility} and {@link PowerShellWorkerPool} register a hook with the scope of the
+ * current thread for as long as they wait on a process, and {@link #cancel()} runs these hooks to kill the process.
+ * Outside a scope, registering a hook has no effect.
+ * </p>
+ * <p>
+ * <b>Mostly for internal use </b>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@Slf4j
+public final class CancellationScope {
+
+    private static final ThreadLocal<CancellationScope> CURRENT = new ThreadLocal<>();
+
+    private static final Registration NO_REGISTRATION = () -> {
+    };
+
+    private final List<Runnable> hooks = new ArrayList<>();
+    private boolean cancelled;
+
+    /**
+     * Runs the task with this scope bound to the current thread
+     *
+     * @param task the task to run
+     * @param <T>  the result type of the task
+     * @return the result of the task
+     * @throws CancellationException if the scope was cancelled before the task started
+     */
+    public <T> T run(@NonNull Supplier<T> task) {
+
+        if (isCancelled())
+            throw new CancellationException("The task was cancelled before it started");
+
+        CancellationScope previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null)
+                CURRENT.remove();
+            else
+                CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Cancels the scope and runs every registered hook. Hooks registered afterwards are rejected.
+     * Calling this method more than once has no further effect.
+     */
+    public void cancel() {
+
+        List<Runnable> toRun;
+        synchronized (this) {
+            if (cancelled)
+                return;
+            cancelled = true;
+            toRun = new ArrayList<>(hooks);
+            hooks.clear();
+        }
+
+        for (Runnable hook : toRun) {
+            try {
+                hook.run();
+            } catch (RuntimeException e) {
+                log.warn("A cancellation hook failed", e);
+            }
+        }
+    }
+
+    /**
+     * Checks whether this scope has been cancelled
+     *
+     * @return {@code true} if {@link #cancel()} was called
+     */
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Registers a hook with the scope bound to the current thread, if any
+     * <p>
+     * The hook runs on the thread that cancels the scope and must therefore not block on the registering thread.
+     * </p>
+     *
+     * @param hook the hook that stops the work the current thread is waiting on
+     * @return a registration that removes the hook when closed
+     * @throws CancellationException if the scope bound to the current thread has already been cancelled
+     */
+    @NotNull
+    public static Registration onCancel(@NonNull Runnable hook) {
+
+        CancellationScope scope = CURRENT.get();
+        if (scope == null)
+            return NO_REGISTRATION;
+
+        synchronized (scope) {
+            if (scope.cancelled)
+                throw new CancellationException("The task was cancelled");
+            scope.hooks.add(hook);
+        }
+
+        return () -> {
+            synchronized (scope) {
+                scope.hooks.remove(hook);
+            }
+        };
+    }
+
+    /**
+     * Checks whether the scope bound to the current thread has been cancelled
+     *
+     * @return {@code true} if the current thread runs inside a scope that has been cancelled
+     */
+    public static boolean isCurrentCancelled() {
+        CancellationScope scope = CURRENT.get();
+        return scope != null && scope.isCancelled();
+    }
+
+    /**
+     * A registered cancellation hook, which is removed from its scope when closed
+     */
+    @FunctionalInterface
+    public interface Registration extends AutoCloseable {
+
+        /**
+         * Removes the hook from its scope
+         */
+        @Override
+        void close();
+    }
+}
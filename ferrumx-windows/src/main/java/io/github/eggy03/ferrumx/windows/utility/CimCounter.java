@@ -0,0 +1,93 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.utility;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigInteger;
+
+/**
+ * A utility class for the {@code uint64} counters of CIM, such as sizes and times, which the entities expose as
+ * {@link BigInteger}s
+ * <p>
+ * The generated entity adapters decode every counter that fits in a {@code long} into a primitive companion field
+ * of the entity, which holds {@code 0} when the counter was not decoded into it. The counter is then held as a
+ * {@link BigInteger} only if it is too large for a {@code long}, is zero, which {@link BigInteger#ZERO} holds
+ * without allocating, or was set through the builder of the entity. The methods of this class read a counter from
+ * its two fields.
+ * </p>
+ * <p>
+ * <b>Mostly for internal use </b>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@UtilityClass
+public class CimCounter {
+
+    /**
+     * Returned by {@link #parseLong(String)} for a value it does not decode
+     */
+    public static final long NOT_DECODED = Long.MIN_VALUE;
+
+    // Long.MAX_VALUE has 19 digits, so any number of up to 18 digits fits
+    private static final int MAX_LONG_DIGITS = 18;
+
+    /**
+     * Decodes a counter of up to 18 digits, optionally preceded by {@code -}, in a single pass
+     *
+     * @param value the digits of the counter
+     * @return the decoded counter, or {@link #NOT_DECODED} if the value is longer or is not a plain integer,
+     * in which case it can still be parsed by {@link BigInteger#BigInteger(String)}
+     */
+    public static long parseLong(@NotNull String value) {
+
+        int length = value.length();
+        int digitsStart = length > 0 && value.charAt(0) == '-' ? 1 : 0;
+        if (length == digitsStart || length - digitsStart > MAX_LONG_DIGITS)
+            return NOT_DECODED;
+
+        long parsed = 0;
+        for (int i = digitsStart; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9')
+                return NOT_DECODED;
+            parsed = parsed * 10 + (c - '0');
+        }
+        return digitsStart == 1 ? -parsed : parsed;
+    }
+
+    /**
+     * Reads a counter held in a {@link BigInteger} field and its {@code long} companion
+     *
+     * @param value   the {@link BigInteger} field
+     * @param decoded the {@code long} companion, which is {@code 0} if the counter was not decoded into it
+     * @return the counter, which is built from the companion on every call, or {@code null} if it is not available
+     */
+    @Nullable
+    public static BigInteger toBigInteger(@Nullable BigInteger value, long decoded) {
+        if (decoded != 0)
+            return BigInteger.valueOf(decoded);
+        return value;
+    }
+
+    /**
+     * Reads a counter held in a {@link BigInteger} field and its {@code long} companion as a primitive {@code long}
+     *
+     * @param value        the {@link BigInteger} field
+     * @param decoded      the {@code long} companion, which is {@code 0} if the counter was not decoded into it
+     * @param defaultValue the value to return if the counter is not available
+     * @return the counter, or the given default value if it is not available
+     * @throws ArithmeticException if the counter does not fit in a {@code long}
+     */
+    public static long toLong(@Nullable BigInteger value, long decoded, long defaultValue) {
+        if (decoded != 0)
+            return decoded;
+        return value != null ? value.longValueExact() : defaultValue;
+    }
+}
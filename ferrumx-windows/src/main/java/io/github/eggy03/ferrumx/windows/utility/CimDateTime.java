@@ -0,0 +1,303 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.utility;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * A utility class that parses the date and time values of CIM properties into {@link Instant}s
+ * <p>
+ * The entities hold these values as the strings PowerShell returns, which come in one of the following forms:
+ * </p>
+ * <ul>
+ *     <li>{@code /Date(1730530800000)/}: milliseconds since the epoch, the way {@code ConvertTo-Json} of
+ *     Windows PowerShell 5.1 writes a {@code DateTime}. A trailing offset such as {@code +0530} is ignored,
+ *     since the milliseconds are already in UTC</li>
+ *     <li>{@code 20241102123000.000000+330}: the DMTF form of CIM, with microseconds and an offset from UTC in
+ *     minutes</li>
+ *     <li>{@code 2024-11-02T12:30:00.1234567+05:30}: ISO 8601, the way {@code ConvertTo-Json} of PowerShell 7 writes a
+ *     {@code DateTime}, with an optional fraction of up to nine digits and an offset of {@code Z}, {@code +hh:mm} or
+ *     {@code +hhmm}. A value without an offset is taken to be in UTC</li>
+ *     <li>{@code 2024-11-02}: an ISO 8601 date such as the driver dates of {@code MSFT_NetAdapter}, taken to be the
+ *     start of the day in UTC</li>
+ * </ul>
+ * <p>
+ * The parser reads the digits in place, so parsing a value allocates nothing but the returned {@link Instant}.
+ * </p>
+ * <p>
+ * <b>Mostly for internal use </b>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@UtilityClass
+public class CimDateTime {
+
+    private static final String DATE_PREFIX = "/Date(";
+    private static final String ESCAPED_DATE_PREFIX = "\\/Date(";
+    private static final int DMTF_LENGTH = 25;
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    /**
+     * Parses a CIM date and time value in any of the forms described by {@link CimDateTime}
+     *
+     * @param value the value to parse
+     * @return the parsed instant, or {@code null} if the value is {@code null} or blank
+     * @throws DateTimeParseException if the value is in none of the supported forms, or does not denote a valid date
+     */
+    @Nullable
+    public static Instant parse(@Nullable String value) {
+
+        if (value == null)
+            return null;
+        String trimmed = value.trim();
+        if (trimmed.isEmpty())
+            return null;
+
+        if (trimmed.startsWith(DATE_PREFIX))
+            return parseEpochMillis(trimmed, DATE_PREFIX.length());
+        if (trimmed.startsWith(ESCAPED_DATE_PREFIX))
+            return parseEpochMillis(trimmed, ESCAPED_DATE_PREFIX.length());
+        if (trimmed.length() == DMTF_LENGTH && trimmed.charAt(14) == '.')
+            return parseDmtf(trimmed);
+        if (trimmed.length() >= 10 && trimmed.charAt(4) == '-')
+            return parseIso(trimmed);
+
+        throw invalid(trimmed, 0);
+    }
+
+    // /Date(1730530800000)/ or /Date(-1730530800000+0530)/
+    @NotNull
+    private static Instant parseEpochMillis(@NotNull String value, int start) {
+
+        int end = value.indexOf(')', start);
+        if (end < 0 || !(value.startsWith(")/", end) || value.startsWith(")\\/", end)))
+            throw invalid(value, start);
+
+        int position = start;
+        boolean negative = value.charAt(position) == '-';
+        if (negative)
+            position++;
+
+        int digitsStart = position;
+        long millis = 0;
+        while (position < end && isDigit(value.charAt(position))) {
+            if (position - digitsStart == 18)
+                throw invalid(value, position);
+            millis = millis * 10 + (value.charAt(position) - '0');
+            position++;
+        }
+        if (position == digitsStart)
+            throw invalid(value, position);
+
+        // the offset only tells the local time of the writer, the milliseconds are in UTC
+        if (position < end) {
+            char sign = value.charAt(position);
+            if ((sign != '+' && sign != '-') || end - position != 5 || !allDigits(value, position + 1, end))
+                throw invalid(value, position);
+        }
+
+        return Instant.ofEpochMilli(negative ? -millis : millis);
+    }
+
+    // yyyymmddHHMMSS.mmmmmmsUUU
+    @NotNull
+    private static Instant parseDmtf(@NotNull String value) {
+
+        if (!allDigits(value, 0, 14) || !allDigits(value, 15, 21) || !allDigits(value, 22, 25))
+            throw invalid(value, 0);
+        char sign = value.charAt(21);
+        if (sign != '+' && sign != '-')
+            throw invalid(value, 21);
+
+        int year = digits(value, 0, 4);
+        int month = digits(value, 4, 6);
+        int day = digits(value, 6, 8);
+        int hour = digits(value, 8, 10);
+        int minute = digits(value, 10, 12);
+        int second = digits(value, 12, 14);
+        int micros = digits(value, 15, 21);
+        int offsetMinutes = digits(value, 22, 25);
+
+        long offsetSeconds = (sign == '-' ? -offsetMinutes : offsetMinutes) * 60L;
+        return toInstant(value, year, month, day, hour, minute, second, micros * 1000, offsetSeconds);
+    }
+
+    // yyyy-MM-dd, optionally followed by THH:mm[:ss[.fffffffff]] and Z, +hh:mm or +hhmm
+    @NotNull
+    private static Instant parseIso(@NotNull String value) {
+
+        int length = value.length();
+        if (!allDigits(value, 0, 4) || value.charAt(4) != '-' || !allDigits(value, 5, 7) || value.charAt(7) != '-' || !allDigits(value, 8, 10))
+            throw invalid(value, 0);
+
+        int year = digits(value, 0, 4);
+        int month = digits(value, 5, 7);
+        int day = digits(value, 8, 10);
+        if (length == 10)
+            return toInstant(value, year, month, day, 0, 0, 0, 0, 0);
+
+        if ((value.charAt(10) != 'T' && value.charAt(10) != ' ') || length < 16
+                || !allDigits(value, 11, 13) || value.charAt(13) != ':' || !allDigits(value, 14, 16))
+            throw invalid(value, 10);
+
+        int hour = digits(value, 11, 13);
+        int minute = digits(value, 14, 16);
+        int second = 0;
+        int nanos = 0;
+        int position = 16;
+
+        if (position < length && value.charAt(position) == ':') {
+            if (length < 19 || !allDigits(value, 17, 19))
+                throw invalid(value, position);
+            second = digits(value, 17, 19);
+            position = 19;
+
+            if (position < length && value.charAt(position) == '.') {
+                int fractionStart = ++position;
+                while (position < length && isDigit(value.charAt(position)))
+                    position++;
+                int fractionDigits = position - fractionStart;
+                if (fractionDigits == 0 || fractionDigits > 9)
+                    throw invalid(value, fractionStart);
+                nanos = digits(value, fractionStart, position);
+                for (int i = fractionDigits; i < 9; i++)
+                    nanos *= 10;
+            }
+        }
+
+        long offsetSeconds = 0;
+        if (position < length) {
+            char sign = value.charAt(position);
+            if (sign == 'Z' && position == length - 1) {
+                offsetSeconds = 0;
+            } else if ((sign == '+' || sign == '-') && length - position == 6 && value.charAt(position + 3) == ':'
+                    && allDigits(value, position + 1, position + 3) && allDigits(value, position + 4, position + 6)) {
+                offsetSeconds = offsetSeconds(sign, digits(value, position + 1, position + 3), digits(value, position + 4, position + 6), value, position);
+            } else if ((sign == '+' || sign == '-') && length - position == 5 && allDigits(value, position + 1, position + 5)) {
+                offsetSeconds = offsetSeconds(sign, digits(value, position + 1, position + 3), digits(value, position + 3, position + 5), value, position);
+            } else {
+                throw invalid(value, position);
+            }
+        }
+
+        return toInstant(value, year, month, day, hour, minute, second, nanos, offsetSeconds);
+    }
+
+    private static long offsetSeconds(char sign, int hours, int minutes, @NotNull String value, int position) {
+        if (hours > 18 || minutes > 59)
+            throw invalid(value, position);
+        long seconds = hours * 3600L + minutes * 60L;
+        return sign == '-' ? -seconds : seconds;
+    }
+
+    @NotNull
+    private static Instant toInstant(@NotNull String value, int year, int month, int day, int hour, int minute, int second, int nanos, long offsetSeconds) {
+
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+                || hour > 23 || minute > 59 || second > 59)
+            throw new DateTimeParseException("Invalid date or time: " + value, value, 0);
+
+        long localSeconds = epochDay(year, month, day) * SECONDS_PER_DAY + hour * 3600L + minute * 60L + second;
+        return Instant.ofEpochSecond(localSeconds - offsetSeconds, nanos);
+    }
+
+    // the days from 1970-01-01 to the given date of the proleptic Gregorian calendar
+    private static long epochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1L : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0 ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static int digits(@NotNull String value, int start, int end) {
+        int result = 0;
+        for (int i = start; i < end; i++)
+            result = result * 10 + (value.charAt(i) - '0');
+        return result;
+    }
+
+    private static boolean allDigits(@NotNull String value, int start, int end) {
+        if (end > value.length())
+            return false;
+        for (int i = start; i < end; i++) {
+            if (!isDigit(value.charAt(i)))
+                return false;
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    @NotNull
+    private static DateTimeParseException invalid(@NotNull String value, int position) {
+        return new DateTimeParseException("Not a CIM date and time value: " + value, value, position);
+    }
+
+    /**
+     * Holds the {@link Instant} parsed from a CIM date and time value of an immutable entity, parsing it on the
+     * first call of {@link #get(String)} only
+     * <p>
+     * The entities create their memo on the first call of their accessor rather than through a field initializer,
+     * which Gson's reflective adapter skips, so that every entity parses its value once however it was created.
+     * </p>
+     * <p>
+     * Instances of this class are thread-safe: concurrent first calls parse the value once.
+     * </p>
+     */
+    public static final class Memo {
+
+        private static final Object UNPARSED = new Object();
+
+        private volatile Object instant = UNPARSED;
+
+        /**
+         * Returns the instant parsed from the given value, which must be the same on every call
+         *
+         * @param value the value to parse on the first call
+         * @return the parsed instant, or {@code null} if the value is {@code null} or blank
+         * @throws DateTimeParseException if the value is in none of the supported forms. The failure is not
+         *                                remembered: every call throws again.
+         */
+        @Nullable
+        public Instant get(@Nullable String value) {
+            Object parsed = instant;
+            if (parsed == UNPARSED) {
+                synchronized (this) {
+                    parsed = instant;
+                    if (parsed == UNPARSED) {
+                        parsed = parse(value);
+                        instant = parsed;
+                    }
+                }
+            }
+            return (Instant) parsed;
+        }
+    }
+}
@@ -0,0 +1,399 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.utility;
+
+import io.github.eggy03.ferrumx.windows.exception.TerminalExecutionException;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A pool of long-lived PowerShell worker processes that execute commands sent to them over {@code stdin}.
+ * <p>
+ * Unlike {@link TerminalUtility#executeCommand(String, long)}, which launches a fresh {@code powershell.exe}
+ * for every command, this pool keeps up to a fixed number of workers alive and re-uses them across commands,
+ * so the process startup cost is paid only once per worker.
+ * </p>
+ *
+ * <h2>Concurrency and timeouts</h2>
+ * <p>
+ * Each worker executes exactly one command at a time, and at most {@code size} commands run concurrently.
+ * Callers that find every worker busy wait for one to become free and the time spent waiting
+ * counts against their timeout. When a command exceeds its timeout, only the worker that executed it is killed;
+ * the other workers are left untouched and a replacement is launched on demand.
+ * Instances of this class are thread-safe.
+ * </p>
+ *
+ * <h2>Wire protocol</h2>
+ * <p>
+ * Workers are launched with {@link #DEFAULT_WORKER_COMMAND} unless a custom command is supplied, which makes it
+ * possible to run the pool against a stub shell on systems without PowerShell. A worker must honour the following
+ * line-based protocol, using UTF-8 for the Base64 encoded payloads:
+ * </p>
+ * <ul>
+ *     <li>Request: {@code <id> <base64 command>}</li>
+ *     <li>Response: {@code <id> <exit code> <base64 stdout> <base64 stderr>}</li>
+ * </ul>
+ * <p>
+ * Empty payloads may be sent as {@code -}. Since every frame fits in a single line,
+ * the output of a command can never be mistaken for the end of a frame.
+ * </p>
+ *
+ * <h2>Usage example</h2>
+ * <pre>{@code
+ * try (PowerShellWorkerPool pool = new PowerShellWorkerPool(4)) {
+ *     String json = pool.executeCommand(Cimv2Namespace.WIN32_PROCESS_QUERY.getQuery(), 10);
+ * }
+ * }</pre>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@Slf4j
+public class PowerShellWorkerPool implements AutoCloseable {
+
+    /**
+     * PowerShell loop executed by each default worker. Reads framed requests from {@code stdin},
+     * executes them and writes framed responses to {@code stdout}.
+     */
+    private static final String WORKER_LOOP_SCRIPT =
+            "$utf8 = New-Object System.Text.UTF8Encoding $false\n" +
+                    "$stdin = [Console]::In\n" +
+                    "$stdout = [Console]::Out\n" +
+                    "while ($null -ne ($line = $stdin.ReadLine())) {\n" +
+                    "    $frame = $line.Split(' ')\n" +
+                    "    $out = New-Object System.Text.StringBuilder\n" +
+                    "    $err = New-Object System.Text.StringBuilder\n" +
+                    "    $code = 0\n" +
+                    "    try {\n" +
+                    "        $command = $utf8.GetString([Convert]::FromBase64String($frame[1]))\n" +
+                    "        & ([ScriptBlock]::Create($command)) 2>&1 | ForEach-Object {\n" +
+                    "            if ($_ -is [System.Management.Automation.ErrorRecord]) { $code = 1; [void]$err.AppendLine($_.ToString()) }\n" +
+                    "            else { [void]$out.Append(($_ | Out-String -Width 4096)) }\n" +
+                    "        }\n" +
+                    "    } catch {\n" +
+                    "        $code = 1\n" +
+                    "        [void]$err.AppendLine($_.ToString())\n" +
+                    "    }\n" +
+                    "    $encodedOut = if ($out.Length -gt 0) { [Convert]::ToBase64String($utf8.GetBytes($out.ToString())) } else { '-' }\n" +
+                    "    $encodedErr = if ($err.Length -gt 0) { [Convert]::ToBase64String($utf8.GetBytes($err.ToString())) } else { '-' }\n" +
+                    "    $stdout.WriteLine($frame[0] + ' ' + $code + ' ' + $encodedOut + ' ' + $encodedErr)\n" +
+                    "    $stdout.Flush()\n" +
+                    "}\n";
+
+    /**
+     * The command used to launch a PowerShell worker when no custom command is supplied
+     */
+    public static final List<String> DEFAULT_WORKER_COMMAND = Collections.unmodifiableList(Arrays.asList(
+            "powershell.exe", "-NoLogo", "-NoProfile", "-NonInteractive", "-EncodedCommand",
+            Base64.getEncoder().encodeToString(WORKER_LOOP_SCRIPT.getBytes(StandardCharsets.UTF_16LE))
+    ));
+
+    private static final String EMPTY_PAYLOAD = "-";
+
+    private final List<String> workerCommand;
+    private final int size;
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<Worker> idleWorkers = new LinkedBlockingDeque<>();
+    private final AtomicLong requestIds = new AtomicLong();
+    private volatile boolean closed;
+
+    /**
+     * Creates a pool of at most {@code size} PowerShell workers launched with {@link #DEFAULT_WORKER_COMMAND}.
+     * <p>Workers are launched lazily, when a command finds no idle worker to run on.</p>
+     *
+     * @param size the maximum number of workers kept alive by the pool
+     * @throws IllegalArgumentException if the size is less than 1
+     */
+    public PowerShellWorkerPool(int size) {
+        this(size, DEFAULT_WORKER_COMMAND);
+    }
+
+    /**
+     * Creates a pool of at most {@code size} workers launched with a custom command.
+     * <p>
+     * The launched process must implement the wire protocol described in the class documentation.
+     * </p>
+     *
+     * @param size          the maximum number of workers kept alive by the pool
+     * @param workerCommand the executable and arguments used to launch each worker
+     * @throws IllegalArgumentException if the size is less than 1 or the command is empty
+     */
+    public PowerShellWorkerPool(int size, @NonNull List<String> workerCommand) {
+
+        if (size < 1)
+            throw new IllegalArgumentException("Pool size must be at least 1");
+        if (workerCommand.isEmpty())
+            throw new IllegalArgumentException("Worker command cannot be empty");
+
+        this.size = size;
+        this.workerCommand = Collections.unmodifiableList(new ArrayList<>(workerCommand));
+        this.permits = new Semaphore(size, true);
+    }
+
+    /**
+     * Executes a command on one of the pooled workers and returns its result
+     * <p>
+     * The worker is also killed if the {@link CancellationScope} of the current thread is cancelled.
+     * </p>
+     *
+     * @param command        The command to be executed in the PowerShell
+     * @param timeoutSeconds Time in seconds after which the worker executing the command will be killed.
+     *                       Time spent waiting for a free worker counts against this timeout.
+     * @return The result of the command executed
+     * @throws TerminalExecutionException When the worker is killed pre-maturely upon reaching the timeout,
+     *                                    when the command yields an error or when the worker cannot be launched
+     * @throws IllegalArgumentException   If the provided timeout is in the negative
+     * @throws IllegalStateException      If the pool has been closed
+     * @throws CancellationException      If the {@link CancellationScope} of the current thread has already been cancelled
+     */
+    @NotNull
+    public String executeCommand(@NonNull String command, long timeoutSeconds) {
+
+        if (timeoutSeconds < 0)
+            throw new IllegalArgumentException("Timeout cannot be negative");
+        if (closed)
+            throw new IllegalStateException("Worker pool has been closed");
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+
+        try {
+            if (!permits.tryAcquire(timeoutSeconds, TimeUnit.SECONDS))
+                throw new TerminalExecutionException(timeoutReason(command, timeoutSeconds));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TerminalExecutionException("Interrupted while waiting for a free PowerShell worker", e);
+        }
+
+        Worker worker = null;
+        boolean reusable = false;
+        AtomicReference<Worker> busyWorker = new AtomicReference<>();
+        CancellationScope.Registration cancellation = null;
+        try {
+            cancellation = CancellationScope.onCancel(() -> {
+                Worker cancelled = busyWorker.getAndSet(null);
+                if (cancelled != null)
+                    cancelled.destroy();
+            });
+            worker = acquireWorker();
+            busyWorker.set(worker);
+            if (CancellationScope.isCurrentCancelled())
+                worker.destroy();
+            Response response = worker.execute(requestIds.incrementAndGet(), command, deadline);
+
+            if (response == null)
+                throw new TerminalExecutionException(timeoutReason(command, timeoutSeconds));
+
+            reusable = true;
+            log.debug("\nCommand Executed: {}\nExit code: {}\nError Stream: {}\nResult Stream: {}\n", command, response.exitCode, response.error, response.output);
+
+            if (response.exitCode != 0)
+                throw new TerminalExecutionException("\nProcess executing the following command: " + command + "\nExited with a non-zero exit code\nTerminal Error Output: " + response.error);
+
+            return response.output;
+        } catch (IOException e) {
+            String reason = CancellationScope.isCurrentCancelled() ?
+                    "\nProcess executing the following command: " + command + "\nWas killed after its task was cancelled\n" :
+                    "An I/O Exception occurred during executing the following command:\n" + command;
+            throw new TerminalExecutionException(reason, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TerminalExecutionException("Interrupted while executing the following command:\n" + command, e);
+        } finally {
+            if (cancellation != null)
+                cancellation.close();
+            if (worker != null) {
+                if (reusable)
+                    returnWorker(worker);
+                else
+                    worker.destroy();
+            }
+            permits.release();
+        }
+    }
+
+    /**
+     * Returns the maximum number of workers this pool keeps alive
+     *
+     * @return the size of the pool
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of workers currently alive and waiting for a command
+     *
+     * @return the number of idle workers
+     */
+    public int getIdleWorkerCount() {
+        return idleWorkers.size();
+    }
+
+    /**
+     * Kills every idle worker and rejects further commands.
+     * <p>Workers busy executing a command are killed as soon as they finish.</p>
+     */
+    @Override
+    public void close() {
+        closed = true;
+        Worker worker;
+        while ((worker = idleWorkers.pollFirst()) != null)
+            worker.destroy();
+    }
+
+    private void returnWorker(@NotNull Worker worker) {
+        if (closed) {
+            worker.destroy();
+            return;
+        }
+        idleWorkers.offerFirst(worker);
+        // close() may have drained the idle workers between the check and the offer, in which case whichever of
+        // the two removes the worker destroys it
+        if (closed && idleWorkers.removeFirstOccurrence(worker))
+            worker.destroy();
+    }
+
+    @NotNull
+    private Worker acquireWorker() throws IOException {
+        Worker worker;
+        while ((worker = idleWorkers.pollFirst()) != null) {
+            if (worker.isAlive())
+                return worker;
+            worker.destroy();
+        }
+        return new Worker(new ProcessBuilder(workerCommand).start());
+    }
+
+    @NotNull
+    private static String timeoutReason(@NotNull String command, long timeoutSeconds) {
+        return "\nProcess executing the following command: " + command + "\nWas killed after a timeout of " + timeoutSeconds + " seconds\n";
+    }
+
+    @NotNull
+    private static String decode(@NotNull String payload) {
+        return EMPTY_PAYLOAD.equals(payload) ? "" : new String(Base64.getDecoder().decode(payload), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A decoded response frame
+     */
+    private static final class Response {
+
+        private final int exitCode;
+        private final String output;
+        private final String error;
+
+        private Response(int exitCode, String output, String error) {
+            this.exitCode = exitCode;
+            this.output = output;
+            this.error = error;
+        }
+    }
+
+    /**
+     * A single long-lived worker process. Its {@code stdout} is consumed by a dedicated reader thread
+     * so that the caller can wait for a response frame with a deadline.
+     */
+    private static final class Worker {
+
+        private final Process process;
+        private final Writer stdin;
+        private final BlockingQueue<String> frames = new LinkedBlockingQueue<>();
+
+        private Worker(@NotNull Process process) {
+            this.process = process;
+            this.stdin = new OutputStreamWriter(process.getOutputStream(), StandardCharsets.US_ASCII);
+
+            startDaemon("ferrumx-worker-stdout-" + process.hashCode(), () -> {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.US_ASCII))) {
+                    String line;
+                    while ((line = reader.readLine()) != null)
+                        frames.add(line);
+                } catch (IOException e) {
+                    log.trace("PowerShell worker stdout closed", e);
+                }
+            });
+
+            startDaemon("ferrumx-worker-stderr-" + process.hashCode(), () -> {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getErrorStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null)
+                        log.debug("PowerShell worker error stream: {}", line);
+                } catch (IOException e) {
+                    log.trace("PowerShell worker stderr closed", e);
+                }
+            });
+        }
+
+        private static void startDaemon(@NotNull String name, @NotNull Runnable task) {
+            Thread thread = new Thread(task, name);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        private boolean isAlive() {
+            return process.isAlive();
+        }
+
+        /**
+         * Sends a command and waits for its response until the deadline
+         *
+         * @return the response, or {@code null} if the deadline passed first
+         * @throws IOException if the worker died or answered with a malformed frame
+         */
+        private Response execute(long id, @NotNull String command, long deadline) throws IOException, InterruptedException {
+
+            String encodedCommand = Base64.getEncoder().encodeToString(command.getBytes(StandardCharsets.UTF_8));
+            stdin.write(id + " " + encodedCommand + "\n");
+            stdin.flush();
+
+            String frame = null;
+            while (frame == null) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0)
+                    return null;
+                frame = frames.poll(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(100)), TimeUnit.NANOSECONDS);
+                if (frame == null && !process.isAlive() && frames.isEmpty())
+                    throw new IOException("PowerShell worker exited with code " + process.exitValue());
+            }
+
+            String[] parts = frame.split(" ");
+            if (parts.length != 4 || !parts[0].equals(Long.toString(id)))
+                throw new IOException("Malformed response frame from PowerShell worker: " + frame);
+
+            try {
+                return new Response(Integer.parseInt(parts[1]), decode(parts[2]), decode(parts[3]));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Malformed response frame from PowerShell worker: " + frame, e);
+            }
+        }
+
+        private void destroy() {
+            process.destroyForcibly();
+        }
+    }
+}
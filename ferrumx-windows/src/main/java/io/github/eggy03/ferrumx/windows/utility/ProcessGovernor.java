@@ -0,0 +1,302 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.utility;
+
+import io.github.eggy03.ferrumx.windows.exception.TerminalExecutionException;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps the number of PowerShell processes running at the same time
+ * <p>
+ * {@link TerminalUtility} acquires a {@link Permit} from the {@link #getGlobal() global governor} before it launches a
+ * process and releases it once the process has exited. Callers beyond the cap wait in a first-in, first-out queue, and
+ * the time spent waiting counts against the timeout of the caller: the process only gets the remainder of it.
+ * A caller that cannot get a permit within its timeout fails without launching a process.
+ * </p>
+ * <p>
+ * The global governor is {@link #UNLIMITED uncapped} by default, so that processes are launched as they were before
+ * it existed, while its metrics are still collected. Setting the {@value #MAX_CONCURRENT_PROCESSES_PROPERTY} system
+ * property before the governor is first used caps it.
+ * Instances of this class are thread-safe.
+ * </p>
+ *
+ * <h2>Usage example</h2>
+ * <pre>{@code
+ * // -Dferrumx.windows.maxConcurrentProcesses=4
+ * ProcessGovernor.Metrics metrics = ProcessGovernor.getGlobal().getMetrics();
+ * log.info("{} running, {} queued, {} average wait", metrics.getRunningProcesses(), metrics.getQueueDepth(), metrics.getAverageWaitTime());
+ * }</pre>
+ *
+ * @author Sayan Bhattacharjee (Egg-03/Eggy)
+ * @since 4.1.0
+ */
+@Slf4j
+public final class ProcessGovernor {
+
+    /**
+     * The system property holding the cap of the {@link #getGlobal() global governor}
+     */
+    public static final String MAX_CONCURRENT_PROCESSES_PROPERTY = "ferrumx.windows.maxConcurrentProcesses";
+
+    /**
+     * The cap of a governor that never makes a caller wait, which the {@link #getGlobal() global governor} uses unless
+     * the {@value #MAX_CONCURRENT_PROCESSES_PROPERTY} system property is set
+     */
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    /**
+     * The maximum number of processes that may run at the same time
+     */
+    @Getter
+    private final int maxConcurrentProcesses;
+
+    private final Semaphore permits;
+
+    private final AtomicLong acquiredCount = new AtomicLong();
+    private final AtomicLong timedOutCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /**
+     * Creates a governor that lets the given number of processes run at the same time
+     *
+     * @param maxConcurrentProcesses the maximum number of processes that may run at the same time, or {@link #UNLIMITED}
+     * @throws IllegalArgumentException if the maximum is less than one
+     */
+    public ProcessGovernor(int maxConcurrentProcesses) {
+        if (maxConcurrentProcesses < 1)
+            throw new IllegalArgumentException("The maximum number of concurrent processes must be at least 1");
+
+        this.maxConcurrentProcesses = maxConcurrentProcesses;
+        this.permits = new Semaphore(maxConcurrentProcesses, true);
+    }
+
+    /**
+     * Returns the governor shared by every process launched through {@link TerminalUtility}
+     *
+     * @return the global governor
+     */
+    @NotNull
+    public static ProcessGovernor getGlobal() {
+        return GlobalHolder.INSTANCE;
+    }
+
+    /**
+     * Waits for a free slot to launch a process in
+     * <p>
+     * The wait ends early with a {@link CancellationException} if the {@link CancellationScope} of the current thread
+     * is cancelled.
+     * </p>
+     *
+     * @param timeoutSeconds the timeout of the caller, in seconds, which is also the longest time to wait
+     * @return the permit, holding whatever is left of the timeout
+     * @throws TerminalExecutionException if no slot became free within the timeout, or if the thread was interrupted
+     * @throws IllegalArgumentException   if the provided timeout is in the negative
+     * @throws CancellationException      if the {@link CancellationScope} of the current thread was cancelled
+     */
+    @NotNull
+    public Permit acquire(long timeoutSeconds) {
+
+        if (timeoutSeconds < 0)
+            throw new IllegalArgumentException("Timeout cannot be negative");
+
+        long start = System.nanoTime();
+        long timeoutNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+
+        boolean acquired = false;
+        InterruptedException interruption = null;
+        Thread waiter = Thread.currentThread();
+        AtomicBoolean waiting = new AtomicBoolean(true);
+
+        // a cancelled task stops waiting, the interrupt is only delivered for as long as the thread is queued
+        try (CancellationScope.Registration ignored = CancellationScope.onCancel(() -> {
+            synchronized (waiting) {
+                if (waiting.get())
+                    waiter.interrupt();
+            }
+        })) {
+            try {
+                acquired = permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                interruption = e;
+            } finally {
+                synchronized (waiting) {
+                    waiting.set(false);
+                }
+            }
+        }
+
+        long waitedNanos = System.nanoTime() - start;
+
+        if (CancellationScope.isCurrentCancelled()) {
+            // the interrupt came from the cancellation hook and must not leak to the caller
+            Thread.interrupted();
+            if (acquired)
+                permits.release();
+            throw new CancellationException("The task was cancelled while waiting for a free PowerShell process slot");
+        }
+
+        if (interruption != null) {
+            Thread.currentThread().interrupt();
+            throw new TerminalExecutionException("Interrupted while waiting for a free PowerShell process slot", interruption);
+        }
+
+        if (!acquired) {
+            timedOutCount.incrementAndGet();
+            throw new TerminalExecutionException("\nNo free PowerShell process slot within a timeout of " + timeoutSeconds + " seconds\n" +
+                    "Running processes: " + getRunningProcesses() + ", queued callers: " + permits.getQueueLength() + "\n");
+        }
+
+        acquiredCount.incrementAndGet();
+        totalWaitNanos.addAndGet(waitedNanos);
+        maxWaitNanos.accumulateAndGet(waitedNanos, Math::max);
+        log.trace("Acquired a PowerShell process slot after waiting {} ms", TimeUnit.NANOSECONDS.toMillis(waitedNanos));
+
+        return new Permit(remainingTimeout(timeoutNanos, waitedNanos));
+    }
+
+    /**
+     * Returns a snapshot of the current state and of the wait time statistics of this governor
+     *
+     * @return the metrics of this governor
+     */
+    @NotNull
+    public Metrics getMetrics() {
+        long acquired = acquiredCount.get();
+        long totalWait = totalWaitNanos.get();
+        return new Metrics(
+                maxConcurrentProcesses,
+                getRunningProcesses(),
+                permits.getQueueLength(),
+                acquired,
+                timedOutCount.get(),
+                Duration.ofNanos(totalWait),
+                Duration.ofNanos(acquired == 0 ? 0 : totalWait / acquired),
+                Duration.ofNanos(maxWaitNanos.get())
+        );
+    }
+
+    private int getRunningProcesses() {
+        return maxConcurrentProcesses - permits.availablePermits();
+    }
+
+    @NotNull
+    private static Duration remainingTimeout(long timeoutNanos, long waitedNanos) {
+        if (timeoutNanos == 0)
+            return Duration.ZERO;
+        // a process launched at the very end of the timeout still gets a moment before it is killed
+        return Duration.ofNanos(Math.max(timeoutNanos - waitedNanos, TimeUnit.MILLISECONDS.toNanos(1)));
+    }
+
+    private static int configuredMaxConcurrentProcesses() {
+        String configured = System.getProperty(MAX_CONCURRENT_PROCESSES_PROPERTY);
+        if (configured == null)
+            return UNLIMITED;
+
+        try {
+            int max = Integer.parseInt(configured.trim());
+            if (max >= 1)
+                return max;
+        } catch (NumberFormatException e) {
+            log.debug("Invalid value of {}", MAX_CONCURRENT_PROCESSES_PROPERTY, e);
+        }
+        log.warn("Ignoring {}={}, which is not a positive number. The number of processes is not capped", MAX_CONCURRENT_PROCESSES_PROPERTY, configured);
+        return UNLIMITED;
+    }
+
+    private static final class GlobalHolder {
+        private static final ProcessGovernor INSTANCE = new ProcessGovernor(configuredMaxConcurrentProcesses());
+    }
+
+    /**
+     * A slot to run one process in, which is given back by {@link #close()}
+     */
+    public final class Permit implements AutoCloseable {
+
+        /**
+         * What is left of the timeout of the caller after waiting for this permit
+         */
+        @Getter
+        @NonNull
+        private final Duration remainingTimeout;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(@NonNull Duration remainingTimeout) {
+            this.remainingTimeout = remainingTimeout;
+        }
+
+        /**
+         * Gives the slot back to the governor. Calling this method more than once has no further effect.
+         */
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true))
+                permits.release();
+        }
+    }
+
+    /**
+     * A snapshot of the state of a {@link ProcessGovernor}
+     */
+    @Value
+    public static class Metrics {
+
+        /**
+         * The maximum number of processes that may run at the same time, {@link #UNLIMITED} if they are not capped
+         */
+        int maxConcurrentProcesses;
+
+        /**
+         * The number of processes currently holding a permit
+         */
+        int runningProcesses;
+
+        /**
+         * An estimate of the number of callers currently waiting for a permit
+         */
+        int queueDepth;
+
+        /**
+         * The number of permits handed out so far
+         */
+        long acquiredCount;
+
+        /**
+         * The number of callers whose timeout ran out while they were waiting for a permit
+         */
+        long timedOutCount;
+
+        /**
+         * The time spent waiting by all the callers that got a permit
+         */
+        @NonNull
+        Duration totalWaitTime;
+
+        /**
+         * The average time spent waiting by the callers that got a permit
+         */
+        @NonNull
+        Duration averageWaitTime;
+
+        /**
+         * The longest time spent waiting by a caller that got a permit
+         */
+        @NonNull
+        Duration maxWaitTime;
+    }
+}
@@ -10,7 +10,11 @@ import lombok.NonNull;
 import lombok.experimental.UtilityClass;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * A utility class that provides helper methods that use Java reflection
@@ -40,22 +44,32 @@ public class ReflectionUtility {
      */
     @NotNull
     public static <T> String getFromSerializedNames(@NonNull Class<T> tClass) {
+        return String.join(", ", getSerializedNames(tClass));
+    }
 
-        StringBuilder properties = new StringBuilder();
-
-        Arrays.stream(tClass.getDeclaredFields())
+    /**
+     * Retrieves all {@link SerializedName} values declared on the fields of the specified class.
+     *
+     * <p>If a field does not declare a {@link SerializedName} annotation,
+     * its actual field name is used instead. Inherited fields are not included,
+     * and neither are static and transient fields, which Gson does not map either.</p>
+     *
+     * @param tClass the class whose fields should be inspected
+     * @param <T>    the type of the class
+     * @return an immutable list containing either the value of each
+     * {@link SerializedName} annotation or the field name if the annotation is absent
+     * @since 4.1.0
+     */
+    @NotNull
+    public static <T> List<String> getSerializedNames(@NonNull Class<T> tClass) {
+        return Collections.unmodifiableList(Arrays.stream(tClass.getDeclaredFields())
                 .sequential()
                 .filter(field -> !field.isSynthetic()) // filter out synthetic fields since jacoco creates $jacocoData field during tests which fails the assertions. This behavior is not observed in scenarios where code coverage is not run
-                .forEach(field -> {
+                .filter(field -> !Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()))
+                .map(field -> {
                     SerializedName property = field.getAnnotation(SerializedName.class);
-                    properties.append(property != null ? property.value() : field.getName()).append(", ");
-                });
-
-        // remove trailing ", "
-        if (properties.length() > 0) {
-            properties.delete(properties.length() - 2, properties.length());
-        }
-
-        return properties.toString();
+                    return property != null ? property.value() : field.getName();
+                })
+                .collect(Collectors.toList()));
     }
 }
@@ -0,0 +1,328 @@
+/*
+ * © 2024–2025 The ferrumx-windows contributors
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package io.github.eggy03.ferrumx.windows.utility;
+
+import io.github.eggy03.ferrumx.windows.exception.TerminalExecutionException;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.exec.CommandLine;
+import org.apache.commons.exec.DefaultExecuteResultHandler;
+import org.apache.commons.exec.DefaultExecutor;
+import org.apache.commons.exec.ExecuteException;
+import org.apache.commons.exec.ExecuteStreamHandler;
+import org.apache.commons.exec.ExecuteWatchdog;
+import org.apache.commons.exec.PumpStreamHandler;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A utility class that provides an alternative way to launch a PowerShell session without {@code jPowerShell}
+ * <p>
+ * <b>Mostly for internal use </b>
+ *
+ * @author Sayan Bhattacharjee (Alias: Egg-03/Eggy)
+ * @since 3.1.0
+ */
+@UtilityClass
+@Slf4j
+public class TerminalUtility {
+
+
+    /**
+     * Launches a standalone PowerShell session and executes commands and returns the result
+     * <p>
+     * The process is also killed if the {@link CancellationScope} of the current thread is cancelled.
+     * </p>
+     * <p>
+     * The process is only launched once the {@link ProcessGovernor#getGlobal() global governor} hands out a slot for it,
+     * and the time spent waiting for the slot counts against the timeout.
+     * </p>
+     *
+     * @param command        The command to be executed in the PowerShell
+     * @param timeoutSeconds Time in seconds after which the session will be force stopped
+     * @return The result of the command executed
+     * @throws TerminalExecutionException When the process is killed pre-maturely upon reaching the timeout, when the command yields an error or when no process slot becomes free in time
+     * @throws IllegalArgumentException   If the provided timeout is in the negative
+     * @throws CancellationException      If the {@link CancellationScope} of the current thread has already been cancelled
+     */
+    public static String executeCommand(@NotNull String command, long timeoutSeconds) {
+
+        if (timeoutSeconds < 0)
+            throw new IllegalArgumentException("Timeout cannot be negative");
+
+        try (ProcessGovernor.Permit permit = ProcessGovernor.getGlobal().acquire(timeoutSeconds)) {
+            return launch(command, timeoutSeconds, permit.getRemainingTimeout());
+        }
+    }
+
+    private static String launch(@NotNull String command, long timeoutSeconds, @NotNull Duration processTimeout) {
+
+        CommandLine cmdLine = new CommandLine("powershell.exe");
+        cmdLine.addArgument(command, false);
+
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+        ExecuteWatchdog watchdog = ExecuteWatchdog.builder().setTimeout(processTimeout).get();
+
+        DefaultExecutor executor = DefaultExecutor.builder().get();
+        executor.setStreamHandler(new PumpStreamHandler(result, err));
+        executor.setWatchdog(watchdog);
+
+        try (CancellationScope.Registration ignored = CancellationScope.onCancel(watchdog::destroyProcess)) {
+            int exitCode = executor.execute(cmdLine);
+            log.debug("\nCommand Executed: {}\nExit code: {}\nError Stream: {}\nResult Stream: {}\n", command, exitCode, err, result);
+            return result.toString();
+        } catch (ExecuteException e) {
+            String reason = watchdog.killedProcess() ?
+                    killedReason(command, timeoutSeconds) :
+                    "\nProcess executing the following command: " + command + "\nExited with a non-zero exit code\nTerminal Error Output: " + err;
+
+            throw new TerminalExecutionException(reason, e);
+        } catch (IOException e) {
+            String reason = "An I/O Exception occurred during executing the following command:\n" + command;
+            throw new TerminalExecutionException(reason, e);
+        }
+    }
+
+    /**
+     * Launches a standalone PowerShell session, executes commands and hands the standard output
+     * to the given consumer while the command is still running
+     * <p>
+     * Unlike {@link #executeCommand(String, long)}, the output is never collected in memory: the consumer reads it
+     * straight from the process pipe on the calling thread, so its memory footprint only depends on what the consumer
+     * itself keeps. Output the consumer leaves unread is discarded and the reader is closed afterwards.
+     * </p>
+     * <p>
+     * If the timeout is reached, the process is killed and the consumer sees the end of the output early.
+     * Whatever the consumer processed until then has already been processed when the exception is thrown.
+     * If the consumer throws, the process is killed and the exception of the consumer is rethrown.
+     * </p>
+     * <p>
+     * Just like {@link #executeCommand(String, long)}, the process waits for a slot of the
+     * {@link ProcessGovernor#getGlobal() global governor} within the same timeout.
+     * </p>
+     *
+     * @param command        The command to be executed in the PowerShell
+     * @param timeoutSeconds Time in seconds after which the session will be force stopped
+     * @param outputConsumer The consumer of the standard output of the command
+     * @throws TerminalExecutionException When the process is killed pre-maturely upon reaching the timeout, when the command yields an error or when no process slot becomes free in time
+     * @throws IllegalArgumentException   If the provided timeout is in the negative
+     * @throws CancellationException      If the {@link CancellationScope} of the current thread has already been cancelled
+     * @since 4.1.0
+     */
+    public static void executeCommand(@NotNull String command, long timeoutSeconds, @NonNull Consumer<Reader> outputConsumer) {
+
+        if (timeoutSeconds < 0)
+            throw new IllegalArgumentException("Timeout cannot be negative");
+
+        try (ProcessGovernor.Permit permit = ProcessGovernor.getGlobal().acquire(timeoutSeconds)) {
+            launch(command, timeoutSeconds, permit.getRemainingTimeout(), outputConsumer);
+        }
+    }
+
+    private static void launch(@NotNull String command, long timeoutSeconds, @NotNull Duration processTimeout, @NotNull Consumer<Reader> outputConsumer) {
+
+        CommandLine cmdLine = new CommandLine("powershell.exe");
+        cmdLine.addArgument(command, false);
+
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        StreamingOutputHandler streams = new StreamingOutputHandler(err);
+
+        ExecuteWatchdog watchdog = ExecuteWatchdog.builder().setTimeout(processTimeout).get();
+        DefaultExecuteResultHandler resultHandler = new DefaultExecuteResultHandler();
+
+        DefaultExecutor executor = DefaultExecutor.builder().get();
+        executor.setStreamHandler(streams);
+        executor.setWatchdog(watchdog);
+
+        RuntimeException consumerFailure = null;
+        boolean killedByTimeout = false;
+        boolean started = false;
+
+        try (CancellationScope.Registration ignored = CancellationScope.onCancel(watchdog::destroyProcess)) {
+            executor.execute(cmdLine, resultHandler);
+
+            InputStream output = streams.awaitOutput(resultHandler);
+            if (output != null) {
+                started = true;
+                try (Reader reader = new InputStreamReader(output, Charset.defaultCharset())) {
+                    outputConsumer.accept(reader);
+                    // whatever the consumer left unread must still be drained for the process to exit
+                    char[] rest = new char[1024];
+                    while (reader.read(rest) != -1) {
+                        // discard
+                    }
+                } catch (RuntimeException e) {
+                    // a consumer that gives up early must not leave the process blocked on a full pipe
+                    killedByTimeout = watchdog.killedProcess();
+                    consumerFailure = e;
+                    if (!killedByTimeout)
+                        watchdog.destroyProcess();
+                } catch (IOException e) {
+                    // the pipe breaks when the process gets killed, which is reported through the result handler
+                    log.debug("Stopped reading the output stream", e);
+                } finally {
+                    streams.outputConsumed();
+                }
+            }
+
+            resultHandler.waitFor();
+        } catch (IOException e) {
+            String reason = "An I/O Exception occurred during executing the following command:\n" + command;
+            throw new TerminalExecutionException(reason, e);
+        } catch (InterruptedException e) {
+            streams.outputConsumed();
+            watchdog.destroyProcess();
+            Thread.currentThread().interrupt();
+            String reason = "\nProcess executing the following command: " + command + "\nWas killed after the calling thread was interrupted\n";
+            throw new TerminalExecutionException(reason, e);
+        }
+
+        killedByTimeout = killedByTimeout || (consumerFailure == null && watchdog.killedProcess());
+        ExecuteException failure = resultHandler.getException();
+        log.debug("\nCommand Executed: {}\nExit code: {}\nError Stream: {}\nResult Stream: <streamed>\n", command, failure == null ? resultHandler.getExitValue() : failure.getExitValue(), err);
+
+        if (killedByTimeout) {
+            TerminalExecutionException timeout = new TerminalExecutionException(killedReason(command, timeoutSeconds), failure);
+            if (consumerFailure != null)
+                timeout.addSuppressed(consumerFailure);
+            throw timeout;
+        }
+
+        if (consumerFailure != null)
+            throw consumerFailure;
+
+        if (failure != null) {
+            String reason = !started ?
+                    "An I/O Exception occurred during executing the following command:\n" + command :
+                    "\nProcess executing the following command: " + command + "\nExited with a non-zero exit code\nTerminal Error Output: " + err;
+            throw new TerminalExecutionException(reason, failure);
+        }
+    }
+
+    /**
+     * Executes commands on one of the long-lived PowerShell workers of the given pool and returns the result
+     * <p>
+     * Skips the process startup cost paid by {@link #executeCommand(String, long)} on every call.
+     * Only the worker executing the command is killed if the timeout is reached.
+     * </p>
+     *
+     * @param pool           The pool of PowerShell workers to execute the command on
+     * @param command        The command to be executed in the PowerShell
+     * @param timeoutSeconds Time in seconds after which the worker will be force stopped
+     * @return The result of the command executed
+     * @throws TerminalExecutionException When the worker is killed pre-maturely upon reaching the timeout or when the command yields an error
+     * @throws IllegalArgumentException   If the provided timeout is in the negative
+     * @since 4.1.0
+     */
+    public static String executeCommand(@NonNull PowerShellWorkerPool pool, @NotNull String command, long timeoutSeconds) {
+        return pool.executeCommand(command, timeoutSeconds);
+    }
+
+    @NotNull
+    private static String killedReason(@NotNull String command, long timeoutSeconds) {
+        return CancellationScope.isCurrentCancelled() ?
+                "\nProcess executing the following command: " + command + "\nWas killed after its task was cancelled\n" :
+                "\nProcess executing the following command: " + command + "\nWas killed after a timeout of " + timeoutSeconds + " seconds\n";
+    }
+
+    /**
+     * Hands the standard output of a process over to the thread that launched it,
+     * while its standard error is pumped into a buffer.
+     * <p>
+     * {@link DefaultExecutor} closes the streams of the process as soon as it exits, so
+     * {@link #stop()} waits until the launching thread has finished reading the standard output.
+     * </p>
+     */
+    private static final class StreamingOutputHandler implements ExecuteStreamHandler {
+
+        private final OutputStream errorSink;
+        private final CountDownLatch outputAvailable = new CountDownLatch(1);
+        private final CountDownLatch outputDone = new CountDownLatch(1);
+
+        private volatile InputStream output;
+        private Thread errorPumper;
+        private InputStream error;
+
+        private StreamingOutputHandler(@NotNull OutputStream errorSink) {
+            this.errorSink = errorSink;
+        }
+
+        @Override
+        public void setProcessInputStream(OutputStream os) throws IOException {
+            os.close(); // the commands never read from stdin, same as a PumpStreamHandler without input
+        }
+
+        @Override
+        public void setProcessErrorStream(InputStream is) {
+            this.error = is;
+        }
+
+        @Override
+        public void setProcessOutputStream(InputStream is) {
+            this.output = is;
+            outputAvailable.countDown();
+        }
+
+        @Override
+        public void start() {
+            errorPumper = new Thread(() -> {
+                byte[] buffer = new byte[1024];
+                try {
+                    int read;
+                    while ((read = error.read(buffer)) != -1)
+                        errorSink.write(buffer, 0, read);
+                } catch (IOException e) {
+                    log.debug("Stopped reading the error stream", e);
+                }
+            }, "ferrumx-stderr-pumper");
+            errorPumper.setDaemon(true);
+            errorPumper.start();
+        }
+
+        @Override
+        public void stop() throws IOException {
+            try {
+                outputDone.await();
+                errorPumper.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for the process streams", e);
+            }
+        }
+
+        /**
+         * @return the standard output of the process, or {@code null} if the process could not be started
+         */
+        @Nullable
+        private InputStream awaitOutput(@NotNull DefaultExecuteResultHandler resultHandler) throws InterruptedException {
+            while (!outputAvailable.await(50, TimeUnit.MILLISECONDS)) {
+                if (resultHandler.hasResult())
+                    return output;
+            }
+            return output;
+        }
+
+        private void outputConsumed() {
+            outputDone.countDown();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+# only the properties mapped by the entities are serialized, the CIM metadata of the instances is left out
+$netAdapterProperties = 'DeviceID', 'PnPDeviceID', 'InterfaceIndex', 'InterfaceName', 'InterfaceType', 'InterfaceDescription', 'InterfaceAlias', 'InterfaceOperationalStatus', 'Virtual', 'FullDuplex', 'Hidden', 'Status', 'LinkLayerAddress', 'LinkSpeed', 'ReceiveLinkSpeed', 'TransmitLinkSpeed', 'DriverName', 'DriverVersion', 'DriverDate', 'MtuSize', 'MediaConnectState', 'NdisMedium', 'NdisPhysicalMedium', 'MediaType', 'PhysicalMediaType'
+$lifetimeProperties = 'Days', 'Hours', 'Minutes', 'Seconds'
+$netIpAddressProperties = 'InterfaceIndex', 'InterfaceAlias', 'AddressFamily', 'IPAddress', 'IPv4Address', 'IPv6Address', 'Type', 'PrefixOrigin', 'SuffixOrigin', 'PrefixLength', @{ Name = 'PreferredLifetime'; Expression = { if ($null -ne $_.PreferredLifetime) { $_.PreferredLifetime | Select-Object -Property $lifetimeProperties } } }, @{ Name = 'ValidLifetime'; Expression = { if ($null -ne $_.ValidLifetime) { $_.ValidLifetime | Select-Object -Property $lifetimeProperties } } }
+$dnsClientServerAddressProperties = 'InterfaceIndex', 'InterfaceAlias', 'AddressFamily', 'ServerAddresses'
+$netConnectionProfileProperties = 'InterfaceIndex', 'InterfaceAlias', 'NetworkCategory', 'DomainAuthenticationKind', 'IPv4Connectivity', 'IPv6Connectivity'
+
+$adapters = Get-NetAdapter
+$ips = Get-NetIPAddress
+$dns = Get-DnsClientServerAddress
+$connectionProfile = Get-NetConnectionProfile
+
+$result = foreach ($adapter in $adapters)
+{
+    $interfaceIndex = $adapter.InterfaceIndex
+
+    [PSCustomObject]@{
+        InterfaceIndex = $interfaceIndex
+        NetworkAdapter = $adapter | Select-Object -Property $netAdapterProperties
+        IPAddresses = @($ips | Where-Object { $_.InterfaceIndex -eq $interfaceIndex } | Select-Object -Property $netIpAddressProperties)
+        DNSServers = @($dns | Where-Object { $_.InterfaceIndex -eq $interfaceIndex } | Select-Object -Property $dnsClientServerAddressProperties)
+        Profile = @($connectionProfile | Where-Object { $_.InterfaceIndex -eq $interfaceIndex } | Select-Object -Property $netConnectionProfileProperties)
+    }
+}
+
+$result | ConvertTo-Json -Depth 5 -Compress
\ No newline at end of file
@@ -0,0 +1,26 @@
+# only the properties mapped by the entities are serialized, the CIM metadata of the instances is left out
+$diskDriveProperties = 'DeviceID', 'Caption', 'Model', 'Size', 'FirmwareRevision', 'SerialNumber', 'Partitions', 'Status', 'InterfaceType', 'PNPDeviceID', 'Capabilities', 'CapabilityDescriptions'
+$diskPartitionProperties = 'DeviceID', 'Name', 'Description', 'BlockSize', 'NumberOfBlocks', 'Bootable', 'PrimaryPartition', 'BootPartition', 'DiskIndex', 'Size', 'Type'
+$logicalDiskProperties = 'DeviceID', 'Description', 'DriveType', 'MediaType', 'FileSystem', 'Size', 'FreeSpace', 'Compressed', 'SupportsFileBasedCompression', 'SupportsDiskQuotas', 'VolumeName', 'VolumeSerialNumber'
+
+$diskDrives = Get-CimInstance Win32_DiskDrive
+
+$result = foreach ($disk in $diskDrives)
+{
+
+    $partitions = Get-CimAssociatedInstance -InputObject $disk -ResultClassName Win32_DiskPartition
+
+    $logicalDisks = foreach ($partition in $partitions)
+    {
+        Get-CimAssociatedInstance -InputObject $partition -ResultClassName Win32_LogicalDisk
+    }
+
+    [PSCustomObject]@{
+        DeviceID = $disk.DeviceID
+        DiskDrive = $disk | Select-Object -Property $diskDriveProperties
+        Partitions = @($partitions | Where-Object { $null -ne $_ } | Select-Object -Property $diskPartitionProperties)
+        LogicalDisks = @($logicalDisks | Where-Object { $null -ne $_ } | Select-Object -Property $logicalDiskProperties)
+    }
+}
+
+$result | ConvertTo-Json -Depth 5 -Compress
\ No newline at end of file
@@ -0,0 +1,19 @@
+# only the properties mapped by the entities are serialized, the CIM metadata of the instances is left out
+$diskPartitionProperties = 'DeviceID', 'Name', 'Description', 'BlockSize', 'NumberOfBlocks', 'Bootable', 'PrimaryPartition', 'BootPartition', 'DiskIndex', 'Size', 'Type'
+$logicalDiskProperties = 'DeviceID', 'Description', 'DriveType', 'MediaType', 'FileSystem', 'Size', 'FreeSpace', 'Compressed', 'SupportsFileBasedCompression', 'SupportsDiskQuotas', 'VolumeName', 'VolumeSerialNumber'
+
+$partitions = Get-CimInstance Win32_DiskPartition
+
+$result = foreach ($partition in $partitions)
+{
+
+    $logicalDisks = Get-CimAssociatedInstance -InputObject $partition -ResultClassName Win32_LogicalDisk
+
+    [PSCustomObject]@{
+        PartitionID = $partition.DeviceID
+        Partition = $partition | Select-Object -Property $diskPartitionProperties
+        LogicalDisks = @($logicalDisks | Where-Object { $null -ne $_ } | Select-Object -Property $logicalDiskProperties)
+    }
+}
+
+$result | ConvertTo-Json -Depth 5 -Compress
\ No newline at end of file
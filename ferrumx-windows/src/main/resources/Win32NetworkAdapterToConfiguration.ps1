@@ -0,0 +1,20 @@
+# only the properties mapped by the entities are serialized, the CIM metadata of the instances is left out
+$networkAdapterProperties = 'DeviceID', 'Index', 'Name', 'Description', 'PNPDeviceID', 'MACAddress', 'Installed', 'NetEnabled', 'NetConnectionID', 'PhysicalAdapter', 'TimeOfLastReset'
+$networkAdapterConfigurationProperties = 'Index', 'Description', 'Caption', 'SettingID', 'IPEnabled', 'IPAddress', 'IPSubnet', 'DefaultIPGateway', 'DHCPEnabled', 'DHCPServer', 'DHCPLeaseObtained', 'DHCPLeaseExpires', 'DNSHostName', 'DNSServerSearchOrder'
+
+$adapters = Get-CimInstance Win32_NetworkAdapter
+
+$result = foreach ($adapter in $adapters)
+{
+
+    $configurations = Get-CimAssociatedInstance -InputObject $adapter -ResultClassName Win32_NetworkAdapterConfiguration
+
+    [PSCustomObject]@{
+        DeviceID = $adapter.DeviceID
+        Adapter = $adapter | Select-Object -Property $networkAdapterProperties
+        Configurations = @($configurations | Where-Object { $null -ne $_ } | Select-Object -Property $networkAdapterConfigurationProperties)
+    }
+
+}
+
+$result | ConvertTo-Json -Depth 5 -Compress
\ No newline at end of file
@@ -0,0 +1,19 @@
+# only the properties mapped by the entities are serialized, the CIM metadata of the instances is left out
+$processorProperties = 'DeviceID', 'Name', 'NumberOfCores', 'NumberOfEnabledCore', 'ThreadCount', 'NumberOfLogicalProcessors', 'Manufacturer', 'AddressWidth', 'L2CacheSize', 'L3CacheSize', 'MaxClockSpeed', 'ExtClock', 'SocketDesignation', 'Version', 'Caption', 'Family', 'Stepping', 'VirtualizationFirmwareEnabled', 'ProcessorId', 'Architecture'
+$cacheMemoryProperties = 'DeviceID', 'Purpose', 'CacheType', 'Level', 'InstalledSize', 'Associativity', 'Location', 'ErrorCorrectType', 'Availability', 'Status', 'StatusInfo'
+
+$cpus = Get-CimInstance Win32_Processor
+
+$result = foreach ($cpu in $cpus)
+{
+
+    $cache = Get-CimAssociatedInstance -InputObject $cpu -ResultClassName Win32_CacheMemory
+
+    [PSCustomObject]@{
+        DeviceID = $cpu.DeviceID
+        Processor = $cpu | Select-Object -Property $processorProperties
+        CacheMemory = @($cache | Where-Object { $null -ne $_ } | Select-Object -Property $cacheMemoryProperties)
+    }
+}
+
+$result | ConvertTo-Json -Depth 5 -Compress
\ No newline at end of file
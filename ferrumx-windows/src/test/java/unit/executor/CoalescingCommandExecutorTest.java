@@ -0,0 +1,239 @@
+package unit.executor;
+
+import io.github.eggy03.ferrumx.windows.entity.system.Win32Process;
+import io.github.eggy03.ferrumx.windows.exception.TerminalExecutionException;
+import io.github.eggy03.ferrumx.windows.executor.CoalescingCommandExecutor;
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
+import io.github.eggy03.ferrumx.windows.executor.MappingKey;
+import io.github.eggy03.ferrumx.windows.mapping.system.Win32ProcessMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CoalescingCommandExecutorTest {
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    // blocks every execution until released, so that callers can pile up behind it
+    private final CommandExecutor blockingDelegate = (command, timeoutSeconds) -> {
+        executions.incrementAndGet();
+        started.countDown();
+        try {
+            if (!release.await(10, TimeUnit.SECONDS))
+                throw new TerminalExecutionException("Not released");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TerminalExecutionException("Interrupted", e);
+        }
+        if (command.startsWith("fail"))
+            throw new TerminalExecutionException("Failed: " + command);
+        return command.toUpperCase();
+    };
+
+    private ExecutorService threads;
+
+    @BeforeEach
+    void startThreads() {
+        threads = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void stopThreads() {
+        release.countDown();
+        threads.shutdownNow();
+    }
+
+    @Test
+    void test_executeAndMap_concurrentCallers_shareOneExecution() throws Exception {
+        CoalescingCommandExecutor executor = new CoalescingCommandExecutor(blockingDelegate);
+        Function<String, List<String>> mapping = response -> Collections.unmodifiableList(new ArrayList<>(Collections.singletonList(response)));
+
+        List<Future<List<String>>> results = new ArrayList<>();
+        results.add(threads.submit(() -> executor.executeAndMap("query", 10L, mapping)));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 7; i++)
+            results.add(threads.submit(() -> executor.executeAndMap("query", 10L, mapping)));
+
+        // wait until every caller joined the execution in flight
+        Thread.sleep(300);
+        release.countDown();
+
+        List<String> first = results.get(0).get(10, TimeUnit.SECONDS);
+        assertThat(first).containsExactly("QUERY");
+        for (Future<List<String>> result : results)
+            assertThat(result.get(10, TimeUnit.SECONDS)).isSameAs(first);
+
+        assertThat(executions).hasValue(1);
+        assertThat(executor.getInFlightCount()).isZero();
+    }
+
+    @Test
+    void test_executeAndMap_differentCommandsOrMappings_areNotShared() throws Exception {
+        CoalescingCommandExecutor executor = new CoalescingCommandExecutor(blockingDelegate);
+
+        Future<String> first = threads.submit(() -> executor.executeAndMap("query", 10L, response -> response + "-a"));
+        Future<String> second = threads.submit(() -> executor.executeAndMap("query", 10L, response -> response + "-b"));
+        Future<String> third = threads.submit(() -> executor.execute("other", 10L));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+
+        assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo("QUERY-a");
+        assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo("QUERY-b");
+        assertThat(third.get(10, TimeUnit.SECONDS)).isEqualTo("OTHER");
+        assertThat(executions).hasValue(3);
+    }
+
+    // every call returns a new lambda of the same class, capturing a different suffix
+    private static Function<String, String> appending(String suffix) {
+        return response -> response + suffix;
+    }
+
+    @Test
+    void test_executeAndMap_capturingLambdasOfOneCallSite_areNotShared() throws Exception {
+        CoalescingCommandExecutor executor = new CoalescingCommandExecutor(blockingDelegate);
+        Function<String, String> first = appending("-a");
+        Function<String, String> second = appending("-b");
+        assertThat(first.getClass()).isSameAs(second.getClass());
+
+        Future<String> firstResult = threads.submit(() -> executor.executeAndMap("query", 10L, first));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> secondResult = threads.submit(() -> executor.executeAndMap("query", 10L, second));
+        Thread.sleep(300);
+        assertThat(executor.getInFlightCount()).isEqualTo(2);
+        release.countDown();
+
+        assertThat(firstResult.get(10, TimeUnit.SECONDS)).isEqualTo("QUERY-a");
+        assertThat(secondResult.get(10, TimeUnit.SECONDS)).isEqualTo("QUERY-b");
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void test_executeAndMap_equalMappingKeys_areShared() throws Exception {
+        CoalescingCommandExecutor executor = new CoalescingCommandExecutor(blockingDelegate);
+
+        // distinct mapping instances, which only their equal keys identify as the same mapping
+        Future<String> firstResult = threads.submit(() -> executor.executeAndMap("query", 10L,
+                MappingKey.of(Win32ProcessMapper.class, "mapToList", Win32Process.class), appending("-a")));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> secondResult = threads.submit(() -> executor.executeAndMap("query", 10L,
+                MappingKey.of(Win32ProcessMapper.class, "mapToList", Win32Process.class), appending("-a")));
+        Future<String> lazyResult = threads.submit(() -> executor.executeAndMap("query", 10L,
+                MappingKey.of(Win32ProcessMapper.class, "mapToLazyList", Win32Process.class), appending("-b")));
+        Thread.sleep(300);
+        assertThat(executor.getInFlightCount()).isEqualTo(2);
+        release.countDown();
+
+        assertThat(firstResult.get(10, TimeUnit.SECONDS)).isEqualTo("QUERY-a");
+        assertThat(secondResult.get(10, TimeUnit.SECONDS)).isSameAs(firstResult.get());
+        assertThat(lazyResult.get(10, TimeUnit.SECONDS)).isEqualTo("QUERY-b");
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void test_executeAndMap_mappingKey_isPassedToDelegate() {
+        List<MappingKey> keys = new ArrayList<>();
+        CommandExecutor delegate = new CommandExecutor() {
+            @Override
+            public String execute(String command, long timeoutSeconds) {
+                return command;
+            }
+
+            @Override
+            public <T> T executeAndMap(String command, long timeoutSeconds, MappingKey mappingKey, Function<String, T> mapping) {
+                keys.add(mappingKey);
+                return mapping.apply(command);
+            }
+        };
+        MappingKey key = MappingKey.of(Win32ProcessMapper.class, "mapToList", Win32Process.class);
+
+        assertThat(new CoalescingCommandExecutor(delegate).executeAndMap("query", 10L, key, String::length)).isEqualTo(5);
+        assertThat(keys).containsExactly(key);
+    }
+
+    @Test
+    void test_executeAndMap_failure_isRethrownToEveryCaller() throws Exception {
+        CoalescingCommandExecutor executor = new CoalescingCommandExecutor(blockingDelegate);
+
+        Future<String> leader = threads.submit(() -> executor.execute("fail query", 10L));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> follower = threads.submit(() -> executor.execute("fail query", 10L));
+        Thread.sleep(300);
+        release.countDown();
+
+        for (Future<String> result : Arrays.asList(leader, follower)) {
+            Exception ex = assertThrows(Exception.class, () -> result.get(10, TimeUnit.SECONDS));
+            assertThat(ex.getCause())
+                    .isInstanceOf(TerminalExecutionException.class)
+                    .hasMessage("Failed: fail query");
+        }
+        assertThat(executions).hasValue(1);
+        assertThat(executor.getInFlightCount()).isZero();
+    }
+
+    @Test
+    void test_executeAndMap_followerTimeout_throwsException() throws Exception {
+        CoalescingCommandExecutor executor = new CoalescingCommandExecutor(blockingDelegate);
+
+        Future<String> leader = threads.submit(() -> executor.execute("query", 10L));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        TerminalExecutionException ex = assertThrows(TerminalExecutionException.class, () -> executor.execute("query", 0L));
+        assertThat(ex.getMessage()).contains("Did not complete within a timeout of 0 seconds");
+
+        release.countDown();
+        assertThat(leader.get(10, TimeUnit.SECONDS)).isEqualTo("QUERY");
+    }
+
+    @Test
+    void test_execute_afterCompletion_runsAgain() {
+        CoalescingCommandExecutor executor = new CoalescingCommandExecutor(blockingDelegate);
+        release.countDown();
+
+        assertThat(executor.execute("query", 5L)).isEqualTo("QUERY");
+        assertThat(executor.execute("query", 5L)).isEqualTo("QUERY");
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void test_executeStreaming_isDelegated() {
+        CoalescingCommandExecutor executor = new CoalescingCommandExecutor(blockingDelegate);
+        release.countDown();
+
+        StringBuilder output = new StringBuilder();
+        executor.execute("query", 5L, reader -> {
+            char[] buffer = new char[16];
+            int read;
+            try {
+                while ((read = reader.read(buffer)) != -1)
+                    output.append(buffer, 0, read);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(output).hasToString("QUERY");
+    }
+
+    @Test
+    void test_execute_negativeTimeout_throwsException() {
+        CoalescingCommandExecutor executor = new CoalescingCommandExecutor(blockingDelegate);
+        assertThrows(IllegalArgumentException.class, () -> executor.execute("query", -1L));
+    }
+}
@@ -0,0 +1,185 @@
+package unit.executor;
+
+import com.profesorfalken.jpowershell.PowerShell;
+import com.profesorfalken.jpowershell.PowerShellResponse;
+import io.github.eggy03.ferrumx.windows.exception.TerminalExecutionException;
+import io.github.eggy03.ferrumx.windows.executor.ConfinedJPowerShellCommandExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConfinedJPowerShellCommandExecutorTest {
+
+    private final List<PowerShell> sessions = new ArrayList<>();
+    private final Set<String> sessionThreads = ConcurrentHashMap.newKeySet();
+    private ConfinedJPowerShellCommandExecutor executor;
+
+    @AfterEach
+    void closeExecutor() {
+        if (executor != null)
+            executor.close();
+    }
+
+    /**
+     * Creates a mocked session that echoes each command back, records the thread it is used on,
+     * reports an error for "fail" and sleeps for "sleep"
+     */
+    private PowerShell newSession() {
+
+        PowerShell session = mock(PowerShell.class);
+        when(session.executeCommand(anyString())).thenAnswer(invocation -> {
+            sessionThreads.add(Thread.currentThread().getName());
+            String command = invocation.getArgument(0);
+            if (command.equals("sleep"))
+                Thread.sleep(2000);
+
+            PowerShellResponse response = mock(PowerShellResponse.class);
+            when(response.getCommandOutput()).thenReturn(command);
+            when(response.isError()).thenReturn(command.equals("fail"));
+            return response;
+        });
+
+        synchronized (sessions) {
+            sessions.add(session);
+        }
+        return session;
+    }
+
+    @Test
+    void test_execute_confinesSessionToOneThread() throws Exception {
+
+        executor = new ConfinedJPowerShellCommandExecutor(1000, this::newSession);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                String command = "Get-Item " + i;
+                results.add(callers.submit(() -> executor.execute(command, 10L)));
+            }
+            for (int i = 0; i < results.size(); i++)
+                assertThat(results.get(i).get(10, TimeUnit.SECONDS)).isEqualTo("Get-Item " + i);
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertThat(executor.getOpenedSessionCount()).isEqualTo(1);
+        assertThat(sessionThreads).hasSize(1);
+        assertThat(sessionThreads.iterator().next()).startsWith("ferrumx-jpowershell-session-");
+    }
+
+    @Test
+    void test_execute_recyclesAfterConfiguredCommands() {
+
+        executor = new ConfinedJPowerShellCommandExecutor(2, this::newSession);
+        for (int i = 0; i < 5; i++)
+            executor.execute("Get-Date", 10L);
+
+        assertThat(executor.getOpenedSessionCount()).isEqualTo(3);
+        verify(sessions.get(0)).close();
+        verify(sessions.get(1)).close();
+        verify(sessions.get(2), never()).close();
+    }
+
+    @Test
+    void test_execute_recyclesOnError() {
+
+        executor = new ConfinedJPowerShellCommandExecutor(100, this::newSession);
+        executor.execute("Get-Date", 10L);
+
+        TerminalExecutionException ex = assertThrows(TerminalExecutionException.class, () -> executor.execute("fail", 10L));
+        assertThat(ex.getMessage()).contains("Reported an error");
+
+        assertThat(executor.execute("Get-Date", 10L)).isEqualTo("Get-Date");
+        assertThat(executor.getOpenedSessionCount()).isEqualTo(2);
+        verify(sessions.get(0)).close();
+    }
+
+    @Test
+    void test_execute_recyclesOnFactoryOrSessionException() {
+
+        AtomicInteger attempts = new AtomicInteger();
+        executor = new ConfinedJPowerShellCommandExecutor(100, () -> {
+            if (attempts.incrementAndGet() == 1)
+                throw new IllegalStateException("PowerShell not available");
+            return newSession();
+        });
+
+        TerminalExecutionException ex = assertThrows(TerminalExecutionException.class, () -> executor.execute("Get-Date", 10L));
+        assertThat(ex.getCause()).isInstanceOf(IllegalStateException.class);
+
+        assertThat(executor.execute("Get-Date", 10L)).isEqualTo("Get-Date");
+    }
+
+    @Test
+    void test_execute_timeout_recyclesSessionOnceFinished() {
+
+        executor = new ConfinedJPowerShellCommandExecutor(100, this::newSession);
+
+        TerminalExecutionException ex = assertThrows(TerminalExecutionException.class, () -> executor.execute("sleep", 1L));
+        assertThat(ex.getMessage()).contains("Did not answer within a timeout of 1 seconds");
+
+        // queued behind the abandoned command, which is left to finish on its own
+        assertThat(executor.execute("Get-Date", 10L)).isEqualTo("Get-Date");
+        assertThat(executor.getOpenedSessionCount()).isEqualTo(2);
+        verify(sessions.get(0)).close();
+    }
+
+    @Test
+    void test_execute_queuedCommandTimingOut_isNeverExecuted() throws Exception {
+
+        executor = new ConfinedJPowerShellCommandExecutor(100, this::newSession);
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> slow = callers.submit(() -> executor.execute("sleep", 10L));
+            Thread.sleep(300);
+
+            assertThrows(TerminalExecutionException.class, () -> executor.execute("never executed", 1L));
+            assertThat(slow.get(10, TimeUnit.SECONDS)).isEqualTo("sleep");
+        } finally {
+            callers.shutdownNow();
+        }
+
+        verify(sessions.get(0), never()).executeCommand("never executed");
+    }
+
+    @Test
+    void test_close_closesSessionAndRejectsCommands() {
+
+        executor = new ConfinedJPowerShellCommandExecutor(100, this::newSession);
+        executor.execute("Get-Date", 10L);
+        executor.close();
+
+        assertThrows(IllegalStateException.class, () -> executor.execute("Get-Date", 10L));
+
+        // the session is closed on the session thread
+        verify(sessions.get(0), timeout(5000)).close();
+    }
+
+    @Test
+    void test_invalidArguments_throwException() {
+
+        assertThrows(IllegalArgumentException.class, () -> new ConfinedJPowerShellCommandExecutor(0));
+
+        executor = new ConfinedJPowerShellCommandExecutor(100, this::newSession);
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> executor.execute("Get-Date", -1));
+        assertThat(ex.getMessage()).isEqualTo("Timeout cannot be negative");
+    }
+}
@@ -0,0 +1,98 @@
+package unit.executor;
+
+import com.profesorfalken.jpowershell.PowerShell;
+import com.profesorfalken.jpowershell.PowerShellResponse;
+import io.github.eggy03.ferrumx.windows.exception.TerminalExecutionException;
+import io.github.eggy03.ferrumx.windows.executor.JPowerShellCommandExecutor;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.io.BufferedReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JPowerShellCommandExecutorTest {
+
+    @Test
+    void test_execute_callerSession_singleLineCommand() {
+
+        PowerShellResponse mockResponse = mock(PowerShellResponse.class);
+        when(mockResponse.getCommandOutput()).thenReturn("output");
+
+        try (PowerShell mockShell = mock(PowerShell.class)) {
+            when(mockShell.executeCommand("Get-Date")).thenReturn(mockResponse);
+
+            assertThat(new JPowerShellCommandExecutor(mockShell).execute("Get-Date", 5L)).isEqualTo("output");
+            verify(mockShell, never()).close();
+        }
+    }
+
+    @Test
+    void test_execute_callerSession_multiLineCommandRunsAsScript() {
+
+        PowerShellResponse mockResponse = mock(PowerShellResponse.class);
+        when(mockResponse.getCommandOutput()).thenReturn("11");
+
+        try (PowerShell mockShell = mock(PowerShell.class)) {
+            when(mockShell.executeScript(any(BufferedReader.class))).thenReturn(mockResponse);
+
+            assertThat(new JPowerShellCommandExecutor(mockShell).execute("$a=10\n$a++\n$a", 5L)).isEqualTo("11");
+        }
+    }
+
+    @Test
+    void test_execute_ownSession_isClosed() {
+
+        PowerShellResponse mockResponse = mock(PowerShellResponse.class);
+        when(mockResponse.getCommandOutput()).thenReturn("output");
+
+        try (MockedStatic<PowerShell> mockPS = mockStatic(PowerShell.class);
+             PowerShell mockShell = mock(PowerShell.class)) {
+
+            mockPS.when(PowerShell::openSession).thenReturn(mockShell);
+            when(mockShell.executeCommand("Get-Date")).thenReturn(mockResponse);
+
+            assertThat(new JPowerShellCommandExecutor().execute("Get-Date", 5L)).isEqualTo("output");
+            verify(mockShell).close();
+        }
+    }
+
+    @Test
+    void test_execute_errorAndTimeout_throwException() {
+
+        PowerShellResponse errorResponse = mock(PowerShellResponse.class);
+        when(errorResponse.isError()).thenReturn(true);
+        when(errorResponse.getCommandOutput()).thenReturn("fail");
+
+        PowerShellResponse timeoutResponse = mock(PowerShellResponse.class);
+        when(timeoutResponse.isTimeout()).thenReturn(true);
+
+        try (PowerShell mockShell = mock(PowerShell.class)) {
+            when(mockShell.executeCommand("error")).thenReturn(errorResponse);
+            when(mockShell.executeCommand("timeout")).thenReturn(timeoutResponse);
+
+            JPowerShellCommandExecutor executor = new JPowerShellCommandExecutor(mockShell);
+
+            TerminalExecutionException errorEx = assertThrows(TerminalExecutionException.class, () -> executor.execute("error", 5L));
+            assertThat(errorEx.getMessage()).contains("Terminal Error Output").contains("fail");
+
+            TerminalExecutionException timeoutEx = assertThrows(TerminalExecutionException.class, () -> executor.execute("timeout", 5L));
+            assertThat(timeoutEx.getMessage()).contains("Timed out");
+        }
+    }
+
+    @Test
+    void test_execute_negativeTimeout_throwsException() {
+        try (PowerShell mockShell = mock(PowerShell.class)) {
+            JPowerShellCommandExecutor executor = new JPowerShellCommandExecutor(mockShell);
+            assertThrows(IllegalArgumentException.class, () -> executor.execute("Get-Date", -1L));
+        }
+    }
+}
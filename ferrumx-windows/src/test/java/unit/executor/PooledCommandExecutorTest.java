@@ -0,0 +1,36 @@
+package unit.executor;
+
+import io.github.eggy03.ferrumx.windows.executor.PooledCommandExecutor;
+import io.github.eggy03.ferrumx.windows.utility.PowerShellWorkerPool;
+import org.junit.jupiter.api.Test;
+import unit.utility.StubPowerShellWorker;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PooledCommandExecutorTest {
+
+    private static final List<String> STUB_COMMAND = Arrays.asList(
+            System.getProperty("java.home") + File.separator + "bin" + File.separator + "java",
+            "-cp", System.getProperty("java.class.path"),
+            StubPowerShellWorker.class.getName()
+    );
+
+    @Test
+    void test_execute_runsOnPool() {
+        try (PowerShellWorkerPool pool = new PowerShellWorkerPool(1, STUB_COMMAND)) {
+            PooledCommandExecutor executor = new PooledCommandExecutor(pool);
+            assertThat(executor.execute("echo pooled", 15L)).isEqualTo("pooled" + System.lineSeparator());
+            assertThat(executor.getPool()).isSameAs(pool);
+        }
+    }
+
+    @Test
+    void test_constructor_nullPool_throwsException() {
+        assertThrows(NullPointerException.class, () -> new PooledCommandExecutor(null));
+    }
+}
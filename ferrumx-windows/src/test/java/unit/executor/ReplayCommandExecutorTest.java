@@ -0,0 +1,77 @@
+package unit.executor;
+
+import io.github.eggy03.ferrumx.windows.exception.TerminalExecutionException;
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
+import io.github.eggy03.ferrumx.windows.executor.RecordingCommandExecutor;
+import io.github.eggy03.ferrumx.windows.executor.ReplayCommandExecutor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReplayCommandExecutorTest {
+
+    @Test
+    void test_execute_returnsRecordedOutput() {
+        ReplayCommandExecutor executor = new ReplayCommandExecutor(Collections.singletonMap("Get-Date", "today"));
+        assertThat(executor.execute("Get-Date", 5L)).isEqualTo("today");
+    }
+
+    @Test
+    void test_execute_normalizesLineEndings() {
+        ReplayCommandExecutor executor = new ReplayCommandExecutor(Collections.singletonMap("$a=1\r\n$a", "1"));
+        assertThat(executor.execute("$a=1\n$a", 5L)).isEqualTo("1");
+    }
+
+    @Test
+    void test_executeStreaming_fallsBackToRecordedOutput() {
+        ReplayCommandExecutor executor = new ReplayCommandExecutor(Collections.singletonMap("Get-Date", "today\nand tomorrow"));
+
+        List<String> lines = new ArrayList<>();
+        executor.execute("Get-Date", 5L, output -> new BufferedReader(output).lines().forEach(lines::add));
+        assertThat(lines).containsExactly("today", "and tomorrow");
+    }
+
+    @Test
+    void test_execute_unknownCommand_throwsException() {
+        ReplayCommandExecutor executor = new ReplayCommandExecutor(Collections.emptyMap());
+        TerminalExecutionException ex = assertThrows(TerminalExecutionException.class, () -> executor.execute("Get-Date", 5L));
+        assertThat(ex.getMessage()).contains("No recorded output");
+    }
+
+    @Test
+    void test_execute_negativeTimeout_throwsException() {
+        ReplayCommandExecutor executor = new ReplayCommandExecutor(Collections.singletonMap("Get-Date", "today"));
+        assertThrows(IllegalArgumentException.class, () -> executor.execute("Get-Date", -1L));
+    }
+
+    @Test
+    void test_recordSaveAndReplay_roundTrip(@TempDir Path tempDir) throws Exception {
+
+        Map<String, String> live = new HashMap<>();
+        live.put("Get-Date", "today");
+        live.put("$a=1\r\n$a", "[{\"Name\":\"ü\"}]");
+        CommandExecutor liveExecutor = (command, timeout) -> live.get(command);
+
+        RecordingCommandExecutor recorder = new RecordingCommandExecutor(liveExecutor);
+        recorder.execute("Get-Date", 5L);
+        recorder.execute("$a=1\r\n$a", 5L);
+
+        Path file = tempDir.resolve("recordings.json");
+        recorder.save(file);
+
+        ReplayCommandExecutor replay = ReplayCommandExecutor.load(file);
+        assertThat(replay.getRecordings()).hasSize(2);
+        assertThat(replay.execute("Get-Date", 5L)).isEqualTo("today");
+        assertThat(replay.execute("$a=1\n$a", 5L)).isEqualTo("[{\"Name\":\"ü\"}]");
+    }
+}
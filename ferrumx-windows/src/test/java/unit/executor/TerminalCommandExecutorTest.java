@@ -0,0 +1,58 @@
+package unit.executor;
+
+import io.github.eggy03.ferrumx.windows.executor.TerminalCommandExecutor;
+import io.github.eggy03.ferrumx.windows.utility.TerminalUtility;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.io.BufferedReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mockStatic;
+
+class TerminalCommandExecutorTest {
+
+    @Test
+    void test_execute_delegatesToTerminalUtility() {
+
+        try (MockedStatic<TerminalUtility> mockedTerminal = mockStatic(TerminalUtility.class)) {
+            mockedTerminal
+                    .when(() -> TerminalUtility.executeCommand("Get-Date", 5L))
+                    .thenReturn("today");
+
+            assertThat(new TerminalCommandExecutor().execute("Get-Date", 5L)).isEqualTo("today");
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void test_executeStreaming_delegatesToTerminalUtility() {
+
+        try (MockedStatic<TerminalUtility> mockedTerminal = mockStatic(TerminalUtility.class)) {
+            mockedTerminal
+                    .when(() -> TerminalUtility.executeCommand(eq("Get-Date"), eq(5L), any(Consumer.class)))
+                    .thenAnswer(invocation -> {
+                        invocation.<Consumer<Reader>>getArgument(2).accept(new StringReader("today"));
+                        return null;
+                    });
+
+            List<String> lines = new ArrayList<>();
+            new TerminalCommandExecutor().execute("Get-Date", 5L, output -> new BufferedReader(output).lines().forEach(lines::add));
+            assertThat(lines).containsExactly("today");
+        }
+    }
+
+    @Test
+    void test_execute_nullCommand_throwsException() {
+        TerminalCommandExecutor executor = new TerminalCommandExecutor();
+        assertThrows(NullPointerException.class, () -> executor.execute(null, 5L));
+    }
+}
@@ -0,0 +1,155 @@
+package unit.mapper;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import io.github.eggy03.ferrumx.windows.entity.storage.Win32LogicalDisk;
+import io.github.eggy03.ferrumx.windows.entity.system.Win32Process;
+import io.github.eggy03.ferrumx.windows.mapping.CommonMappingInterface;
+import io.github.eggy03.ferrumx.windows.mapping.storage.Win32LogicalDiskMapper;
+import io.github.eggy03.ferrumx.windows.mapping.system.Win32ProcessMapper;
+import io.github.eggy03.ferrumx.windows.query.WireFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BigIntegerTypeAdapterTest {
+
+    private static final TypeAdapter<BigInteger> ADAPTER = CommonMappingInterface.GSON.getAdapter(BigInteger.class);
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "0",
+            "7",
+            "-16",
+            "12582912",
+            "-2203318222848",
+            "999999999999999999",
+            "9223372036854775807",
+            "-9223372036854775808",
+            "9223372036854775808",
+            "-9223372036854775809",
+            "9223372036854776000",
+            "18446744073709551615",
+            "340282366920938463463374607431768211455"
+    })
+    void test_read_matchesBigIntegerConstructor(String value) throws IOException {
+        assertThat(ADAPTER.fromJson(value)).isEqualTo(new BigInteger(value));
+        assertThat(ADAPTER.fromJson("\"" + value + "\"")).isEqualTo(new BigInteger(value));
+    }
+
+    @Test
+    void test_read_null() throws IOException {
+        assertThat(ADAPTER.fromJson("null")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"\"", "\"-\"", "\"12a\"", "\"1.5\"", "1.5", "true"})
+    void test_read_invalidValue_throwsException(String json) {
+        assertThrows(JsonSyntaxException.class, () -> CommonMappingInterface.GSON.fromJson(json, BigInteger.class));
+    }
+
+    @Test
+    void test_write_matchesGson() {
+        assertThat(ADAPTER.toJson(new BigInteger("18446744073709551615"))).isEqualTo("18446744073709551615");
+        assertThat(ADAPTER.toJson(null)).isEqualTo("null");
+    }
+
+    @Test
+    void test_mapToList_bothFormats() {
+
+        Win32ProcessMapper mapper = new Win32ProcessMapper();
+        List<Win32Process> fromJson = mapper.mapToList(
+                "[{\"ProcessId\":4,\"WorkingSetSize\":12582912,\"VirtualSize\":18446744073709551615,\"KernelModeTime\":null}]", Win32Process.class);
+        List<Win32Process> fromDelimited = mapper.mapToList(
+                "ProcessId\tWorkingSetSize\tVirtualSize\tKernelModeTime\r\n4\t12582912\t18446744073709551615\t\\N\r\n", Win32Process.class, WireFormat.DELIMITED);
+
+        assertThat(fromDelimited).isEqualTo(fromJson);
+        Win32Process process = fromJson.get(0);
+        assertThat(process.getWorkingSetSize()).isEqualTo(BigInteger.valueOf(12582912L));
+        assertThat(process.getVirtualSize()).isEqualTo(new BigInteger("18446744073709551615"));
+        assertThat(process.getKernelModeTime()).isNull();
+    }
+
+    @Test
+    void test_mapToList_decodesCountersWithoutBigInteger() throws ReflectiveOperationException {
+
+        List<Win32LogicalDisk> disks = new Win32LogicalDiskMapper().mapToList(
+                "[{\"DeviceID\":\"C:\",\"Size\":511101923328,\"FreeSpace\":\"0\"}]", Win32LogicalDisk.class);
+        Win32LogicalDisk disk = disks.get(0);
+
+        Field size = Win32LogicalDisk.class.getDeclaredField("size");
+        size.setAccessible(true);
+        assertThat(size.get(disk)).isNull();
+        assertThat(disk.getSizeAsLong(-1)).isEqualTo(511_101_923_328L);
+        assertThat(disk.getSize()).isEqualTo(BigInteger.valueOf(511_101_923_328L));
+        assertThat(disk.getFreeSpaceAsLong(-1)).isZero();
+        assertThat(disk.getFreeSpace()).isSameAs(BigInteger.ZERO);
+
+        // a decoded counter equals, and is written like, the same counter set as a BigInteger
+        Win32LogicalDisk built = Win32LogicalDisk.builder()
+                .deviceId("C:")
+                .size(BigInteger.valueOf(511_101_923_328L))
+                .freeSpace(BigInteger.ZERO)
+                .build();
+        assertThat(disk).isEqualTo(built).hasSameHashCodeAs(built);
+        assertThat(disk.toString()).isEqualTo(built.toString()).contains("511101923328");
+        assertThat(CommonMappingInterface.GSON.fromJson(CommonMappingInterface.GSON.toJson(disk), Win32LogicalDisk.class)).isEqualTo(built);
+    }
+
+    @Test
+    void test_builder_counterSetEitherWay() {
+
+        Win32LogicalDisk disk = Win32LogicalDisk.builder().sizeAsLong(42L).freeSpaceAsLong(0L).build();
+        assertThat(disk.getSize()).isEqualTo(BigInteger.valueOf(42L));
+        assertThat(disk.getFreeSpace()).isEqualTo(BigInteger.ZERO);
+
+        // the last setter wins
+        assertThat(disk.toBuilder().size(null).build().getSize()).isNull();
+        assertThat(disk.toBuilder().size(BigInteger.TEN).build().getSizeAsLong(-1)).isEqualTo(10L);
+        assertThat(disk.toBuilder().size(BigInteger.TEN).sizeAsLong(7L).build().getSize()).isEqualTo(BigInteger.valueOf(7L));
+
+        // copies keep absent and large counters as they are
+        Win32LogicalDisk copy = Win32LogicalDisk.builder().size(new BigInteger("18446744073709551615")).build().toBuilder().build();
+        assertThat(copy.getSize()).isEqualTo(new BigInteger("18446744073709551615"));
+        assertThat(copy.getFreeSpace()).isNull();
+        assertThat(disk.toBuilder().build()).isEqualTo(disk);
+    }
+
+    @Test
+    void test_reflectiveGson_readsCounters() {
+
+        // Gson's own reflective adapter skips the long companions, which stay 0
+        Win32LogicalDisk disk = new Gson().fromJson("{\"Size\":511101923328}", Win32LogicalDisk.class);
+        assertThat(disk.getSize()).isEqualTo(BigInteger.valueOf(511_101_923_328L));
+        assertThat(disk.getSizeAsLong(-1)).isEqualTo(511_101_923_328L);
+        assertThat(disk.getFreeSpace()).isNull();
+    }
+
+    @Test
+    void test_longAccessors() {
+
+        Win32Process process = Win32Process.builder()
+                .workingSetSize(BigInteger.valueOf(12582912L))
+                .virtualSize(new BigInteger("18446744073709551615"))
+                .build();
+
+        assertThat(process.getWorkingSetSizeAsLong(-1)).isEqualTo(12582912L);
+        assertThat(process.getKernelModeTimeAsLong(-1)).isEqualTo(-1L);
+        assertThrows(ArithmeticException.class, () -> process.getVirtualSizeAsLong(0));
+
+        Win32LogicalDisk disk = Win32LogicalDisk.builder()
+                .size(BigInteger.valueOf(511_101_923_328L))
+                .freeSpace(BigInteger.valueOf(95_421_390_848L))
+                .build();
+        assertThat(disk.getSizeAsLong(0) - disk.getFreeSpaceAsLong(0)).isEqualTo(415_680_532_480L);
+    }
+}
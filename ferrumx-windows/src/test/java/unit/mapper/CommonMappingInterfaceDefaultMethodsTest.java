@@ -0,0 +1,431 @@
+/*
+ * © 2024–2025 Sayan Bhattacharjee (Alias: Egg-03/Eggy)
+ * Licensed under the MIT License.
+ * See the LICENSE file in the project root for more information.
+ */
+package unit.mapper;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSyntaxException;
+import io.github.eggy03.ferrumx.windows.entity.processor.Win32Processor;
+import io.github.eggy03.ferrumx.windows.entity.network.Win32NetworkAdapterConfiguration;
+import io.github.eggy03.ferrumx.windows.mapping.CommonMappingInterface;
+import io.github.eggy03.ferrumx.windows.mapping.network.Win32NetworkAdapterConfigurationMapper;
+import io.github.eggy03.ferrumx.windows.query.WireFormat;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommonMappingInterfaceDefaultMethodsTest {
+
+    private static CommonMappingInterface<Win32Processor> mapper;
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void setProcessorCommonMappingInterface() {
+        mapper = new CommonMappingInterface<Win32Processor>() {
+        };
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void testMapToObject_success() {
+
+        JsonObject processorObject = new JsonObject();
+        processorObject.addProperty("DeviceID", "CPU0");
+        processorObject.addProperty("Name", "Intel(R) Core(TM) i7-7700HQ CPU @ 2.80GHz");
+
+        String jsonProcessor = new Gson().toJson(processorObject);
+
+        Optional<Win32Processor> processor = mapper.mapToObject(jsonProcessor, Win32Processor.class);
+        assertTrue(processor.isPresent());
+        assertEquals("CPU0", processor.get().getDeviceId());
+        assertEquals("Intel(R) Core(TM) i7-7700HQ CPU @ 2.80GHz", processor.get().getName());
+    }
+
+    @Test
+    void testMapToObject_invalidJson_throwsException() {
+
+        String json = "invalid json";
+        assertThrows(JsonSyntaxException.class, () -> mapper.mapToObject(json, Win32Processor.class));
+
+    }
+
+    @Test
+    void testMapToObject_validJson_jsonMismatchSchema_returnsObjectWithNullableFields() {
+
+        String json = "{}";
+        Optional<Win32Processor> processor = mapper.mapToObject(json, Win32Processor.class);
+
+        assertTrue(processor.isPresent());
+        assertNotNull(processor.get());
+        assertNull(processor.get().getDeviceId());
+    }
+
+    @Test
+    void testMapToObject_emptyJson_optionalNotPresent() {
+        String json = "";
+        Optional<Win32Processor> processorObject = mapper.mapToObject(json, Win32Processor.class);
+        assertFalse(processorObject.isPresent());
+    }
+
+    void testMapToObject_nullParameters_throwsException() {
+        assertThrows(NullPointerException.class, () -> mapper.mapToObject(null, Win32Processor.class));
+        assertThrows(NullPointerException.class, () -> mapper.mapToObject("", null));
+    }
+
+    @Test
+    void testMapToList_success() {
+
+        JsonArray processorArrayObject = new JsonArray();
+
+        JsonObject cpu0 = new JsonObject();
+        cpu0.addProperty("DeviceID", "CPU0");
+        cpu0.addProperty("Name", "Intel(R) Core(TM) i5-14700H CPU @ 2.30GHz");
+
+        JsonObject cpu1 = new JsonObject();
+        cpu1.addProperty("DeviceID", "CPU1");
+        cpu1.addProperty("Name", "Intel(R) Core(TM) i5-8250U CPU @ 1.60GHz");
+
+        processorArrayObject.add(cpu0);
+        processorArrayObject.add(cpu1);
+
+        String jsonArrayProcessor = new Gson().toJson(processorArrayObject);
+
+        List<Win32Processor> processors = mapper.mapToList(jsonArrayProcessor, Win32Processor.class);
+        assertEquals(2, processors.size());
+        assertEquals("CPU0", processors.get(0).getDeviceId());
+        assertEquals("Intel(R) Core(TM) i5-14700H CPU @ 2.30GHz", processors.get(0).getName());
+        assertEquals("CPU1", processors.get(1).getDeviceId());
+        assertEquals("Intel(R) Core(TM) i5-8250U CPU @ 1.60GHz", processors.get(1).getName());
+
+    }
+
+    @Test
+    void testMapToList_whenSingleObject_success() {
+
+        JsonObject processorObject = new JsonObject();
+        processorObject.addProperty("DeviceID", "CPU0");
+        processorObject.addProperty("Name", "Intel(R) Core(TM) i7-7700HQ CPU @ 2.80GHz");
+
+        String jsonProcessor = new Gson().toJson(processorObject);
+
+        List<Win32Processor> processors = mapper.mapToList(jsonProcessor, Win32Processor.class);
+        assertEquals(1, processors.size());
+        assertEquals("CPU0", processors.get(0).getDeviceId());
+        assertEquals("Intel(R) Core(TM) i7-7700HQ CPU @ 2.80GHz", processors.get(0).getName());
+    }
+
+    @Test
+    void testMapToList_invalidJson_throwsException() {
+        String json = "invalid json";
+        assertThrows(JsonSyntaxException.class, () -> mapper.mapToList(json, Win32Processor.class));
+    }
+
+    @Test
+    void testMapToList_validJson_jsonMismatchSchema_returnsASingletonListWithNullFieldObject() {
+        String json = "[{}]";
+        List<Win32Processor> processors = mapper.mapToList(json, Win32Processor.class);
+
+        assertEquals(1, processors.size());
+        assertNotNull(processors.get(0));
+        assertNull(processors.get(0).getDeviceId());
+    }
+
+    @Test
+    void testMapToList_emptyJson_emptyList() {
+        String json = "";
+        List<Win32Processor> processorList = mapper.mapToList(json, Win32Processor.class);
+        assertTrue(processorList.isEmpty());
+    }
+
+    @Test
+    void testMapToList_nullParameters_throwsException() {
+        assertThrows(NullPointerException.class, () -> mapper.mapToList(null, Win32Processor.class));
+        assertThrows(NullPointerException.class, () -> mapper.mapToList("", null));
+    }
+
+    @Test
+    void testMapEach_success() {
+
+        String json = "[{\"DeviceID\":\"CPU0\",\"Name\":\"First\"},{\"DeviceID\":\"CPU1\",\"Name\":\"Second\"}]";
+
+        List<Win32Processor> processors = new ArrayList<>();
+        mapper.mapEach(new StringReader(json), Win32Processor.class, processors::add);
+
+        assertEquals(2, processors.size());
+        assertEquals("CPU0", processors.get(0).getDeviceId());
+        assertEquals("Second", processors.get(1).getName());
+    }
+
+    @Test
+    void testMapEach_whenSingleObject_success() {
+
+        List<Win32Processor> processors = new ArrayList<>();
+        mapper.mapEach(new StringReader("{\"DeviceID\":\"CPU0\"}\r\n"), Win32Processor.class, processors::add);
+
+        assertEquals(1, processors.size());
+        assertEquals("CPU0", processors.get(0).getDeviceId());
+    }
+
+    @Test
+    void testMapEach_fromInputStream_success() {
+
+        byte[] json = "[{\"Name\":\"Überprüfung\"}]".getBytes(StandardCharsets.UTF_8);
+
+        List<Win32Processor> processors = new ArrayList<>();
+        mapper.mapEach(new ByteArrayInputStream(json), StandardCharsets.UTF_8, Win32Processor.class, processors::add);
+
+        assertEquals(1, processors.size());
+        assertEquals("Überprüfung", processors.get(0).getName());
+    }
+
+    @Test
+    void testMapEach_emptyJson_actionNotInvoked() {
+
+        List<Win32Processor> processors = new ArrayList<>();
+        mapper.mapEach(new StringReader(""), Win32Processor.class, processors::add);
+        mapper.mapEach(new StringReader("   \r\n"), Win32Processor.class, processors::add);
+        mapper.mapEach(new StringReader("[]"), Win32Processor.class, processors::add);
+
+        assertTrue(processors.isEmpty());
+    }
+
+    @Test
+    void testMapEach_truncatedJson_throwsExceptionAfterDecodedElements() {
+
+        String json = "[{\"DeviceID\":\"CPU0\"},{\"DeviceID\":\"CP";
+
+        List<Win32Processor> processors = new ArrayList<>();
+        assertThrows(JsonSyntaxException.class, () -> mapper.mapEach(new StringReader(json), Win32Processor.class, processors::add));
+
+        assertEquals(1, processors.size());
+        assertEquals("CPU0", processors.get(0).getDeviceId());
+    }
+
+    @Test
+    void testMapEach_invalidJson_throwsException() {
+        assertThrows(JsonSyntaxException.class, () -> mapper.mapEach(new StringReader("[invalid json"), Win32Processor.class, processor -> {
+        }));
+    }
+
+    @Test
+    void testMapEach_nullParameters_throwsException() {
+        assertThrows(NullPointerException.class, () -> mapper.mapEach((StringReader) null, Win32Processor.class, processor -> {
+        }));
+        assertThrows(NullPointerException.class, () -> mapper.mapEach(new StringReader(""), Win32Processor.class, null));
+    }
+
+    @Test
+    void testMapToListInParallel_success_keepsDocumentOrder() {
+
+        JsonArray processorArrayObject = new JsonArray();
+        for (int i = 0; i < 1000; i++) {
+            JsonObject cpu = new JsonObject();
+            cpu.addProperty("DeviceID", "CPU" + i);
+            // separators and escapes inside strings must not be mistaken for element boundaries
+            cpu.addProperty("Name", "Core, \"[" + i + "]\" {Family} \\");
+            cpu.add("Characteristics", null);
+            processorArrayObject.add(cpu);
+        }
+        String jsonArrayProcessor = new Gson().toJson(processorArrayObject);
+
+        List<Win32Processor> processors = mapper.mapToListInParallel(jsonArrayProcessor, Win32Processor.class, 0, pool);
+
+        assertEquals(mapper.mapToList(jsonArrayProcessor, Win32Processor.class), processors);
+        assertEquals(1000, processors.size());
+        assertEquals("CPU999", processors.get(999).getDeviceId());
+        assertEquals("Core, \"[999]\" {Family} \\", processors.get(999).getName());
+        assertThrows(UnsupportedOperationException.class, () -> processors.add(null));
+    }
+
+    @Test
+    void testMapToListInParallel_whenSingleObjectOrBelowThreshold_success() {
+
+        String jsonProcessor = "{\"DeviceID\":\"CPU0\"}";
+        List<Win32Processor> single = mapper.mapToListInParallel(jsonProcessor, Win32Processor.class, 0, pool);
+        assertEquals(1, single.size());
+        assertEquals("CPU0", single.get(0).getDeviceId());
+
+        String jsonArrayProcessor = "[{\"DeviceID\":\"CPU0\"},{\"DeviceID\":\"CPU1\"}]";
+        List<Win32Processor> belowThreshold = mapper.mapToListInParallel(jsonArrayProcessor, Win32Processor.class);
+        assertEquals(2, belowThreshold.size());
+        assertEquals("CPU1", belowThreshold.get(1).getDeviceId());
+
+        assertTrue(mapper.mapToListInParallel("", Win32Processor.class, 0, pool).isEmpty());
+        assertTrue(mapper.mapToListInParallel("[]", Win32Processor.class, 0, pool).isEmpty());
+    }
+
+    @Test
+    void testMapToListInParallel_invalidJson_throwsException() {
+
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 100; i++)
+            json.append("{\"DeviceID\":\"CPU").append(i).append("\"},");
+        String invalidElement = json + "{\"DeviceID\":}, {\"DeviceID\":\"CPU101\"}]";
+        String truncated = json + "{\"DeviceID\":\"CPU100\"}";
+        String trailingData = json + "{\"DeviceID\":\"CPU100\"}] []";
+
+        assertThrows(JsonSyntaxException.class, () -> mapper.mapToListInParallel(invalidElement, Win32Processor.class, 0, pool));
+        assertThrows(JsonSyntaxException.class, () -> mapper.mapToListInParallel(truncated, Win32Processor.class, 0, pool));
+        assertThrows(JsonSyntaxException.class, () -> mapper.mapToListInParallel(trailingData, Win32Processor.class, 0, pool));
+    }
+
+    @Test
+    void testMapToListInParallel_nullParameters_throwsException() {
+        assertThrows(NullPointerException.class, () -> mapper.mapToListInParallel(null, Win32Processor.class));
+        assertThrows(NullPointerException.class, () -> mapper.mapToListInParallel("", null));
+        assertThrows(NullPointerException.class, () -> mapper.mapToListInParallel("", Win32Processor.class, 0, null));
+    }
+
+    @Test
+    void testMapToLazyList_success_matchesMapToList() throws Exception {
+
+        JsonArray processorArrayObject = new JsonArray();
+        for (int i = 0; i < 100; i++) {
+            JsonObject cpu = new JsonObject();
+            cpu.addProperty("DeviceID", "CPU" + i);
+            // separators and escapes inside strings must not be mistaken for element boundaries
+            cpu.addProperty("Name", "Core, \"[" + i + "]\" {Family} \\");
+            processorArrayObject.add(cpu);
+        }
+        processorArrayObject.add((JsonObject) null);
+        String jsonArrayProcessor = new Gson().toJson(processorArrayObject).replace(",", " ,\n ");
+
+        List<Win32Processor> lazy = mapper.mapToLazyList(jsonArrayProcessor, Win32Processor.class);
+
+        assertEquals(101, lazy.size());
+        assertEquals("CPU99", lazy.get(99).getDeviceId());
+        assertEquals("Core ,\n  \"[99]\" {Family} \\", lazy.get(99).getName());
+        assertNull(lazy.get(100));
+        assertEquals(mapper.mapToList(jsonArrayProcessor, Win32Processor.class), lazy);
+        assertThrows(UnsupportedOperationException.class, () -> lazy.add(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> lazy.get(101));
+
+        // concurrent first accesses all get the same object
+        List<Win32Processor> concurrentlyAccessed = mapper.mapToLazyList(jsonArrayProcessor, Win32Processor.class);
+        List<ForkJoinTask<Win32Processor>> tasks = new ArrayList<>();
+        for (int i = 0; i < 8; i++)
+            tasks.add(pool.submit(() -> concurrentlyAccessed.get(42)));
+        for (ForkJoinTask<Win32Processor> task : tasks)
+            assertSame(concurrentlyAccessed.get(42), task.get());
+    }
+
+    @Test
+    void testMapToLazyList_whenSingleObjectOrEmpty_success() {
+
+        List<Win32Processor> single = mapper.mapToLazyList("{\"DeviceID\":\"CPU0\"}", Win32Processor.class);
+        assertEquals(1, single.size());
+        assertEquals("CPU0", single.get(0).getDeviceId());
+
+        assertTrue(mapper.mapToLazyList("", Win32Processor.class).isEmpty());
+        assertTrue(mapper.mapToLazyList("[ ]", Win32Processor.class).isEmpty());
+    }
+
+    @Test
+    void testMapToLazyList_malformedElement_throwsOnAccessOnly() {
+
+        String json = "[{\"DeviceID\":\"CPU0\"}, {\"DeviceID\":}, {\"DeviceID\":\"CPU2\"}]";
+
+        List<Win32Processor> lazy = mapper.mapToLazyList(json, Win32Processor.class);
+        assertEquals(3, lazy.size());
+        assertEquals("CPU0", lazy.get(0).getDeviceId());
+        assertEquals("CPU2", lazy.get(2).getDeviceId());
+        assertThrows(JsonSyntaxException.class, () -> lazy.get(1));
+        assertThrows(JsonSyntaxException.class, () -> lazy.get(1));
+    }
+
+    @Test
+    void testMapToLazyList_invalidJson_throwsException() {
+
+        assertThrows(JsonSyntaxException.class, () -> mapper.mapToLazyList("invalid json", Win32Processor.class));
+        assertThrows(JsonSyntaxException.class, () -> mapper.mapToLazyList("[{\"DeviceID\":\"CPU0\"}", Win32Processor.class));
+        assertThrows(JsonSyntaxException.class, () -> mapper.mapToLazyList("[{\"DeviceID\":\"CPU0\"}] []", Win32Processor.class));
+    }
+
+    @Test
+    void testMapToLazyList_nullParameters_throwsException() {
+        assertThrows(NullPointerException.class, () -> mapper.mapToLazyList(null, Win32Processor.class));
+        assertThrows(NullPointerException.class, () -> mapper.mapToLazyList("", null));
+    }
+
+    @Test
+    void testMapToListDelimited_success_matchesJson() {
+
+        String delimited = "Index\tDescription\tIPEnabled\tIPAddress\tDHCPServer\tDNSServerSearchOrder\r\n" +
+                "1\tIntel(R) Wi-Fi 6\\tAX201 \\\\ 160MHz\tTrue\t\\A\u001F192.168.1.5\u001Ffe80::1\t\\N\t\\A\r\n" +
+                "\r\n" +
+                "2\t\tFalse\t\\A\u001F\t\\\\N\t\\A\u001F\\N\r\n";
+        String json = "[{\"Index\":1,\"Description\":\"Intel(R) Wi-Fi 6\\tAX201 \\\\ 160MHz\",\"IPEnabled\":true," +
+                "\"IPAddress\":[\"192.168.1.5\",\"fe80::1\"],\"DHCPServer\":null,\"DNSServerSearchOrder\":[]}," +
+                "{\"Index\":2,\"Description\":\"\",\"IPEnabled\":false,\"IPAddress\":[\"\"],\"DHCPServer\":\"\\\\N\",\"DNSServerSearchOrder\":[null]}]";
+
+        Win32NetworkAdapterConfigurationMapper configurationMapper = new Win32NetworkAdapterConfigurationMapper();
+        List<Win32NetworkAdapterConfiguration> configurations = configurationMapper.mapToList(delimited, Win32NetworkAdapterConfiguration.class, WireFormat.DELIMITED);
+
+        assertEquals(configurationMapper.mapToList(json, Win32NetworkAdapterConfiguration.class), configurations);
+        assertEquals(2, configurations.size());
+        assertEquals(1, configurations.get(0).getIndex());
+        assertEquals("Intel(R) Wi-Fi 6\tAX201 \\ 160MHz", configurations.get(0).getDescription());
+        assertNull(configurations.get(0).getDhcpServer());
+        assertTrue(configurations.get(0).getDnsServerSearchOrder().isEmpty());
+        assertEquals("\\N", configurations.get(1).getDhcpServer());
+        assertThrows(UnsupportedOperationException.class, () -> configurations.add(null));
+    }
+
+    @Test
+    void testMapToListDelimited_json_delegatesToMapToList() {
+        String json = "{\"DeviceID\":\"CPU0\"}";
+        List<Win32Processor> processors = mapper.mapToList(json, Win32Processor.class, WireFormat.JSON);
+        assertEquals(mapper.mapToList(json, Win32Processor.class), processors);
+    }
+
+    @Test
+    void testMapToListDelimited_emptyOrHeaderOnly_emptyList() {
+        assertTrue(mapper.mapToList("", Win32Processor.class, WireFormat.DELIMITED).isEmpty());
+        assertTrue(mapper.mapToList("DeviceID\tName\r\n", Win32Processor.class, WireFormat.DELIMITED).isEmpty());
+    }
+
+    @Test
+    void testMapToListDelimited_invalidOutput_throwsException() {
+        assertThrows(JsonSyntaxException.class, () -> mapper.mapToList("DeviceID\tName\nCPU0\n", Win32Processor.class, WireFormat.DELIMITED));
+        assertThrows(JsonSyntaxException.class, () -> mapper.mapToList("DeviceID\tName\nCPU0\tIntel\\x\n", Win32Processor.class, WireFormat.DELIMITED));
+        assertThrows(JsonSyntaxException.class, () -> mapper.mapToList("DeviceID\tName\nCPU0\tIntel\\\n", Win32Processor.class, WireFormat.DELIMITED));
+        assertThrows(JsonSyntaxException.class, () -> mapper.mapToList("DeviceID\tName\nCPU0\t\\Ax\n", Win32Processor.class, WireFormat.DELIMITED));
+
+        Win32NetworkAdapterConfigurationMapper configurationMapper = new Win32NetworkAdapterConfigurationMapper();
+        assertThrows(JsonSyntaxException.class, () -> configurationMapper.mapToList("Index\nfirst\n", Win32NetworkAdapterConfiguration.class, WireFormat.DELIMITED));
+        assertThrows(JsonSyntaxException.class, () -> configurationMapper.mapToList("Index\n\\A\n", Win32NetworkAdapterConfiguration.class, WireFormat.DELIMITED));
+    }
+
+    @Test
+    void testMapToListDelimited_nullParameters_throwsException() {
+        assertThrows(NullPointerException.class, () -> mapper.mapToList(null, Win32Processor.class, WireFormat.DELIMITED));
+        assertThrows(NullPointerException.class, () -> mapper.mapToList("", null, WireFormat.DELIMITED));
+        assertThrows(NullPointerException.class, () -> mapper.mapToList("", Win32Processor.class, null));
+    }
+}
@@ -0,0 +1,129 @@
+package unit.mapper;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonIOException;
+import io.github.eggy03.ferrumx.windows.entity.system.Win32PnPEntity;
+import io.github.eggy03.ferrumx.windows.entity.system.Win32Process;
+import io.github.eggy03.ferrumx.windows.mapping.EntityJson;
+import io.github.eggy03.ferrumx.windows.mapping.system.Win32PnPEntityMapper;
+import io.github.eggy03.ferrumx.windows.mapping.system.Win32ProcessMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EntityJsonTest {
+
+    // the way the entities used to be serialized, with a Gson created per call
+    private static final Gson REFERENCE = new GsonBuilder().serializeNulls().setPrettyPrinting().create();
+    private static final Gson COMPACT_REFERENCE = new GsonBuilder().serializeNulls().create();
+
+    private static final Win32Process PROCESS = Win32Process.builder()
+            .processId(4L)
+            .name("<System> & \"kernel\"")
+            .executablePath("C:\\Windows\\System32\\ntoskrnl.exe")
+            .workingSetSize(new BigInteger("9223372036854775808"))
+            .creationDate("/Date(1730530800000)/")
+            .build();
+
+    private static final Win32PnPEntity DEVICE = Win32PnPEntity.builder()
+            .deviceId("ROOT\\SYSTEM\\0001")
+            .hardwareId(Arrays.asList("ROOT\\SYSTEM", "ROOT\\SWD"))
+            .present(true)
+            .build();
+
+    @Test
+    void test_toString_matchesPerCallGson() {
+
+        assertEquals(REFERENCE.toJson(PROCESS), PROCESS.toString());
+        assertEquals(REFERENCE.toJson(DEVICE), DEVICE.toString());
+        assertEquals(PROCESS.toString(), EntityJson.toPrettyJson(PROCESS));
+        assertEquals(PROCESS.toString(), EntityJson.toJson(PROCESS, true));
+        assertEquals(COMPACT_REFERENCE.toJson(PROCESS), EntityJson.toJson(PROCESS, false));
+        assertEquals("null", EntityJson.toJson(null, false));
+    }
+
+    @Test
+    void test_toString_isNotAffectedByDerivedValues() {
+
+        PROCESS.getCreationDateAsInstant();
+        assertThat(PROCESS.toString()).doesNotContain("creationDateInstant");
+    }
+
+    @Test
+    void test_writeJson_toAppendable() {
+
+        StringBuilder out = new StringBuilder("prefix:");
+        EntityJson.writeJson(PROCESS, out, false);
+        assertEquals("prefix:" + COMPACT_REFERENCE.toJson(PROCESS), out.toString());
+
+        StringWriter writer = new StringWriter();
+        EntityJson.writeJson(DEVICE, writer, true);
+        assertEquals(DEVICE.toString(), writer.toString());
+    }
+
+    @Test
+    void test_writeJsonArray_toAppendable_matchesList() {
+
+        List<Object> entities = Arrays.asList(PROCESS, null, DEVICE, PROCESS);
+
+        StringBuilder compact = new StringBuilder();
+        EntityJson.writeJsonArray(entities, compact, false);
+        assertEquals(COMPACT_REFERENCE.toJson(entities), compact.toString());
+
+        StringWriter pretty = new StringWriter();
+        EntityJson.writeJsonArray(entities, pretty, true);
+        assertEquals(REFERENCE.toJson(entities), pretty.toString());
+    }
+
+    @Test
+    void test_writeJsonArray_toOutputStream_roundTrips() {
+
+        String json = "[{\"ProcessId\":4,\"Name\":\"System\",\"WorkingSetSize\":151552},{\"ProcessId\":8,\"Name\":\"Registry \\u00e9\"}]";
+        List<Win32Process> processes = new Win32ProcessMapper().mapToList(json, Win32Process.class);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        EntityJson.writeJsonArray(processes, out, false);
+
+        String written = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        assertThat(written).contains("Registry \u00e9");
+        assertEquals(processes, new Win32ProcessMapper().mapToList(written, Win32Process.class));
+        assertEquals(2, new Gson().fromJson(written, JsonArray.class).size());
+
+        ByteArrayOutputStream empty = new ByteArrayOutputStream();
+        EntityJson.writeJsonArray(new Win32PnPEntityMapper().mapToList("", Win32PnPEntity.class), empty, true);
+        assertEquals("[]", new String(empty.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void test_writeJsonArray_failingStream_throwsException() {
+
+        OutputStream failing = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        List<Win32Process> processes = Arrays.asList(PROCESS, PROCESS);
+        assertThrows(JsonIOException.class, () -> EntityJson.writeJsonArray(processes, failing, false));
+    }
+
+    @Test
+    void test_nullParameters_throwsException() {
+        assertThrows(NullPointerException.class, () -> EntityJson.writeJson(PROCESS, null, false));
+        assertThrows(NullPointerException.class, () -> EntityJson.writeJsonArray(null, new StringBuilder(), false));
+        assertThrows(NullPointerException.class, () -> EntityJson.writeJsonArray(Arrays.asList(PROCESS), (OutputStream) null, false));
+    }
+}
@@ -0,0 +1,167 @@
+package unit.mapper;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import io.github.eggy03.ferrumx.windows.mapping.CommonMappingInterface;
+import io.github.eggy03.ferrumx.windows.utility.CimDateTime;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the generated entity type adapters against Gson's reflective adapter
+ */
+class EntityTypeAdapterFactoryTest {
+
+    // the reflective Gson the mappers used before the adapters were generated
+    private static final Gson REFLECTIVE_GSON = new Gson();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "io.github.eggy03.ferrumx.windows.entity.compounded.HardwareId",
+            "io.github.eggy03.ferrumx.windows.entity.compounded.MsftNetAdapterToIpAndDnsAndProfile",
+            "io.github.eggy03.ferrumx.windows.entity.compounded.Win32DiskDriveToPartitionAndLogicalDisk",
+            "io.github.eggy03.ferrumx.windows.entity.compounded.Win32DiskPartitionToLogicalDisk",
+            "io.github.eggy03.ferrumx.windows.entity.compounded.Win32NetworkAdapterToConfiguration",
+            "io.github.eggy03.ferrumx.windows.entity.compounded.Win32ProcessorToCacheMemory",
+            "io.github.eggy03.ferrumx.windows.entity.display.Win32DesktopMonitor",
+            "io.github.eggy03.ferrumx.windows.entity.display.Win32VideoController",
+            "io.github.eggy03.ferrumx.windows.entity.mainboard.Win32Baseboard",
+            "io.github.eggy03.ferrumx.windows.entity.mainboard.Win32Bios",
+            "io.github.eggy03.ferrumx.windows.entity.mainboard.Win32PortConnector",
+            "io.github.eggy03.ferrumx.windows.entity.memory.Win32PhysicalMemory",
+            "io.github.eggy03.ferrumx.windows.entity.network.MsftDnsClientServerAddress",
+            "io.github.eggy03.ferrumx.windows.entity.network.MsftNetAdapter",
+            "io.github.eggy03.ferrumx.windows.entity.network.MsftNetConnectionProfile",
+            "io.github.eggy03.ferrumx.windows.entity.network.MsftNetIpAddress",
+            "io.github.eggy03.ferrumx.windows.entity.network.MsftNetIpAddress$Datetime",
+            "io.github.eggy03.ferrumx.windows.entity.network.Win32NetworkAdapter",
+            "io.github.eggy03.ferrumx.windows.entity.network.Win32NetworkAdapterConfiguration",
+            "io.github.eggy03.ferrumx.windows.entity.network.Win32NetworkAdapterSetting",
+            "io.github.eggy03.ferrumx.windows.entity.peripheral.Win32Battery",
+            "io.github.eggy03.ferrumx.windows.entity.peripheral.Win32Printer",
+            "io.github.eggy03.ferrumx.windows.entity.peripheral.Win32SoundDevice",
+            "io.github.eggy03.ferrumx.windows.entity.processor.Win32AssociatedProcessorMemory",
+            "io.github.eggy03.ferrumx.windows.entity.processor.Win32CacheMemory",
+            "io.github.eggy03.ferrumx.windows.entity.processor.Win32Processor",
+            "io.github.eggy03.ferrumx.windows.entity.storage.Win32DiskDrive",
+            "io.github.eggy03.ferrumx.windows.entity.storage.Win32DiskDriveToDiskPartition",
+            "io.github.eggy03.ferrumx.windows.entity.storage.Win32DiskPartition",
+            "io.github.eggy03.ferrumx.windows.entity.storage.Win32LogicalDisk",
+            "io.github.eggy03.ferrumx.windows.entity.storage.Win32LogicalDiskToPartition",
+            "io.github.eggy03.ferrumx.windows.entity.system.Win32ComputerSystem",
+            "io.github.eggy03.ferrumx.windows.entity.system.Win32Environment",
+            "io.github.eggy03.ferrumx.windows.entity.system.Win32OperatingSystem",
+            "io.github.eggy03.ferrumx.windows.entity.system.Win32PnPEntity",
+            "io.github.eggy03.ferrumx.windows.entity.system.Win32Process",
+            "io.github.eggy03.ferrumx.windows.entity.user.Win32UserAccount"
+    })
+    void test_sharedGson_usesGeneratedAdapter(String entityClassName) throws Exception {
+
+        TypeAdapter<?> adapter = CommonMappingInterface.GSON.getAdapter(Class.forName(entityClassName));
+        assertThat(adapter.getClass().getName()).startsWith("io.github.eggy03.ferrumx.windows.mapping.adapter.");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "io.github.eggy03.ferrumx.windows.entity.compounded.HardwareId",
+            "io.github.eggy03.ferrumx.windows.entity.compounded.MsftNetAdapterToIpAndDnsAndProfile",
+            "io.github.eggy03.ferrumx.windows.entity.compounded.Win32DiskDriveToPartitionAndLogicalDisk",
+            "io.github.eggy03.ferrumx.windows.entity.compounded.Win32DiskPartitionToLogicalDisk",
+            "io.github.eggy03.ferrumx.windows.entity.compounded.Win32NetworkAdapterToConfiguration",
+            "io.github.eggy03.ferrumx.windows.entity.compounded.Win32ProcessorToCacheMemory",
+            "io.github.eggy03.ferrumx.windows.entity.display.Win32DesktopMonitor",
+            "io.github.eggy03.ferrumx.windows.entity.display.Win32VideoController",
+            "io.github.eggy03.ferrumx.windows.entity.mainboard.Win32Baseboard",
+            "io.github.eggy03.ferrumx.windows.entity.mainboard.Win32Bios",
+            "io.github.eggy03.ferrumx.windows.entity.mainboard.Win32PortConnector",
+            "io.github.eggy03.ferrumx.windows.entity.memory.Win32PhysicalMemory",
+            "io.github.eggy03.ferrumx.windows.entity.network.MsftDnsClientServerAddress",
+            "io.github.eggy03.ferrumx.windows.entity.network.MsftNetAdapter",
+            "io.github.eggy03.ferrumx.windows.entity.network.MsftNetConnectionProfile",
+            "io.github.eggy03.ferrumx.windows.entity.network.MsftNetIpAddress",
+            "io.github.eggy03.ferrumx.windows.entity.network.MsftNetIpAddress$Datetime",
+            "io.github.eggy03.ferrumx.windows.entity.network.Win32NetworkAdapter",
+            "io.github.eggy03.ferrumx.windows.entity.network.Win32NetworkAdapterConfiguration",
+            "io.github.eggy03.ferrumx.windows.entity.network.Win32NetworkAdapterSetting",
+            "io.github.eggy03.ferrumx.windows.entity.peripheral.Win32Battery",
+            "io.github.eggy03.ferrumx.windows.entity.peripheral.Win32Printer",
+            "io.github.eggy03.ferrumx.windows.entity.peripheral.Win32SoundDevice",
+            "io.github.eggy03.ferrumx.windows.entity.processor.Win32AssociatedProcessorMemory",
+            "io.github.eggy03.ferrumx.windows.entity.processor.Win32CacheMemory",
+            "io.github.eggy03.ferrumx.windows.entity.processor.Win32Processor",
+            "io.github.eggy03.ferrumx.windows.entity.storage.Win32DiskDrive",
+            "io.github.eggy03.ferrumx.windows.entity.storage.Win32DiskDriveToDiskPartition",
+            "io.github.eggy03.ferrumx.windows.entity.storage.Win32DiskPartition",
+            "io.github.eggy03.ferrumx.windows.entity.storage.Win32LogicalDisk",
+            "io.github.eggy03.ferrumx.windows.entity.storage.Win32LogicalDiskToPartition",
+            "io.github.eggy03.ferrumx.windows.entity.system.Win32ComputerSystem",
+            "io.github.eggy03.ferrumx.windows.entity.system.Win32Environment",
+            "io.github.eggy03.ferrumx.windows.entity.system.Win32OperatingSystem",
+            "io.github.eggy03.ferrumx.windows.entity.system.Win32PnPEntity",
+            "io.github.eggy03.ferrumx.windows.entity.system.Win32Process",
+            "io.github.eggy03.ferrumx.windows.entity.user.Win32UserAccount"
+    })
+    void test_generatedAdapter_matchesReflectiveAdapter(String entityClassName) throws Exception {
+
+        Class<?> entityClass = Class.forName(entityClassName);
+        JsonObject json = populate(entityClass);
+        json.addProperty("PropertyUnknownToTheEntity", "ignored");
+
+        Object generated = CommonMappingInterface.GSON.fromJson(json, entityClass);
+        Object reflective = REFLECTIVE_GSON.fromJson(json, entityClass);
+
+        // the reflective adapter skips field initializers, so the memos of derived values are only set on generated entities
+        assertThat(generated).usingRecursiveComparison().ignoringFieldsOfTypes(CimDateTime.Memo.class).isEqualTo(reflective);
+        assertThat(CommonMappingInterface.GSON.toJson(generated)).isEqualTo(REFLECTIVE_GSON.toJson(reflective));
+        assertThat(CommonMappingInterface.GSON.fromJson("null", entityClass)).isNull();
+    }
+
+    // a JSON object holding a value for every serialized field of the entity, including nested entities
+    private static JsonObject populate(Class<?> entityClass) {
+        JsonObject json = new JsonObject();
+        for (Field field : entityClass.getDeclaredFields()) {
+            if (field.isSynthetic() || Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers()))
+                continue;
+            SerializedName serializedName = field.getAnnotation(SerializedName.class);
+            String name = serializedName != null ? serializedName.value() : field.getName();
+
+            Type type = field.getGenericType();
+            if (type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() == List.class) {
+                Class<?> elementClass = (Class<?>) ((ParameterizedType) type).getActualTypeArguments()[0];
+                JsonArray array = new JsonArray();
+                array.add(value(elementClass, name + "-1"));
+                array.add(value(elementClass, name + "-2"));
+                json.add(name, array);
+            } else {
+                json.add(name, value(field.getType(), name));
+            }
+        }
+        return json;
+    }
+
+    private static JsonElement value(Class<?> type, String name) {
+        if (type == String.class)
+            return new JsonPrimitive("value of " + name);
+        if (type == Long.class || type == Integer.class)
+            return new JsonPrimitive(Math.abs(name.hashCode() % 10_000));
+        if (type == Boolean.class)
+            return new JsonPrimitive(name.length() % 2 == 0);
+        if (type == BigInteger.class)
+            return new JsonPrimitive(new BigInteger("18446744073709551615"));
+        return populate(type);
+    }
+}
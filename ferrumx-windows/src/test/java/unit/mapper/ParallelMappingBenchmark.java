@@ -0,0 +1,98 @@
+package unit.mapper;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import io.github.eggy03.ferrumx.windows.entity.system.Win32Process;
+import io.github.eggy03.ferrumx.windows.mapping.CommonMappingInterface;
+import io.github.eggy03.ferrumx.windows.mapping.system.Win32ProcessMapper;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Compares {@link CommonMappingInterface#mapToList(String, Class)} with
+ * {@link CommonMappingInterface#mapToListInParallel(String, Class, int, ForkJoinPool)} on {@code Win32_Process}
+ * outputs of growing size, to find the length from which decoding in parallel pays off.
+ * <p>
+ * Not a test: surefire does not pick it up. Run its {@code main} method from the IDE, or with {@code java} on the
+ * test classpath after {@code mvn test-compile}. The numbers are only meaningful on a machine with several cores.
+ * </p>
+ */
+public class ParallelMappingBenchmark {
+
+    private static final int[] ELEMENT_COUNTS = {16, 64, 128, 256, 512, 1024, 4096, 16384};
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 31;
+
+    public static void main(String[] args) {
+
+        Win32ProcessMapper mapper = new Win32ProcessMapper();
+        // at least two threads, so that the parallel path is measured even on a single core
+        ForkJoinPool pool = new ForkJoinPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+
+        System.out.printf(Locale.ROOT, "parallelism: %d%n", pool.getParallelism());
+        System.out.printf(Locale.ROOT, "%10s %12s %16s %16s %8s%n", "elements", "chars", "sequential (us)", "parallel (us)", "speedup");
+
+        for (int count : ELEMENT_COUNTS) {
+            String json = processes(count);
+
+            // warm up both paths at this size, so that the JIT has compiled the generated adapters and the splitter
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                mapper.mapToList(json, Win32Process.class);
+                mapper.mapToListInParallel(json, Win32Process.class, 0, pool);
+            }
+
+            long sequential = median(() -> mapper.mapToList(json, Win32Process.class));
+            long parallel = median(() -> mapper.mapToListInParallel(json, Win32Process.class, 0, pool));
+
+            System.out.printf(Locale.ROOT, "%10d %12d %16.1f %16.1f %7.2fx%n",
+                    count, json.length(), sequential / 1000.0, parallel / 1000.0, (double) sequential / parallel);
+        }
+
+        pool.shutdown();
+    }
+
+    private static long median(Runnable task) {
+        long[] samples = new long[MEASURED_ROUNDS];
+        for (int i = 0; i < samples.length; i++) {
+            long start = System.nanoTime();
+            task.run();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+
+    // an output resembling the one of Get-CimInstance Win32_Process | ConvertTo-Json
+    private static String processes(int count) {
+        JsonArray processes = new JsonArray();
+        for (int i = 0; i < count; i++) {
+            JsonObject process = new JsonObject();
+            process.addProperty("ProcessId", 1000 + i);
+            process.addProperty("SessionId", 1);
+            process.addProperty("Name", "process" + i + ".exe");
+            process.addProperty("Caption", "process" + i + ".exe");
+            process.addProperty("Description", "process" + i + ".exe");
+            process.addProperty("ExecutablePath", "C:\\Program Files\\Vendor\\Product " + i + "\\bin\\process" + i + ".exe");
+            process.add("ExecutionState", null);
+            process.addProperty("Handle", String.valueOf(1000 + i));
+            process.addProperty("HandleCount", 250 + i % 500);
+            process.addProperty("Priority", 8);
+            process.addProperty("ThreadCount", 4 + i % 32);
+            process.addProperty("KernelModeTime", 156250L * i);
+            process.addProperty("UserModeTime", 312500L * i);
+            process.addProperty("WorkingSetSize", 12_582_912L + i);
+            process.addProperty("PeakWorkingSetSize", 25_165_824L + i);
+            process.addProperty("PrivatePageCount", 8_388_608L + i);
+            process.addProperty("PageFileUsage", 8192 + i);
+            process.addProperty("PeakPageFileUsage", 16384 + i);
+            process.addProperty("VirtualSize", 2_203_318_222_848L + i);
+            process.addProperty("PeakVirtualSize", 2_203_351_777_280L + i);
+            process.addProperty("CreationDate", "2026-10-17T09:15:" + String.format(Locale.ROOT, "%02d", i % 60) + ".1234567+05:30");
+            process.add("TerminationDate", null);
+            processes.add(process);
+        }
+        return processes.toString();
+    }
+}
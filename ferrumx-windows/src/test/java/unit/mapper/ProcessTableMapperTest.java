@@ -0,0 +1,171 @@
+package unit.mapper;
+
+import com.google.gson.JsonSyntaxException;
+import io.github.eggy03.ferrumx.windows.entity.system.ProcessTable;
+import io.github.eggy03.ferrumx.windows.entity.system.ProcessTable.Column;
+import io.github.eggy03.ferrumx.windows.entity.system.Win32Process;
+import io.github.eggy03.ferrumx.windows.mapping.system.ProcessTableMapper;
+import io.github.eggy03.ferrumx.windows.mapping.system.Win32ProcessMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProcessTableMapperTest {
+
+    private static final String JSON = "[" +
+            "{\"ProcessId\":4,\"SessionId\":0,\"Name\":\"System\",\"ExecutablePath\":null,\"ThreadCount\":250,\"HandleCount\":6000," +
+            "\"WorkingSetSize\":155648,\"PrivatePageCount\":204800,\"KernelModeTime\":\"4000000000\",\"UserModeTime\":0,\"Caption\":\"System\"}," +
+            "{\"ProcessId\":812,\"SessionId\":0,\"Name\":\"svchost.exe\",\"ExecutablePath\":\"C:\\\\Windows\\\\System32\\\\svchost.exe\"," +
+            "\"WorkingSetSize\":26214400,\"KernelModeTime\":600000,\"UserModeTime\":400000,\"Handle\":\"812\",\"Extra\":{\"nested\":[1,2]}}," +
+            "{\"ProcessId\":5120,\"SessionId\":1,\"Name\":\"explorer.exe\",\"ExecutablePath\":\"C:\\\\Windows\\\\explorer.exe\"," +
+            "\"WorkingSetSize\":\"52428800\",\"KernelModeTime\":1200000,\"UserModeTime\":800000}," +
+            "null," +
+            "{\"ProcessId\":904,\"SessionId\":0,\"Name\":\"SVCHOST.EXE\",\"ExecutablePath\":\"C:\\\\Windows\\\\System32\\\\svchost.exe\"," +
+            "\"WorkingSetSize\":26214400,\"KernelModeTime\":300000,\"UserModeTime\":null}" +
+            "]";
+
+    private static ProcessTable table;
+
+    @BeforeAll
+    static void mapTable() {
+        table = new ProcessTableMapper().mapToTable(JSON);
+    }
+
+    @Test
+    void test_mapToTable_columns() {
+
+        assertThat(table.size()).isEqualTo(4);
+        assertThat(table.get(Column.PROCESS_ID, 0)).isEqualTo(4L);
+        assertThat(table.get(Column.KERNEL_MODE_TIME, 0)).isEqualTo(4_000_000_000L);
+        assertThat(table.get(Column.WORKING_SET_SIZE, 2)).isEqualTo(52_428_800L);
+        assertThat(table.get(Column.THREAD_COUNT, 1)).isEqualTo(ProcessTable.NOT_AVAILABLE);
+        assertThat(table.get(Column.USER_MODE_TIME, 3)).isEqualTo(ProcessTable.NOT_AVAILABLE);
+
+        assertThat(table.getName(1)).isEqualTo("svchost.exe");
+        assertThat(table.getExecutablePath(0)).isNull();
+        assertThat(table.getExecutablePath(3)).isEqualTo("C:\\Windows\\System32\\svchost.exe");
+        // names are compared as they are, paths are shared
+        assertThat(table.getDistinctNameCount()).isEqualTo(4);
+        assertThat(table.getNameCode(1)).isNotEqualTo(table.getNameCode(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.get(Column.PROCESS_ID, 4));
+    }
+
+    @Test
+    void test_mapToTable_matchesEntities() {
+
+        // the table skips null elements, which the list keeps
+        List<Win32Process> processes = new Win32ProcessMapper().mapToList(JSON, Win32Process.class).stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        ProcessTable fromReader = new ProcessTableMapper().mapToTable(new StringReader(JSON));
+
+        assertThat(processes).hasSize(fromReader.size());
+        for (int row = 0; row < fromReader.size(); row++) {
+            Win32Process expected = processes.get(row).toBuilder()
+                    .caption(null).handle(null).build();
+            assertThat(fromReader.toProcess(row)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void test_mapToTable_singleObjectAndEmpty() {
+
+        ProcessTable single = new ProcessTableMapper().mapToTable("{\"ProcessId\":4,\"Name\":\"System\"}");
+        assertThat(single.size()).isEqualTo(1);
+        assertThat(single.getName(0)).isEqualTo("System");
+
+        assertThat(new ProcessTableMapper().mapToTable("").size()).isZero();
+        assertThat(new ProcessTableMapper().mapToTable("[]").size()).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "not a json",
+            "[{\"ProcessId\":4,",
+            "[{\"ProcessId\":\"four\"}]",
+            "[{\"ProcessId\":4.5}]",
+            "[{\"WorkingSetSize\":-1}]",
+            "[{\"WorkingSetSize\":18446744073709551615}]",
+            "[{\"WorkingSetSize\":9223372036854775808}]",
+            "[{\"WorkingSetSize\":9223372036854775809}]",
+            "[{\"WorkingSetSize\":9223372036854775807}]",
+            "[{\"Name\":[\"System\"]}]",
+            "[1]"
+    })
+    void test_mapToTable_invalidJson_throwsException(String json) {
+        assertThrows(JsonSyntaxException.class, () -> new ProcessTableMapper().mapToTable(json));
+    }
+
+    @Test
+    void test_sortedRows() {
+
+        assertThat(table.sortedRows(Column.WORKING_SET_SIZE, true)).containsExactly(2, 1, 3, 0);
+        assertThat(table.sortedRows(Column.WORKING_SET_SIZE, false)).containsExactly(0, 1, 3, 2);
+        // the missing user mode time is the smallest, so the total of the last row is one smaller
+        assertThat(table.sortedRows(row -> table.get(Column.KERNEL_MODE_TIME, row) + table.get(Column.USER_MODE_TIME, row), true))
+                .containsExactly(0, 2, 1, 3);
+    }
+
+    @Test
+    void test_topRows() {
+
+        assertThat(table.topRows(Column.WORKING_SET_SIZE, 2)).containsExactly(2, 1);
+        assertThat(table.topRows(Column.WORKING_SET_SIZE, 3)).containsExactly(2, 1, 3);
+        assertThat(table.topRows(Column.SESSION_ID, 10)).containsExactly(2, 0, 1, 3);
+        assertThat(table.topRows(Column.PROCESS_ID, 0)).isEmpty();
+        assertThrows(IllegalArgumentException.class, () -> table.topRows(Column.PROCESS_ID, -1));
+    }
+
+    @Test
+    void test_topRows_matchesSortedRows() {
+
+        Random random = new Random(17);
+        ProcessTable.Builder builder = ProcessTable.builder();
+        for (int i = 0; i < 5000; i++)
+            builder.beginRow().set(Column.PROCESS_ID, i).set(Column.WORKING_SET_SIZE, random.nextInt(200));
+        ProcessTable large = builder.build();
+
+        int[] sorted = large.sortedRows(Column.WORKING_SET_SIZE, true);
+        Integer[] expected = IntStream.range(0, large.size()).boxed()
+                .sorted(Comparator.comparingLong((Integer row) -> large.get(Column.WORKING_SET_SIZE, row)).reversed())
+                .toArray(Integer[]::new);
+        assertThat(sorted).containsExactly(Arrays.stream(expected).mapToInt(Integer::intValue).toArray());
+
+        for (int n : new int[]{1, 7, 100, 5000, 6000})
+            assertThat(large.topRows(Column.WORKING_SET_SIZE, n)).containsExactly(Arrays.copyOf(sorted, Math.min(n, sorted.length)));
+    }
+
+    @Test
+    void test_filterRows_and_rowsNamed() {
+
+        assertThat(table.filterRows(row -> table.get(Column.SESSION_ID, row) == 0)).containsExactly(0, 1, 3);
+        assertThat(table.rowsNamed("svchost.exe")).containsExactly(1, 3);
+        assertThat(table.rowsNamed("notepad.exe")).isEmpty();
+    }
+
+    @Test
+    void test_builder_invalidUse_throwsException() {
+
+        ProcessTable.Builder builder = ProcessTable.builder();
+        assertThrows(IllegalStateException.class, () -> builder.set(Column.PROCESS_ID, 4));
+        assertThrows(IllegalStateException.class, () -> builder.name("System"));
+
+        builder.beginRow();
+        assertThrows(IllegalArgumentException.class, () -> builder.set(Column.PROCESS_ID, -2));
+        assertThat(builder.set(Column.PROCESS_ID, ProcessTable.NOT_AVAILABLE).build().get(Column.PROCESS_ID, 0))
+                .isEqualTo(ProcessTable.NOT_AVAILABLE);
+    }
+}
@@ -0,0 +1,137 @@
+package unit.mapper;
+
+import io.github.eggy03.ferrumx.windows.entity.system.Win32PnPEntity;
+import io.github.eggy03.ferrumx.windows.mapping.StringPool;
+import io.github.eggy03.ferrumx.windows.mapping.system.Win32PnPEntityMapper;
+import io.github.eggy03.ferrumx.windows.query.WireFormat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StringDeduplicationTest {
+
+    private static final Win32PnPEntityMapper MAPPER = new Win32PnPEntityMapper();
+
+    @AfterEach
+    void disableSharedPool() {
+        StringPool.setSharedPoolEnabled(false);
+    }
+
+    private static String json(int count) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0)
+                json.append(',');
+            json.append("{\"DeviceID\":\"ROOT\\\\DEVICE\\\\").append(i).append("\",")
+                    .append("\"Manufacturer\":\"(Standard system devices)\",\"Status\":\"OK\",")
+                    .append("\"Description\":\"").append(i % 2 == 0 ? "Generic software device" : "PCI Express Root Port").append("\",")
+                    .append("\"HardwareID\":[\"ROOT\\\\SYSTEM\",\"ROOT\\\\SYSTEM\"],\"Present\":true}");
+        }
+        return json.append(']').toString();
+    }
+
+    private static String delimited(int count) {
+        StringBuilder delimited = new StringBuilder("DeviceID\tManufacturer\tStatus\tDescription\tHardwareID\tPresent\r\n");
+        for (int i = 0; i < count; i++) {
+            delimited.append("ROOT\\\\DEVICE\\\\").append(i).append("\t(Standard system devices)\tOK\t")
+                    .append(i % 2 == 0 ? "Generic software device" : "PCI Express Root Port")
+                    .append("\t\\A\u001FROOT\\\\SYSTEM\u001FROOT\\\\SYSTEM\tTrue\r\n");
+        }
+        return delimited.toString();
+    }
+
+    private static int distinctInstances(List<Win32PnPEntity> entities) {
+        Set<String> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Win32PnPEntity entity : entities) {
+            instances.add(entity.getDeviceId());
+            instances.add(entity.getManufacturer());
+            instances.add(entity.getStatus());
+            instances.add(entity.getDescription());
+            instances.addAll(entity.getHardwareId());
+        }
+        return instances.size();
+    }
+
+    @Test
+    void test_mapToList_sharesRepeatedValues() {
+
+        List<Win32PnPEntity> entities = MAPPER.mapToList(json(100), Win32PnPEntity.class);
+
+        assertThat(entities.get(99).getManufacturer()).isSameAs(entities.get(0).getManufacturer());
+        assertThat(entities.get(99).getHardwareId().get(1)).isSameAs(entities.get(0).getHardwareId().get(0));
+        // 100 device ids, one manufacturer, one status, two descriptions and one hardware id
+        assertThat(distinctInstances(entities)).isEqualTo(105);
+    }
+
+    @Test
+    void test_mapToList_delimited_sharesRepeatedValues() {
+
+        List<Win32PnPEntity> entities = MAPPER.mapToList(delimited(100), Win32PnPEntity.class, WireFormat.DELIMITED);
+
+        assertThat(entities).isEqualTo(MAPPER.mapToList(json(100), Win32PnPEntity.class));
+        assertThat(entities.get(99).getDeviceId()).isEqualTo("ROOT\\DEVICE\\99");
+        assertThat(distinctInstances(entities)).isEqualTo(105);
+    }
+
+    @Test
+    void test_mapToListInParallel_sharesRepeatedValuesWithinChunks() {
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Win32PnPEntity> entities = MAPPER.mapToListInParallel(json(400), Win32PnPEntity.class, 0, pool);
+            assertThat(entities).hasSize(400);
+            // at most one instance per chunk of every repeated value
+            assertThat(distinctInstances(entities)).isBetween(405, 420);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void test_separateMappings_shareValuesThroughSharedPoolOnly() {
+
+        List<Win32PnPEntity> first = MAPPER.mapToList(json(2), Win32PnPEntity.class);
+        List<Win32PnPEntity> second = MAPPER.mapToList(json(2), Win32PnPEntity.class);
+        assertThat(second.get(0).getManufacturer()).isNotSameAs(first.get(0).getManufacturer());
+
+        StringPool.setSharedPoolEnabled(true);
+        List<Win32PnPEntity> third = MAPPER.mapToList(json(2), Win32PnPEntity.class);
+        List<Win32PnPEntity> fourth = MAPPER.mapToList(delimited(2), Win32PnPEntity.class, WireFormat.DELIMITED);
+        List<Win32PnPEntity> streamed = new ArrayList<>();
+        MAPPER.mapEach(new StringReader(json(2)), Win32PnPEntity.class, streamed::add);
+
+        assertThat(fourth.get(0).getManufacturer()).isSameAs(third.get(0).getManufacturer());
+        assertThat(streamed.get(1).getStatus()).isSameAs(third.get(0).getStatus());
+        assertThat(StringPool.getShared().size()).isGreaterThanOrEqualTo(6);
+    }
+
+    @Test
+    void test_stringPool_internsAndDropsUnreferencedValues() throws InterruptedException {
+
+        StringPool pool = new StringPool();
+        String first = new String(new char[]{'O', 'K'});
+        String second = new String(new char[]{'O', 'K'});
+        assertThat(pool.intern(first)).isSameAs(first);
+        assertThat(pool.intern(second)).isSameAs(first);
+
+        for (int i = 0; i < 1000; i++)
+            pool.intern("value " + i);
+        assertThat(pool.size()).isEqualTo(1001);
+
+        for (int attempt = 0; attempt < 50 && pool.size() > 1; attempt++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertThat(pool.size()).isEqualTo(1);
+        assertThat(pool.intern(second)).isSameAs(first);
+    }
+}
@@ -0,0 +1,161 @@
+package unit.mapper;
+
+import io.github.eggy03.ferrumx.windows.constant.namespace.Cimv2Namespace;
+import io.github.eggy03.ferrumx.windows.entity.system.Win32Process;
+import io.github.eggy03.ferrumx.windows.mapping.system.Win32ProcessMapper;
+import io.github.eggy03.ferrumx.windows.query.WireFormat;
+import io.github.eggy03.ferrumx.windows.utility.TerminalUtility;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Compares {@link WireFormat#JSON} with {@link WireFormat#DELIMITED} on {@code Win32_Process} outputs.
+ * <p>
+ * On every platform, it compares the payload size and the mapping time of synthetic outputs of growing size, written
+ * the way Windows PowerShell 5.1 writes them. On Windows, it also compares the end-to-end latency of
+ * {@link Cimv2Namespace#WIN32_PROCESS_QUERY} in both formats, from launching PowerShell to the mapped list.
+ * </p>
+ * <p>
+ * Not a test: surefire does not pick it up. Run its {@code main} method from the IDE, or with {@code java} on the
+ * test classpath after {@code mvn test-compile}.
+ * </p>
+ */
+public class WireFormatBenchmark {
+
+    private static final int[] ELEMENT_COUNTS = {16, 256, 4096};
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 31;
+    private static final int END_TO_END_ROUNDS = 11;
+
+    private static final Win32ProcessMapper MAPPER = new Win32ProcessMapper();
+
+    public static void main(String[] args) {
+
+        System.out.printf(Locale.ROOT, "%10s %14s %14s %12s %12s %12s%n",
+                "elements", "json (bytes)", "tsv (bytes)", "size ratio", "json (us)", "tsv (us)");
+
+        for (int count : ELEMENT_COUNTS) {
+            List<Map<String, Object>> rows = processes(count);
+            String json = toJson(rows);
+            String delimited = toDelimited(rows);
+
+            if (!MAPPER.mapToList(json, Win32Process.class).equals(MAPPER.mapToList(delimited, Win32Process.class, WireFormat.DELIMITED)))
+                throw new IllegalStateException("Both formats must map into the same entities");
+
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                MAPPER.mapToList(json, Win32Process.class);
+                MAPPER.mapToList(delimited, Win32Process.class, WireFormat.DELIMITED);
+            }
+            long jsonTime = median(MEASURED_ROUNDS, () -> MAPPER.mapToList(json, Win32Process.class));
+            long delimitedTime = median(MEASURED_ROUNDS, () -> MAPPER.mapToList(delimited, Win32Process.class, WireFormat.DELIMITED));
+
+            int jsonBytes = json.getBytes(StandardCharsets.UTF_8).length;
+            int delimitedBytes = delimited.getBytes(StandardCharsets.UTF_8).length;
+            System.out.printf(Locale.ROOT, "%10d %14d %14d %11.2fx %12.1f %12.1f%n",
+                    count, jsonBytes, delimitedBytes, (double) jsonBytes / delimitedBytes, jsonTime / 1000.0, delimitedTime / 1000.0);
+        }
+
+        if (System.getProperty("os.name", "").startsWith("Windows"))
+            endToEnd();
+        else
+            System.out.println("End-to-end latency is only measured on Windows");
+    }
+
+    private static void endToEnd() {
+
+        String jsonQuery = Cimv2Namespace.WIN32_PROCESS_QUERY.getQuery();
+        String delimitedQuery = WireFormat.DELIMITED.apply(jsonQuery);
+
+        long jsonTime = median(END_TO_END_ROUNDS, () -> MAPPER.mapToList(TerminalUtility.executeCommand(jsonQuery, 60), Win32Process.class));
+        long delimitedTime = median(END_TO_END_ROUNDS, () -> MAPPER.mapToList(TerminalUtility.executeCommand(delimitedQuery, 60), Win32Process.class, WireFormat.DELIMITED));
+        int jsonBytes = TerminalUtility.executeCommand(jsonQuery, 60).getBytes(StandardCharsets.UTF_8).length;
+        int delimitedBytes = TerminalUtility.executeCommand(delimitedQuery, 60).getBytes(StandardCharsets.UTF_8).length;
+
+        System.out.printf(Locale.ROOT, "%nend to end, %s:%n", Cimv2Namespace.WIN32_PROCESS_QUERY);
+        System.out.printf(Locale.ROOT, "%10s %14d bytes %12.1f ms%n", "json", jsonBytes, jsonTime / 1_000_000.0);
+        System.out.printf(Locale.ROOT, "%10s %14d bytes %12.1f ms%n", "tsv", delimitedBytes, delimitedTime / 1_000_000.0);
+    }
+
+    private static long median(int rounds, Supplier<?> task) {
+        long[] samples = new long[rounds];
+        for (int i = 0; i < samples.length; i++) {
+            long start = System.nanoTime();
+            task.get();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+
+    // the property values of Get-CimInstance Win32_Process | Select-Object, in the order of the query
+    private static List<Map<String, Object>> processes(int count) {
+        List<Map<String, Object>> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("ProcessId", 1000 + i);
+            row.put("SessionId", 1);
+            row.put("Name", "process" + i + ".exe");
+            row.put("Caption", "process" + i + ".exe");
+            row.put("Description", "process" + i + ".exe");
+            row.put("ExecutablePath", "C:\\Program Files\\Vendor\\Product " + i + "\\bin\\process" + i + ".exe");
+            row.put("ExecutionState", null);
+            row.put("Handle", String.valueOf(1000 + i));
+            row.put("HandleCount", 250 + i % 500);
+            row.put("Priority", 8);
+            row.put("ThreadCount", 4 + i % 32);
+            row.put("KernelModeTime", 156250L * i);
+            row.put("UserModeTime", 312500L * i);
+            row.put("WorkingSetSize", 12_582_912L + i);
+            row.put("PeakWorkingSetSize", 25_165_824L + i);
+            row.put("PrivatePageCount", 8_388_608L + i);
+            row.put("PageFileUsage", 8192 + i);
+            row.put("PeakPageFileUsage", 16384 + i);
+            row.put("VirtualSize", 2_203_318_222_848L + i);
+            row.put("PeakVirtualSize", 2_203_351_777_280L + i);
+            row.put("CreationDate", "/Date(" + (1_792_000_000_000L + i * 1000L) + ")/");
+            row.put("TerminationDate", null);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    // ConvertTo-Json of Windows PowerShell 5.1 indents by four spaces and puts two spaces after the colons
+    private static String toJson(List<Map<String, Object>> rows) {
+        StringBuilder json = new StringBuilder("[\r\n");
+        for (int i = 0; i < rows.size(); i++) {
+            json.append("    {\r\n");
+            int property = 0;
+            for (Map.Entry<String, Object> entry : rows.get(i).entrySet()) {
+                json.append("        \"").append(entry.getKey()).append("\":  ");
+                Object value = entry.getValue();
+                if (value == null)
+                    json.append("null");
+                else if (value instanceof String)
+                    json.append('"').append(((String) value).replace("\\", "\\\\").replace("/", "\\/")).append('"');
+                else
+                    json.append(value);
+                json.append(++property < rows.get(i).size() ? ",\r\n" : "\r\n");
+            }
+            json.append(i < rows.size() - 1 ? "    },\r\n" : "    }\r\n");
+        }
+        return json.append("]\r\n").toString();
+    }
+
+    private static String toDelimited(List<Map<String, Object>> rows) {
+        StringBuilder delimited = new StringBuilder(String.join("\t", rows.get(0).keySet())).append("\r\n");
+        for (Map<String, Object> row : rows) {
+            List<String> fields = new ArrayList<>(row.size());
+            for (Object value : row.values())
+                fields.add(value == null ? "\\N" : String.valueOf(value).replace("\\", "\\\\"));
+            delimited.append(String.join("\t", fields)).append("\r\n");
+        }
+        return delimited.toString();
+    }
+}
@@ -0,0 +1,61 @@
+package unit.query;
+
+import io.github.eggy03.ferrumx.windows.constant.namespace.Cimv2Namespace;
+import io.github.eggy03.ferrumx.windows.entity.processor.Win32AssociatedProcessorMemory;
+import io.github.eggy03.ferrumx.windows.entity.system.Win32Process;
+import io.github.eggy03.ferrumx.windows.query.PropertyMask;
+import io.github.eggy03.ferrumx.windows.query.WqlFilter;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PropertyMaskTest {
+
+    @Test
+    void test_of_keepsOrderAndDropsDuplicates() {
+        PropertyMask<Win32Process> mask = PropertyMask.of(Win32Process.class, "WorkingSetSize", "ProcessId", "WorkingSetSize");
+
+        assertThat(mask.getProperties()).containsExactly("WorkingSetSize", "ProcessId");
+        assertThat(mask.getEntityClass()).isEqualTo(Win32Process.class);
+        assertThat(mask.toPropertyList()).isEqualTo("WorkingSetSize, ProcessId");
+        assertThat(mask).isEqualTo(PropertyMask.of(Win32Process.class, "WorkingSetSize", "ProcessId"));
+    }
+
+    @Test
+    void test_of_invalidProperties_throwsException() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> PropertyMask.of(Win32Process.class, "ProcessId", "processId"));
+        assertThat(ex.getMessage()).isEqualTo("Win32Process does not declare the property: processId");
+
+        assertThrows(IllegalArgumentException.class, () -> PropertyMask.of(Win32Process.class));
+    }
+
+    @Test
+    void test_getQuery_projectsCimInstanceAndSelectObject() {
+        String query = Cimv2Namespace.WIN32_PROCESS_QUERY.getQuery(PropertyMask.of(Win32Process.class, "ProcessId", "WorkingSetSize"));
+
+        assertThat(query).isEqualTo("Get-CimInstance -ClassName Win32_Process -Property ProcessId, WorkingSetSize " +
+                "| Select-Object -Property ProcessId, WorkingSetSize | ConvertTo-Json");
+    }
+
+    @Test
+    void test_getQuery_withFilterAndMask() {
+        String query = Cimv2Namespace.WIN32_PROCESS_QUERY.getQuery(WqlFilter.equalTo("Name", "java.exe"), PropertyMask.of(Win32Process.class, "ProcessId"));
+
+        assertThat(query).isEqualTo("Get-CimInstance -ClassName Win32_Process -Property ProcessId -Filter 'Name = ''java.exe''' " +
+                "| Select-Object -Property ProcessId | ConvertTo-Json");
+    }
+
+    @Test
+    void test_getQuery_maskOfAnotherEntity_throwsException() {
+        PropertyMask<Win32Process> mask = PropertyMask.of(Win32Process.class, "ProcessId");
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> Cimv2Namespace.WIN32_BATTERY_QUERY.getQuery(mask));
+        assertThat(ex.getMessage()).isEqualTo("WIN32_BATTERY_QUERY does not return the property: ProcessId");
+    }
+
+    @Test
+    void test_getQuery_associationQuery_throwsException() {
+        PropertyMask<Win32AssociatedProcessorMemory> mask = PropertyMask.of(Win32AssociatedProcessorMemory.class, "CacheMemoryDeviceID");
+        assertThrows(UnsupportedOperationException.class, () -> Cimv2Namespace.WIN32_ASSOCIATED_PROCESSOR_MEMORY_QUERY.getQuery(mask));
+    }
+}
@@ -0,0 +1,56 @@
+package unit.query;
+
+import io.github.eggy03.ferrumx.windows.constant.PowerShellCmdlets;
+import io.github.eggy03.ferrumx.windows.constant.namespace.Cimv2Namespace;
+import io.github.eggy03.ferrumx.windows.entity.system.Win32Process;
+import io.github.eggy03.ferrumx.windows.query.PropertyMask;
+import io.github.eggy03.ferrumx.windows.query.WireFormat;
+import io.github.eggy03.ferrumx.windows.query.WqlFilter;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WireFormatTest {
+
+    @Test
+    void test_apply_replacesConvertToJson() {
+        String query = WireFormat.DELIMITED.apply(Cimv2Namespace.WIN32_PROCESS_QUERY.getQuery(
+                WqlFilter.equalTo("Name", "java.exe"), PropertyMask.of(Win32Process.class, "ProcessId", "Name")));
+
+        assertThat(query).isEqualTo("Get-CimInstance -ClassName Win32_Process -Property ProcessId, Name -Filter 'Name = ''java.exe''' " +
+                "| Select-Object -Property ProcessId, Name" + PowerShellCmdlets.CONVERT_TO_DELIMITED.getCmdlet());
+    }
+
+    @Test
+    void test_apply_associationQuery_success() {
+        String query = WireFormat.DELIMITED.apply(Cimv2Namespace.WIN32_DISK_DRIVE_TO_DISK_PARTITION_QUERY.getQuery());
+
+        assertThat(query).startsWith("Get-CimInstance Win32_DiskDriveToDiskPartition | ForEach-Object {")
+                .endsWith(PowerShellCmdlets.CONVERT_TO_DELIMITED.getCmdlet())
+                .doesNotContain("ConvertTo-Json");
+    }
+
+    @Test
+    void test_apply_json_keepsQuery() {
+        for (Cimv2Namespace namespace : Cimv2Namespace.values()) {
+            if (namespace.getQuery().endsWith(PowerShellCmdlets.CONVERT_TO_JSON.getCmdlet()))
+                assertThat(WireFormat.JSON.apply(namespace.getQuery())).isEqualTo(namespace.getQuery());
+            assertThat(WireFormat.DELIMITED.apply(namespace.getQuery())).doesNotContain("ConvertTo-Json");
+        }
+    }
+
+    @Test
+    void test_delimitedSerializer_hasNoDoubleQuotes() {
+        // commands are passed to powershell.exe unquoted, which would strip double quotes
+        assertThat(PowerShellCmdlets.CONVERT_TO_DELIMITED.getCmdlet()).doesNotContain("\"");
+    }
+
+    @Test
+    void test_apply_invalidQuery_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> WireFormat.DELIMITED.apply("Get-CimInstance Win32_Process"));
+        assertThrows(IllegalArgumentException.class, () -> WireFormat.DELIMITED.apply("Get-CimInstance Win32_Process | ConvertTo-Json -Depth 3"));
+        assertThrows(IllegalArgumentException.class, () -> WireFormat.DELIMITED.apply("ConvertTo-Json"));
+        assertThrows(NullPointerException.class, () -> WireFormat.DELIMITED.apply(null));
+    }
+}
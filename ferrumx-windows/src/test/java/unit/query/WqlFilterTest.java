@@ -0,0 +1,88 @@
+package unit.query;
+
+import io.github.eggy03.ferrumx.windows.constant.namespace.Cimv2Namespace;
+import io.github.eggy03.ferrumx.windows.query.WqlFilter;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WqlFilterTest {
+
+    @Test
+    void test_comparisons_renderWql() {
+        assertThat(WqlFilter.equalTo("Name", "java.exe").toWql()).isEqualTo("Name = 'java.exe'");
+        assertThat(WqlFilter.equalTo("ProcessId", 42L).toWql()).isEqualTo("ProcessId = 42");
+        assertThat(WqlFilter.equalTo("IPEnabled", true).toWql()).isEqualTo("IPEnabled = TRUE");
+        assertThat(WqlFilter.notEqualTo("Status", "OK").toWql()).isEqualTo("Status <> 'OK'");
+        assertThat(WqlFilter.notEqualTo("ProcessId", 0L).toWql()).isEqualTo("ProcessId <> 0");
+        assertThat(WqlFilter.greaterThan("ThreadCount", 10L).toWql()).isEqualTo("ThreadCount > 10");
+        assertThat(WqlFilter.lessThan("Priority", -1L).toWql()).isEqualTo("Priority < -1");
+        assertThat(WqlFilter.like("Name", "java%").toWql()).isEqualTo("Name LIKE 'java%'");
+        assertThat(WqlFilter.isNull("ExecutablePath").toWql()).isEqualTo("ExecutablePath IS NULL");
+        assertThat(WqlFilter.isNotNull("ExecutablePath").toWql()).isEqualTo("ExecutablePath IS NOT NULL");
+    }
+
+    @Test
+    void test_combinations_arePrecedenceSafe() {
+        WqlFilter filter = WqlFilter.equalTo("Name", "java.exe")
+                .or(WqlFilter.equalTo("ProcessId", 4L))
+                .and(WqlFilter.equalTo("SessionId", 1L).negate());
+
+        assertThat(filter.toWql()).isEqualTo("((Name = 'java.exe') OR (ProcessId = 4)) AND (NOT (SessionId = 1))");
+        assertThat(filter).hasToString(filter.toWql());
+    }
+
+    @Test
+    void test_stringValues_areEscaped() {
+        assertThat(WqlFilter.equalTo("ExecutablePath", "C:\\Program Files\\O'Brien\\app.exe").toWql())
+                .isEqualTo("ExecutablePath = 'C:\\\\Program Files\\\\O\\'Brien\\\\app.exe'");
+    }
+
+    @Test
+    void test_invalidPropertyName_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> WqlFilter.equalTo("Name = 'x' OR 1", "y"));
+        assertThrows(IllegalArgumentException.class, () -> WqlFilter.isNull(""));
+        assertThrows(IllegalArgumentException.class, () -> WqlFilter.greaterThan("1Name", 1L));
+    }
+
+    @Test
+    void test_doubleQuotes_throwException() {
+        assertThrows(IllegalArgumentException.class, () -> WqlFilter.equalTo("Name", "say \"hi\""));
+        assertThrows(IllegalArgumentException.class, () -> WqlFilter.like("CommandLine", "%\"C:\\Program Files\\%"));
+    }
+
+    @Test
+    void test_consecutiveOrNonSpaceWhitespace_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> WqlFilter.equalTo("Caption", "Intel  Ethernet"));
+        assertThrows(IllegalArgumentException.class, () -> WqlFilter.notEqualTo("Caption", "Intel\tEthernet"));
+        assertThrows(IllegalArgumentException.class, () -> WqlFilter.like("Caption", "Intel\n%"));
+
+        // single spaces survive the command line
+        assertThat(WqlFilter.equalTo("Caption", " Intel Ethernet ").toWql()).isEqualTo("Caption = ' Intel Ethernet '");
+    }
+
+    @Test
+    void test_equality() {
+        assertThat(WqlFilter.equalTo("Name", "a")).isEqualTo(WqlFilter.equalTo("Name", "a"));
+        assertThat(WqlFilter.equalTo("Name", "a")).isNotEqualTo(WqlFilter.equalTo("Name", "b"));
+    }
+
+    @Test
+    void test_getQuery_insertsFilterBeforeThePipeline() {
+        String query = Cimv2Namespace.WIN32_PROCESS_QUERY.getQuery(WqlFilter.equalTo("ProcessId", 4L));
+
+        assertThat(query)
+                .startsWith("Get-CimInstance -ClassName Win32_Process -Filter 'ProcessId = 4' | Select-Object -Property ")
+                .endsWith(" | ConvertTo-Json");
+        assertThat(query.substring(query.indexOf(" | ")))
+                .isEqualTo(Cimv2Namespace.WIN32_PROCESS_QUERY.getQuery().substring(Cimv2Namespace.WIN32_PROCESS_QUERY.getQuery().indexOf(" | ")));
+    }
+
+    @Test
+    void test_getQuery_quotesTheFilterForPowerShell() {
+        String query = Cimv2Namespace.WIN32_NETWORK_ADAPTER_SETTING_QUERY.getQuery(WqlFilter.equalTo("Name", "O'Brien\u2019s"));
+
+        assertThat(query).startsWith("Get-CimInstance Win32_NetworkAdapterSetting -Filter 'Name = ''O\\''Brien\u2019\u2019s''' | ");
+    }
+}
@@ -0,0 +1,297 @@
+package unit.service;
+
+import com.profesorfalken.jpowershell.PowerShell;
+import io.github.eggy03.ferrumx.windows.entity.compounded.HardwareId;
+import io.github.eggy03.ferrumx.windows.entity.mainboard.Win32Bios;
+import io.github.eggy03.ferrumx.windows.entity.storage.Win32LogicalDisk;
+import io.github.eggy03.ferrumx.windows.entity.system.Win32Process;
+import io.github.eggy03.ferrumx.windows.service.CachePolicy;
+import io.github.eggy03.ferrumx.windows.service.CachingOptionalService;
+import io.github.eggy03.ferrumx.windows.service.CachingService;
+import io.github.eggy03.ferrumx.windows.service.CommonServiceInterface;
+import io.github.eggy03.ferrumx.windows.service.OptionalCommonServiceInterface;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingServiceTest {
+
+    // a service returning a new list holding the number of the call on every call
+    @SuppressWarnings("unchecked")
+    private static CommonServiceInterface<Win32Bios> countingBiosService() {
+        CommonServiceInterface<Win32Bios> service = mock(CommonServiceInterface.class);
+        AtomicInteger calls = new AtomicInteger();
+        Answer<List<Win32Bios>> next = invocation -> biosVersion(calls.incrementAndGet());
+        when(service.get()).thenAnswer(next);
+        when(service.get(any(PowerShell.class))).thenAnswer(next);
+        when(service.get(anyLong())).thenAnswer(next);
+        return service;
+    }
+
+    private static List<Win32Bios> biosVersion(int call) {
+        return Collections.singletonList(Win32Bios.builder().version("v" + call).build());
+    }
+
+    private static String version(List<Win32Bios> bios) {
+        return bios.get(0).getVersion();
+    }
+
+    @Test
+    void test_forEntity_defaults() {
+
+        assertEquals(Duration.ofHours(6), CachePolicy.forEntity(Win32Bios.class).getTimeToLive());
+        assertEquals(Duration.ofHours(6), CachePolicy.forEntity(HardwareId.class).getTimeToLive());
+        assertEquals(Duration.ofSeconds(5), CachePolicy.forEntity(Win32LogicalDisk.class).getTimeToLive());
+        assertSame(CachePolicy.NONE, CachePolicy.forEntity(Win32Process.class));
+        assertFalse(CachePolicy.NONE.isCaching());
+        assertTrue(CachePolicy.of(Duration.ZERO, Duration.ofSeconds(1)).isCaching());
+    }
+
+    @Test
+    void test_of_invalidDurations_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> CachePolicy.of(Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class, () -> CachePolicy.of(Duration.ZERO, Duration.ofSeconds(-1)));
+        assertThrows(NullPointerException.class, () -> CachePolicy.of(null));
+    }
+
+    @Test
+    void test_get_withinTimeToLive_returnsCachedList() {
+
+        CommonServiceInterface<Win32Bios> delegate = countingBiosService();
+        CachingService<Win32Bios> service = new CachingService<>(delegate, Win32Bios.class);
+
+        List<Win32Bios> first = service.get(5L);
+        assertSame(first, service.get(5L));
+        assertSame(first, service.get());
+        assertSame(first, service.get(mock(PowerShell.class)));
+        assertSame(first, service.getAsync(Duration.ofSeconds(5)).join());
+        verify(delegate, times(1)).get(anyLong());
+
+        service.invalidate();
+        assertEquals("v2", version(service.get()));
+        verify(delegate, times(1)).get();
+    }
+
+    @Test
+    void test_get_withoutCaching_alwaysQueries() {
+
+        CommonServiceInterface<Win32Bios> delegate = countingBiosService();
+        CachingService<Win32Bios> service = new CachingService<>(delegate, CachePolicy.NONE);
+
+        assertEquals("v1", version(service.get(5L)));
+        assertEquals("v2", version(service.get(5L)));
+        assertEquals("v3", version(service.get()));
+    }
+
+    @Test
+    void test_get_afterTimeToLive_queriesAgain() throws InterruptedException {
+
+        CommonServiceInterface<Win32Bios> delegate = countingBiosService();
+        CachingService<Win32Bios> service = new CachingService<>(delegate, CachePolicy.of(Duration.ofMillis(20)));
+
+        assertEquals("v1", version(service.get(5L)));
+        TimeUnit.MILLISECONDS.sleep(40);
+        assertEquals("v2", version(service.get(5L)));
+    }
+
+    @Test
+    void test_get_staleWhileRevalidate_returnsStaleListAndRefreshesInBackground() throws InterruptedException {
+
+        CommonServiceInterface<Win32Bios> delegate = countingBiosService();
+        List<Runnable> refreshes = new ArrayList<>();
+        CachingService<Win32Bios> service = new CachingService<>(delegate, CachePolicy.of(Duration.ofMillis(1), Duration.ofHours(1)), refreshes::add);
+
+        List<Win32Bios> first = service.get(5L);
+        TimeUnit.MILLISECONDS.sleep(10);
+
+        // the stale list is returned at once and a single refresh is scheduled
+        assertSame(first, service.get(5L));
+        assertSame(first, service.get(5L));
+        assertEquals(1, refreshes.size());
+        verify(delegate, times(1)).get(anyLong());
+
+        refreshes.get(0).run();
+        verify(delegate, times(2)).get(anyLong());
+        assertEquals("v2", version(service.get(5L)));
+
+        // the session-based methods never return a stale list
+        TimeUnit.MILLISECONDS.sleep(10);
+        assertEquals("v3", version(service.get()));
+    }
+
+    @Test
+    void test_patch_replacesCachedList() {
+
+        CommonServiceInterface<Win32Bios> delegate = countingBiosService();
+        CachingService<Win32Bios> service = new CachingService<>(delegate, Win32Bios.class);
+
+        // nothing is cached yet, so nothing is patched
+        service.patch(cached -> Collections.singletonList(Win32Bios.builder().version("patched").build()));
+        assertEquals("v1", version(service.get(5L)));
+
+        service.patch(cached -> Collections.singletonList(Win32Bios.builder().version(version(cached) + "-patched").build()));
+        assertEquals("v1-patched", version(service.get(5L)));
+        assertEquals("v1-patched", version(service.get()));
+        verify(delegate, times(1)).get(anyLong());
+
+        assertThrows(NullPointerException.class, () -> service.patch(null));
+    }
+
+    @Test
+    void test_patch_keepsAgeOfCachedList() throws InterruptedException {
+
+        CommonServiceInterface<Win32Bios> delegate = countingBiosService();
+        CachingService<Win32Bios> service = new CachingService<>(delegate, CachePolicy.of(Duration.ofMillis(50)));
+
+        assertEquals("v1", version(service.get(5L)));
+        // patches arriving all along never extend the time to live
+        for (int i = 0; i < 6; i++) {
+            TimeUnit.MILLISECONDS.sleep(10);
+            service.patch(cached -> cached);
+        }
+        TimeUnit.MILLISECONDS.sleep(20);
+        service.patch(cached -> Collections.singletonList(Win32Bios.builder().version("expired-patched").build()));
+        // an expired list is not patched back to life
+        assertEquals("v2", version(service.get(5L)));
+        verify(delegate, times(2)).get(anyLong());
+    }
+
+    @Test
+    void test_get_failedRefresh_keepsStaleList() throws InterruptedException {
+
+        CommonServiceInterface<Win32Bios> delegate = countingBiosService();
+        List<Runnable> refreshes = new ArrayList<>();
+        CachingService<Win32Bios> service = new CachingService<>(delegate, CachePolicy.of(Duration.ofMillis(1), Duration.ofHours(1)), refreshes::add);
+
+        List<Win32Bios> first = service.get(5L);
+        TimeUnit.MILLISECONDS.sleep(10);
+        doThrow(new IllegalStateException("query failed")).when(delegate).get(anyLong());
+
+        assertSame(first, service.get(5L));
+        refreshes.get(0).run();
+        assertSame(first, service.get(5L));
+        assertEquals(2, refreshes.size()); // the next caller schedules another refresh
+
+        // without a stale window, the failure reaches the caller
+        CachingService<Win32Bios> strict = new CachingService<>(delegate, CachePolicy.of(Duration.ofHours(1)));
+        assertThrows(IllegalStateException.class, () -> strict.get(5L));
+    }
+
+    @Test
+    void test_invalidate_duringRefresh_dropsRefreshedList() throws Exception {
+
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        CommonServiceInterface<Win32Bios> slow = countingBiosService();
+        when(slow.get(anyLong())).thenAnswer(invocation -> {
+            int call = calls.incrementAndGet();
+            // only the background refresh, the second query, blocks
+            if (call == 2) {
+                queryStarted.countDown();
+                releaseQuery.await(5, TimeUnit.SECONDS);
+            }
+            return biosVersion(call);
+        });
+        List<Runnable> refreshes = new ArrayList<>();
+        CachingService<Win32Bios> service = new CachingService<>(slow, CachePolicy.of(Duration.ofMillis(1), Duration.ofHours(1)), refreshes::add);
+
+        assertEquals("v1", version(service.get(5L)));
+        TimeUnit.MILLISECONDS.sleep(10);
+        assertEquals("v1", version(service.get(5L)));
+
+        Thread refresh = new Thread(refreshes.get(0));
+        refresh.start();
+        assertTrue(queryStarted.await(5, TimeUnit.SECONDS));
+        service.invalidate();
+        releaseQuery.countDown();
+        refresh.join(5000);
+        assertFalse(refresh.isAlive());
+
+        // the refresh started before the invalidation, so its list is not cached
+        assertEquals("v3", version(service.get(5L)));
+        verify(slow, times(3)).get(anyLong());
+    }
+
+    @Test
+    void test_get_concurrentMisses_shareOneQuery() throws Exception {
+
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+        CommonServiceInterface<Win32Bios> slow = countingBiosService();
+        when(slow.get(anyLong())).thenAnswer(invocation -> {
+            queryStarted.countDown();
+            releaseQuery.await(5, TimeUnit.SECONDS);
+            return biosVersion(1);
+        });
+        CachingService<Win32Bios> service = new CachingService<>(slow, Win32Bios.class);
+
+        ExecutorService threads = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<Win32Bios>>> results = new ArrayList<>();
+            results.add(threads.submit(() -> service.get(5L)));
+            assertTrue(queryStarted.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++)
+                results.add(threads.submit(() -> service.get(5L)));
+            releaseQuery.countDown();
+
+            List<Win32Bios> first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<List<Win32Bios>> result : results)
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            verify(slow, times(1)).get(anyLong());
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    void test_optionalService_cachesEntity() {
+
+        @SuppressWarnings("unchecked")
+        OptionalCommonServiceInterface<HardwareId> delegate = mock(OptionalCommonServiceInterface.class);
+        when(delegate.get(anyLong())).thenReturn(Optional.of(HardwareId.builder().build()));
+        CachingOptionalService<HardwareId> service = new CachingOptionalService<>(delegate, HardwareId.class);
+
+        Optional<HardwareId> first = service.get(5L);
+        assertSame(first, service.get(5L));
+        assertSame(first, service.get());
+        verify(delegate, times(1)).get(anyLong());
+        verify(delegate, never()).get();
+        assertThat(service.getPolicy()).isEqualTo(CachePolicy.forEntity(HardwareId.class));
+        assertSame(delegate, service.getDelegate());
+    }
+
+    @Test
+    void test_nullParameters_throwsException() {
+        assertThrows(NullPointerException.class, () -> new CachingService<>(null, Win32Bios.class));
+        assertThrows(NullPointerException.class, () -> new CachingService<>(countingBiosService(), (CachePolicy) null));
+        assertThrows(NullPointerException.class, () -> new CachingService<>(countingBiosService(), CachePolicy.NONE, null));
+        assertThrows(NullPointerException.class, () -> new CachingService<>(countingBiosService(), Win32Bios.class).get((PowerShell) null));
+    }
+}
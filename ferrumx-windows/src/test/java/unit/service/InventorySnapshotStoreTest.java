@@ -0,0 +1,300 @@
+package unit.service;
+
+import io.github.eggy03.ferrumx.windows.entity.compounded.HardwareId;
+import io.github.eggy03.ferrumx.windows.entity.mainboard.Win32Bios;
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
+import io.github.eggy03.ferrumx.windows.service.CommonServiceInterface;
+import io.github.eggy03.ferrumx.windows.service.InventorySnapshotStore;
+import io.github.eggy03.ferrumx.windows.service.OptionalCommonServiceInterface;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InventorySnapshotStoreTest {
+
+    private static final Win32Bios BIOS = Win32Bios.builder()
+            .manufacturer("American Megatrends Inc.")
+            .version("ALASKA - 1072009")
+            .primaryBios(true)
+            .build();
+
+    private static final HardwareId HARDWARE_ID = HardwareId.builder().hashHWID("7D1B6A2C").build();
+
+    // answers the boot-up time query with the current boot-up time, failing on any other command
+    private static final class BootTimeExecutor implements CommandExecutor {
+
+        private final List<String> commands = new ArrayList<>();
+        private volatile String lastBootUpTime = "/Date(1730530800000)/";
+
+        @Override
+        public String execute(String command, long timeoutSeconds) {
+            commands.add(command);
+            if (!command.contains("Win32_OperatingSystem"))
+                throw new IllegalStateException("Unexpected command " + command);
+            return "{\"LastBootUpTime\":\"" + lastBootUpTime + "\"}";
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CommonServiceInterface<Win32Bios> biosService() {
+        CommonServiceInterface<Win32Bios> service = mock(CommonServiceInterface.class);
+        when(service.get(anyLong())).thenReturn(Collections.singletonList(BIOS));
+        return service;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static OptionalCommonServiceInterface<HardwareId> hardwareIdService(Optional<HardwareId> result) {
+        OptionalCommonServiceInterface<HardwareId> service = mock(OptionalCommonServiceInterface.class);
+        when(service.get(anyLong())).thenReturn(result);
+        return service;
+    }
+
+    @Test
+    void test_get_missingFile_queriesOnceAndPersists(@TempDir Path tempDir) {
+
+        Path file = tempDir.resolve("cache").resolve("inventory.json");
+        BootTimeExecutor executor = new BootTimeExecutor();
+        CommonServiceInterface<Win32Bios> biosService = biosService();
+
+        InventorySnapshotStore store = InventorySnapshotStore.open(file, executor);
+        assertFalse(store.contains(Win32Bios.class));
+        assertNull(store.getLastBootUpTime());
+
+        List<Win32Bios> bios = store.get(Win32Bios.class, biosService, 5L);
+        assertThat(bios).containsExactly(BIOS);
+        assertSame(bios, store.get(Win32Bios.class, biosService, 5L));
+        verify(biosService, times(1)).get(anyLong());
+        assertTrue(store.contains(Win32Bios.class));
+        assertTrue(Files.exists(file));
+        assertThat(executor.commands).isEmpty();
+    }
+
+    @Test
+    void test_open_coldStart_loadsSnapshotWithoutQuerying(@TempDir Path tempDir) {
+
+        Path file = tempDir.resolve("inventory.json");
+        BootTimeExecutor executor = new BootTimeExecutor();
+        InventorySnapshotStore first = InventorySnapshotStore.open(file, executor);
+        assertFalse(first.revalidate(5L));
+        first.get(Win32Bios.class, biosService(), 5L);
+        first.getOptional(HardwareId.class, hardwareIdService(Optional.of(HARDWARE_ID)), 5L);
+
+        // a restarted application gets its entities from the file
+        CommonServiceInterface<Win32Bios> biosService = biosService();
+        OptionalCommonServiceInterface<HardwareId> hardwareIdService = hardwareIdService(Optional.empty());
+        InventorySnapshotStore restarted = InventorySnapshotStore.open(file, new BootTimeExecutor());
+
+        assertEquals("/Date(1730530800000)/", restarted.getLastBootUpTime());
+        assertThat(restarted.get(Win32Bios.class, biosService, 5L)).containsExactly(BIOS);
+        assertEquals(Optional.of(HARDWARE_ID), restarted.getOptional(HardwareId.class, hardwareIdService, 5L));
+        verify(biosService, never()).get(anyLong());
+        verify(hardwareIdService, never()).get(anyLong());
+        assertThrows(UnsupportedOperationException.class, () -> restarted.get(Win32Bios.class, biosService, 5L).add(BIOS));
+    }
+
+    @Test
+    void test_getOptional_emptyResult_isPersisted(@TempDir Path tempDir) {
+
+        Path file = tempDir.resolve("inventory.json");
+        OptionalCommonServiceInterface<HardwareId> hardwareIdService = hardwareIdService(Optional.empty());
+        InventorySnapshotStore store = InventorySnapshotStore.open(file, new BootTimeExecutor());
+
+        assertFalse(store.getOptional(HardwareId.class, hardwareIdService, 5L).isPresent());
+        assertFalse(InventorySnapshotStore.open(file, new BootTimeExecutor()).getOptional(HardwareId.class, hardwareIdService, 5L).isPresent());
+        verify(hardwareIdService, times(1)).get(anyLong());
+    }
+
+    @Test
+    void test_revalidate_afterReboot_dropsSnapshot(@TempDir Path tempDir) throws Exception {
+
+        Path file = tempDir.resolve("inventory.json");
+        BootTimeExecutor executor = new BootTimeExecutor();
+        CommonServiceInterface<Win32Bios> biosService = biosService();
+
+        InventorySnapshotStore store = InventorySnapshotStore.open(file, executor);
+        assertFalse(store.revalidateAsync(5L).get(5, TimeUnit.SECONDS)); // the first validation keys the empty snapshot
+        store.get(Win32Bios.class, biosService, 5L);
+        assertFalse(store.revalidate(5L));
+        assertThat(executor.commands.get(0)).contains("Get-CimInstance Win32_OperatingSystem").contains("LastBootUpTime");
+
+        executor.lastBootUpTime = "/Date(1730617200000)/";
+        InventorySnapshotStore restarted = InventorySnapshotStore.open(file, executor);
+        assertTrue(restarted.contains(Win32Bios.class));
+        assertTrue(restarted.revalidateAsync(5L).get(5, TimeUnit.SECONDS));
+
+        assertFalse(restarted.contains(Win32Bios.class));
+        assertEquals("/Date(1730617200000)/", restarted.getLastBootUpTime());
+        restarted.get(Win32Bios.class, biosService, 5L);
+        verify(biosService, times(2)).get(anyLong());
+        assertEquals("/Date(1730617200000)/", InventorySnapshotStore.open(file, executor).getLastBootUpTime());
+    }
+
+    @Test
+    void test_revalidate_unkeyedSnapshot_dropsSnapshot(@TempDir Path tempDir) throws Exception {
+
+        // taken by a process that exited before its boot-up time was known, possibly before a reboot
+        Path file = tempDir.resolve("inventory.json");
+        InventorySnapshotStore unkeyed = InventorySnapshotStore.open(file, new BootTimeExecutor());
+        CommonServiceInterface<Win32Bios> biosService = biosService();
+        unkeyed.get(Win32Bios.class, biosService, 5L);
+        assertNull(InventorySnapshotStore.open(file, new BootTimeExecutor()).getLastBootUpTime());
+
+        InventorySnapshotStore restarted = InventorySnapshotStore.open(file, new BootTimeExecutor());
+        assertTrue(restarted.contains(Win32Bios.class));
+        assertTrue(restarted.revalidate(5L));
+
+        assertFalse(restarted.contains(Win32Bios.class));
+        assertNotNull(restarted.getLastBootUpTime());
+        restarted.get(Win32Bios.class, biosService, 5L);
+        verify(biosService, times(2)).get(anyLong());
+        assertFalse(restarted.revalidate(5L));
+    }
+
+    @Test
+    void test_open_corruptFile_startsEmpty(@TempDir Path tempDir) throws Exception {
+
+        Path file = tempDir.resolve("inventory.json");
+        Files.write(file, "{\"LastBootUpTime\":\"x\",\"Entities\":{\"io.github".getBytes(StandardCharsets.UTF_8));
+
+        CommonServiceInterface<Win32Bios> biosService = biosService();
+        InventorySnapshotStore store = InventorySnapshotStore.open(file, new BootTimeExecutor());
+        assertNull(store.getLastBootUpTime());
+        assertThat(store.get(Win32Bios.class, biosService, 5L)).containsExactly(BIOS);
+        verify(biosService, times(1)).get(anyLong());
+
+        // the file has been rewritten with a valid snapshot
+        assertTrue(InventorySnapshotStore.open(file, new BootTimeExecutor()).contains(Win32Bios.class));
+    }
+
+    @Test
+    void test_get_malformedEntities_queriesAgain(@TempDir Path tempDir) throws Exception {
+
+        Path file = tempDir.resolve("inventory.json");
+        Files.write(file, ("{\"Entities\":{\"" + Win32Bios.class.getName() + "\":[{\"PrimaryBIOS\":{}}]}}").getBytes(StandardCharsets.UTF_8));
+
+        CommonServiceInterface<Win32Bios> biosService = biosService();
+        InventorySnapshotStore store = InventorySnapshotStore.open(file, new BootTimeExecutor());
+        assertTrue(store.contains(Win32Bios.class));
+        assertThat(store.get(Win32Bios.class, biosService, 5L)).containsExactly(BIOS);
+        verify(biosService, times(1)).get(anyLong());
+    }
+
+    @Test
+    void test_invalidate_dropsSnapshot(@TempDir Path tempDir) {
+
+        Path file = tempDir.resolve("inventory.json");
+        CommonServiceInterface<Win32Bios> biosService = biosService();
+        InventorySnapshotStore store = InventorySnapshotStore.open(file, new BootTimeExecutor());
+        store.get(Win32Bios.class, biosService, 5L);
+
+        store.invalidate();
+        assertFalse(store.contains(Win32Bios.class));
+        assertFalse(InventorySnapshotStore.open(file, new BootTimeExecutor()).contains(Win32Bios.class));
+        store.get(Win32Bios.class, biosService, 5L);
+        verify(biosService, times(2)).get(anyLong());
+    }
+
+    @Test
+    void test_get_slowQuery_doesNotHoldUpTheStore(@TempDir Path tempDir) throws Exception {
+
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+        @SuppressWarnings("unchecked")
+        CommonServiceInterface<Win32Bios> slow = mock(CommonServiceInterface.class);
+        when(slow.get(anyLong())).thenAnswer(invocation -> {
+            queryStarted.countDown();
+            assertTrue(releaseQuery.await(5, TimeUnit.SECONDS));
+            return Collections.singletonList(BIOS);
+        });
+        InventorySnapshotStore store = InventorySnapshotStore.open(tempDir.resolve("inventory.json"), new BootTimeExecutor());
+        store.revalidate(5L);
+
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<Win32Bios>> leader = threads.submit(() -> store.get(Win32Bios.class, slow, 5L));
+            assertTrue(queryStarted.await(5, TimeUnit.SECONDS));
+            Future<List<Win32Bios>> follower = threads.submit(() -> store.get(Win32Bios.class, slow, 5L));
+
+            // other entity classes and revalidations go through while the query runs
+            assertEquals(Optional.of(HARDWARE_ID), store.getOptional(HardwareId.class, hardwareIdService(Optional.of(HARDWARE_ID)), 5L));
+            assertFalse(store.revalidate(5L));
+            assertFalse(leader.isDone());
+
+            releaseQuery.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS)).containsExactly(BIOS);
+            assertThat(follower.get(5, TimeUnit.SECONDS)).containsExactly(BIOS);
+        } finally {
+            threads.shutdownNow();
+        }
+        verify(slow, times(1)).get(anyLong());
+        assertTrue(store.contains(Win32Bios.class));
+    }
+
+    @Test
+    void test_get_invalidatedDuringQuery_isNotAdded(@TempDir Path tempDir) throws Exception {
+
+        Path file = tempDir.resolve("inventory.json");
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+        @SuppressWarnings("unchecked")
+        CommonServiceInterface<Win32Bios> slow = mock(CommonServiceInterface.class);
+        when(slow.get(anyLong())).thenAnswer(invocation -> {
+            queryStarted.countDown();
+            assertTrue(releaseQuery.await(5, TimeUnit.SECONDS));
+            return Collections.singletonList(BIOS);
+        });
+        InventorySnapshotStore store = InventorySnapshotStore.open(file, new BootTimeExecutor());
+
+        ExecutorService threads = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<Win32Bios>> pending = threads.submit(() -> store.get(Win32Bios.class, slow, 5L));
+            assertTrue(queryStarted.await(5, TimeUnit.SECONDS));
+            store.invalidate();
+            releaseQuery.countDown();
+
+            // the caller still gets the entities, which the snapshot does not keep
+            assertThat(pending.get(5, TimeUnit.SECONDS)).containsExactly(BIOS);
+        } finally {
+            threads.shutdownNow();
+        }
+        assertFalse(store.contains(Win32Bios.class));
+        assertFalse(InventorySnapshotStore.open(file, new BootTimeExecutor()).contains(Win32Bios.class));
+    }
+
+    @Test
+    void test_nullParameters_throwsException(@TempDir Path tempDir) {
+        InventorySnapshotStore store = InventorySnapshotStore.open(tempDir.resolve("inventory.json"), new BootTimeExecutor());
+        assertThrows(NullPointerException.class, () -> InventorySnapshotStore.open(null));
+        assertThrows(NullPointerException.class, () -> InventorySnapshotStore.open(tempDir, null));
+        assertThrows(NullPointerException.class, () -> store.get(null, biosService(), 5L));
+        assertThrows(NullPointerException.class, () -> store.getOptional(HardwareId.class, null, 5L));
+    }
+
+}
@@ -0,0 +1,297 @@
+package unit.service;
+
+import io.github.eggy03.ferrumx.windows.entity.compounded.HardwareId;
+import io.github.eggy03.ferrumx.windows.entity.mainboard.Win32Bios;
+import io.github.eggy03.ferrumx.windows.entity.storage.Win32LogicalDisk;
+import io.github.eggy03.ferrumx.windows.entity.system.Win32Process;
+import io.github.eggy03.ferrumx.windows.service.CommonServiceInterface;
+import io.github.eggy03.ferrumx.windows.service.OptionalCommonServiceInterface;
+import io.github.eggy03.ferrumx.windows.service.SharedInventoryCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SharedInventoryCacheTest {
+
+    // the sequence number of the first slot follows the 64-byte file header
+    private static final long FIRST_SEQUENCE_OFFSET = 64;
+
+    // a service returning a new list holding the number of the call on every call
+    @SuppressWarnings("unchecked")
+    private static CommonServiceInterface<Win32Bios> countingBiosService() {
+        CommonServiceInterface<Win32Bios> service = mock(CommonServiceInterface.class);
+        AtomicInteger calls = new AtomicInteger();
+        when(service.get(anyLong())).thenAnswer(invocation -> bios("v" + calls.incrementAndGet(), 1));
+        return service;
+    }
+
+    private static List<Win32Bios> bios(String version, int count) {
+        List<Win32Bios> bios = new ArrayList<>();
+        for (int i = 0; i < count; i++)
+            bios.add(Win32Bios.builder().name("BIOS " + i).version(version).primaryBios(i == 0).build());
+        return bios;
+    }
+
+    @Test
+    void test_get_publishedByOneProcess_readByAnother(@TempDir Path tempDir) {
+
+        Path file = tempDir.resolve("shared").resolve("inventory.cache");
+        CommonServiceInterface<Win32Bios> agentService = countingBiosService();
+        CommonServiceInterface<Win32Bios> healthCheckService = countingBiosService();
+
+        try (SharedInventoryCache agent = SharedInventoryCache.open(file);
+             SharedInventoryCache healthCheck = SharedInventoryCache.open(file)) {
+
+            assertTrue(agent.isShared());
+            List<Win32Bios> published = agent.get(Win32Bios.class, agentService, 5L);
+
+            assertEquals(published, healthCheck.get(Win32Bios.class, healthCheckService, 5L));
+            verify(agentService, times(1)).get(anyLong());
+            verify(healthCheckService, never()).get(anyLong());
+            assertThrows(UnsupportedOperationException.class, () -> healthCheck.get(Win32Bios.class, healthCheckService, 5L).clear());
+        }
+    }
+
+    @Test
+    void test_get_staleSnapshot_queriesAndRepublishes(@TempDir Path tempDir) throws InterruptedException {
+
+        Path file = tempDir.resolve("inventory.cache");
+        CommonServiceInterface<Win32Bios> service = countingBiosService();
+
+        try (SharedInventoryCache cache = SharedInventoryCache.open(file, 4, 4096)) {
+
+            assertEquals("v1", cache.get(Win32Bios.class, service, Duration.ofMillis(50), 5L).get(0).getVersion());
+            TimeUnit.MILLISECONDS.sleep(100);
+
+            assertFalse(cache.read(Win32Bios.class, Duration.ofMillis(50)).isPresent());
+            assertEquals("v2", cache.get(Win32Bios.class, service, Duration.ofMillis(50), 5L).get(0).getVersion());
+            assertEquals("v2", cache.read(Win32Bios.class, Duration.ofHours(1)).get().get(0).getVersion());
+        }
+    }
+
+    @Test
+    void test_get_zeroMaxAge_bypassesSharedFile(@TempDir Path tempDir) {
+
+        CommonServiceInterface<Win32Bios> service = countingBiosService();
+
+        try (SharedInventoryCache cache = SharedInventoryCache.open(tempDir.resolve("inventory.cache"), 4, 4096)) {
+            cache.get(Win32Bios.class, service, Duration.ZERO, 5L);
+            cache.get(Win32Bios.class, service, Duration.ZERO, 5L);
+
+            verify(service, times(2)).get(anyLong());
+            assertFalse(cache.read(Win32Bios.class, Duration.ofHours(1)).isPresent());
+        }
+    }
+
+    @Test
+    void test_read_publicationInProgress_fallsBack(@TempDir Path tempDir) throws Exception {
+
+        Path file = tempDir.resolve("inventory.cache");
+        CommonServiceInterface<Win32Bios> service = countingBiosService();
+
+        try (SharedInventoryCache cache = SharedInventoryCache.open(file, 4, 4096)) {
+            cache.publish(Win32Bios.class, bios("v0", 2));
+
+            // another process crashed in the middle of a publication, leaving the sequence odd
+            long sequence;
+            try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+                raw.seek(FIRST_SEQUENCE_OFFSET);
+                sequence = raw.readLong();
+                raw.seek(FIRST_SEQUENCE_OFFSET);
+                raw.writeLong(sequence + 1);
+            }
+
+            assertFalse(cache.read(Win32Bios.class, Duration.ofHours(1)).isPresent());
+            assertEquals("v1", cache.get(Win32Bios.class, service, Duration.ofHours(1), 5L).get(0).getVersion());
+
+            // the publication of the fallback repaired the slot
+            assertEquals("v1", cache.read(Win32Bios.class, Duration.ofHours(1)).get().get(0).getVersion());
+            try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "r")) {
+                raw.seek(FIRST_SEQUENCE_OFFSET);
+                assertEquals(sequence + 4, raw.readLong());
+            }
+        }
+    }
+
+    @Test
+    void test_read_corruptedPayload_fallsBack(@TempDir Path tempDir) throws Exception {
+
+        Path file = tempDir.resolve("inventory.cache");
+
+        try (SharedInventoryCache cache = SharedInventoryCache.open(file, 4, 4096)) {
+            cache.publish(Win32Bios.class, bios("v0", 1));
+
+            // the first payload byte follows the 256-byte slot header
+            try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+                raw.seek(FIRST_SEQUENCE_OFFSET + 256 + 2);
+                raw.write('X');
+            }
+
+            assertFalse(cache.read(Win32Bios.class, Duration.ofHours(1)).isPresent());
+        }
+    }
+
+    @Test
+    void test_read_concurrentPublications_neverTorn(@TempDir Path tempDir) throws Exception {
+
+        Path file = tempDir.resolve("inventory.cache");
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        try (SharedInventoryCache publisher = SharedInventoryCache.open(file, 2, 64 * 1024);
+             SharedInventoryCache reader = SharedInventoryCache.open(file)) {
+
+            publisher.publish(Win32Bios.class, bios("v0", 1));
+            Thread writer = new Thread(() -> {
+                try {
+                    for (int i = 1; running.get(); i++)
+                        publisher.publish(Win32Bios.class, bios("v" + i, 1 + i % 50));
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+            });
+            writer.start();
+
+            try {
+                int consistent = 0;
+                for (int i = 0; i < 2000; i++) {
+                    Optional<List<Win32Bios>> read = reader.read(Win32Bios.class, Duration.ofHours(1));
+                    if (!read.isPresent())
+                        continue;
+                    List<Win32Bios> snapshot = read.get();
+                    String version = snapshot.get(0).getVersion();
+                    int number = Integer.parseInt(version.substring(1));
+                    assertEquals(number == 0 ? 1 : 1 + number % 50, snapshot.size());
+                    assertThat(snapshot).allMatch(entity -> version.equals(entity.getVersion()));
+                    consistent++;
+                }
+                assertThat(consistent).isPositive();
+            } finally {
+                running.set(false);
+                writer.join(TimeUnit.SECONDS.toMillis(5));
+            }
+            assertNull(failure.get());
+        }
+    }
+
+    @Test
+    void test_publish_oversizedOrNoFreeSlot_notShared(@TempDir Path tempDir) {
+
+        try (SharedInventoryCache cache = SharedInventoryCache.open(tempDir.resolve("inventory.cache"), 1, 512)) {
+
+            assertFalse(cache.publish(Win32Bios.class, bios("v0", 20)));
+            assertTrue(cache.publish(Win32Bios.class, bios("v0", 1)));
+            assertFalse(cache.publish(Win32LogicalDisk.class, Collections.emptyList()));
+
+            CommonServiceInterface<Win32Bios> service = countingBiosService();
+            assertEquals("v0", cache.get(Win32Bios.class, service, 5L).get(0).getVersion());
+            verify(service, never()).get(anyLong());
+        }
+    }
+
+    @Test
+    void test_open_existingFile_keepsItsGeometry(@TempDir Path tempDir) {
+
+        Path file = tempDir.resolve("inventory.cache");
+
+        try (SharedInventoryCache first = SharedInventoryCache.open(file, 2, 1024);
+             SharedInventoryCache second = SharedInventoryCache.open(file, 8, 8192)) {
+
+            first.publish(Win32Bios.class, bios("v0", 1));
+            assertTrue(second.read(Win32Bios.class, Duration.ofHours(1)).isPresent());
+            assertFalse(second.publish(Win32Bios.class, bios("v1", 20))); // still limited to 1024 bytes
+        }
+    }
+
+    @Test
+    void test_open_foreignFile_queriesDirectly(@TempDir Path tempDir) throws Exception {
+
+        Path file = tempDir.resolve("notes.txt");
+        Files.write(file, "not a cache".getBytes(StandardCharsets.UTF_8));
+        CommonServiceInterface<Win32Bios> service = countingBiosService();
+
+        try (SharedInventoryCache cache = SharedInventoryCache.open(file)) {
+            assertFalse(cache.isShared());
+            cache.get(Win32Bios.class, service, 5L);
+            cache.get(Win32Bios.class, service, 5L);
+            verify(service, times(2)).get(anyLong());
+        }
+        assertEquals("not a cache", new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void test_getOptional_sharesEntityAndEmptyResult(@TempDir Path tempDir) {
+
+        Path file = tempDir.resolve("inventory.cache");
+        HardwareId hardwareId = HardwareId.builder().rawHWID("A|B").hashHWID("7D1B6A2C").build();
+        @SuppressWarnings("unchecked")
+        OptionalCommonServiceInterface<HardwareId> service = mock(OptionalCommonServiceInterface.class);
+        when(service.get(anyLong())).thenReturn(Optional.of(hardwareId), Optional.empty());
+
+        try (SharedInventoryCache agent = SharedInventoryCache.open(file, 4, 4096);
+             SharedInventoryCache sidecar = SharedInventoryCache.open(file)) {
+
+            assertEquals(Optional.of(hardwareId), agent.getOptional(HardwareId.class, service, 5L));
+            assertEquals(Optional.of(hardwareId), sidecar.getOptional(HardwareId.class, service, 5L));
+            verify(service, times(1)).get(anyLong());
+
+            // processes are not cached by default, so they are never shared
+            assertFalse(agent.read(Win32Process.class, Duration.ofHours(1)).isPresent());
+        }
+    }
+
+    @Test
+    void test_close_queriesDirectly(@TempDir Path tempDir) {
+
+        CommonServiceInterface<Win32Bios> service = countingBiosService();
+        SharedInventoryCache cache = SharedInventoryCache.open(tempDir.resolve("inventory.cache"), 4, 4096);
+        cache.get(Win32Bios.class, service, 5L);
+
+        cache.close();
+        assertFalse(cache.isShared());
+        assertFalse(cache.publish(Win32Bios.class, bios("v0", 1)));
+        cache.get(Win32Bios.class, service, 5L);
+        verify(service, times(2)).get(anyLong());
+    }
+
+    @Test
+    void test_invalidParameters_throwsException(@TempDir Path tempDir) {
+
+        Path file = tempDir.resolve("inventory.cache");
+        assertThrows(NullPointerException.class, () -> SharedInventoryCache.open(null));
+        assertThrows(IllegalArgumentException.class, () -> SharedInventoryCache.open(file, 0, 4096));
+        assertThrows(IllegalArgumentException.class, () -> SharedInventoryCache.open(file, 4, -1));
+        assertThrows(IllegalArgumentException.class, () -> SharedInventoryCache.open(file, 65536, 65536));
+
+        try (SharedInventoryCache cache = SharedInventoryCache.open(file, 4, 4096)) {
+            assertThrows(NullPointerException.class, () -> cache.get(null, countingBiosService(), 5L));
+            assertThrows(NullPointerException.class, () -> cache.read(Win32Bios.class, null));
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package unit.service.batch;
+
+import io.github.eggy03.ferrumx.windows.constant.PowerShellScript;
+import io.github.eggy03.ferrumx.windows.constant.namespace.Cimv2Namespace;
+import io.github.eggy03.ferrumx.windows.constant.namespace.StandardCimv2Namespace;
+import io.github.eggy03.ferrumx.windows.entity.compounded.HardwareId;
+import io.github.eggy03.ferrumx.windows.entity.mainboard.Win32Bios;
+import io.github.eggy03.ferrumx.windows.entity.network.MsftNetIpAddress;
+import io.github.eggy03.ferrumx.windows.entity.processor.Win32Processor;
+import io.github.eggy03.ferrumx.windows.exception.TerminalExecutionException;
+import io.github.eggy03.ferrumx.windows.executor.CommandExecutor;
+import io.github.eggy03.ferrumx.windows.mapping.compounded.HardwareIdMapper;
+import io.github.eggy03.ferrumx.windows.mapping.mainboard.Win32BiosMapper;
+import io.github.eggy03.ferrumx.windows.mapping.network.MsftNetIpAddressMapper;
+import io.github.eggy03.ferrumx.windows.mapping.processor.Win32ProcessorMapper;
+import io.github.eggy03.ferrumx.windows.service.batch.BatchQuery;
+import io.github.eggy03.ferrumx.windows.service.batch.BatchResult;
+import io.github.eggy03.ferrumx.windows.service.batch.CimQueryBatch;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CimQueryBatchTest {
+
+    private static final Pattern SECTION_MARKER = Pattern.compile("Write-Output '(<<ferrumx:[0-9a-f-]+:)section:(\\d+)>>'");
+
+    private static final BatchQuery<Win32Bios> BIOS = BatchQuery.of(Cimv2Namespace.WIN32_BIOS_QUERY, new Win32BiosMapper(), Win32Bios.class);
+    private static final BatchQuery<Win32Processor> PROCESSOR = BatchQuery.of(Cimv2Namespace.WIN32_PROCESSOR_QUERY, new Win32ProcessorMapper(), Win32Processor.class);
+    private static final BatchQuery<MsftNetIpAddress> IP_ADDRESS = BatchQuery.of(StandardCimv2Namespace.MSFT_NET_IP_ADDRESS_QUERY, new MsftNetIpAddressMapper(), MsftNetIpAddress.class);
+
+    private static final String BIOS_JSON = "{\"Name\":\"AMI BIOS\",\"Manufacturer\":\"American Megatrends\"}";
+    private static final String PROCESSOR_JSON = "[{\"DeviceID\":\"CPU0\",\"NumberOfCores\":8},{\"DeviceID\":\"CPU1\",\"NumberOfCores\":8}]";
+
+    /**
+     * Emulates PowerShell by answering every section of the generated script with the output of the given function.
+     * A {@code null} output makes the section fail with an error, and the function receives the section index.
+     */
+    private static CommandExecutor emulate(Function<Integer, String> sectionOutput, boolean writeEndMarker) {
+        return (script, timeout) -> {
+            Matcher matcher = SECTION_MARKER.matcher(script);
+            StringBuilder output = new StringBuilder();
+            String prefix = null;
+            while (matcher.find()) {
+                prefix = matcher.group(1);
+                int index = Integer.parseInt(matcher.group(2));
+                output.append(prefix).append("section:").append(index).append(">>\r\n");
+                String sectionJson = sectionOutput.apply(index);
+                if (sectionJson == null)
+                    output.append(prefix).append("error:").append(index).append(">>\r\n").append("Invalid class \"Win32_Missing\"\r\n");
+                else
+                    output.append(sectionJson).append("\r\n");
+            }
+            if (writeEndMarker && prefix != null)
+                output.append(prefix).append("end>>\r\n");
+            return output.toString();
+        };
+    }
+
+    @Test
+    void test_execute_allQueriesInOneInvocation() {
+
+        AtomicInteger invocations = new AtomicInteger();
+        List<String> scripts = new ArrayList<>();
+        CommandExecutor emulator = emulate(i -> i == 0 ? BIOS_JSON : i == 1 ? PROCESSOR_JSON : "", true);
+
+        BatchResult result = new CimQueryBatch((script, timeout) -> {
+            invocations.incrementAndGet();
+            scripts.add(script);
+            return emulator.execute(script, timeout);
+        })
+                .add(BIOS)
+                .add(PROCESSOR)
+                .add(IP_ADDRESS)
+                .execute(10);
+
+        assertThat(invocations.get()).isEqualTo(1);
+        assertThat(scripts.get(0))
+                .startsWith("$ErrorActionPreference = 'Stop'")
+                .contains(Cimv2Namespace.WIN32_BIOS_QUERY.getQuery())
+                .contains(Cimv2Namespace.WIN32_PROCESSOR_QUERY.getQuery())
+                .contains(StandardCimv2Namespace.MSFT_NET_IP_ADDRESS_QUERY.getQuery());
+
+        List<Win32Bios> bios = result.get(BIOS);
+        assertThat(bios).hasSize(1);
+        assertThat(bios.get(0).getName()).isEqualTo("AMI BIOS");
+        assertThat(bios.get(0).getManufacturer()).isEqualTo("American Megatrends");
+
+        List<Win32Processor> processors = result.get(PROCESSOR);
+        assertThat(processors).extracting(Win32Processor::getDeviceId).containsExactly("CPU0", "CPU1");
+
+        assertThat(result.get(IP_ADDRESS)).isEmpty();
+        assertThat(result.isSuccessful(BIOS)).isTrue();
+        assertThat(result.isSuccessful(IP_ADDRESS)).isTrue();
+    }
+
+    @Test
+    void test_execute_failingQueryIsIsolated() {
+
+        BatchResult result = new CimQueryBatch(emulate(i -> i == 1 ? null : BIOS_JSON, true))
+                .add(BIOS)
+                .add(PROCESSOR)
+                .execute(10);
+
+        assertThat(result.get(BIOS)).hasSize(1);
+        assertThat(result.isSuccessful(PROCESSOR)).isFalse();
+        assertThat(result.getFailure(PROCESSOR)).isPresent();
+
+        TerminalExecutionException ex = assertThrows(TerminalExecutionException.class, () -> result.get(PROCESSOR));
+        assertThat(ex.getMessage()).contains("Invalid class \"Win32_Missing\"");
+    }
+
+    @Test
+    void test_execute_unmappableSectionIsIsolated() {
+
+        BatchResult result = new CimQueryBatch(emulate(i -> i == 0 ? "{ invalid json" : PROCESSOR_JSON, true))
+                .add(BIOS)
+                .add(PROCESSOR)
+                .execute(10);
+
+        assertThat(result.isSuccessful(BIOS)).isFalse();
+        assertThrows(RuntimeException.class, () -> result.get(BIOS));
+        assertThat(result.get(PROCESSOR)).hasSize(2);
+    }
+
+    @Test
+    void test_execute_scriptQuery() {
+
+        BatchQuery<HardwareId> hwid = BatchQuery.of(PowerShellScript.HWID_SCRIPT, new HardwareIdMapper(), HardwareId.class);
+        BatchResult result = new CimQueryBatch(emulate(i -> "{\"HWIDRaw\":\"raw\",\"HWIDHash\":\"hash\"}", true))
+                .add(hwid)
+                .execute(10);
+
+        assertThat(result.get(hwid)).extracting(HardwareId::getHashHWID).containsExactly("hash");
+    }
+
+    @Test
+    void test_execute_duplicateQueryRunsOnce() {
+
+        CimQueryBatch batch = new CimQueryBatch(emulate(i -> BIOS_JSON, true))
+                .add(BIOS)
+                .add(BIOS);
+
+        assertThat(batch.getQueries()).hasSize(1);
+        assertThat(batch.execute(10).get(BIOS)).hasSize(1);
+    }
+
+    @Test
+    void test_execute_truncatedOutputThrows() {
+
+        // the emulated process stops after the first section, as a killed process would
+        CommandExecutor truncated = (script, timeout) -> {
+            String full = emulate(i -> BIOS_JSON, false).execute(script, timeout);
+            return full.substring(0, full.indexOf("section:1"));
+        };
+
+        CimQueryBatch batch = new CimQueryBatch(truncated).add(BIOS).add(PROCESSOR);
+        TerminalExecutionException ex = assertThrows(TerminalExecutionException.class, () -> batch.execute(10));
+        assertThat(ex.getMessage()).contains("ended prematurely");
+    }
+
+    @Test
+    void test_execute_executorFailurePropagates() {
+
+        CimQueryBatch batch = new CimQueryBatch((script, timeout) -> {
+            throw new TerminalExecutionException("Was killed after a timeout of " + timeout + " seconds");
+        }).add(BIOS);
+
+        TerminalExecutionException ex = assertThrows(TerminalExecutionException.class, () -> batch.execute(5));
+        assertThat(ex.getMessage()).contains("timeout of 5 seconds");
+    }
+
+    @Test
+    void test_execute_emptyBatchThrows() {
+        CimQueryBatch batch = new CimQueryBatch((script, timeout) -> "");
+        assertThrows(IllegalStateException.class, () -> batch.execute(10));
+    }
+
+    @Test
+    void test_get_unknownQueryThrows() {
+
+        BatchResult result = new CimQueryBatch(emulate(i -> BIOS_JSON, true)).add(BIOS).execute(10);
+        assertThrows(IllegalArgumentException.class, () -> result.get(PROCESSOR));
+        assertThrows(IllegalArgumentException.class, () -> result.getFailure(PROCESSOR));
+    }
+}
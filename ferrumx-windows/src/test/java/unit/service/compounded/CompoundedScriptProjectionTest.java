@@ -0,0 +1,89 @@
+package unit.service.compounded;
+
+import io.github.eggy03.ferrumx.windows.constant.PowerShellScript;
+import io.github.eggy03.ferrumx.windows.entity.network.MsftDnsClientServerAddress;
+import io.github.eggy03.ferrumx.windows.entity.network.MsftNetAdapter;
+import io.github.eggy03.ferrumx.windows.entity.network.MsftNetConnectionProfile;
+import io.github.eggy03.ferrumx.windows.entity.network.MsftNetIpAddress;
+import io.github.eggy03.ferrumx.windows.entity.network.Win32NetworkAdapter;
+import io.github.eggy03.ferrumx.windows.entity.network.Win32NetworkAdapterConfiguration;
+import io.github.eggy03.ferrumx.windows.entity.processor.Win32CacheMemory;
+import io.github.eggy03.ferrumx.windows.entity.processor.Win32Processor;
+import io.github.eggy03.ferrumx.windows.entity.storage.Win32DiskDrive;
+import io.github.eggy03.ferrumx.windows.entity.storage.Win32DiskPartition;
+import io.github.eggy03.ferrumx.windows.entity.storage.Win32LogicalDisk;
+import io.github.eggy03.ferrumx.windows.utility.ReflectionUtility;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static io.github.eggy03.ferrumx.windows.constant.PowerShellScript.MSFT_NET_ADAPTER_TO_IP_AND_DNS_AND_PROFILE_SCRIPT;
+import static io.github.eggy03.ferrumx.windows.constant.PowerShellScript.WIN32_DISK_DRIVE_TO_PARTITION_AND_LOGICAL_DISK_SCRIPT;
+import static io.github.eggy03.ferrumx.windows.constant.PowerShellScript.WIN32_DISK_PARTITION_TO_LOGICAL_DISK_SCRIPT;
+import static io.github.eggy03.ferrumx.windows.constant.PowerShellScript.WIN32_NETWORK_ADAPTER_TO_CONFIGURATION_SCRIPT;
+import static io.github.eggy03.ferrumx.windows.constant.PowerShellScript.WIN32_PROCESSOR_TO_CACHE_MEMORY_SCRIPT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Keeps the property lists the compounded scripts project their nested objects onto in line with the entities
+ */
+class CompoundedScriptProjectionTest {
+
+    private static final Pattern QUOTED = Pattern.compile("'([^']*)'");
+
+    static Stream<Arguments> projections() {
+        return Stream.of(
+                Arguments.of(WIN32_DISK_DRIVE_TO_PARTITION_AND_LOGICAL_DISK_SCRIPT, "diskDriveProperties", Win32DiskDrive.class),
+                Arguments.of(WIN32_DISK_DRIVE_TO_PARTITION_AND_LOGICAL_DISK_SCRIPT, "diskPartitionProperties", Win32DiskPartition.class),
+                Arguments.of(WIN32_DISK_DRIVE_TO_PARTITION_AND_LOGICAL_DISK_SCRIPT, "logicalDiskProperties", Win32LogicalDisk.class),
+                Arguments.of(WIN32_DISK_PARTITION_TO_LOGICAL_DISK_SCRIPT, "diskPartitionProperties", Win32DiskPartition.class),
+                Arguments.of(WIN32_DISK_PARTITION_TO_LOGICAL_DISK_SCRIPT, "logicalDiskProperties", Win32LogicalDisk.class),
+                Arguments.of(WIN32_NETWORK_ADAPTER_TO_CONFIGURATION_SCRIPT, "networkAdapterProperties", Win32NetworkAdapter.class),
+                Arguments.of(WIN32_NETWORK_ADAPTER_TO_CONFIGURATION_SCRIPT, "networkAdapterConfigurationProperties", Win32NetworkAdapterConfiguration.class),
+                Arguments.of(WIN32_PROCESSOR_TO_CACHE_MEMORY_SCRIPT, "processorProperties", Win32Processor.class),
+                Arguments.of(WIN32_PROCESSOR_TO_CACHE_MEMORY_SCRIPT, "cacheMemoryProperties", Win32CacheMemory.class),
+                Arguments.of(MSFT_NET_ADAPTER_TO_IP_AND_DNS_AND_PROFILE_SCRIPT, "netAdapterProperties", MsftNetAdapter.class),
+                Arguments.of(MSFT_NET_ADAPTER_TO_IP_AND_DNS_AND_PROFILE_SCRIPT, "netIpAddressProperties", MsftNetIpAddress.class),
+                Arguments.of(MSFT_NET_ADAPTER_TO_IP_AND_DNS_AND_PROFILE_SCRIPT, "lifetimeProperties", MsftNetIpAddress.Datetime.class),
+                Arguments.of(MSFT_NET_ADAPTER_TO_IP_AND_DNS_AND_PROFILE_SCRIPT, "dnsClientServerAddressProperties", MsftDnsClientServerAddress.class),
+                Arguments.of(MSFT_NET_ADAPTER_TO_IP_AND_DNS_AND_PROFILE_SCRIPT, "netConnectionProfileProperties", MsftNetConnectionProfile.class)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("projections")
+    void test_projection_matchesSerializedNames(PowerShellScript script, String variable, Class<?> entityClass) {
+
+        String declaration = declarationOf(PowerShellScript.getScript(script.getScriptPath()), variable);
+
+        List<String> properties = new ArrayList<>();
+        Matcher matcher = QUOTED.matcher(declaration);
+        while (matcher.find())
+            properties.add(matcher.group(1));
+
+        assertThat(properties).containsExactlyElementsOf(ReflectionUtility.getSerializedNames(entityClass));
+        assertThat(PowerShellScript.getScript(script.getScriptPath())).contains("Select-Object -Property $" + variable);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PowerShellScript.class, names = "HWID_SCRIPT", mode = EnumSource.Mode.EXCLUDE)
+    void test_script_emitsCompressedJson(PowerShellScript script) {
+        assertThat(PowerShellScript.getScript(script.getScriptPath()).trim()).endsWith("| ConvertTo-Json -Depth 5 -Compress");
+    }
+
+    private static String declarationOf(String script, String variable) {
+        String prefix = "$" + variable + " = ";
+        for (String line : script.split("\\R")) {
+            if (line.startsWith(prefix))
+                return line.substring(prefix.length());
+        }
+        throw new AssertionError("No declaration of $" + variable);
+    }
+}
@@ -0,0 +1,186 @@
+package unit.service.compounded;
+
+import com.profesorfalken.jpowershell.PowerShell;
+import io.github.eggy03.ferrumx.windows.entity.compounded.HardwareId;
+import io.github.eggy03.ferrumx.windows.entity.mainboard.Win32Baseboard;
+import io.github.eggy03.ferrumx.windows.entity.mainboard.Win32Bios;
+import io.github.eggy03.ferrumx.windows.entity.processor.Win32Processor;
+import io.github.eggy03.ferrumx.windows.service.CachingService;
+import io.github.eggy03.ferrumx.windows.service.CommonServiceInterface;
+import io.github.eggy03.ferrumx.windows.service.compounded.ComputedHardwareIdService;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ComputedHardwareIdServiceTest {
+
+    private static final Win32Bios BIOS = Win32Bios.builder()
+            .name("BIOS Date: 05/12/23")
+            .smbiosBiosVersion(" F.70 ")
+            .smbiosMajorVersion(3)
+            .smbiosMinorVersion(4)
+            .systemBiosMajorVersion(5)
+            .systemBiosMinorVersion(17)
+            .build();
+
+    private static final Win32Baseboard BASEBOARD = Win32Baseboard.builder()
+            .manufacturer("Micro-Star International Co., Ltd.")
+            .model("base board")
+            .product("MAG B550 TOMAHAWK (MS-7C91)")
+            .serialNumber("07D1234_L81E123456")
+            .version("1.0")
+            .sku("Default string")
+            .build();
+
+    private static final Win32Processor PROCESSOR = Win32Processor.builder()
+            .name("AMD Ryzen 5 5600X 6-Core Processor")
+            .processorId("BFEBFBFF000906EA")
+            .build();
+
+    // sorted case-insensitively with digits and punctuation first, as Sort-Object does, and hashed by SHA-256;
+    // the order was checked by hand against HardwareID.ps1 and the hash with sha256sum
+    private static final HardwareId EXPECTED = HardwareId.builder()
+            .rawHWID("07D1234_L81E123456|1.0|17|3|4|5|base board|BFEBFBFF000906EA|Default string|F.70" +
+                    "|MAG B550 TOMAHAWK (MS-7C91)|Micro-Star International Co., Ltd.")
+            .hashHWID("6B53971A-9089-E073-C8E4-89DECA6ACC82-445FDDC678117B2F-CDCABFDB30E7A53F")
+            .build();
+
+    // an ASUS board listing mixed-case and hyphenated identifiers, which ordinal sorting would order differently
+    private static final Win32Bios MIXED_CASE_BIOS = Win32Bios.builder()
+            .smbiosBiosVersion("2803")
+            .smbiosMajorVersion(3)
+            .smbiosMinorVersion(3)
+            .systemBiosMajorVersion(5)
+            .systemBiosMinorVersion(19)
+            .build();
+
+    private static final Win32Baseboard MIXED_CASE_BASEBOARD = Win32Baseboard.builder()
+            .manufacturer("ASUSTeK COMPUTER INC.")
+            .partNumber("MT70A")
+            .serialNumber("MT7-0S1234567")
+            .sku("sku")
+            .version("Rev 1.xx")
+            .product("ROG STRIX B560-F GAMING WIFI")
+            .build();
+
+    private static final Win32Processor MIXED_CASE_PROCESSOR = Win32Processor.builder()
+            .processorId("BFEBFBFF000A0671")
+            .build();
+
+    // derived by hand from the semantics of HardwareID.ps1, not by the code under test: Sort-Object compares with the
+    // culture ignoring case and hyphens first, so "Rev" precedes "ROG" and "MT70A" precedes "MT7-0S", and the hash is
+    // the SHA-256 of the UTF-8 string, as computed by sha256sum
+    private static final HardwareId MIXED_CASE_EXPECTED = HardwareId.builder()
+            .rawHWID("19|2803|3|3|5|ASUSTeK COMPUTER INC.|BFEBFBFF000A0671|MT70A|MT7-0S1234567|Rev 1.xx" +
+                    "|ROG STRIX B560-F GAMING WIFI|sku")
+            .hashHWID("BB53F72A-CEF5-BFE3-9A69-F589BD8F3202-6082D825457BCDD4-91EBC1517A596406")
+            .build();
+
+    @SuppressWarnings("unchecked")
+    private static <S> CommonServiceInterface<S> serviceOf(S entity) {
+        CommonServiceInterface<S> service = mock(CommonServiceInterface.class);
+        List<S> entities = Collections.singletonList(entity);
+        when(service.get()).thenReturn(entities);
+        when(service.get(any(PowerShell.class))).thenReturn(entities);
+        when(service.get(anyLong())).thenReturn(entities);
+        return service;
+    }
+
+    @Test
+    void test_compute_matchesScript() {
+
+        Optional<HardwareId> hwid = ComputedHardwareIdService.compute(
+                Collections.singletonList(BIOS), Collections.singletonList(BASEBOARD), Collections.singletonList(PROCESSOR));
+
+        assertThat(hwid).contains(EXPECTED);
+    }
+
+    @Test
+    void test_compute_mixedCaseAndHyphens_matchesScript() {
+
+        Optional<HardwareId> hwid = ComputedHardwareIdService.compute(Collections.singletonList(MIXED_CASE_BIOS),
+                Collections.singletonList(MIXED_CASE_BASEBOARD), Collections.singletonList(MIXED_CASE_PROCESSOR));
+
+        assertThat(hwid).contains(MIXED_CASE_EXPECTED);
+    }
+
+    @Test
+    void test_compute_caseOnlyDifferences_keepTheirOrder() {
+
+        Win32Baseboard lowerFirst = Win32Baseboard.builder().manufacturer("abc").product("ABC").build();
+        Win32Baseboard upperFirst = Win32Baseboard.builder().manufacturer("ABC").product("abc").build();
+
+        assertEquals("abc|ABC", ComputedHardwareIdService.compute(Collections.emptyList(),
+                Collections.singletonList(lowerFirst), Collections.emptyList()).get().getRawHWID());
+        assertEquals("ABC|abc", ComputedHardwareIdService.compute(Collections.emptyList(),
+                Collections.singletonList(upperFirst), Collections.emptyList()).get().getRawHWID());
+    }
+
+    @Test
+    void test_compute_nullValuesSkipped_emptyValuesKept() {
+
+        Win32Baseboard blank = Win32Baseboard.builder().serialNumber("   ").build();
+
+        Optional<HardwareId> hwid = ComputedHardwareIdService.compute(
+                Collections.emptyList(), Collections.singletonList(blank), Collections.singletonList(PROCESSOR));
+
+        assertThat(hwid).isPresent();
+        assertEquals("|BFEBFBFF000906EA", hwid.get().getRawHWID());
+        assertThat(hwid.get().getHashHWID()).matches("[0-9A-F]{8}-[0-9A-F]{4}-[0-9A-F]{4}-[0-9A-F]{4}-[0-9A-F]{12}-[0-9A-F]{16}-[0-9A-F]{16}");
+    }
+
+    @Test
+    void test_compute_noInformation_returnsEmpty() {
+
+        Optional<HardwareId> hwid = ComputedHardwareIdService.compute(
+                Collections.singletonList(Win32Bios.builder().build()), Collections.emptyList(), Collections.emptyList());
+
+        assertFalse(hwid.isPresent());
+    }
+
+    @Test
+    void test_get_cachedComponents_queriedOnce() {
+
+        CommonServiceInterface<Win32Bios> bios = serviceOf(BIOS);
+        CommonServiceInterface<Win32Baseboard> baseboard = serviceOf(BASEBOARD);
+        CommonServiceInterface<Win32Processor> processor = serviceOf(PROCESSOR);
+        ComputedHardwareIdService service = new ComputedHardwareIdService(
+                new CachingService<>(bios, Win32Bios.class),
+                new CachingService<>(baseboard, Win32Baseboard.class),
+                new CachingService<>(processor, Win32Processor.class));
+
+        assertThat(service.get(5L)).contains(EXPECTED);
+        assertThat(service.get()).contains(EXPECTED);
+        assertThat(service.get(mock(PowerShell.class))).contains(EXPECTED);
+        assertThat(service.getAsync(Duration.ofSeconds(5)).join()).contains(EXPECTED);
+
+        verify(bios, times(1)).get(anyLong());
+        verify(baseboard, times(1)).get(anyLong());
+        verify(processor, times(1)).get(anyLong());
+    }
+
+    @Test
+    void test_nullParameters_throwsException() {
+
+        CommonServiceInterface<Win32Bios> bios = serviceOf(BIOS);
+        CommonServiceInterface<Win32Baseboard> baseboard = serviceOf(BASEBOARD);
+
+        assertThrows(NullPointerException.class, () -> new ComputedHardwareIdService(bios, baseboard, null));
+        assertThrows(NullPointerException.class, () -> new ComputedHardwareIdService(bios, baseboard, serviceOf(PROCESSOR)).get(null));
+        assertThrows(NullPointerException.class, () -> ComputedHardwareIdService.compute(null, Collections.emptyList(), Collections.emptyList()));
+    }
+}
@@ -168,6 +168,16 @@ class HardwareIdServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new HardwareIdService((command, timeout) -> json);
+
+        Optional<HardwareId> response = service.get(5L);
+        assertThat(response).isPresent();
+        assertThat(response.get()).usingRecursiveComparison().isEqualTo(expectedHwid);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
@@ -175,6 +175,16 @@ class MsftNetAdapterToIpAndDnsAndProfileServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new MsftNetAdapterToIpAndDnsAndProfileService((command, timeout) -> json);
+
+        List<MsftNetAdapterToIpAndDnsAndProfile> objectList = service.get(5L);
+        assertThat(objectList).hasSize(1);
+        assertThat(objectList.get(0)).usingRecursiveComparison().isEqualTo(expectedObject);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
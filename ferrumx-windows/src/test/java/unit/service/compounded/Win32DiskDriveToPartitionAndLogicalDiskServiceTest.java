@@ -174,6 +174,16 @@ class Win32DiskDriveToPartitionAndLogicalDiskServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32DiskDriveToPartitionAndLogicalDiskService((command, timeout) -> json);
+
+        List<Win32DiskDriveToPartitionAndLogicalDisk> objectList = service.get(5L);
+        assertThat(objectList).hasSize(1);
+        assertThat(objectList.get(0)).usingRecursiveComparison().isEqualTo(expectedObject);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
@@ -173,6 +173,16 @@ class Win32NetworkAdapterToConfigurationServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32NetworkAdapterToConfigurationService((command, timeout) -> json);
+
+        List<Win32NetworkAdapterToConfiguration> objectList = service.get(5L);
+        assertThat(objectList).hasSize(1);
+        assertThat(objectList.get(0)).usingRecursiveComparison().isEqualTo(expectedObject);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
@@ -173,6 +173,16 @@ class Win32ProcessorToCacheMemoryServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32ProcessorToCacheMemoryService((command, timeout) -> json);
+
+        List<Win32ProcessorToCacheMemory> objectList = service.get(5L);
+        assertThat(objectList).hasSize(1);
+        assertThat(objectList.get(0)).usingRecursiveComparison().isEqualTo(expectedObject);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
@@ -206,6 +206,18 @@ class Win32DesktopMonitorServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32DesktopMonitorService((command, timeout) -> json);
+
+        List<Win32DesktopMonitor> monitors = service.get(5L);
+        assertEquals(2, monitors.size());
+
+        assertThat(monitors.get(0)).usingRecursiveComparison().isEqualTo(expectedMonitor1);
+        assertThat(monitors.get(1)).usingRecursiveComparison().isEqualTo(expectedMonitor2);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
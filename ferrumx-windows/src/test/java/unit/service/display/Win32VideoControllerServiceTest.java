@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -228,6 +229,18 @@ class Win32VideoControllerServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32VideoControllerService((command, timeout) -> json);
+
+        List<Win32VideoController> videoControllers = service.get(5L);
+        assertEquals(2, videoControllers.size());
+
+        assertThat(videoControllers.get(0)).usingRecursiveComparison().isEqualTo(expectedGpu1);
+        assertThat(videoControllers.get(1)).usingRecursiveComparison().isEqualTo(expectedGpu2);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
@@ -257,6 +270,9 @@ class Win32VideoControllerServiceTest {
         Set<String> serializedNames = new HashSet<>();
 
         for (Field field : declaredClassFields) {
+            // transient fields hold derived values, which are never serialized
+            if (Modifier.isTransient(field.getModifiers()))
+                continue;
             SerializedName s = field.getAnnotation(SerializedName.class);
             serializedNames.add(s != null ? s.value() : field.getName());
         }
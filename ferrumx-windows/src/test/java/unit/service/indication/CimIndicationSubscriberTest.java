@@ -0,0 +1,335 @@
+package unit.service.indication;
+
+import com.profesorfalken.jpowershell.PowerShell;
+import io.github.eggy03.ferrumx.windows.entity.storage.Win32LogicalDisk;
+import io.github.eggy03.ferrumx.windows.entity.system.Win32Process;
+import io.github.eggy03.ferrumx.windows.service.CachePolicy;
+import io.github.eggy03.ferrumx.windows.service.CachingService;
+import io.github.eggy03.ferrumx.windows.service.CommonServiceInterface;
+import io.github.eggy03.ferrumx.windows.service.indication.CimIndication;
+import io.github.eggy03.ferrumx.windows.service.indication.CimIndicationListener;
+import io.github.eggy03.ferrumx.windows.service.indication.CimIndicationSource;
+import io.github.eggy03.ferrumx.windows.service.indication.CimIndicationSubscriber;
+import io.github.eggy03.ferrumx.windows.service.indication.CimSubscription;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CimIndicationSubscriberTest {
+
+    // hands the listener to the test, which plays the part of the subscriber process
+    private static class ScriptedSource implements CimIndicationSource {
+
+        private List<CimSubscription<?>> subscriptions;
+        private CimIndicationListener listener;
+        private int starts;
+        private boolean closed;
+
+        @Override
+        public void start(List<CimSubscription<?>> subscriptions, CimIndicationListener listener) {
+            this.subscriptions = subscriptions;
+            this.listener = listener;
+            this.starts++;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        void emit(CimIndication.Kind kind, String className, String instance) {
+            listener.onIndication(new CimIndication(kind, className, instance));
+        }
+    }
+
+    // returns the same two processes on every call, and counts the calls
+    private static class ProcessService implements CommonServiceInterface<Win32Process> {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private List<Win32Process> next() {
+            calls.incrementAndGet();
+            return Arrays.asList(
+                    Win32Process.builder().processId(4L).name("System").build(),
+                    Win32Process.builder().processId(100L).name("explorer.exe").build());
+        }
+
+        @Override
+        public List<Win32Process> get() {
+            return next();
+        }
+
+        @Override
+        public List<Win32Process> get(PowerShell powerShell) {
+            return next();
+        }
+
+        @Override
+        public List<Win32Process> get(long timeout) {
+            return next();
+        }
+    }
+
+    // returns a single disk, and blocks the first call until it is released
+    private static class SlowDiskService implements CommonServiceInterface<Win32LogicalDisk> {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final CountDownLatch queryStarted = new CountDownLatch(1);
+        private final CountDownLatch releaseQuery = new CountDownLatch(1);
+
+        private List<Win32LogicalDisk> next() {
+            if (calls.incrementAndGet() == 1) {
+                queryStarted.countDown();
+                try {
+                    releaseQuery.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return Collections.singletonList(Win32LogicalDisk.builder().deviceId("C:").build());
+        }
+
+        @Override
+        public List<Win32LogicalDisk> get() {
+            return next();
+        }
+
+        @Override
+        public List<Win32LogicalDisk> get(PowerShell powerShell) {
+            return next();
+        }
+
+        @Override
+        public List<Win32LogicalDisk> get(long timeout) {
+            return next();
+        }
+    }
+
+    private ScriptedSource source;
+    private ProcessService delegate;
+    private CachingService<Win32Process> processes;
+    private CimIndicationSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        source = new ScriptedSource();
+        delegate = new ProcessService();
+        processes = new CachingService<>(delegate, CachePolicy.of(Duration.ofHours(1)));
+        subscriber = new CimIndicationSubscriber(source).register(CimSubscription.WIN32_PROCESS, processes);
+        subscriber.start();
+    }
+
+    private static List<String> names(List<Win32Process> processes) {
+        return processes.stream().map(Win32Process::getName).collect(Collectors.toList());
+    }
+
+    @Test
+    void test_start_subscribesRegisteredClasses() {
+
+        assertEquals(1, source.starts);
+        assertEquals(1, source.subscriptions.size());
+        assertSame(CimSubscription.WIN32_PROCESS, source.subscriptions.get(0));
+        assertThat(source.subscriptions.get(0).getProperties()).contains("ProcessId", "Name");
+
+        assertThrows(IllegalStateException.class, subscriber::start);
+        assertThrows(IllegalStateException.class, () -> subscriber.register(CimSubscription.WIN32_PROCESS, processes));
+
+        subscriber.close();
+        assertTrue(source.closed);
+    }
+
+    @Test
+    void test_onIndication_created_appendsEntity() {
+
+        processes.get(5L);
+        source.emit(CimIndication.Kind.CREATED, "Win32_Process", "{\"ProcessId\":4242,\"Name\":\"notepad.exe\"}");
+
+        List<Win32Process> patched = processes.get(5L);
+        assertEquals(Arrays.asList("System", "explorer.exe", "notepad.exe"), names(patched));
+        assertEquals(4242L, patched.get(2).getProcessId());
+        assertEquals(1, delegate.calls.get());
+        assertThrows(UnsupportedOperationException.class, () -> patched.remove(0));
+    }
+
+    @Test
+    void test_onIndication_modified_replacesEntityInPlace() {
+
+        processes.get(5L);
+        // CIM class names are case-insensitive
+        source.emit(CimIndication.Kind.MODIFIED, "WIN32_PROCESS", "{\"ProcessId\":4,\"Name\":\"Idle\"}");
+        assertEquals(Arrays.asList("Idle", "explorer.exe"), names(processes.get(5L)));
+
+        // a modification of an instance created after the list was retrieved
+        source.emit(CimIndication.Kind.MODIFIED, "Win32_Process", "{\"ProcessId\":7,\"Name\":\"late.exe\"}");
+        assertEquals(Arrays.asList("Idle", "explorer.exe", "late.exe"), names(processes.get(5L)));
+        assertEquals(1, delegate.calls.get());
+    }
+
+    @Test
+    void test_onIndication_deleted_removesEntity() {
+
+        processes.get(5L);
+        source.emit(CimIndication.Kind.DELETED, "Win32_Process", "{\"ProcessId\":100,\"Name\":\"explorer.exe\"}");
+        assertEquals(Arrays.asList("System"), names(processes.get(5L)));
+
+        // the deletion of an unknown instance changes nothing
+        source.emit(CimIndication.Kind.DELETED, "Win32_Process", "{\"ProcessId\":9999}");
+        assertEquals(Arrays.asList("System"), names(processes.get(5L)));
+        assertEquals(1, delegate.calls.get());
+    }
+
+    @Test
+    void test_onIndication_unregisteredClass_isIgnored() {
+
+        List<Win32Process> cached = processes.get(5L);
+        source.emit(CimIndication.Kind.CREATED, "Win32_LogicalDisk", "{\"DeviceID\":\"E:\"}");
+        assertSame(cached, processes.get(5L));
+    }
+
+    @Test
+    void test_onIndication_unmappableInstance_invalidatesList() {
+
+        processes.get(5L);
+        source.emit(CimIndication.Kind.CREATED, "Win32_Process", "{\"ProcessId\":\"not a number\"}");
+        processes.get(5L);
+        assertEquals(2, delegate.calls.get());
+
+        // an instance without its key cannot be matched either
+        source.emit(CimIndication.Kind.DELETED, "Win32_Process", "{\"Name\":\"notepad.exe\"}");
+        processes.get(5L);
+        assertEquals(3, delegate.calls.get());
+    }
+
+    @Test
+    void test_onIndication_nothingCached_isIgnored() {
+
+        source.emit(CimIndication.Kind.CREATED, "Win32_Process", "{\"ProcessId\":4242,\"Name\":\"notepad.exe\"}");
+        assertEquals(Arrays.asList("System", "explorer.exe"), names(processes.get(5L)));
+        assertEquals(1, delegate.calls.get());
+    }
+
+    @Test
+    void test_onIndication_duringSlowQuery_doesNotWaitForIt() throws Exception {
+
+        ScriptedSource shared = new ScriptedSource();
+        SlowDiskService slow = new SlowDiskService();
+        CachingService<Win32LogicalDisk> disks = new CachingService<>(slow, CachePolicy.of(Duration.ofHours(1)));
+        new CimIndicationSubscriber(shared)
+                .register(CimSubscription.WIN32_PROCESS, processes)
+                .register(CimSubscription.WIN32_LOGICAL_DISK, disks)
+                .start();
+        processes.get(5L);
+
+        // one thread runs the slow disk query, the other plays the part of the source's reader thread
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<Win32LogicalDisk>> query = threads.submit(() -> disks.get(5L));
+            assertTrue(slow.queryStarted.await(5, TimeUnit.SECONDS));
+
+            threads.submit(() -> {
+                shared.emit(CimIndication.Kind.CREATED, "Win32_LogicalDisk", "{\"DeviceID\":\"E:\"}");
+                shared.emit(CimIndication.Kind.CREATED, "Win32_Process", "{\"ProcessId\":4242,\"Name\":\"notepad.exe\"}");
+            }).get(5, TimeUnit.SECONDS);
+            assertEquals(Arrays.asList("System", "explorer.exe", "notepad.exe"), names(processes.get(5L)));
+            assertFalse(query.isDone());
+
+            // the creation of the disk is replayed on the list retrieved meanwhile, which is cached
+            slow.releaseQuery.countDown();
+            assertEquals(2, query.get(5, TimeUnit.SECONDS).size());
+            assertEquals(2, disks.get(5L).size());
+            assertEquals(1, slow.calls.get());
+        } finally {
+            slow.releaseQuery.countDown();
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    void test_onIndication_continuouslyDuringColdQuery_listIsCached() throws Exception {
+
+        ScriptedSource shared = new ScriptedSource();
+        SlowDiskService slow = new SlowDiskService();
+        CachingService<Win32LogicalDisk> disks = new CachingService<>(slow, CachePolicy.of(Duration.ofHours(1)));
+        new CimIndicationSubscriber(shared).register(CimSubscription.WIN32_LOGICAL_DISK, disks).start();
+
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<Win32LogicalDisk>> query = threads.submit(() -> disks.get(5L));
+            assertTrue(slow.queryStarted.await(5, TimeUnit.SECONDS));
+
+            // the modification indications of a disk polled every few seconds, and one of a disk missing from the list
+            threads.submit(() -> {
+                for (int i = 0; i < 50; i++)
+                    shared.emit(CimIndication.Kind.MODIFIED, "Win32_LogicalDisk", "{\"DeviceID\":\"C:\",\"FreeSpace\":" + i + "}");
+                shared.emit(CimIndication.Kind.MODIFIED, "Win32_LogicalDisk", "{\"DeviceID\":\"E:\"}");
+            }).get(5, TimeUnit.SECONDS);
+            slow.releaseQuery.countDown();
+            query.get(5, TimeUnit.SECONDS);
+
+            List<Win32LogicalDisk> cached = disks.get(5L);
+            assertSame(cached, disks.get(5L));
+            assertEquals(2, cached.size());
+            assertEquals(49L, cached.get(0).getFreeSpace().longValue());
+            assertEquals(1, slow.calls.get());
+        } finally {
+            slow.releaseQuery.countDown();
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    void test_onDisconnect_invalidatesListsAndAllowsRestart() {
+
+        processes.get(5L);
+        source.listener.onDisconnect(new IOException("pipe closed"));
+        processes.get(5L);
+        assertEquals(2, delegate.calls.get());
+
+        subscriber.start();
+        assertEquals(2, source.starts);
+    }
+
+    @Test
+    void test_start_withoutRegistrations_throwsException() {
+
+        CimIndicationSubscriber empty = new CimIndicationSubscriber(new ScriptedSource());
+        assertThrows(IllegalStateException.class, empty::start);
+        assertThrows(NullPointerException.class, () -> new CimIndicationSubscriber(null));
+        assertThrows(NullPointerException.class, () -> empty.register(null, processes));
+    }
+
+    @Test
+    void test_subscription_of_validatesClassName() {
+
+        CimSubscription<Win32Process> subscription = CimSubscription.of(Win32Process.class, "Win32_Process", Win32Process::getProcessId);
+        assertEquals("Win32_Process", subscription.getCimClassName());
+        assertNotNull(subscription.getKey());
+
+        assertThrows(IllegalArgumentException.class, () -> CimSubscription.of(Win32Process.class, "Win32_Process' OR 1=1", Win32Process::getProcessId));
+        assertThrows(IllegalArgumentException.class, () -> CimSubscription.of(Win32Process.class, "", Win32Process::getProcessId));
+        assertThrows(NullPointerException.class, () -> CimSubscription.of(Win32Process.class, null, Win32Process::getProcessId));
+        assertFalse(subscription.getProperties().isEmpty());
+        assertNull(subscription.getKey().apply(Win32Process.builder().build()));
+    }
+}
@@ -0,0 +1,138 @@
+package unit.service.indication;
+
+import io.github.eggy03.ferrumx.windows.exception.TerminalExecutionException;
+import io.github.eggy03.ferrumx.windows.service.indication.CimIndication;
+import io.github.eggy03.ferrumx.windows.service.indication.CimIndicationListener;
+import io.github.eggy03.ferrumx.windows.service.indication.CimSubscription;
+import io.github.eggy03.ferrumx.windows.service.indication.PowerShellIndicationSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the source against {@link ScriptedIndicationStream}, so these tests do not require PowerShell
+ */
+class PowerShellIndicationSourceTest {
+
+    private static final List<CimSubscription<?>> SUBSCRIPTIONS = Collections.singletonList(CimSubscription.WIN32_PROCESS);
+
+    private PowerShellIndicationSource source;
+
+    // records the indications, and counts down once the source disconnects
+    private static class RecordingListener implements CimIndicationListener {
+
+        private final List<CimIndication> indications = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch disconnected = new CountDownLatch(1);
+        private final AtomicReference<Throwable> cause = new AtomicReference<>();
+
+        @Override
+        public void onIndication(CimIndication indication) {
+            indications.add(indication);
+        }
+
+        @Override
+        public void onDisconnect(Throwable cause) {
+            this.cause.set(cause);
+            disconnected.countDown();
+        }
+    }
+
+    private static List<String> stream(String... lines) {
+        List<String> command = new ArrayList<>(Arrays.asList(
+                System.getProperty("java.home") + File.separator + "bin" + File.separator + "java",
+                "-cp", System.getProperty("java.class.path"),
+                ScriptedIndicationStream.class.getName()
+        ));
+        command.addAll(Arrays.asList(lines));
+        return command;
+    }
+
+    @AfterEach
+    void closeSource() {
+        if (source != null)
+            source.close();
+    }
+
+    @Test
+    void test_start_parsesFramesAndReportsDisconnect() throws InterruptedException {
+
+        source = new PowerShellIndicationSource(stream(
+                "WARNING: some noise from the profile",
+                PowerShellIndicationSource.FRAME_PREFIX + "{\"Kind\":\"Created\",\"ClassName\":\"Win32_Process\",\"Instance\":{\"ProcessId\":4242,\"Name\":\"notepad.exe\"}}",
+                PowerShellIndicationSource.FRAME_PREFIX + "{\"Kind\":\"Exploded\",\"ClassName\":\"Win32_Process\",\"Instance\":{}}",
+                PowerShellIndicationSource.FRAME_PREFIX + "{not json",
+                PowerShellIndicationSource.FRAME_PREFIX + "{\"Kind\":\"Deleted\",\"ClassName\":\"Win32_Process\",\"Instance\":{\"ProcessId\":4242,\"Name\":\"\\u0411\\u043b\\u043e\\u043a\\u043d\\u043e\\u0442\"}}"
+        ));
+        RecordingListener listener = new RecordingListener();
+        source.start(SUBSCRIPTIONS, listener);
+
+        assertTrue(listener.disconnected.await(15, TimeUnit.SECONDS));
+        assertThat(listener.cause.get()).isInstanceOf(TerminalExecutionException.class);
+
+        assertEquals(2, listener.indications.size());
+        assertEquals(new CimIndication(CimIndication.Kind.CREATED, "Win32_Process", "{\"ProcessId\":4242,\"Name\":\"notepad.exe\"}"), listener.indications.get(0));
+        assertEquals(CimIndication.Kind.DELETED, listener.indications.get(1).getKind());
+        // escaped, since the arguments of the stub are not portable beyond ASCII
+        assertThat(listener.indications.get(1).getInstance()).contains("\u0411\u043b\u043e\u043a\u043d\u043e\u0442");
+    }
+
+    @Test
+    void test_close_doesNotReportDisconnect() throws InterruptedException {
+
+        source = new PowerShellIndicationSource(stream("--hold"));
+        RecordingListener listener = new RecordingListener();
+        source.start(SUBSCRIPTIONS, listener);
+        assertThrows(IllegalStateException.class, () -> source.start(SUBSCRIPTIONS, listener));
+
+        source.close();
+        assertFalse(listener.disconnected.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void test_start_afterDisconnect_restarts() throws InterruptedException {
+
+        source = new PowerShellIndicationSource(stream(
+                PowerShellIndicationSource.FRAME_PREFIX + "{\"Kind\":\"Modified\",\"ClassName\":\"Win32_Process\",\"Instance\":{\"ProcessId\":4}}"));
+        RecordingListener first = new RecordingListener();
+        source.start(SUBSCRIPTIONS, first);
+        assertTrue(first.disconnected.await(15, TimeUnit.SECONDS));
+
+        RecordingListener second = new RecordingListener();
+        source.start(SUBSCRIPTIONS, second);
+        assertTrue(second.disconnected.await(15, TimeUnit.SECONDS));
+        assertEquals(1, second.indications.size());
+        assertEquals(CimIndication.Kind.MODIFIED, second.indications.get(0).getKind());
+    }
+
+    @Test
+    void test_start_unlaunchableCommand_throwsException() {
+
+        source = new PowerShellIndicationSource(Collections.singletonList("ferrumx-no-such-executable"));
+        assertThrows(TerminalExecutionException.class, () -> source.start(SUBSCRIPTIONS, new RecordingListener()));
+    }
+
+    @Test
+    void test_constructor_invalidParameters_throwsException() {
+
+        assertEquals(PowerShellIndicationSource.DEFAULT_POLLING_INTERVAL, new PowerShellIndicationSource().getPollingInterval());
+        assertEquals(10, new PowerShellIndicationSource(10).getPollingInterval());
+        assertThrows(IllegalArgumentException.class, () -> new PowerShellIndicationSource(0));
+        assertThrows(IllegalArgumentException.class, () -> new PowerShellIndicationSource(Collections.emptyList()));
+        assertThrows(NullPointerException.class, () -> new PowerShellIndicationSource((List<String>) null));
+        assertThrows(IllegalArgumentException.class, () -> new PowerShellIndicationSource(stream()).start(Collections.emptyList(), new RecordingListener()));
+    }
+}
@@ -0,0 +1,28 @@
+package unit.service.indication;
+
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A stand-in for the PowerShell indication subscriber that replays a scripted stream, so that
+ * {@link io.github.eggy03.ferrumx.windows.service.indication.PowerShellIndicationSource} can be tested
+ * on systems without PowerShell.
+ * <p>Writes every argument as a line in UTF-8, then exits, unless the last argument is {@code --hold},
+ * in which case it waits until it is killed.</p>
+ */
+public class ScriptedIndicationStream {
+
+    public static void main(String[] args) throws Exception {
+
+        PrintStream out = new PrintStream(System.out, false, StandardCharsets.UTF_8.name());
+        boolean hold = args.length > 0 && args[args.length - 1].equals("--hold");
+        int lines = hold ? args.length - 1 : args.length;
+
+        for (int i = 0; i < lines; i++)
+            out.println(args[i]);
+        out.flush();
+
+        if (hold)
+            Thread.sleep(Long.MAX_VALUE);
+    }
+}
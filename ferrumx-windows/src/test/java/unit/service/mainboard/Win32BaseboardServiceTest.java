@@ -51,6 +51,8 @@ class Win32BaseboardServiceTest {
                 .product("Z790-E")
                 .serialNumber("ABC123456789")
                 .version("Rev 1.xx")
+                .partNumber("90MB1CQ0-M0EAY0")
+                .sku("SKU")
                 .build();
 
         expectedBoard2 = Win32Baseboard.builder()
@@ -59,6 +61,8 @@ class Win32BaseboardServiceTest {
                 .product("B650 TOMAHAWK")
                 .serialNumber("XYZ987654321")
                 .version("Rev 2.00")
+                .otherIdentifyingInfo("Base Board")
+                .sku("Default string")
                 .build();
     }
 
@@ -72,6 +76,9 @@ class Win32BaseboardServiceTest {
         board1.addProperty("Product", "Z790-E");
         board1.addProperty("SerialNumber", "ABC123456789");
         board1.addProperty("Version", "Rev 1.xx");
+        board1.addProperty("OtherIdentifyingInfo", (String) null);
+        board1.addProperty("PartNumber", "90MB1CQ0-M0EAY0");
+        board1.addProperty("SKU", "SKU");
 
         JsonObject board2 = new JsonObject();
         board2.addProperty("Manufacturer", "MSI");
@@ -79,6 +86,9 @@ class Win32BaseboardServiceTest {
         board2.addProperty("Product", "B650 TOMAHAWK");
         board2.addProperty("SerialNumber", "XYZ987654321");
         board2.addProperty("Version", "Rev 2.00");
+        board2.addProperty("OtherIdentifyingInfo", "Base Board");
+        board2.addProperty("PartNumber", (String) null);
+        board2.addProperty("SKU", "Default string");
 
         boards.add(board1);
         boards.add(board2);
@@ -192,6 +202,18 @@ class Win32BaseboardServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32BaseboardService((command, timeout) -> json);
+
+        List<Win32Baseboard> baseboardList = service.get(5L);
+        assertEquals(2, baseboardList.size());
+
+        assertThat(baseboardList.get(0)).usingRecursiveComparison().isEqualTo(expectedBoard1);
+        assertThat(baseboardList.get(1)).usingRecursiveComparison().isEqualTo(expectedBoard2);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
@@ -55,6 +55,10 @@ class Win32BiosServiceTest {
                 .version("2.21.1278")
                 .currentLanguage("en-US")
                 .smbiosBiosVersion("A.10")
+                .smbiosMajorVersion(3)
+                .smbiosMinorVersion(6)
+                .systemBiosMajorVersion(5)
+                .systemBiosMinorVersion(27)
                 .primaryBios(true)
                 .build();
 
@@ -68,6 +72,10 @@ class Win32BiosServiceTest {
                 .version("P1.30")
                 .currentLanguage("en-US")
                 .smbiosBiosVersion("1.30.0")
+                .smbiosMajorVersion(3)
+                .smbiosMinorVersion(4)
+                .systemBiosMajorVersion(1)
+                .systemBiosMinorVersion(30)
                 .primaryBios(false)
                 .build();
     }
@@ -86,6 +94,10 @@ class Win32BiosServiceTest {
         bios1.addProperty("Version", "2.21.1278");
         bios1.addProperty("CurrentLanguage", "en-US");
         bios1.addProperty("SMBIOSBIOSVersion", "A.10");
+        bios1.addProperty("SMBIOSMajorVersion", 3);
+        bios1.addProperty("SMBIOSMinorVersion", 6);
+        bios1.addProperty("SystemBiosMajorVersion", 5);
+        bios1.addProperty("SystemBiosMinorVersion", 27);
         bios1.addProperty("PrimaryBIOS", true);
 
         JsonObject bios2 = new JsonObject();
@@ -98,6 +110,10 @@ class Win32BiosServiceTest {
         bios2.addProperty("Version", "P1.30");
         bios2.addProperty("CurrentLanguage", "en-US");
         bios2.addProperty("SMBIOSBIOSVersion", "1.30.0");
+        bios2.addProperty("SMBIOSMajorVersion", 3);
+        bios2.addProperty("SMBIOSMinorVersion", 4);
+        bios2.addProperty("SystemBiosMajorVersion", 1);
+        bios2.addProperty("SystemBiosMinorVersion", 30);
         bios2.addProperty("PrimaryBIOS", false);
 
         bioses.add(bios1);
@@ -211,6 +227,18 @@ class Win32BiosServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32BiosService((command, timeout) -> json);
+
+        List<Win32Bios> bios = service.get(5L);
+        assertEquals(2, bios.size());
+
+        assertThat(bios.get(0)).usingRecursiveComparison().isEqualTo(expectedBios1);
+        assertThat(bios.get(1)).usingRecursiveComparison().isEqualTo(expectedBios2);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
@@ -192,6 +192,18 @@ class Win32PortConnectorServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32PortConnectorService((command, timeout) -> json);
+
+        List<Win32PortConnector> mainboardPort = service.get(5L);
+        assertEquals(2, mainboardPort.size());
+
+        assertThat(mainboardPort.get(0)).usingRecursiveComparison().isEqualTo(expectedPort1);
+        assertThat(mainboardPort.get(1)).usingRecursiveComparison().isEqualTo(expectedPort2);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
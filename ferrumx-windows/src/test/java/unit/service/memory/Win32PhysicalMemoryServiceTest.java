@@ -22,7 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
 import java.lang.reflect.Field;
-import java.math.BigInteger;
+import java.lang.reflect.Modifier;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -55,7 +55,7 @@ class Win32PhysicalMemoryServiceTest {
                 .partNumber("CMK16GX4M2B3200C16")
                 .formFactor(8)
                 .bankLabel("BANK 0")
-                .capacity(BigInteger.valueOf(16L * 1024 * 1024 * 1024))
+                .capacityAsLong(16L * 1024 * 1024 * 1024)
                 .dataWidth(64)
                 .speed(3200L)
                 .configuredClockSpeed(3200L)
@@ -72,7 +72,7 @@ class Win32PhysicalMemoryServiceTest {
                 .partNumber("F5-6000J3238F16GX2-TZ5RK")
                 .formFactor(8)
                 .bankLabel("BANK 1")
-                .capacity(BigInteger.valueOf(16L * 1024 * 1024 * 1024))
+                .capacityAsLong(16L * 1024 * 1024 * 1024)
                 .dataWidth(64)
                 .speed(6000L)
                 .configuredClockSpeed(6000L)
@@ -231,6 +231,18 @@ class Win32PhysicalMemoryServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32PhysicalMemoryService((command, timeout) -> json);
+
+        List<Win32PhysicalMemory> memories = service.get(5L);
+        assertEquals(2, memories.size());
+
+        assertThat(memories.get(0)).usingRecursiveComparison().isEqualTo(expectedMemory1);
+        assertThat(memories.get(1)).usingRecursiveComparison().isEqualTo(expectedMemory2);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
@@ -260,6 +272,9 @@ class Win32PhysicalMemoryServiceTest {
         Set<String> serializedNames = new HashSet<>();
 
         for (Field field : declaredClassFields) {
+            // transient fields hold derived values, which are never serialized
+            if (Modifier.isTransient(field.getModifiers()))
+                continue;
             SerializedName s = field.getAnnotation(SerializedName.class);
             serializedNames.add(s != null ? s.value() : field.getName());
         }
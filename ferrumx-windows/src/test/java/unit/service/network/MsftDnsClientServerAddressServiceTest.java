@@ -188,6 +188,18 @@ class MsftDnsClientServerAddressServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new MsftDnsClientServerAddressService((command, timeout) -> json);
+
+        List<MsftDnsClientServerAddress> dns = service.get(5L);
+        assertEquals(2, dns.size());
+
+        assertThat(dns.get(0)).usingRecursiveComparison().isEqualTo(expectedDns1);
+        assertThat(dns.get(1)).usingRecursiveComparison().isEqualTo(expectedDns2);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -271,6 +272,18 @@ class MsftNetAdapterServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new MsftNetAdapterService((command, timeout) -> json);
+
+        List<MsftNetAdapter> adapters = service.get(5L);
+        assertEquals(2, adapters.size());
+
+        assertThat(adapters.get(0)).usingRecursiveComparison().isEqualTo(expectedEthernet);
+        assertThat(adapters.get(1)).usingRecursiveComparison().isEqualTo(expectedWifi);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
@@ -300,6 +313,9 @@ class MsftNetAdapterServiceTest {
         Set<String> serializedNames = new HashSet<>();
 
         for (Field field : declaredClassFields) {
+            // transient fields hold derived values, which are never serialized
+            if (Modifier.isTransient(field.getModifiers()))
+                continue;
             SerializedName s = field.getAnnotation(SerializedName.class);
             serializedNames.add(s != null ? s.value() : field.getName());
         }
@@ -196,6 +196,18 @@ class MsftNetConnectionProfileServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new MsftNetConnectionProfileService((command, timeout) -> json);
+
+        List<MsftNetConnectionProfile> profiles = service.get(5L);
+        assertEquals(2, profiles.size());
+
+        assertThat(profiles.get(0)).usingRecursiveComparison().isEqualTo(expectedEthernetProfile);
+        assertThat(profiles.get(1)).usingRecursiveComparison().isEqualTo(expectedWifiProfile);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
@@ -234,6 +234,18 @@ class MsftNetIpAddressServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new MsftNetIpAddressService((command, timeout) -> json);
+
+        List<MsftNetIpAddress> ip = service.get(5L);
+        assertEquals(2, ip.size());
+
+        assertThat(ip.get(0)).usingRecursiveComparison().isEqualTo(expectedIPv4Address);
+        assertThat(ip.get(1)).usingRecursiveComparison().isEqualTo(expectedIPv6Address);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
@@ -14,6 +14,7 @@ import com.google.gson.annotations.SerializedName;
 import com.profesorfalken.jpowershell.PowerShell;
 import com.profesorfalken.jpowershell.PowerShellResponse;
 import io.github.eggy03.ferrumx.windows.entity.network.Win32NetworkAdapterConfiguration;
+import io.github.eggy03.ferrumx.windows.query.WqlFilter;
 import io.github.eggy03.ferrumx.windows.service.network.Win32NetworkAdapterConfigurationService;
 import io.github.eggy03.ferrumx.windows.utility.TerminalUtility;
 import org.junit.jupiter.api.BeforeAll;
@@ -22,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -230,6 +232,36 @@ class Win32NetworkAdapterConfigurationServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32NetworkAdapterConfigurationService((command, timeout) -> json);
+
+        List<Win32NetworkAdapterConfiguration> configs = service.get(5L);
+        assertEquals(2, configs.size());
+
+        assertThat(configs.get(0)).usingRecursiveComparison().isEqualTo(expectedEthernetConfig);
+        assertThat(configs.get(1)).usingRecursiveComparison().isEqualTo(expectedWifiConfig);
+    }
+
+    @Test
+    void test_getWithFilter_customExecutor_success() {
+
+        List<String> commands = new ArrayList<>();
+        service = new Win32NetworkAdapterConfigurationService((command, timeout) -> {
+            commands.add(command);
+            return json;
+        });
+
+        List<Win32NetworkAdapterConfiguration> configs = service.get(WqlFilter.equalTo("IPEnabled", true), 5L);
+        assertEquals(2, configs.size());
+        assertThat(configs.get(0)).usingRecursiveComparison().isEqualTo(expectedEthernetConfig);
+        assertThat(configs.get(1)).usingRecursiveComparison().isEqualTo(expectedWifiConfig);
+
+        assertEquals(1, commands.size());
+        assertThat(commands.get(0)).contains("-Filter 'IPEnabled = TRUE' | ");
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
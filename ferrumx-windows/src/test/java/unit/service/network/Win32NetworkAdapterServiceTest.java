@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -216,6 +217,18 @@ class Win32NetworkAdapterServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32NetworkAdapterService((command, timeout) -> json);
+
+        List<Win32NetworkAdapter> adapters = service.get(5L);
+        assertEquals(2, adapters.size());
+
+        assertThat(adapters.get(0)).usingRecursiveComparison().isEqualTo(expectedEthernetAdapter);
+        assertThat(adapters.get(1)).usingRecursiveComparison().isEqualTo(expectedWifiAdapter);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
@@ -245,6 +258,9 @@ class Win32NetworkAdapterServiceTest {
         Set<String> serializedNames = new HashSet<>();
 
         for (Field field : declaredClassFields) {
+            // transient fields hold derived values, which are never serialized
+            if (Modifier.isTransient(field.getModifiers()))
+                continue;
             SerializedName s = field.getAnnotation(SerializedName.class);
             serializedNames.add(s != null ? s.value() : field.getName());
         }
@@ -181,6 +181,18 @@ class Win32NetworkAdapterSettingServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32NetworkAdapterSettingService((command, timeout) -> json);
+
+        List<Win32NetworkAdapterSetting> networkAdapterSettingList = service.get(5L);
+        assertEquals(2, networkAdapterSettingList.size());
+
+        assertThat(networkAdapterSettingList.get(0)).usingRecursiveComparison().isEqualTo(expectedEthernetSetting);
+        assertThat(networkAdapterSettingList.get(1)).usingRecursiveComparison().isEqualTo(expectedWifiSetting);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
@@ -225,6 +225,18 @@ class Win32BatteryServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32BatteryService((command, timeout) -> json);
+
+        List<Win32Battery> batteries = service.get(5L);
+        assertEquals(2, batteries.size());
+
+        assertThat(batteries.get(0)).usingRecursiveComparison().isEqualTo(expectedPrimaryBattery);
+        assertThat(batteries.get(1)).usingRecursiveComparison().isEqualTo(expectedSecondaryBattery);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
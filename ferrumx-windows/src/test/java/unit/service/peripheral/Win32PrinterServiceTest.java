@@ -242,6 +242,18 @@ class Win32PrinterServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32PrinterService((command, timeout) -> json);
+
+        List<Win32Printer> printers = service.get(5L);
+        assertEquals(2, printers.size());
+
+        assertThat(printers.get(0)).usingRecursiveComparison().isEqualTo(expectedPrinter1);
+        assertThat(printers.get(1)).usingRecursiveComparison().isEqualTo(expectedPrinter2);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
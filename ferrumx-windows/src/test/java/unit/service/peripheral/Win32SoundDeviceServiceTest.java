@@ -196,6 +196,18 @@ class Win32SoundDeviceServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32SoundDeviceService((command, timeout) -> json);
+
+        List<Win32SoundDevice> printers = service.get(5L);
+        assertEquals(2, printers.size());
+
+        assertThat(printers.get(0)).usingRecursiveComparison().isEqualTo(expectedDevice1);
+        assertThat(printers.get(1)).usingRecursiveComparison().isEqualTo(expectedDevice2);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
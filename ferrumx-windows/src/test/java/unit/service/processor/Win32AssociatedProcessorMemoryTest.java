@@ -175,6 +175,18 @@ class Win32AssociatedProcessorMemoryTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32AssociatedProcessorMemoryService((command, timeout) -> json);
+
+        List<Win32AssociatedProcessorMemory> apmList = service.get(5L);
+        assertEquals(2, apmList.size());
+
+        assertThat(apmList.get(0)).usingRecursiveComparison().isEqualTo(expectedAssoc1);
+        assertThat(apmList.get(1)).usingRecursiveComparison().isEqualTo(expectedAssoc2);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
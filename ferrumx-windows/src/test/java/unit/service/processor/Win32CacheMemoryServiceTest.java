@@ -252,6 +252,19 @@ class Win32CacheMemoryServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32CacheMemoryService((command, timeout) -> json);
+
+        List<Win32CacheMemory> cache = service.get(5L);
+        assertEquals(3, cache.size());
+
+        assertThat(cache.get(0)).usingRecursiveComparison().isEqualTo(expectedL1Cache);
+        assertThat(cache.get(1)).usingRecursiveComparison().isEqualTo(expectedL2Cache);
+        assertThat(cache.get(2)).usingRecursiveComparison().isEqualTo(expectedL3Cache);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
@@ -196,6 +196,16 @@ class Win32ProcessorServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32ProcessorService((command, timeout) -> json);
+
+        List<Win32Processor> processorList = service.get(5L);
+        assertEquals(1, processorList.size());
+        assertThat(processorList.get(0)).usingRecursiveComparison().isEqualTo(expectedProcessor);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
@@ -22,7 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
 import java.lang.reflect.Field;
-import java.math.BigInteger;
+import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -51,7 +51,7 @@ class Win32DiskDriveServiceTest {
                 .deviceId("\\\\.\\PHYSICALDRIVE0")
                 .caption("Samsung SSD 970 EVO")
                 .model("MZ-V7E1T0")
-                .size(BigInteger.valueOf(1000204886016L))
+                .sizeAsLong(1000204886016L)
                 .firmwareRevision("2B2QEXM7")
                 .serialNumber("S4EVNX0M123456")
                 .partitions(3L)
@@ -66,7 +66,7 @@ class Win32DiskDriveServiceTest {
                 .deviceId("\\\\.\\PHYSICALDRIVE1")
                 .caption("Seagate BarraCuda 2TB")
                 .model("ST2000DM008")
-                .size(BigInteger.valueOf(2000398934016L))
+                .sizeAsLong(2000398934016L)
                 .firmwareRevision("CC26")
                 .serialNumber("ZFL123ABC456")
                 .partitions(2L)
@@ -220,6 +220,18 @@ class Win32DiskDriveServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32DiskDriveService((command, timeout) -> json);
+
+        List<Win32DiskDrive> disks = service.get(5L);
+        assertEquals(2, disks.size());
+
+        assertThat(disks.get(0)).usingRecursiveComparison().isEqualTo(expectedDiskDrive1);
+        assertThat(disks.get(1)).usingRecursiveComparison().isEqualTo(expectedDiskDrive2);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
@@ -249,6 +261,9 @@ class Win32DiskDriveServiceTest {
         Set<String> serializedNames = new HashSet<>();
 
         for (Field field : declaredClassFields) {
+            // transient fields hold derived values, which are never serialized
+            if (Modifier.isTransient(field.getModifiers()))
+                continue;
             SerializedName s = field.getAnnotation(SerializedName.class);
             serializedNames.add(s != null ? s.value() : field.getName());
         }
@@ -181,6 +181,18 @@ class Win32DiskDriveToDiskPartitionServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32DiskDriveToDiskPartitionService((command, timeout) -> json);
+
+        List<Win32DiskDriveToDiskPartition> associationList = service.get(5L);
+        assertEquals(2, associationList.size());
+
+        assertThat(associationList.get(0)).usingRecursiveComparison().isEqualTo(expectedMapping1);
+        assertThat(associationList.get(1)).usingRecursiveComparison().isEqualTo(expectedMapping2);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
@@ -22,7 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
 import java.lang.reflect.Field;
-import java.math.BigInteger;
+import java.lang.reflect.Modifier;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -50,13 +50,13 @@ class Win32DiskPartitionServiceTest {
                 .deviceId("Disk0\\Partition1")
                 .name("System Reserved")
                 .description("EFI System Partition")
-                .blockSize(BigInteger.valueOf(512L))
-                .numberOfBlocks(BigInteger.valueOf(131072L))
+                .blockSizeAsLong(512L)
+                .numberOfBlocksAsLong(131072L)
                 .bootable(true)
                 .primaryPartition(true)
                 .bootPartition(true)
                 .diskIndex(0L)
-                .size(BigInteger.valueOf(67108864L))
+                .sizeAsLong(67108864L)
                 .type("EFI")
                 .build();
 
@@ -64,13 +64,13 @@ class Win32DiskPartitionServiceTest {
                 .deviceId("Disk0\\Partition2")
                 .name("Local Disk (C:)")
                 .description("Primary OS Partition")
-                .blockSize(BigInteger.valueOf(4096L))
-                .numberOfBlocks(BigInteger.valueOf(244190000L))
+                .blockSizeAsLong(4096L)
+                .numberOfBlocksAsLong(244190000L)
                 .bootable(false)
                 .primaryPartition(true)
                 .bootPartition(false)
                 .diskIndex(0L)
-                .size(BigInteger.valueOf(1000204886016L))
+                .sizeAsLong(1000204886016L)
                 .type("NTFS")
                 .build();
     }
@@ -215,6 +215,18 @@ class Win32DiskPartitionServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32DiskPartitionService((command, timeout) -> json);
+
+        List<Win32DiskPartition> partitions = service.get(5L);
+        assertEquals(2, partitions.size());
+
+        assertThat(partitions.get(0)).usingRecursiveComparison().isEqualTo(expectedSystemPartition);
+        assertThat(partitions.get(1)).usingRecursiveComparison().isEqualTo(expectedDataPartition);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
@@ -244,6 +256,9 @@ class Win32DiskPartitionServiceTest {
         Set<String> serializedNames = new HashSet<>();
 
         for (Field field : declaredClassFields) {
+            // transient fields hold derived values, which are never serialized
+            if (Modifier.isTransient(field.getModifiers()))
+                continue;
             SerializedName s = field.getAnnotation(SerializedName.class);
             serializedNames.add(s != null ? s.value() : field.getName());
         }
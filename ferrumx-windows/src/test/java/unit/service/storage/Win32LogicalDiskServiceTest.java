@@ -22,7 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
 import java.lang.reflect.Field;
-import java.math.BigInteger;
+import java.lang.reflect.Modifier;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -52,8 +52,8 @@ class Win32LogicalDiskServiceTest {
                 .driveType(3L)
                 .mediaType(12L)
                 .fileSystem("NTFS")
-                .size(BigInteger.valueOf(1000204886016L))
-                .freeSpace(BigInteger.valueOf(532147200000L))
+                .sizeAsLong(1000204886016L)
+                .freeSpaceAsLong(532147200000L)
                 .compressed(false)
                 .supportsFileBasedCompression(true)
                 .supportsDiskQuotas(false)
@@ -67,8 +67,8 @@ class Win32LogicalDiskServiceTest {
                 .driveType(3L)
                 .mediaType(12L)
                 .fileSystem("NTFS")
-                .size(BigInteger.valueOf(2000409772032L))
-                .freeSpace(BigInteger.valueOf(1240152000000L))
+                .sizeAsLong(2000409772032L)
+                .freeSpaceAsLong(1240152000000L)
                 .compressed(false)
                 .supportsFileBasedCompression(true)
                 .supportsDiskQuotas(false)
@@ -220,6 +220,18 @@ class Win32LogicalDiskServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32LogicalDiskService((command, timeout) -> json);
+
+        List<Win32LogicalDisk> disks = service.get(5L);
+        assertEquals(2, disks.size());
+
+        assertThat(disks.get(0)).usingRecursiveComparison().isEqualTo(expectedSystemVolume);
+        assertThat(disks.get(1)).usingRecursiveComparison().isEqualTo(expectedDataVolume);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
@@ -249,6 +261,9 @@ class Win32LogicalDiskServiceTest {
         Set<String> serializedNames = new HashSet<>();
 
         for (Field field : declaredClassFields) {
+            // transient fields hold derived values, which are never serialized
+            if (Modifier.isTransient(field.getModifiers()))
+                continue;
             SerializedName s = field.getAnnotation(SerializedName.class);
             serializedNames.add(s != null ? s.value() : field.getName());
         }
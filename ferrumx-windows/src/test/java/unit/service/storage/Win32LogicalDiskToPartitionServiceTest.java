@@ -181,6 +181,18 @@ class Win32LogicalDiskToPartitionServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32LogicalDiskToPartitionService((command, timeout) -> json);
+
+        List<Win32LogicalDiskToPartition> associationList = service.get(5L);
+        assertEquals(2, associationList.size());
+
+        assertThat(associationList.get(0)).usingRecursiveComparison().isEqualTo(expectedSystemLogicalDiskPartition);
+        assertThat(associationList.get(1)).usingRecursiveComparison().isEqualTo(expectedDataLogicalDiskPartition);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
@@ -21,12 +21,15 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
 import java.lang.reflect.Field;
-import java.math.BigInteger;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -79,7 +82,7 @@ class Win32ComputerSystemServiceTest {
                 .oemStringArray(Collections.singletonList("Default String"))
                 .numberOfProcessors(1L)
                 .numberOfLogicalProcessors(20L)
-                .totalPhysicalMemory(BigInteger.valueOf(17122615296L))
+                .totalPhysicalMemoryAsLong(17122615296L)
                 .automaticManagedPagefile(true)
                 .infraredSupported(false)
                 .networkServerModeEnabled(true)
@@ -237,6 +240,35 @@ class Win32ComputerSystemServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32ComputerSystemService((command, timeout) -> json);
+
+        Optional<Win32ComputerSystem> system = service.get(5L);
+        assertTrue(system.isPresent());
+        assertThat(system.get()).usingRecursiveComparison().isEqualTo(expectedComputerSystem);
+    }
+
+    @Test
+    void test_getAsync_success() throws Exception {
+
+        service = new Win32ComputerSystemService((command, timeout) -> json);
+
+        Optional<Win32ComputerSystem> system = service.getAsync(Duration.ofSeconds(5)).get(5, TimeUnit.SECONDS);
+        assertTrue(system.isPresent());
+        assertThat(system.get()).usingRecursiveComparison().isEqualTo(expectedComputerSystem);
+    }
+
+    @Test
+    void test_getAsync_withExecutor_failure_completesExceptionally() {
+
+        service = new Win32ComputerSystemService((command, timeout) -> "invalid json");
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> service.getAsync(5L, Runnable::run).get(5, TimeUnit.SECONDS));
+        assertThat(ex.getCause()).isInstanceOf(JsonSyntaxException.class);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
@@ -266,6 +298,9 @@ class Win32ComputerSystemServiceTest {
         Set<String> serializedNames = new HashSet<>();
 
         for (Field field : declaredClassFields) {
+            // transient fields hold derived values, which are never serialized
+            if (Modifier.isTransient(field.getModifiers()))
+                continue;
             SerializedName s = field.getAnnotation(SerializedName.class);
             serializedNames.add(s != null ? s.value() : field.getName());
         }
@@ -183,6 +183,18 @@ class Win32EnvironmentTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32EnvironmentService((command, timeout) -> json);
+
+        List<Win32Environment> envList = service.get(5L);
+        assertEquals(2, envList.size());
+
+        assertThat(envList.get(0)).usingRecursiveComparison().isEqualTo(sysVar);
+        assertThat(envList.get(1)).usingRecursiveComparison().isEqualTo(userVar);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
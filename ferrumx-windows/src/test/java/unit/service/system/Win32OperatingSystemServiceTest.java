@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -203,6 +204,16 @@ class Win32OperatingSystemServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32OperatingSystemService((command, timeout) -> json);
+
+        List<Win32OperatingSystem> os = service.get(5L);
+        assertEquals(1, os.size());
+        assertThat(os.get(0)).usingRecursiveComparison().isEqualTo(expectedOs);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
@@ -232,6 +243,9 @@ class Win32OperatingSystemServiceTest {
         Set<String> serializedNames = new HashSet<>();
 
         for (Field field : declaredClassFields) {
+            // transient fields hold derived values, which are never serialized
+            if (Modifier.isTransient(field.getModifiers()))
+                continue;
             SerializedName s = field.getAnnotation(SerializedName.class);
             serializedNames.add(s != null ? s.value() : field.getName());
         }
@@ -9,6 +9,7 @@ import com.google.gson.annotations.SerializedName;
 import com.profesorfalken.jpowershell.PowerShell;
 import com.profesorfalken.jpowershell.PowerShellResponse;
 import io.github.eggy03.ferrumx.windows.entity.system.Win32PnPEntity;
+import io.github.eggy03.ferrumx.windows.query.WqlFilter;
 import io.github.eggy03.ferrumx.windows.service.system.Win32PnPEntityService;
 import io.github.eggy03.ferrumx.windows.utility.TerminalUtility;
 import org.junit.jupiter.api.BeforeAll;
@@ -16,17 +17,22 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
@@ -203,6 +209,35 @@ class Win32PnPEntityServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32PnPEntityService((command, timeout) -> json);
+
+        List<Win32PnPEntity> pnpEntity = service.get(5L);
+        assertEquals(2, pnpEntity.size());
+        assertThat(pnpEntity.get(0)).usingRecursiveComparison().isEqualTo(expectedDevice1);
+        assertThat(pnpEntity.get(1)).usingRecursiveComparison().isEqualTo(expectedDevice2);
+    }
+
+    @Test
+    void test_getWithFilter_customExecutor_success() {
+
+        List<String> commands = new ArrayList<>();
+        service = new Win32PnPEntityService((command, timeout) -> {
+            commands.add(command);
+            return json;
+        });
+
+        List<Win32PnPEntity> devices = service.get(WqlFilter.equalTo("Present", true), 5L);
+        assertEquals(2, devices.size());
+        assertThat(devices.get(0)).usingRecursiveComparison().isEqualTo(expectedDevice1);
+        assertThat(devices.get(1)).usingRecursiveComparison().isEqualTo(expectedDevice2);
+
+        assertEquals(1, commands.size());
+        assertThat(commands.get(0)).contains("-Filter 'Present = TRUE' | ");
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
@@ -215,6 +250,71 @@ class Win32PnPEntityServiceTest {
         }
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void test_forEach_success() {
+
+        try (MockedStatic<TerminalUtility> mockedTerminal = mockStatic(TerminalUtility.class)) {
+            mockedTerminal
+                    .when(() -> TerminalUtility.executeCommand(anyString(), anyLong(), any(Consumer.class)))
+                    .thenAnswer(invocation -> {
+                        invocation.<Consumer<Reader>>getArgument(2).accept(new StringReader(json));
+                        return null;
+                    });
+
+            List<Win32PnPEntity> streamed = new ArrayList<>();
+            service.forEach(5L, streamed::add);
+            assertEquals(2, streamed.size());
+            assertThat(streamed.get(0)).usingRecursiveComparison().isEqualTo(expectedDevice1);
+            assertThat(streamed.get(1)).usingRecursiveComparison().isEqualTo(expectedDevice2);
+        }
+    }
+
+    @Test
+    void test_forEach_customExecutor_success() {
+
+        service = new Win32PnPEntityService((command, timeout) -> json);
+
+        List<Win32PnPEntity> streamed = new ArrayList<>();
+        service.forEach(5L, streamed::add);
+        assertEquals(2, streamed.size());
+        assertThat(streamed.get(0)).usingRecursiveComparison().isEqualTo(expectedDevice1);
+        assertThat(streamed.get(1)).usingRecursiveComparison().isEqualTo(expectedDevice2);
+    }
+
+    @Test
+    void test_getLazily_customExecutor_success() {
+
+        List<String> commands = new ArrayList<>();
+        service = new Win32PnPEntityService((command, timeout) -> {
+            commands.add(command);
+            return json;
+        });
+
+        List<Win32PnPEntity> lazy = service.getLazily(5L);
+        assertEquals(new Win32PnPEntityService((command, timeout) -> json).get(5L), lazy);
+        assertEquals(2, lazy.size());
+        assertThat(lazy.get(1)).usingRecursiveComparison().isEqualTo(expectedDevice2);
+        assertThat(lazy.get(1)).isSameAs(lazy.get(1));
+        assertThrows(UnsupportedOperationException.class, () -> lazy.remove(0));
+        assertEquals(1, commands.size());
+    }
+
+    @Test
+    void test_getLazily_invalidJson_throwsException() {
+
+        service = new Win32PnPEntityService((command, timeout) -> "invalid json");
+        assertThrows(JsonSyntaxException.class, () -> service.getLazily(5L));
+    }
+
+    @Test
+    void test_forEach_invalidJson_throwsException() {
+
+        service = new Win32PnPEntityService((command, timeout) -> "invalid json");
+        assertThrows(JsonSyntaxException.class, () -> service.forEach(5L, entity -> {
+        }));
+    }
+
     /*
      * This test ensures that the test JSON has keys matching all @SerializedName
      * (or raw field names if not annotated) declared in the entity class.
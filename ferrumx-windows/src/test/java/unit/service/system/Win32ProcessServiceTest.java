@@ -14,7 +14,10 @@ import com.google.gson.JsonSyntaxException;
 import com.google.gson.annotations.SerializedName;
 import com.profesorfalken.jpowershell.PowerShell;
 import com.profesorfalken.jpowershell.PowerShellResponse;
+import io.github.eggy03.ferrumx.windows.entity.system.ProcessTable;
 import io.github.eggy03.ferrumx.windows.entity.system.Win32Process;
+import io.github.eggy03.ferrumx.windows.query.PropertyMask;
+import io.github.eggy03.ferrumx.windows.query.WqlFilter;
 import io.github.eggy03.ferrumx.windows.service.system.Win32ProcessService;
 import io.github.eggy03.ferrumx.windows.utility.TerminalUtility;
 import org.junit.jupiter.api.BeforeAll;
@@ -22,16 +25,24 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.lang.reflect.Field;
-import java.math.BigInteger;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
@@ -59,15 +70,15 @@ class Win32ProcessServiceTest {
                 .handleCount(500L)
                 .priority(8L)
                 .threadCount(35L)
-                .kernelModeTime(new BigInteger("120000000"))
-                .userModeTime(new BigInteger("80000000"))
-                .workingSetSize(new BigInteger("52428800"))
-                .peakWorkingSetSize(new BigInteger("67108864"))
-                .privatePageCount(new BigInteger("33554432"))
+                .kernelModeTimeAsLong(120000000L)
+                .userModeTimeAsLong(80000000L)
+                .workingSetSizeAsLong(52428800L)
+                .peakWorkingSetSizeAsLong(67108864L)
+                .privatePageCountAsLong(33554432L)
                 .pageFileUsage(30000L)
                 .peakPageFileUsage(40000L)
-                .virtualSize(new BigInteger("268435456"))
-                .peakVirtualSize(new BigInteger("536870912"))
+                .virtualSizeAsLong(268435456L)
+                .peakVirtualSizeAsLong(536870912L)
                 .creationDate("20251103101530.000000+330")
                 .terminationDate(null)
                 .build();
@@ -84,15 +95,15 @@ class Win32ProcessServiceTest {
                 .handleCount(200L)
                 .priority(8L)
                 .threadCount(10L)
-                .kernelModeTime(new BigInteger("60000000"))
-                .userModeTime(new BigInteger("40000000"))
-                .workingSetSize(new BigInteger("26214400"))
-                .peakWorkingSetSize(new BigInteger("31457280"))
-                .privatePageCount(new BigInteger("16777216"))
+                .kernelModeTimeAsLong(60000000L)
+                .userModeTimeAsLong(40000000L)
+                .workingSetSizeAsLong(26214400L)
+                .peakWorkingSetSizeAsLong(31457280L)
+                .privatePageCountAsLong(16777216L)
                 .pageFileUsage(15000L)
                 .peakPageFileUsage(20000L)
-                .virtualSize(new BigInteger("134217728"))
-                .peakVirtualSize(new BigInteger("268435456"))
+                .virtualSizeAsLong(134217728L)
+                .peakVirtualSizeAsLong(268435456L)
                 .creationDate("20251103102000.000000+330")
                 .terminationDate(null)
                 .build();
@@ -258,6 +269,78 @@ class Win32ProcessServiceTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32ProcessService((command, timeout) -> json);
+
+        List<Win32Process> os = service.get(5L);
+        assertEquals(2, os.size());
+        assertThat(os.get(0)).usingRecursiveComparison().isEqualTo(expectedProcess1);
+        assertThat(os.get(1)).usingRecursiveComparison().isEqualTo(expectedProcess2);
+    }
+
+    @Test
+    void test_getWithFilter_customExecutor_success() {
+
+        List<String> commands = new ArrayList<>();
+        service = new Win32ProcessService((command, timeout) -> {
+            commands.add(command);
+            return json;
+        });
+
+        List<Win32Process> processes = service.get(WqlFilter.equalTo("Name", "explorer.exe"), 5L);
+        assertEquals(2, processes.size());
+        assertThat(processes.get(0)).usingRecursiveComparison().isEqualTo(expectedProcess1);
+        assertThat(processes.get(1)).usingRecursiveComparison().isEqualTo(expectedProcess2);
+
+        assertEquals(1, commands.size());
+        assertThat(commands.get(0)).contains("-Filter 'Name = ''explorer.exe''' | ");
+    }
+
+    @Test
+    void test_getWithMask_customExecutor_returnsPartialEntities() {
+
+        List<String> commands = new ArrayList<>();
+        service = new Win32ProcessService((command, timeout) -> {
+            commands.add(command);
+            return "[{\"ProcessId\": 1234, \"WorkingSetSize\": 4096}]";
+        });
+
+        PropertyMask<Win32Process> mask = PropertyMask.of(Win32Process.class, "ProcessId", "WorkingSetSize");
+        List<Win32Process> processes = service.get(WqlFilter.equalTo("Name", "explorer.exe"), mask, 5L);
+        assertEquals(1, processes.size());
+        assertThat(processes.get(0)).usingRecursiveComparison().isEqualTo(Win32Process.builder()
+                .processId(1234L)
+                .workingSetSizeAsLong(4096L)
+                .build());
+
+        service.get(mask, 5L);
+        assertEquals(2, commands.size());
+        assertThat(commands.get(0)).contains("-Property ProcessId, WorkingSetSize -Filter 'Name = ''explorer.exe''' | Select-Object -Property ProcessId, WorkingSetSize | ");
+        assertThat(commands.get(1)).doesNotContain("-Filter").contains("-Property ProcessId, WorkingSetSize | ");
+    }
+
+    @Test
+    void test_getAsync_success() throws Exception {
+
+        service = new Win32ProcessService((command, timeout) -> json);
+
+        List<Win32Process> os = service.getAsync(Duration.ofSeconds(5)).get(5, TimeUnit.SECONDS);
+        assertEquals(2, os.size());
+        assertThat(os.get(0)).usingRecursiveComparison().isEqualTo(expectedProcess1);
+        assertThat(os.get(1)).usingRecursiveComparison().isEqualTo(expectedProcess2);
+    }
+
+    @Test
+    void test_getAsync_withExecutor_failure_completesExceptionally() {
+
+        service = new Win32ProcessService((command, timeout) -> "invalid json");
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> service.getAsync(5L, Runnable::run).get(5, TimeUnit.SECONDS));
+        assertThat(ex.getCause()).isInstanceOf(JsonSyntaxException.class);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
@@ -270,6 +353,95 @@ class Win32ProcessServiceTest {
         }
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void test_forEach_success() {
+
+        try (MockedStatic<TerminalUtility> mockedTerminal = mockStatic(TerminalUtility.class)) {
+            mockedTerminal
+                    .when(() -> TerminalUtility.executeCommand(anyString(), anyLong(), any(Consumer.class)))
+                    .thenAnswer(invocation -> {
+                        invocation.<Consumer<Reader>>getArgument(2).accept(new StringReader(json));
+                        return null;
+                    });
+
+            List<Win32Process> streamed = new ArrayList<>();
+            service.forEach(5L, streamed::add);
+            assertEquals(2, streamed.size());
+            assertThat(streamed.get(0)).usingRecursiveComparison().isEqualTo(expectedProcess1);
+            assertThat(streamed.get(1)).usingRecursiveComparison().isEqualTo(expectedProcess2);
+        }
+    }
+
+    @Test
+    void test_forEach_customExecutor_success() {
+
+        service = new Win32ProcessService((command, timeout) -> json);
+
+        List<Win32Process> streamed = new ArrayList<>();
+        service.forEach(5L, streamed::add);
+        assertEquals(2, streamed.size());
+        assertThat(streamed.get(0)).usingRecursiveComparison().isEqualTo(expectedProcess1);
+        assertThat(streamed.get(1)).usingRecursiveComparison().isEqualTo(expectedProcess2);
+    }
+
+    @Test
+    void test_getLazily_customExecutor_success() {
+
+        List<String> commands = new ArrayList<>();
+        service = new Win32ProcessService((command, timeout) -> {
+            commands.add(command);
+            return json;
+        });
+
+        List<Win32Process> lazy = service.getLazily(5L);
+        assertEquals(new Win32ProcessService((command, timeout) -> json).get(5L), lazy);
+        assertEquals(2, lazy.size());
+        assertThat(lazy.get(1)).usingRecursiveComparison().isEqualTo(expectedProcess2);
+        assertThat(lazy.get(1)).isSameAs(lazy.get(1));
+        assertThrows(UnsupportedOperationException.class, () -> lazy.remove(0));
+        assertEquals(1, commands.size());
+    }
+
+    @Test
+    void test_getLazily_invalidJson_throwsException() {
+
+        service = new Win32ProcessService((command, timeout) -> "invalid json");
+        assertThrows(JsonSyntaxException.class, () -> service.getLazily(5L));
+    }
+
+    @Test
+    void test_forEach_invalidJson_throwsException() {
+
+        service = new Win32ProcessService((command, timeout) -> "invalid json");
+        assertThrows(JsonSyntaxException.class, () -> service.forEach(5L, entity -> {
+        }));
+    }
+
+    @Test
+    void test_getTable_customExecutor_success() {
+
+        List<String> commands = new ArrayList<>();
+        service = new Win32ProcessService((command, timeout) -> {
+            commands.add(command);
+            return json;
+        });
+
+        ProcessTable table = service.getTable(5L);
+        assertThat(commands.get(0)).contains("Select-Object -Property ProcessId, SessionId, ThreadCount");
+        assertEquals(2, table.size());
+        assertThat(table.toProcess(0).getWorkingSetSize()).isEqualTo(expectedProcess1.getWorkingSetSize());
+        assertThat(table.getName(1)).isEqualTo(expectedProcess2.getName());
+        assertThat(table.topRows(ProcessTable.Column.HANDLE_COUNT, 1)).containsExactly(0);
+    }
+
+    @Test
+    void test_getTable_invalidJson_throwsException() {
+
+        service = new Win32ProcessService((command, timeout) -> "invalid json");
+        assertThrows(JsonSyntaxException.class, () -> service.getTable(5L));
+    }
+
     /*
      * This test ensures that the test JSON has keys matching all @SerializedName
      * (or raw field names if not annotated) declared in the entity class.
@@ -287,6 +459,9 @@ class Win32ProcessServiceTest {
         Set<String> serializedNames = new HashSet<>();
 
         for (Field field : declaredClassFields) {
+            // transient fields hold derived values, which are never serialized
+            if (Modifier.isTransient(field.getModifiers()))
+                continue;
             SerializedName s = field.getAnnotation(SerializedName.class);
             serializedNames.add(s != null ? s.value() : field.getName());
         }
@@ -226,6 +226,18 @@ class Win32UserAccountTest {
         }
     }
 
+    @Test
+    void test_getWithTimeout_customExecutor_success() {
+
+        service = new Win32UserAccountService((command, timeout) -> json);
+
+        List<Win32UserAccount> userList = service.get(5L);
+        assertEquals(2, userList.size());
+
+        assertThat(userList.get(0)).usingRecursiveComparison().isEqualTo(expectedUser1);
+        assertThat(userList.get(1)).usingRecursiveComparison().isEqualTo(expectedUser2);
+    }
+
     @Test
     void test_getWithTimeout_invalidJson_throwsException() {
 
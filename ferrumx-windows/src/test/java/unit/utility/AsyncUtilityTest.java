@@ -0,0 +1,98 @@
+package unit.utility;
+
+import io.github.eggy03.ferrumx.windows.utility.AsyncUtility;
+import io.github.eggy03.ferrumx.windows.utility.CancellationScope;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AsyncUtilityTest {
+
+    @Test
+    void test_supplyAsync_success() throws Exception {
+        CompletableFuture<String> future = AsyncUtility.supplyAsync(() -> "done", AsyncUtility.getDefaultExecutor());
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+    }
+
+    @Test
+    void test_supplyAsync_failure_completesExceptionally() {
+        CompletableFuture<String> future = AsyncUtility.supplyAsync(() -> {
+            throw new IllegalStateException("broken");
+        }, AsyncUtility.getDefaultExecutor());
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertThat(ex.getCause()).isInstanceOf(IllegalStateException.class).hasMessage("broken");
+    }
+
+    @Test
+    void test_supplyAsync_rejected_completesExceptionally() {
+        CompletableFuture<String> future = AsyncUtility.supplyAsync(() -> "done", task -> {
+            throw new RejectedExecutionException("full");
+        });
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertThat(ex.getCause()).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void test_cancel_runsRegisteredHooks() throws Exception {
+
+        CountDownLatch registered = new CountDownLatch(1);
+        CountDownLatch killed = new CountDownLatch(1);
+
+        CompletableFuture<String> future = AsyncUtility.supplyAsync(() -> {
+            try (CancellationScope.Registration ignored = CancellationScope.onCancel(killed::countDown)) {
+                registered.countDown();
+                // stands in for a process that only ends when it gets killed
+                killed.await(30, TimeUnit.SECONDS);
+                return "killed";
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return "interrupted";
+            }
+        }, AsyncUtility.getDefaultExecutor());
+
+        assertThat(registered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(future.cancel(true)).isTrue();
+
+        assertThat(killed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThrows(CancellationException.class, future::join);
+    }
+
+    @Test
+    void test_cancelledScope_rejectsNewHooks() {
+
+        CancellationScope scope = new CancellationScope();
+        scope.cancel();
+
+        assertThat(scope.isCancelled()).isTrue();
+        assertThrows(CancellationException.class, () -> scope.run(() -> "never"));
+    }
+
+    @Test
+    void test_onCancel_outsideScope_hasNoEffect() {
+        AtomicBoolean ran = new AtomicBoolean();
+        CancellationScope.onCancel(() -> ran.set(true)).close();
+
+        assertThat(ran).isFalse();
+        assertThat(CancellationScope.isCurrentCancelled()).isFalse();
+    }
+
+    @Test
+    void test_toTimeoutSeconds() {
+        assertThat(AsyncUtility.toTimeoutSeconds(Duration.ofSeconds(10))).isEqualTo(10L);
+        assertThat(AsyncUtility.toTimeoutSeconds(Duration.ofMillis(1500))).isEqualTo(2L);
+        assertThat(AsyncUtility.toTimeoutSeconds(Duration.ZERO)).isZero();
+        assertThrows(IllegalArgumentException.class, () -> AsyncUtility.toTimeoutSeconds(Duration.ofSeconds(-1)));
+    }
+}
@@ -0,0 +1,121 @@
+package unit.utility;
+
+import com.google.gson.Gson;
+import io.github.eggy03.ferrumx.windows.entity.network.MsftNetAdapter;
+import io.github.eggy03.ferrumx.windows.entity.system.Win32OperatingSystem;
+import io.github.eggy03.ferrumx.windows.entity.system.Win32Process;
+import io.github.eggy03.ferrumx.windows.mapping.system.Win32ProcessMapper;
+import io.github.eggy03.ferrumx.windows.utility.CimDateTime;
+import io.github.eggy03.ferrumx.windows.utility.ReflectionUtility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CimDateTimeTest {
+
+    @Test
+    void test_parse_epochMillis() {
+        assertThat(CimDateTime.parse("/Date(1730530800000)/")).isEqualTo(Instant.ofEpochMilli(1730530800000L));
+        assertThat(CimDateTime.parse("\\/Date(1730530800000)\\/")).isEqualTo(Instant.ofEpochMilli(1730530800000L));
+        assertThat(CimDateTime.parse("/Date(1730530800000+0530)/")).isEqualTo(Instant.ofEpochMilli(1730530800000L));
+        assertThat(CimDateTime.parse("/Date(-86400000)/")).isEqualTo(Instant.parse("1969-12-31T00:00:00Z"));
+    }
+
+    @Test
+    void test_parse_dmtf() {
+        assertThat(CimDateTime.parse("20241102123000.000000+330")).isEqualTo(Instant.parse("2024-11-02T07:00:00Z"));
+        assertThat(CimDateTime.parse("20241102123000.123456-300")).isEqualTo(Instant.parse("2024-11-02T17:30:00.123456Z"));
+        assertThat(CimDateTime.parse("20240229000000.000000+000")).isEqualTo(Instant.parse("2024-02-29T00:00:00Z"));
+    }
+
+    @Test
+    void test_parse_iso() {
+        assertThat(CimDateTime.parse("2024-07-12T15:30:00Z")).isEqualTo(Instant.parse("2024-07-12T15:30:00Z"));
+        assertThat(CimDateTime.parse("2026-10-17T09:15:07.1234567+05:30"))
+                .isEqualTo(OffsetDateTime.parse("2026-10-17T09:15:07.1234567+05:30").toInstant());
+        assertThat(CimDateTime.parse("2026-10-17T09:15-0400")).isEqualTo(Instant.parse("2026-10-17T13:15:00Z"));
+        assertThat(CimDateTime.parse("2026-10-17T09:15:07")).isEqualTo(Instant.parse("2026-10-17T09:15:07Z"));
+        assertThat(CimDateTime.parse(" 2023-10-12 ")).isEqualTo(Instant.parse("2023-10-12T00:00:00Z"));
+        assertThat(CimDateTime.parse("1600-03-01")).isEqualTo(Instant.parse("1600-03-01T00:00:00Z"));
+    }
+
+    @Test
+    void test_parse_nullOrBlank_returnsNull() {
+        assertThat(CimDateTime.parse(null)).isNull();
+        assertThat(CimDateTime.parse("  ")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "yesterday",
+            "/Date()/",
+            "/Date(12a)/",
+            "/Date(1730530800000",
+            "/Date(1730530800000+05)/",
+            "20241102123000.000000*330",
+            "2024110212300a.000000+330",
+            "20241302123000.000000+330",
+            "2023-02-29",
+            "2024-04-31",
+            "2024-11-02T24:00:00Z",
+            "2024-11-02T12:30:00.Z",
+            "2024-11-02T12:30:00.1234567890Z",
+            "2024-11-02T12:30:00+05",
+            "2024-11-02T12:30:00+19:00",
+            "2024-11-02X12:30"
+    })
+    void test_parse_invalidValue_throwsException(String value) {
+        assertThrows(DateTimeParseException.class, () -> CimDateTime.parse(value));
+    }
+
+    @Test
+    void test_memo_parsesOnce() {
+        CimDateTime.Memo memo = new CimDateTime.Memo();
+
+        Instant first = memo.get("20241102123000.000000+330");
+        // the memo is bound to its value, later values are not looked at
+        assertThat(memo.get("not a date")).isSameAs(first);
+    }
+
+    @Test
+    void test_entityAccessors_parseOncePerEntity() {
+
+        List<Win32Process> processes = new Win32ProcessMapper().mapToList(
+                "[{\"ProcessId\":1,\"CreationDate\":\"20251103101530.000000+330\"},{\"ProcessId\":2,\"CreationDate\":null}]", Win32Process.class);
+
+        Win32Process process = processes.get(0);
+        assertThat(process.getCreationDateAsInstant()).isEqualTo(Instant.parse("2025-11-03T04:45:30Z"))
+                .isSameAs(process.getCreationDateAsInstant());
+        assertThat(processes.get(1).getCreationDateAsInstant()).isNull();
+
+        // a copy holds a memo of its own and stays equal to the original
+        Win32Process copy = process.toBuilder().creationDate("/Date(0)/").build();
+        assertThat(copy.getCreationDateAsInstant()).isEqualTo(Instant.EPOCH);
+        assertThat(process.toBuilder().build()).isEqualTo(process).hasSameHashCodeAs(process);
+
+        Win32OperatingSystem os = Win32OperatingSystem.builder().lastBootUpTime("/Date(1730530800000)/").build();
+        assertThat(os.getLastBootUpTimeAsInstant()).isEqualTo(Instant.ofEpochMilli(1730530800000L));
+
+        // the reflective adapter skips the field initializers, which the memo does not depend on
+        MsftNetAdapter adapter = new Gson().fromJson("{\"DriverDate\":\"2023-10-12\"}", MsftNetAdapter.class);
+        assertThat(adapter.getDriverDateAsInstant()).isEqualTo(Instant.parse("2023-10-12T00:00:00Z"))
+                .isSameAs(adapter.getDriverDateAsInstant());
+    }
+
+    @Test
+    void test_memo_isNotSerialized() {
+        Win32Process process = Win32Process.builder().creationDate("/Date(0)/").build();
+        process.getCreationDateAsInstant();
+
+        assertThat(process.toString()).doesNotContain("creationDateInstant");
+        assertThat(ReflectionUtility.getSerializedNames(Win32Process.class)).doesNotContain("creationDateInstant");
+    }
+}
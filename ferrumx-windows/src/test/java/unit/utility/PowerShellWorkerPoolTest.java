@@ -0,0 +1,216 @@
+package unit.utility;
+
+import io.github.eggy03.ferrumx.windows.exception.TerminalExecutionException;
+import io.github.eggy03.ferrumx.windows.utility.AsyncUtility;
+import io.github.eggy03.ferrumx.windows.utility.PowerShellWorkerPool;
+import io.github.eggy03.ferrumx.windows.utility.TerminalUtility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Runs the pool against {@link StubPowerShellWorker}, so these tests do not require PowerShell
+ */
+class PowerShellWorkerPoolTest {
+
+    private static final long TIMEOUT = 15L;
+
+    private static final List<String> STUB_COMMAND = Arrays.asList(
+            System.getProperty("java.home") + File.separator + "bin" + File.separator + "java",
+            "-cp", System.getProperty("java.class.path"),
+            StubPowerShellWorker.class.getName()
+    );
+
+    private PowerShellWorkerPool pool;
+
+    @AfterEach
+    void closePool() {
+        if (pool != null)
+            pool.close();
+    }
+
+    @Test
+    void testValidCommand() {
+        pool = new PowerShellWorkerPool(1, STUB_COMMAND);
+        String result = pool.executeCommand("echo hello", TIMEOUT);
+        assertThat(result).isEqualTo("hello" + System.lineSeparator());
+    }
+
+    @Test
+    void testValidCommand_throughTerminalUtility() {
+        pool = new PowerShellWorkerPool(1, STUB_COMMAND);
+        String result = TerminalUtility.executeCommand(pool, "echo hello", TIMEOUT);
+        assertThat(result).isEqualTo("hello" + System.lineSeparator());
+    }
+
+    @Test
+    void testNonAsciiOutput() {
+        pool = new PowerShellWorkerPool(1, STUB_COMMAND);
+        String result = pool.executeCommand("echo Überprüfung ✓", TIMEOUT);
+        assertThat(result).isEqualTo("Überprüfung ✓" + System.lineSeparator());
+    }
+
+    @Test
+    void testWorkerIsReused() {
+        pool = new PowerShellWorkerPool(1, STUB_COMMAND);
+        String first = pool.executeCommand("whoami", TIMEOUT);
+        String second = pool.executeCommand("whoami", TIMEOUT);
+
+        assertThat(first).isNotEmpty().isEqualTo(second);
+        assertThat(pool.getIdleWorkerCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testErrorStream() {
+        pool = new PowerShellWorkerPool(1, STUB_COMMAND);
+        TerminalExecutionException ex = assertThrows(TerminalExecutionException.class, () -> pool.executeCommand("fail broken", TIMEOUT));
+        assertThat(ex.getMessage())
+                .contains("Terminal Error Output")
+                .contains("broken");
+
+        // a failing command does not cost the worker
+        assertThat(pool.getIdleWorkerCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testTimeout_killsOnlyTheTimedOutWorker() throws Exception {
+        pool = new PowerShellWorkerPool(2, STUB_COMMAND);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // keep one worker busy while the other one times out
+            Future<String> slowButInTime = executor.submit(() -> pool.executeCommand("sleep 2000", TIMEOUT));
+            Thread.sleep(500);
+
+            TerminalExecutionException ex = assertThrows(TerminalExecutionException.class, () -> pool.executeCommand("sleep 30000", 1));
+            assertThat(ex.getMessage()).contains("Was killed after a timeout");
+
+            assertThat(slowButInTime.get()).isEmpty();
+            assertThat(pool.getIdleWorkerCount()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // the killed worker is replaced on demand
+        assertThat(pool.executeCommand("echo after", TIMEOUT)).isEqualTo("after" + System.lineSeparator());
+    }
+
+    @Test
+    void testCancellation_killsTheWorker() throws Exception {
+        pool = new PowerShellWorkerPool(1, STUB_COMMAND);
+        String firstWorker = pool.executeCommand("whoami", TIMEOUT);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<String> slow = AsyncUtility.supplyAsync(() -> pool.executeCommand("sleep 30000", TIMEOUT), executor);
+            Thread.sleep(500);
+            slow.cancel(true);
+
+            // the task returns as soon as its worker is killed instead of sleeping for 30 seconds
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        String secondWorker = pool.executeCommand("whoami", TIMEOUT);
+        assertThat(secondWorker).isNotEmpty().isNotEqualTo(firstWorker);
+    }
+
+    @Test
+    void testWorkerDeath_isReportedAndReplaced() {
+        pool = new PowerShellWorkerPool(1, STUB_COMMAND);
+        String firstWorker = pool.executeCommand("whoami", TIMEOUT);
+
+        assertThrows(TerminalExecutionException.class, () -> pool.executeCommand("exit", TIMEOUT));
+
+        String secondWorker = pool.executeCommand("whoami", TIMEOUT);
+        assertThat(secondWorker).isNotEmpty().isNotEqualTo(firstWorker);
+    }
+
+    @Test
+    void testConcurrentCommands() throws Exception {
+        pool = new PowerShellWorkerPool(3, STUB_COMMAND);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 24; i++) {
+                String command = "echo " + i;
+                futures.add(executor.submit(() -> pool.executeCommand(command, TIMEOUT)));
+            }
+            for (int i = 0; i < futures.size(); i++)
+                assertThat(futures.get(i).get()).isEqualTo(i + System.lineSeparator());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(pool.getIdleWorkerCount()).isBetween(1, 3);
+    }
+
+    @Test
+    void testWorkerLaunchFailure() {
+        pool = new PowerShellWorkerPool(1, Collections.singletonList("ferrumx-non-existent-shell"));
+        TerminalExecutionException ex = assertThrows(TerminalExecutionException.class, () -> pool.executeCommand("echo hello", TIMEOUT));
+        assertThat(ex.getMessage()).contains("An I/O Exception occurred");
+    }
+
+    @Test
+    void testClosedPool() {
+        pool = new PowerShellWorkerPool(1, STUB_COMMAND);
+        pool.close();
+        assertThrows(IllegalStateException.class, () -> pool.executeCommand("echo hello", TIMEOUT));
+    }
+
+    @Test
+    void testClose_whileCommandsReturnWorkers_leavesNoIdleWorker() throws Exception {
+        pool = new PowerShellWorkerPool(3, STUB_COMMAND);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            // keep returning workers to the pool until it is closed, so that returns race with the close
+            List<Future<?>> loops = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                loops.add(executor.submit(() -> {
+                    try {
+                        while (true)
+                            pool.executeCommand("echo busy", TIMEOUT);
+                    } catch (IllegalStateException closed) {
+                        return null;
+                    }
+                }));
+            }
+            Thread.sleep(1000);
+            pool.close();
+            for (Future<?> loop : loops)
+                loop.get(TIMEOUT, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(pool.getIdleWorkerCount()).isZero();
+    }
+
+    @Test
+    void testNegativeTimeout() {
+        pool = new PowerShellWorkerPool(1, STUB_COMMAND);
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> pool.executeCommand("echo hello", -1));
+        assertThat(ex.getMessage()).isEqualTo("Timeout cannot be negative");
+    }
+
+    @Test
+    void testInvalidPoolSize() {
+        assertThrows(IllegalArgumentException.class, () -> new PowerShellWorkerPool(0, STUB_COMMAND));
+        assertThrows(IllegalArgumentException.class, () -> new PowerShellWorkerPool(1, Collections.emptyList()));
+    }
+}
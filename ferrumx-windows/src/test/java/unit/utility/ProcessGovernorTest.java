@@ -0,0 +1,168 @@
+package unit.utility;
+
+import io.github.eggy03.ferrumx.windows.exception.TerminalExecutionException;
+import io.github.eggy03.ferrumx.windows.utility.AsyncUtility;
+import io.github.eggy03.ferrumx.windows.utility.ProcessGovernor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProcessGovernorTest {
+
+    private final ExecutorService threads = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void stopThreads() {
+        threads.shutdownNow();
+    }
+
+    @Test
+    void test_acquire_withinCap_returnsImmediately() {
+        ProcessGovernor governor = new ProcessGovernor(2);
+
+        try (ProcessGovernor.Permit first = governor.acquire(10L);
+             ProcessGovernor.Permit second = governor.acquire(10L)) {
+            assertThat(first.getRemainingTimeout()).isLessThanOrEqualTo(Duration.ofSeconds(10)).isGreaterThan(Duration.ofSeconds(9));
+            assertThat(second.getRemainingTimeout()).isGreaterThan(Duration.ofSeconds(9));
+            assertThat(governor.getMetrics().getRunningProcesses()).isEqualTo(2);
+        }
+
+        ProcessGovernor.Metrics metrics = governor.getMetrics();
+        assertThat(metrics.getRunningProcesses()).isZero();
+        assertThat(metrics.getAcquiredCount()).isEqualTo(2);
+        assertThat(metrics.getMaxConcurrentProcesses()).isEqualTo(2);
+    }
+
+    @Test
+    void test_acquire_beyondCap_waitsAndDeductsTheWait() throws Exception {
+        ProcessGovernor governor = new ProcessGovernor(1);
+        ProcessGovernor.Permit holder = governor.acquire(10L);
+
+        Future<Duration> queued = threads.submit(() -> {
+            try (ProcessGovernor.Permit permit = governor.acquire(10L)) {
+                return permit.getRemainingTimeout();
+            }
+        });
+
+        Thread.sleep(500);
+        assertThat(queued).isNotDone();
+        assertThat(governor.getMetrics().getQueueDepth()).isEqualTo(1);
+        holder.close();
+
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isLessThanOrEqualTo(Duration.ofMillis(9500));
+        ProcessGovernor.Metrics metrics = governor.getMetrics();
+        assertThat(metrics.getQueueDepth()).isZero();
+        assertThat(metrics.getMaxWaitTime()).isGreaterThanOrEqualTo(Duration.ofMillis(500));
+        assertThat(metrics.getTotalWaitTime()).isGreaterThanOrEqualTo(metrics.getMaxWaitTime());
+    }
+
+    @Test
+    void test_acquire_queueIsFair() throws Exception {
+        ProcessGovernor governor = new ProcessGovernor(1);
+        ProcessGovernor.Permit holder = governor.acquire(10L);
+
+        List<Integer> order = new ArrayList<>();
+        List<Future<?>> queued = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            int position = i;
+            queued.add(threads.submit(() -> {
+                try (ProcessGovernor.Permit ignored = governor.acquire(10L)) {
+                    synchronized (order) {
+                        order.add(position);
+                    }
+                }
+            }));
+            // let each caller join the queue before the next one
+            Thread.sleep(200);
+        }
+
+        holder.close();
+        for (Future<?> future : queued)
+            future.get(5, TimeUnit.SECONDS);
+        assertThat(order).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void test_acquire_timeoutInQueue_throwsException() {
+        ProcessGovernor governor = new ProcessGovernor(1);
+
+        try (ProcessGovernor.Permit ignored = governor.acquire(10L)) {
+            TerminalExecutionException ex = assertThrows(TerminalExecutionException.class, () -> governor.acquire(1L));
+            assertThat(ex.getMessage()).contains("No free PowerShell process slot within a timeout of 1 seconds");
+        }
+
+        assertThat(governor.getMetrics().getTimedOutCount()).isEqualTo(1);
+        assertThat(governor.getMetrics().getAcquiredCount()).isEqualTo(1);
+    }
+
+    @Test
+    void test_acquire_cancelledWhileQueued_stopsWaiting() throws Exception {
+        ProcessGovernor governor = new ProcessGovernor(1);
+
+        try (ProcessGovernor.Permit ignored = governor.acquire(10L)) {
+            CompletableFuture<ProcessGovernor.Permit> queued = AsyncUtility.supplyAsync(() -> governor.acquire(30L), threads);
+            Thread.sleep(300);
+            queued.cancel(true);
+
+            threads.shutdown();
+            assertThat(threads.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(governor.getMetrics().getQueueDepth()).isZero();
+        }
+
+        // the cancelled caller never held the slot
+        assertThat(governor.getMetrics().getRunningProcesses()).isZero();
+    }
+
+    @Test
+    void test_permit_closeTwice_releasesOnce() {
+        ProcessGovernor governor = new ProcessGovernor(1);
+        ProcessGovernor.Permit permit = governor.acquire(10L);
+        permit.close();
+        permit.close();
+        assertThat(governor.getMetrics().getRunningProcesses()).isZero();
+    }
+
+    @Test
+    void test_acquire_negativeTimeout_throwsException() {
+        ProcessGovernor governor = new ProcessGovernor(1);
+        assertThrows(IllegalArgumentException.class, () -> governor.acquire(-1L));
+    }
+
+    @Test
+    void test_constructor_invalidCap_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> new ProcessGovernor(0));
+    }
+
+    @Test
+    void test_acquire_unlimited_neverWaits() {
+
+        ProcessGovernor governor = new ProcessGovernor(ProcessGovernor.UNLIMITED);
+
+        try (ProcessGovernor.Permit first = governor.acquire(0L);
+             ProcessGovernor.Permit second = governor.acquire(0L);
+             ProcessGovernor.Permit third = governor.acquire(0L)) {
+
+            ProcessGovernor.Metrics metrics = governor.getMetrics();
+            assertThat(metrics.getMaxConcurrentProcesses()).isEqualTo(ProcessGovernor.UNLIMITED);
+            assertThat(metrics.getRunningProcesses()).isEqualTo(3);
+        }
+        assertThat(governor.getMetrics().getRunningProcesses()).isZero();
+    }
+
+    @Test
+    void test_getGlobal_isShared() {
+        assertThat(ProcessGovernor.getGlobal()).isSameAs(ProcessGovernor.getGlobal());
+        assertThat(ProcessGovernor.getGlobal().getMaxConcurrentProcesses()).isPositive();
+    }
+}
@@ -4,6 +4,7 @@ import com.google.gson.annotations.SerializedName;
 import org.junit.jupiter.api.Test;
 
 import static io.github.eggy03.ferrumx.windows.utility.ReflectionUtility.getFromSerializedNames;
+import static io.github.eggy03.ferrumx.windows.utility.ReflectionUtility.getSerializedNames;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class ReflectionUtilityTest {
@@ -42,6 +43,13 @@ class ReflectionUtilityTest {
         assertThat(expectedString).isEqualTo(actualString);
     }
 
+    @Test
+    void getSerializedNames_withAnnotatedFields_success() {
+        assertThat(getSerializedNames(MockWithAnnotatedFields.class)).containsExactly("field_one", "field_two", "field_three");
+        assertThat(getSerializedNames(MockWithoutAnnotatedFields.class)).containsExactly("fieldOne", "fieldTwo", "fieldThree");
+        assertThat(getSerializedNames(MockAbstractClass.class)).isEmpty();
+    }
+
     @SuppressWarnings("unused")
     static class MockWithAnnotatedFields { // inner test class where fields are annotated with gson @SerializedName
 
@@ -0,0 +1,62 @@
+package unit.utility;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * A stand-in for a PowerShell worker that implements the wire protocol of
+ * {@link io.github.eggy03.ferrumx.windows.utility.PowerShellWorkerPool}, so that the pool can be tested
+ * on systems without PowerShell.
+ * <p>Understands the following commands:</p>
+ * <ul>
+ *     <li>{@code echo <text>} - writes the text followed by a line separator</li>
+ *     <li>{@code sleep <millis>} - sleeps before answering</li>
+ *     <li>{@code fail <text>} - answers with exit code 1 and the text as error output</li>
+ *     <li>{@code whoami} - writes an identifier that is unique to this worker process</li>
+ *     <li>{@code exit} - terminates the worker without answering</li>
+ * </ul>
+ */
+public class StubPowerShellWorker {
+
+    private static final String IDENTITY = UUID.randomUUID().toString();
+
+    public static void main(String[] args) throws Exception {
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.US_ASCII));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String[] frame = line.split(" ");
+            String command = new String(Base64.getDecoder().decode(frame[1]), StandardCharsets.UTF_8);
+
+            String out = "";
+            String err = "";
+            int code = 0;
+
+            if (command.startsWith("echo ")) {
+                out = command.substring(5) + System.lineSeparator();
+            } else if (command.startsWith("sleep ")) {
+                Thread.sleep(Long.parseLong(command.substring(6)));
+            } else if (command.startsWith("fail ")) {
+                code = 1;
+                err = command.substring(5);
+            } else if (command.equals("whoami")) {
+                out = IDENTITY;
+            } else if (command.equals("exit")) {
+                System.exit(3);
+            } else {
+                code = 1;
+                err = "Unknown command: " + command;
+            }
+
+            System.out.println(frame[0] + " " + code + " " + encode(out) + " " + encode(err));
+            System.out.flush();
+        }
+    }
+
+    private static String encode(String payload) {
+        return payload.isEmpty() ? "-" : Base64.getEncoder().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -6,6 +6,8 @@ import org.junit.jupiter.api.Test;
 
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -81,4 +83,21 @@ class TerminalUtilityTest {
         IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> TerminalUtility.executeCommand("Write-Output \"Hello\"", -1));
         assertThat(ex.getMessage()).isEqualTo("Timeout cannot be negative");
     }
+
+    @Test
+    void testValidCommand_streaming() {
+        List<String> lines = new ArrayList<>();
+        TerminalUtility.executeCommand("1..3", TIMEOUT, output -> new BufferedReader(output).lines().forEach(lines::add));
+        assertThat(lines).containsExactly("1", "2", "3");
+    }
+
+    @Test
+    void testTimeout_streaming() {
+        String sleepCommand = "Write-Output \"first\"; Start-Sleep -Seconds 30";
+        List<String> lines = new ArrayList<>();
+        TerminalExecutionException ex = assertThrows(TerminalExecutionException.class,
+                () -> TerminalUtility.executeCommand(sleepCommand, 1, output -> new BufferedReader(output).lines().forEach(lines::add)));
+        assertThat(ex.getMessage()).contains("Was killed after a timeout");
+        assertThat(lines).containsExactly("first");
+    }
 }